@@ -0,0 +1,223 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.repository.BookingRepository;
+import org.example.rentify.repository.BookingRepository.BookedDates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * BookingOccupancyIndex keeps the booked dates of every property in memory, so checking a new booking for overlaps
+ * does not have to load bookings from the database.
+ * The dates of a property are kept in arrays sorted by start date, replaced as a whole on every change,
+ * so a lookup is a lock-free binary search. The index is warmed at startup and properties missing from it are
+ * loaded on their first lookup.
+ * The index is a fast path only: BookingService confirms a reported overlap against the database before rejecting
+ * a booking, and the exclusion constraint of the bookings table rejects any overlap the index misses.
+ */
+@Component
+public class BookingOccupancyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOccupancyIndex.class);
+
+    private final BookingRepository bookingRepository;
+    private final ConcurrentHashMap<Long, Occupancy> occupancies = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
+
+    @Autowired
+    public BookingOccupancyIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Loads the booked dates of all properties once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long stamp = modifications.get();
+        Map<Long, List<BookedDates>> bookedDatesByProperty = bookingRepository.findAllBookedDates().stream()
+                .collect(Collectors.groupingBy(BookedDates::getPropertyId));
+        bookedDatesByProperty.forEach((propertyId, bookedDates) -> install(propertyId, Occupancy.of(bookedDates), stamp));
+        logger.info("Booking occupancy index warmed with {} properties", bookedDatesByProperty.size());
+    }
+
+    /**
+     * Checks if a booking of a property overlaps the given dates, both inclusive.
+     *
+     * @param propertyId        the ID of the property
+     * @param startDate         the first booked day
+     * @param endDate           the last booked day
+     * @param excludedBookingId the ID of a booking to leave out, like the one being updated, or null
+     * @return true if another booking of the property overlaps the given dates, false otherwise
+     */
+    public boolean overlaps(Long propertyId, LocalDate startDate, LocalDate endDate, Long excludedBookingId) {
+        Occupancy occupancy = occupancies.get(propertyId);
+        if (occupancy == null) {
+            long stamp = modifications.get();
+            occupancy = Occupancy.of(bookingRepository.findBookedDatesByPropertyId(propertyId));
+            install(propertyId, occupancy, stamp);
+        }
+        return occupancy.overlaps(startDate.toEpochDay(), endDate.toEpochDay(), excludedBookingId);
+    }
+
+    /**
+     * Records the dates of a created or updated booking once the current transaction commits.
+     *
+     * @param propertyId the ID of the property
+     * @param bookingId  the ID of the booking
+     * @param startDate  the first booked day
+     * @param endDate    the last booked day
+     */
+    public void put(Long propertyId, Long bookingId, LocalDate startDate, LocalDate endDate) {
+        afterCommit(() -> {
+            modifications.incrementAndGet();
+            occupancies.computeIfPresent(propertyId,
+                    (id, occupancy) -> occupancy.with(bookingId, startDate.toEpochDay(), endDate.toEpochDay()));
+        });
+    }
+
+    /**
+     * Removes the dates of a deleted booking once the current transaction commits.
+     *
+     * @param propertyId the ID of the property
+     * @param bookingId  the ID of the booking
+     */
+    public void remove(Long propertyId, Long bookingId) {
+        afterCommit(() -> {
+            modifications.incrementAndGet();
+            occupancies.computeIfPresent(propertyId, (id, occupancy) -> occupancy.without(bookingId));
+        });
+    }
+
+    /**
+     * Drops the dates of a property, they are loaded again on its next lookup.
+     * Used when the index turns out to be out of date, like after bookings were deleted together with their user.
+     *
+     * @param propertyId the ID of the property
+     */
+    public void invalidate(Long propertyId) {
+        modifications.incrementAndGet();
+        occupancies.remove(propertyId);
+    }
+
+    public int size() {
+        return occupancies.size();
+    }
+
+    /**
+     * Installs loaded dates unless a booking was changed while they were loaded;
+     * the change may be missing from them and would not be applied to an entry that did not exist yet.
+     */
+    private void install(Long propertyId, Occupancy occupancy, long stamp) {
+        if (stamp != modifications.get()) {
+            return;
+        }
+        occupancies.putIfAbsent(propertyId, occupancy);
+        if (stamp != modifications.get()) {
+            occupancies.remove(propertyId, occupancy);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Immutable booked dates of one property as epoch days, sorted by start day.
+     * Bookings of a property never overlap, so the end days are sorted as well.
+     */
+    private record Occupancy(long[] bookingIds, long[] startDays, long[] endDays) {
+
+        static Occupancy of(List<BookedDates> bookedDates) {
+            List<BookedDates> sorted = bookedDates.stream()
+                    .sorted(Comparator.comparing(BookedDates::getStartDate))
+                    .toList();
+            long[] bookingIds = new long[sorted.size()];
+            long[] startDays = new long[sorted.size()];
+            long[] endDays = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                bookingIds[i] = sorted.get(i).getId();
+                startDays[i] = sorted.get(i).getStartDate().toEpochDay();
+                endDays[i] = sorted.get(i).getEndDate().toEpochDay();
+            }
+            return new Occupancy(bookingIds, startDays, endDays);
+        }
+
+        boolean overlaps(long startDay, long endDay, Long excludedBookingId) {
+            for (int i = lastStartingOnOrBefore(endDay); i >= 0 && endDays[i] >= startDay; i--) {
+                if (!Objects.equals(bookingIds[i], excludedBookingId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Occupancy with(long bookingId, long startDay, long endDay) {
+            Occupancy remaining = without(bookingId);
+            int position = remaining.lastStartingOnOrBefore(startDay) + 1;
+            return new Occupancy(insert(remaining.bookingIds, position, bookingId),
+                    insert(remaining.startDays, position, startDay),
+                    insert(remaining.endDays, position, endDay));
+        }
+
+        Occupancy without(long bookingId) {
+            for (int i = 0; i < bookingIds.length; i++) {
+                if (bookingIds[i] == bookingId) {
+                    return new Occupancy(delete(bookingIds, i), delete(startDays, i), delete(endDays, i));
+                }
+            }
+            return this;
+        }
+
+        private int lastStartingOnOrBefore(long day) {
+            int low = 0;
+            int high = startDays.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (startDays[middle] <= day) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        private static long[] insert(long[] values, int position, long value) {
+            long[] result = Arrays.copyOf(values, values.length + 1);
+            System.arraycopy(values, position, result, position + 1, values.length - position);
+            result[position] = value;
+            return result;
+        }
+
+        private static long[] delete(long[] values, int position) {
+            long[] result = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, position + 1, result, position, values.length - position - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.rentify.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CacheRegistry creates the in-process caches of the application and keeps track of them,
+ * so their statistics can be reported by the admin metrics endpoint.
+ */
+@Component
+public class CacheRegistry {
+
+    private final List<LocalCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates and registers a new cache.
+     *
+     * @param name    the name the cache is reported under
+     * @param maxSize the maximum number of entries
+     * @param ttl     the default time to live of an entry
+     * @return the created cache
+     */
+    public <K, V> LocalCache<K, V> register(String name, int maxSize, Duration ttl) {
+        LocalCache<K, V> cache = new LocalCache<>(name, maxSize, ttl.toMillis());
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Returns all registered caches in registration order.
+     *
+     * @return the registered caches
+     */
+    public List<LocalCache<?, ?>> getCaches() {
+        return List.copyOf(caches);
+    }
+}
@@ -0,0 +1,254 @@
+package org.example.rentify.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * LocalCache is a bounded, TTL evicting in-process cache.
+ * Reads are lock-free; when the cache grows over its maximum size the oldest inserted entries are evicted first.
+ * Hit, miss and eviction counters are kept for the admin metrics endpoint.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Insertion<K>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger insertionOrderLength = new AtomicInteger();
+    private final AtomicLong insertionSequence = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache using the system clock.
+     *
+     * @param name      the name the cache is reported under
+     * @param maxSize   the maximum number of entries
+     * @param ttlMillis the default time to live of an entry in milliseconds
+     */
+    public LocalCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    LocalCache(String name, int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive numbers.");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value for the given key.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if it is absent or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Returns the cached value for the given key, loading and caching it on a miss.
+     * A value loaded while any entry was invalidated is returned but not cached,
+     * so a load that raced with a write can never leave a stale entry behind.
+     *
+     * @param key    the key to look up
+     * @param loader the function loading the value on a miss, exceptions are propagated to the caller
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = invalidations.get();
+        V loaded = loader.apply(key);
+        if (loaded != null && stamp == invalidations.get()) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Caches a value with the default time to live.
+     *
+     * @param key   the key
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        put(key, value, clock.getAsLong() + ttlMillis);
+    }
+
+    /**
+     * Caches a value until the given point in time.
+     * Replacing a cached value keeps the position of the entry in the insertion order, while a key cached again
+     * after it was removed is queued as a new insertion; the queue node left by the removed entry no longer
+     * matches its sequence and is skipped, so it cannot evict the new entry out of order.
+     *
+     * @param key       the key
+     * @param value     the value to cache
+     * @param expiresAt the epoch millisecond at which the entry expires
+     */
+    public void put(K key, V value, long expiresAt) {
+        long[] inserted = {0};
+        entries.compute(key, (k, previous) -> {
+            if (previous != null) {
+                return new Entry<>(value, expiresAt, previous.sequence());
+            }
+            inserted[0] = insertionSequence.incrementAndGet();
+            return new Entry<>(value, expiresAt, inserted[0]);
+        });
+        if (inserted[0] != 0) {
+            insertionOrder.add(new Insertion<>(key, inserted[0]));
+            if (insertionOrderLength.incrementAndGet() > maxSize * 2) {
+                compactInsertionOrder();
+            }
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Removes the entry for the given key.
+     *
+     * @param key the key to remove
+     */
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Removes the entry for the given key now and, when called inside a transaction, once more after it commits.
+     * A reader running concurrently with the transaction can still load the data from before the commit and
+     * cache it after the first removal; the second removal drops that entry as soon as the new data is visible.
+     *
+     * @param key the key to remove
+     */
+    public void invalidateAfterCommit(K key) {
+        invalidate(key);
+        afterCommit(() -> invalidate(key));
+    }
+
+    /**
+     * Removes all entries now and, when called inside a transaction, once more after it commits.
+     *
+     * @see #invalidateAfterCommit(Object)
+     */
+    public void invalidateAllAfterCommit() {
+        invalidateAll();
+        afterCommit(this::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxSize) {
+            Insertion<K> oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            insertionOrderLength.decrementAndGet();
+            Entry<V> entry = entries.get(oldest.key());
+            if (entry != null && entry.sequence() == oldest.sequence() && entries.remove(oldest.key(), entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void compactInsertionOrder() {
+        long now = clock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt() <= now && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        });
+        insertionOrder.removeIf(insertion -> !isCurrent(insertion));
+        insertionOrderLength.set(insertionOrder.size());
+    }
+
+    private boolean isCurrent(Insertion<K> insertion) {
+        Entry<V> entry = entries.get(insertion.key());
+        return entry != null && entry.sequence() == insertion.sequence();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAt, long sequence) {
+    }
+
+    private record Insertion<K>(K key, long sequence) {
+    }
+}
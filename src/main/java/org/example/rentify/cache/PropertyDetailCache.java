@@ -0,0 +1,58 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.dto.response.PropertyResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * PropertyDetailCache keeps the property detail responses served by GET /api/properties/{id}.
+ * Every write touching a property, its images or its reviews evicts its entry.
+ */
+@Component
+public class PropertyDetailCache {
+
+    public static final String NAME = "propertyDetail";
+
+    private final LocalCache<Long, PropertyResponseDTO> cache;
+
+    @Autowired
+    public PropertyDetailCache(CacheRegistry cacheRegistry,
+                               @Value("${rentify.cache.property-detail.max-size:10000}") int maxSize,
+                               @Value("${rentify.cache.property-detail.ttl:PT10M}") Duration ttl) {
+        this.cache = cacheRegistry.register(NAME, maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached detail of a property, loading it on a miss.
+     *
+     * @param propertyId the ID of the property
+     * @param loader     the function building the detail response from the database
+     * @return the property detail response
+     */
+    public PropertyResponseDTO get(Long propertyId, Function<Long, PropertyResponseDTO> loader) {
+        return cache.get(propertyId, loader);
+    }
+
+    /**
+     * Evicts the detail of a property now and, inside a transaction, again after it commits.
+     *
+     * @param propertyId the ID of the property
+     */
+    public void evict(Long propertyId) {
+        if (propertyId == null) {
+            return;
+        }
+        cache.invalidateAfterCommit(propertyId);
+    }
+
+    /**
+     * Evicts the details of all properties now and, inside a transaction, again after it commits.
+     */
+    public void evictAll() {
+        cache.invalidateAllAfterCommit();
+    }
+}
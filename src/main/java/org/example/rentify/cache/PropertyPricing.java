@@ -0,0 +1,163 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.PricingRule;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PropertyPricing is the compiled, immutable form of the pricing rules of a property.
+ * The price of every day of a window starting at {@code from} is resolved once from the nightly rules and kept
+ * as prefix sums of minor units, so the subtotal of any stay inside the window is the difference of two entries.
+ * Days outside the window are resolved from the rules one by one.
+ */
+public final class PropertyPricing {
+
+    private final Money basePrice;
+    private final LocalDate from;
+    private final long[] prefixSums;
+    private final List<NightlyRule> nightlyRules;
+    private final List<LengthOfStayRule> lengthOfStayRules;
+
+    private PropertyPricing(Money basePrice, LocalDate from, int days, List<NightlyRule> nightlyRules,
+                            List<LengthOfStayRule> lengthOfStayRules) {
+        this.basePrice = basePrice;
+        this.from = from;
+        this.nightlyRules = nightlyRules;
+        this.lengthOfStayRules = lengthOfStayRules;
+        this.prefixSums = new long[days + 1];
+        LocalDate day = from;
+        for (int i = 0; i < days; i++, day = day.plusDays(1)) {
+            prefixSums[i + 1] = prefixSums[i] + dayPriceMinor(day);
+        }
+    }
+
+    /**
+     * Compiles the pricing rules of a property into its day prices.
+     *
+     * @param basePrice the price per day of the property, used for days no nightly rule matches
+     * @param rules     the pricing rules of the property, the ones with the highest priority first
+     * @param from      the first day of the precomputed window
+     * @param days      the number of days of the precomputed window
+     * @return the compiled pricing
+     * @throws IllegalArgumentException if the base price is null or the window is negative
+     */
+    public static PropertyPricing compile(Money basePrice, List<PricingRule> rules, LocalDate from, int days) {
+        if (basePrice == null || from == null || days < 0) {
+            throw new IllegalArgumentException("Base price and window of the pricing must be valid");
+        }
+        List<NightlyRule> nightlyRules = rules.stream()
+                .filter(rule -> rule.getRuleType() == PricingRuleType.NIGHTLY)
+                .map(rule -> new NightlyRule(rule.getStartDate(), rule.getEndDate(), rule.getDaysOfWeek(),
+                        rule.getAdjustmentType(), rule.getFixedPrice(), rule.getPercentage()))
+                .toList();
+        List<LengthOfStayRule> lengthOfStayRules = rules.stream()
+                .filter(rule -> rule.getRuleType() == PricingRuleType.LENGTH_OF_STAY)
+                .map(rule -> new LengthOfStayRule(rule.getMinDays(), rule.getPercentage()))
+                .sorted(Comparator.comparingInt(LengthOfStayRule::minDays).reversed())
+                .toList();
+        return new PropertyPricing(basePrice, from, days, nightlyRules, lengthOfStayRules);
+    }
+
+    /**
+     * Returns the base price the pricing was compiled with, so a stale pricing can be told apart
+     * after the price per day of the property has changed.
+     *
+     * @return the price per day of the property
+     */
+    public Money getBasePrice() {
+        return basePrice;
+    }
+
+    /**
+     * Returns the price of a single day.
+     *
+     * @param day the day
+     * @return the price of the day
+     */
+    public Money dayPrice(LocalDate day) {
+        long index = ChronoUnit.DAYS.between(from, day);
+        long minorUnits = index >= 0 && index < prefixSums.length - 1
+                ? prefixSums[(int) index + 1] - prefixSums[(int) index]
+                : dayPriceMinor(day);
+        return new Money(minorUnits, basePrice.currency());
+    }
+
+    /**
+     * Quotes a stay from its start date to its end date, both inclusive.
+     *
+     * @param startDate the first day of the stay
+     * @param endDate   the last day of the stay
+     * @return the quote of the stay
+     * @throws IllegalArgumentException if a date is null or the end date is before the start date
+     */
+    public Quote quote(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        long startIndex = ChronoUnit.DAYS.between(from, startDate);
+        long endIndex = startIndex + days;
+        long subtotal;
+        if (startIndex >= 0 && endIndex < prefixSums.length) {
+            subtotal = prefixSums[(int) endIndex] - prefixSums[(int) startIndex];
+        } else {
+            subtotal = 0;
+            for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+                subtotal = Math.addExact(subtotal, dayPrice(day).minorUnits());
+            }
+        }
+        Integer percentage = lengthOfStayRules.stream()
+                .filter(rule -> days >= rule.minDays())
+                .map(LengthOfStayRule::percentage)
+                .findFirst()
+                .orElse(null);
+        long total = percentage == null ? subtotal : adjust(subtotal, percentage);
+        return new Quote(days, new Money(subtotal, basePrice.currency()), percentage,
+                new Money(total, basePrice.currency()));
+    }
+
+    private long dayPriceMinor(LocalDate day) {
+        for (NightlyRule rule : nightlyRules) {
+            if (rule.matches(day)) {
+                return rule.adjustmentType() == PricingAdjustmentType.FIXED_PRICE
+                        ? rule.fixedPrice().minorUnits()
+                        : adjust(basePrice.minorUnits(), rule.percentage());
+            }
+        }
+        return basePrice.minorUnits();
+    }
+
+    private static long adjust(long minorUnits, int percentage) {
+        return BigDecimal.valueOf(minorUnits)
+                .multiply(BigDecimal.valueOf(100L + percentage))
+                .divide(BigDecimal.valueOf(100), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Quote of a stay: the sum of its day prices and the total after the length-of-stay adjustment, if any applies.
+     */
+    public record Quote(long days, Money subtotal, Integer lengthOfStayPercentage, Money total) {
+    }
+
+    private record NightlyRule(LocalDate startDate, LocalDate endDate, Integer daysOfWeek,
+                               PricingAdjustmentType adjustmentType, Money fixedPrice, Integer percentage) {
+
+        boolean matches(LocalDate day) {
+            return (startDate == null || !day.isBefore(startDate))
+                    && (endDate == null || !day.isAfter(endDate))
+                    && (daysOfWeek == null || (daysOfWeek & (1 << (day.getDayOfWeek().getValue() - 1))) != 0);
+        }
+    }
+
+    private record LengthOfStayRule(int minDays, int percentage) {
+    }
+}
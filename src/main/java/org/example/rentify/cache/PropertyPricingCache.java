@@ -0,0 +1,60 @@
+package org.example.rentify.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * PropertyPricingCache keeps the compiled pricing of properties used to quote and price bookings.
+ * Every write to the pricing rules of a property evicts its entry.
+ */
+@Component
+public class PropertyPricingCache {
+
+    public static final String NAME = "propertyPricing";
+
+    private final LocalCache<Long, PropertyPricing> cache;
+
+    @Autowired
+    public PropertyPricingCache(CacheRegistry cacheRegistry,
+                                @Value("${rentify.cache.property-pricing.max-size:10000}") int maxSize,
+                                @Value("${rentify.cache.property-pricing.ttl:PT1H}") Duration ttl) {
+        this.cache = cacheRegistry.register(NAME, maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached pricing of a property, compiling it on a miss.
+     *
+     * @param propertyId the ID of the property
+     * @param loader     the function compiling the pricing from the database
+     * @return the compiled pricing of the property
+     */
+    public PropertyPricing get(Long propertyId, Function<Long, PropertyPricing> loader) {
+        return cache.get(propertyId, loader);
+    }
+
+    /**
+     * Replaces the cached pricing of a property, for example after it was recompiled with a new base price.
+     *
+     * @param propertyId the ID of the property
+     * @param pricing    the compiled pricing of the property
+     */
+    public void put(Long propertyId, PropertyPricing pricing) {
+        cache.put(propertyId, pricing);
+    }
+
+    /**
+     * Evicts the pricing of a property now and, inside a transaction, again after it commits.
+     *
+     * @param propertyId the ID of the property
+     */
+    public void evict(Long propertyId) {
+        if (propertyId == null) {
+            return;
+        }
+        cache.invalidateAfterCommit(propertyId);
+    }
+}
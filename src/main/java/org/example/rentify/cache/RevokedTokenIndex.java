@@ -0,0 +1,193 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.repository.RevokedTokenRepository;
+import org.example.rentify.repository.RevokedTokenRepository.RevokedJti;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * RevokedTokenIndex keeps the IDs of the revoked access tokens in memory, so JwtAuthenticationFilter checks a token
+ * for revocation without a query.
+ * Every ID is kept as a 64-bit hash in a sorted array, replaced as a whole on every change, so a lookup is a lock-free
+ * binary search. Token IDs are random UUIDs, so two of them sharing a hash is practically impossible.
+ * The index is warmed at startup and then picks up the tokens revoked on other instances every few seconds;
+ * tokens revoked on this instance are added as soon as their revocation commits. Expired tokens are dropped on refresh.
+ */
+@Component
+public class RevokedTokenIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenIndex.class);
+
+    /**
+     * Revocations are looked up again for this long after a refresh, so rows committed late,
+     * or stamped by an instance with a slightly different clock, are not missed.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration cleanupInterval;
+
+    private volatile Entries entries = Entries.EMPTY;
+    private LocalDateTime lastRefreshAt;
+    private LocalDateTime nextCleanupAt = LocalDateTime.MIN;
+
+    @Autowired
+    public RevokedTokenIndex(RevokedTokenRepository revokedTokenRepository,
+                             @Value("${rentify.security.token-revocation.cleanup-interval:PT10M}") Duration cleanupInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    /**
+     * Loads the revoked tokens that have not expired yet once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+        logger.info("Revoked token index warmed with {} tokens", size());
+    }
+
+    /**
+     * Adds the tokens revoked since the last refresh and drops the expired ones.
+     * The rows of expired tokens are deleted from the database once per cleanup interval.
+     */
+    @Scheduled(fixedDelayString = "${rentify.security.token-revocation.refresh-interval:PT10S}",
+            initialDelayString = "${rentify.security.token-revocation.refresh-interval:PT10S}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedJti> revoked = lastRefreshAt == null
+                ? revokedTokenRepository.findUnexpired(now)
+                : revokedTokenRepository.findUnexpiredRevokedSince(lastRefreshAt.minus(REFRESH_OVERLAP), now);
+        lastRefreshAt = now;
+
+        TreeMap<Long, Long> added = new TreeMap<>();
+        revoked.forEach(token -> added.merge(hash(token.getJti()), epochSecond(token.getExpiresAt()), Math::max));
+        entries = entries.withoutExpired(epochSecond(now)).with(added);
+
+        if (!now.isBefore(nextCleanupAt)) {
+            nextCleanupAt = now.plus(cleanupInterval);
+            int deleted = revokedTokenRepository.deleteExpired(now);
+            logger.debug("Deleted {} expired revoked tokens", deleted);
+        }
+    }
+
+    /**
+     * Checks if the token with the given ID has been revoked.
+     *
+     * @param jti the ID of the token, the "jti" claim
+     * @return true if the token has been revoked, false otherwise or if the ID is null
+     * @throws IllegalArgumentException if the ID is not a UUID
+     */
+    public boolean isRevoked(String jti) {
+        return jti != null && entries.contains(hash(UUID.fromString(jti)));
+    }
+
+    /**
+     * Adds a revoked token once the current transaction commits.
+     *
+     * @param jti       the ID of the token
+     * @param expiresAt the expiry time of the token
+     */
+    public void add(UUID jti, LocalDateTime expiresAt) {
+        afterCommit(() -> {
+            TreeMap<Long, Long> added = new TreeMap<>();
+            added.put(hash(jti), epochSecond(expiresAt));
+            synchronized (this) {
+                entries = entries.with(added);
+            }
+        });
+    }
+
+    public int size() {
+        return entries.hashes().length;
+    }
+
+    private static long hash(UUID jti) {
+        return jti.getMostSignificantBits() ^ jti.getLeastSignificantBits();
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Immutable hashes of the revoked tokens in ascending order, with the expiry time of each token in epoch seconds.
+     */
+    private record Entries(long[] hashes, long[] expiries) {
+
+        static final Entries EMPTY = new Entries(new long[0], new long[0]);
+
+        boolean contains(long hash) {
+            return Arrays.binarySearch(hashes, hash) >= 0;
+        }
+
+        Entries with(TreeMap<Long, Long> added) {
+            if (added.isEmpty()) {
+                return this;
+            }
+            TreeMap<Long, Long> merged = new TreeMap<>(added);
+            for (int i = 0; i < hashes.length; i++) {
+                merged.merge(hashes[i], expiries[i], Math::max);
+            }
+            long[] mergedHashes = new long[merged.size()];
+            long[] mergedExpiries = new long[merged.size()];
+            int i = 0;
+            for (var entry : merged.entrySet()) {
+                mergedHashes[i] = entry.getKey();
+                mergedExpiries[i++] = entry.getValue();
+            }
+            return new Entries(mergedHashes, mergedExpiries);
+        }
+
+        Entries withoutExpired(long nowEpochSecond) {
+            int kept = 0;
+            for (long expiry : expiries) {
+                if (expiry > nowEpochSecond) {
+                    kept++;
+                }
+            }
+            if (kept == hashes.length) {
+                return this;
+            }
+            long[] keptHashes = new long[kept];
+            long[] keptExpiries = new long[kept];
+            int j = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                if (expiries[i] > nowEpochSecond) {
+                    keptHashes[j] = hashes[i];
+                    keptExpiries[j++] = expiries[i];
+                }
+            }
+            return new Entries(keptHashes, keptExpiries);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * TokenVersionCache keeps the current token version of recently authenticated users.
+ * A token whose "tv" claim no longer matches is rejected, so the short time to live bounds how long a token
+ * stays usable after a revoking change made on another instance; changes made on this instance evict the entry right away.
+ */
+@Component
+public class TokenVersionCache {
+
+    public static final String NAME = "tokenVersion";
+
+    private final LocalCache<String, Long> cache;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public TokenVersionCache(CacheRegistry cacheRegistry, UserRepository userRepository,
+                             @Value("${rentify.cache.token-version.max-size:10000}") int maxSize,
+                             @Value("${rentify.cache.token-version.ttl:PT30S}") Duration ttl) {
+        this.cache = cacheRegistry.register(NAME, maxSize, ttl);
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns the current token version of a user, loading it on a miss.
+     *
+     * @param username the username of the user
+     * @return the token version, or null if the user does not exist
+     */
+    public Long get(String username) {
+        return cache.get(username, key -> userRepository.findTokenVersionByUsername(key).orElse(null));
+    }
+
+    /**
+     * Evicts the token version of a user now and, inside a transaction, again after it commits.
+     *
+     * @param username the username of the user
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidateAfterCommit(username);
+    }
+
+    /**
+     * Evicts the token versions of all users now and, inside a transaction, again after it commits.
+     */
+    public void evictAll() {
+        cache.invalidateAllAfterCommit();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.security.UserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * UserPrincipalCache keeps the principals of recently authenticated users, so requests carrying a token
+ * do not load the user from the database every time.
+ * Changes to a user or to the roles of users made on this instance evict the entries;
+ * changes made on another instance are picked up when the entry expires.
+ */
+@Component
+public class UserPrincipalCache {
+
+    public static final String NAME = "userPrincipal";
+
+    private final LocalCache<String, UserPrincipal> cache;
+
+    @Autowired
+    public UserPrincipalCache(CacheRegistry cacheRegistry,
+                              @Value("${rentify.cache.user-principal.max-size:10000}") int maxSize,
+                              @Value("${rentify.cache.user-principal.ttl:PT1M}") Duration ttl) {
+        this.cache = cacheRegistry.register(NAME, maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached principal of a user, loading it on a miss.
+     *
+     * @param username the username of the user
+     * @param loader   the function loading the principal from the database, returning null if the user does not exist
+     * @return the principal of the user, or null if the user does not exist
+     */
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Evicts the principal of a user now and, inside a transaction, again after it commits.
+     *
+     * @param username the username of the user
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidateAfterCommit(username);
+    }
+
+    /**
+     * Evicts the principals of all users now and, inside a transaction, again after it commits.
+     */
+    public void evictAll() {
+        cache.invalidateAllAfterCommit();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.rentify.cache;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * VerifiedTokenCache keeps the claims of recently verified JWT tokens, so a token sent with every request
+ * has its signature checked and its payload parsed only once.
+ * Entries are keyed by the SHA-256 hash of the token, the raw tokens are never kept, and expire together with the token.
+ * The cached claims are shared between requests and must not be modified.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String NAME = "verifiedToken";
+
+    private final LocalCache<String, Claims> cache;
+
+    @Autowired
+    public VerifiedTokenCache(CacheRegistry cacheRegistry,
+                              @Value("${rentify.cache.verified-token.max-size:10000}") int maxSize,
+                              @Value("${rentify.cache.verified-token.ttl:PT15M}") Duration ttl) {
+        this.cache = cacheRegistry.register(NAME, maxSize, ttl);
+    }
+
+    /**
+     * Returns the claims of a token verified before.
+     *
+     * @param token the JWT token
+     * @return the claims of the token, or null if it was not verified yet or has expired
+     */
+    public Claims get(String token) {
+        return cache.get(hash(token));
+    }
+
+    /**
+     * Caches the claims of a verified token until the token expires.
+     * Tokens without an expiration are kept for the default time to live of the cache.
+     *
+     * @param token  the verified JWT token
+     * @param claims the claims of the token
+     */
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() != null) {
+            cache.put(hash(token), claims, claims.getExpiration().getTime());
+        } else {
+            cache.put(hash(token), claims);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
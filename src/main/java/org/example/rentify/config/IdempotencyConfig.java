@@ -0,0 +1,40 @@
+package org.example.rentify.config;
+
+import org.example.rentify.idempotency.IdempotencyFilter;
+import org.example.rentify.service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.List;
+
+@Configuration
+/*
+ * This class configures the Idempotency-Key support of the application.
+ * The IdempotencyFilter is registered behind the Spring Security filter chain, so it only sees authenticated requests
+ * and can scope the keys to the user sending them.
+ */
+public class IdempotencyConfig {
+
+    /**
+     * This method registers the idempotency filter for the booking creation and payment routes.
+     * @return the FilterRegistrationBean of the IdempotencyFilter
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService idempotencyService,
+                                                                       @Value("${rentify.idempotency.enabled:true}") boolean enabled) {
+        IdempotencyFilter filter = new IdempotencyFilter(List.of(
+                new AntPathRequestMatcher("/api/bookings/create", HttpMethod.POST.name()),
+                new AntPathRequestMatcher("/api/bookings/payments/*/pay", HttpMethod.POST.name())), idempotencyService);
+
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.rentify.config;
+
+import org.example.rentify.security.jwt.JwtUtil;
+import org.example.rentify.security.ratelimit.RateLimitFilter;
+import org.example.rentify.security.ratelimit.RateLimitRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+/*
+ * This class configures the rate limits of the application.
+ * The RateLimitFilter is registered ahead of the Spring Security filter chain, so throttled requests
+ * are rejected before any authentication or database work is done for them.
+ */
+public class RateLimitConfig {
+
+    /**
+     * This method registers the rate limit filter with the limits of the login, property search and booking creation routes.
+     * Each limit allows a burst of capacity requests and capacity requests per period after that.
+     * @return the FilterRegistrationBean of the RateLimitFilter
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(JwtUtil jwtUtil,
+                                                                   @Value("${rentify.rate-limit.enabled:true}") boolean enabled,
+                                                                   @Value("${rentify.rate-limit.max-buckets:100000}") int maxBuckets,
+                                                                   @Value("${rentify.rate-limit.login.capacity:10}") int loginCapacity,
+                                                                   @Value("${rentify.rate-limit.login.period:PT1M}") Duration loginPeriod,
+                                                                   @Value("${rentify.rate-limit.search.capacity:120}") int searchCapacity,
+                                                                   @Value("${rentify.rate-limit.search.period:PT1M}") Duration searchPeriod,
+                                                                   @Value("${rentify.rate-limit.booking.capacity:10}") int bookingCapacity,
+                                                                   @Value("${rentify.rate-limit.booking.period:PT1M}") Duration bookingPeriod) {
+        List<RateLimitRule> rules = List.of(
+                new RateLimitRule("login", new AntPathRequestMatcher("/api/auth/login", HttpMethod.POST.name()), loginCapacity, loginPeriod),
+                new RateLimitRule("booking", new AntPathRequestMatcher("/api/bookings/create", HttpMethod.POST.name()), bookingCapacity, bookingPeriod),
+                new RateLimitRule("search", new AntPathRequestMatcher("/api/properties/**", HttpMethod.GET.name()), searchCapacity, searchPeriod));
+
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(rules, jwtUtil, maxBuckets));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
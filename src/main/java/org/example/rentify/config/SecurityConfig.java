@@ -2,6 +2,7 @@ package org.example.rentify.config;
 
 import org.example.rentify.security.jwt.JwtAuthenticationEntryPoint;
 import org.example.rentify.security.jwt.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,12 +40,14 @@ public class SecurityConfig {
 
     /**
      * This method configures the password encoder to be used in the application.
-     * It uses BCryptPasswordEncoder for hashing passwords.
+     * It uses BCryptPasswordEncoder for hashing passwords, with the cost set by rentify.security.bcrypt.strength.
+     * Passwords hashed with a lower cost are rehashed with the configured one on the next successful login.
+     * @param strength the log2 number of BCrypt rounds, between 4 and 31
      * @return the PasswordEncoder instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${rentify.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
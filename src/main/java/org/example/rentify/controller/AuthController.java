@@ -6,9 +6,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.example.rentify.dto.registration.UserRegistrationDTO;
 import org.example.rentify.dto.request.LoginRequestDTO;
+import org.example.rentify.dto.request.RefreshTokenRequestDTO;
+import org.example.rentify.dto.response.JwtResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
@@ -44,6 +47,37 @@ public class AuthController {
         return userService.authenticateUser(loginRequest);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token.
+     *
+     * @param refreshTokenRequest The RefreshTokenRequestDTO containing the refresh token.
+     * @return A ResponseEntity containing the new JWT token, a new refresh token and user details.
+     */
+    @Operation(summary = "Refresh Access Token", description = "Exchanges a refresh token for a new access token and a new refresh token. Every refresh token can be used once.")
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponseDTO> refreshAccessToken(@Parameter(description = "Refresh token request DTO")
+                                                             @Valid @RequestBody RefreshTokenRequestDTO refreshTokenRequest) {
+
+        return ResponseEntity.ok(userService.refreshAccessToken(refreshTokenRequest));
+    }
+
+
+    /**
+     * Logs out the current user by revoking their access token and, if given, their refresh token.
+     *
+     * @param authorizationHeader The Authorization header carrying the access token.
+     * @param refreshTokenRequest The optional RefreshTokenRequestDTO containing the refresh token.
+     * @return A MessageResponseDTO indicating the result of the logout.
+     */
+    @Operation(summary = "User Logout", description = "Revokes the presented access token and, if given, the refresh token, so they cannot be used anymore.")
+    @PostMapping("/logout")
+    public MessageResponseDTO logout(@Parameter(hidden = true) @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader,
+                                     @Parameter(description = "Refresh token request DTO")
+                                     @RequestBody(required = false) RefreshTokenRequestDTO refreshTokenRequest) {
+
+        return userService.logout(authorizationHeader, refreshTokenRequest);
+    }
+
 
     /**
      * Registers a new user based on the provided registration details.
@@ -12,10 +12,12 @@ import org.example.rentify.dto.response.ImageResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.service.ImageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -52,16 +54,23 @@ public class ImageController {
 
     /**
      * Retrieves all images associated with a property.
+     * The response carries a strong ETag built from the images version; a request whose If-None-Match
+     * still matches it is answered with 304 Not Modified without loading the images.
      *
      * @param propertyId the ID of the property
-     * @return a ResponseEntity containing the list of images
+     * @param request the current request, used to evaluate If-None-Match
+     * @return a ResponseEntity containing the list of images, or 304 Not Modified
      */
     @Operation(summary = "Display all images for a property",
             description = "Retrieves all images associated with the specified property.")
     @GetMapping("/all")
     public ResponseEntity<List<ImageResponseDTO>> getAllImagesForProperty(@Parameter(
-            description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId) {
-        return ResponseEntity.ok(imageService.getAllImagesByPropertyId(propertyId));
+            description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId, WebRequest request) {
+        String currentETag = "\"" + imageService.getImagesVersion(propertyId) + "\"";
+        if (request.checkNotModified(currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        return ResponseEntity.ok().eTag(currentETag).body(imageService.getAllImagesByPropertyId(propertyId));
     }
 
     /**
@@ -0,0 +1,59 @@
+package org.example.rentify.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.rentify.dto.response.CacheStatsDTO;
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.service.MetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+ * MetricsController is a REST controller exposing runtime metrics of the application to administrators.
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@Tag(name = "Metrics", description = "Endpoints for runtime metrics")
+@SecurityRequirement(name = "bearerAuth")
+public class MetricsController {
+
+    private final MetricsService metricsService;
+
+    @Autowired
+    public MetricsController(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * Retrieves the statistics of all in-process caches.
+     *
+     * @return a list of cache statistics
+     */
+    @Operation(summary = "Get cache statistics", description = "Retrieve hit, miss and eviction counts of all in-process caches. Requires ADMIN role.")
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+
+        return ResponseEntity.ok(metricsService.getCacheStats());
+    }
+
+    /**
+     * Retrieves the statistics of the executor running the password checks of logins.
+     *
+     * @return the password hashing statistics
+     */
+    @Operation(summary = "Get password hashing statistics", description = "Retrieve queue depth, rejections, queue wait and hash time of login password checks. Requires ADMIN role.")
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PasswordHashingStatsDTO> getPasswordHashingStats() {
+
+        return ResponseEntity.ok(metricsService.getPasswordHashingStats());
+    }
+}
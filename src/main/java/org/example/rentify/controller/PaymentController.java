@@ -8,10 +8,15 @@ import jakarta.validation.Valid;
 import org.example.rentify.dto.request.PaymentRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PaymentResponseDTO;
+import org.example.rentify.dto.response.PropertyRevenueDTO;
+import org.example.rentify.dto.response.RevenuePeriodDTO;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
+import org.example.rentify.entity.enums.RevenueGranularity;
 import org.example.rentify.service.PaymentService;
+import org.example.rentify.service.RevenueService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -20,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -35,10 +41,12 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final RevenueService revenueService;
 
     @Autowired
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, RevenueService revenueService) {
         this.paymentService = paymentService;
+        this.revenueService = revenueService;
     }
 
     /**
@@ -114,43 +122,197 @@ public class PaymentController {
     }
 
     /**
-     * Retrieves the amount of money paid by a specific user.
+     * Retrieves the amount of money paid by a specific user, optionally only in payments of a status and date range.
      *
      * @param username the username of the user whose payment amount is to be retrieved
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
      * @return a ResponseEntity containing the total amount paid by the user
      */
-    @Operation(summary = "Get total amount paid by user", description = "Retrieves the total amount of money paid by a specific user.")
+    @Operation(summary = "Get total amount paid by user", description = "Retrieves the total amount of money paid by a specific user, optionally filtered by payment status and date range.")
     @GetMapping("/user/{username}/total")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Double> getTotalAmountPaidByUser(@Parameter(description = "Username of the user", in = ParameterIn.PATH)
-                                                            @PathVariable String username) {
-        return ResponseEntity.ok(paymentService.getTotalAmountPaidByUser(username));
+    public ResponseEntity<BigDecimal> getTotalAmountPaidByUser(
+            @Parameter(description = "Username of the user", in = ParameterIn.PATH) @PathVariable String username,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(paymentService.getTotalAmountPaidByUser(username, status, from, to));
     }
 
     /**
-     * Retrieves the total amount of money paid by all users.
+     * Retrieves the total amount of money paid by all users, optionally only in payments of a status and date range.
      *
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
      * @return a ResponseEntity containing the total amount paid by all users
      */
-    @Operation(summary = "Get total amount paid by all users", description = "Retrieves the total amount of money paid by all users.")
+    @Operation(summary = "Get total amount paid by all users", description = "Retrieves the total amount of money paid by all users, optionally filtered by payment status and date range.")
     @GetMapping("/total")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<BigDecimal> getTotalAmountPaidByAllUsers() {
-        return ResponseEntity.ok(paymentService.getTotalAmountPaidByAllUsers());
+    public ResponseEntity<BigDecimal> getTotalAmountPaidByAllUsers(
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(paymentService.getTotalAmountPaidByAllUsers(status, from, to));
     }
 
     /**
-     * Retrieves the total amount of money paid by all users for a specific property.
+     * Retrieves the total amount of money paid by all users for a specific property,
+     * optionally only in payments of a status and date range.
      *
      * @param propertyId the ID of the property for which the total payment amount is to be retrieved
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
      * @return a ResponseEntity containing the total amount paid for the specified property
      */
-    @Operation(summary = "Get total amount paid by all users for a property", description = "Retrieves the total amount of money paid by all users for a specific property.")
+    @Operation(summary = "Get total amount paid by all users for a property", description = "Retrieves the total amount of money paid by all users for a specific property, optionally filtered by payment status and date range.")
     @GetMapping("/property/{propertyId}/total")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<BigDecimal> getTotalAmountPaidByAllUsersForProperty(@Parameter(description = "Property ID", in = ParameterIn.PATH)
-                                                                                @PathVariable Long propertyId) {
-        return ResponseEntity.ok(paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId));
+    public ResponseEntity<BigDecimal> getTotalAmountPaidByAllUsersForProperty(
+            @Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId, status, from, to));
+    }
+
+    /**
+     * Retrieves the revenue of each property owned by the authenticated user, for the owner dashboard.
+     *
+     * @param authentication the authentication of the user
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return a ResponseEntity containing the revenue of each property of the user
+     */
+    @Operation(summary = "Get revenue of own properties", description = "Retrieves the revenue of each property owned by the authenticated user, optionally filtered by payment status and date range.")
+    @GetMapping("/me/properties/revenue")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<PropertyRevenueDTO>> getRevenueOfOwnedProperties(
+            Authentication authentication,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        String username = ((UserDetails) authentication.getPrincipal()).getUsername();
+        return ResponseEntity.ok(paymentService.getRevenueOfOwnedProperties(username, status, from, to));
+    }
+
+    /**
+     * Retrieves the revenue of each of the given properties.
+     *
+     * @param propertyIds the IDs of the properties
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return a ResponseEntity containing the revenue of each existing property
+     */
+    @Operation(summary = "Get revenue of properties", description = "Retrieves the revenue of up to 100 properties at once, optionally filtered by payment status and date range.")
+    @GetMapping("/properties/revenue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PropertyRevenueDTO>> getRevenueByProperties(
+            @Parameter(description = "IDs of the properties") @RequestParam List<Long> propertyIds,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(paymentService.getRevenueByProperties(propertyIds, status, from, to));
+    }
+
+    /**
+     * Retrieves the daily, weekly or monthly revenue of a property from the revenue rollup.
+     *
+     * @param propertyId the ID of the property
+     * @param granularity the length of the periods
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count
+     * @param to the last payment day to count
+     * @return a ResponseEntity containing the periods with payments, ordered by their start
+     */
+    @Operation(summary = "Get revenue series of a property", description = "Retrieves the revenue of a property per day, week or month in a date range, optionally filtered by payment status.")
+    @GetMapping("/property/{propertyId}/revenue")
+    @PreAuthorize("isAuthenticated() and (hasRole('ADMIN') or @propertyService.isOwner(#propertyId, principal.username))")
+    public ResponseEntity<List<RevenuePeriodDTO>> getPropertyRevenueSeries(
+            @Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+            @Parameter(description = "Length of the periods")
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(revenueService.getPropertySeries(propertyId, granularity, status, from, to));
+    }
+
+    /**
+     * Retrieves the daily, weekly or monthly revenue of all properties owned by the authenticated user.
+     *
+     * @param authentication the authentication of the user
+     * @param granularity the length of the periods
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count
+     * @param to the last payment day to count
+     * @return a ResponseEntity containing the periods with payments, ordered by their start
+     */
+    @Operation(summary = "Get own revenue series", description = "Retrieves the revenue of all properties owned by the authenticated user per day, week or month in a date range, optionally filtered by payment status.")
+    @GetMapping("/me/revenue")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<RevenuePeriodDTO>> getOwnRevenueSeries(
+            Authentication authentication,
+            @Parameter(description = "Length of the periods")
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        String username = ((UserDetails) authentication.getPrincipal()).getUsername();
+        return ResponseEntity.ok(revenueService.getOwnerSeries(username, granularity, status, from, to));
+    }
+
+    /**
+     * Retrieves the daily, weekly or monthly revenue of all properties owned by a user.
+     *
+     * @param username the username of the owner
+     * @param granularity the length of the periods
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count
+     * @param to the last payment day to count
+     * @return a ResponseEntity containing the periods with payments, ordered by their start
+     */
+    @Operation(summary = "Get revenue series of an owner", description = "Retrieves the revenue of all properties owned by a user per day, week or month in a date range, optionally filtered by payment status.")
+    @GetMapping("/owner/{username}/revenue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RevenuePeriodDTO>> getOwnerRevenueSeries(
+            @Parameter(description = "Username of the owner", in = ParameterIn.PATH) @PathVariable String username,
+            @Parameter(description = "Length of the periods")
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity,
+            @Parameter(description = "Status of the payments to count, all statuses if omitted")
+            @RequestParam(required = false) PaymentStatus status,
+            @Parameter(description = "First payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment day to count, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(revenueService.getOwnerSeries(username, granularity, status, from, to));
     }
 
     /**
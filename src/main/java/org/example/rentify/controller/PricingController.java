@@ -0,0 +1,119 @@
+package org.example.rentify.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.dto.response.PriceQuoteDTO;
+import org.example.rentify.dto.response.PricingRuleResponseDTO;
+import org.example.rentify.service.PricingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/properties/{propertyId}/pricing")
+@Tag(name = "Pricing Management", description = "Endpoints for managing property pricing rules and quoting stays")
+@SecurityRequirement(name = "bearerAuth")
+@Validated
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    @Autowired
+    public PricingController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    /**
+     * Quotes a stay at a property without creating a booking.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the first day of the stay
+     * @param endDate the last day of the stay, inclusive
+     * @return a PriceQuoteDTO with the price of the stay
+     */
+    @Operation(summary = "Quote a stay at a property",
+            description = "Computes the price of a stay from the pricing rules of the property without creating a booking.")
+    @GetMapping("/quote")
+    public PriceQuoteDTO getQuote(@Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+                                  @Parameter(description = "First day of the stay", example = "2025-10-01")
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                  @Parameter(description = "Last day of the stay, inclusive", example = "2025-10-10")
+                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return pricingService.getQuote(propertyId, startDate, endDate);
+    }
+
+    /**
+     * Retrieves all pricing rules of a property.
+     *
+     * @param propertyId the ID of the property
+     * @return a list of PricingRuleResponseDTOs, the ones with the highest priority first
+     */
+    @Operation(summary = "Display all pricing rules for a property",
+            description = "Retrieves all pricing rules of the specified property, the ones with the highest priority first.")
+    @GetMapping("/rules/all")
+    public List<PricingRuleResponseDTO> getAllPricingRules(@Parameter(description = "Property ID", in = ParameterIn.PATH)
+                                                           @PathVariable Long propertyId) {
+        return pricingService.getPricingRules(propertyId);
+    }
+
+    /**
+     * Adds a pricing rule to a property.
+     *
+     * @param propertyId the ID of the property
+     * @param pricingRuleRequestDTO the DTO containing the pricing rule
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Operation(summary = "Add a pricing rule to a property",
+            description = "Adds a nightly or length of stay pricing rule to the specified property. Requires authentication.")
+    @PostMapping("/rules/add")
+    @PreAuthorize("isAuthenticated() and (hasRole('ADMIN') or @propertyService.isOwner(#propertyId, principal.username))")
+    public MessageResponseDTO addPricingRule(@Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+                                             @Valid @RequestBody PricingRuleRequestDTO pricingRuleRequestDTO) {
+        return pricingService.addPricingRule(propertyId, pricingRuleRequestDTO);
+    }
+
+    /**
+     * Replaces a pricing rule of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param ruleId the ID of the pricing rule
+     * @param pricingRuleRequestDTO the DTO containing the new pricing rule
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Operation(summary = "Update a pricing rule of a property",
+            description = "Replaces the specified pricing rule of the property. Requires authentication.")
+    @PutMapping("/rules/update/{ruleId}")
+    @PreAuthorize("isAuthenticated() and (hasRole('ADMIN') or @propertyService.isOwner(#propertyId, principal.username))")
+    public MessageResponseDTO updatePricingRule(@Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+                                                @Parameter(description = "Pricing rule ID", in = ParameterIn.PATH) @PathVariable Long ruleId,
+                                                @Valid @RequestBody PricingRuleRequestDTO pricingRuleRequestDTO) {
+        return pricingService.updatePricingRule(propertyId, ruleId, pricingRuleRequestDTO);
+    }
+
+    /**
+     * Deletes a pricing rule of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param ruleId the ID of the pricing rule
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Operation(summary = "Delete a pricing rule from a property",
+            description = "Deletes the specified pricing rule from the property. Requires authentication.")
+    @DeleteMapping("/rules/delete/{ruleId}")
+    @PreAuthorize("isAuthenticated() and (hasRole('ADMIN') or @propertyService.isOwner(#propertyId, principal.username))")
+    public MessageResponseDTO deletePricingRule(@Parameter(description = "Property ID", in = ParameterIn.PATH) @PathVariable Long propertyId,
+                                                @Parameter(description = "Pricing rule ID", in = ParameterIn.PATH) @PathVariable Long ruleId) {
+        return pricingService.deletePricingRule(propertyId, ruleId);
+    }
+}
@@ -7,23 +7,31 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.example.rentify.dto.request.PropertyRequestDTO;
+import org.example.rentify.dto.request.PropertySearchCriteriaDTO;
+import org.example.rentify.dto.response.CursorPageResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PropertyResponseDTO;
+import org.example.rentify.dto.response.PropertySummaryDTO;
 import org.example.rentify.entity.enums.PropertyType;
 import org.example.rentify.service.PropertyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 
 /*
@@ -52,7 +60,7 @@ public class PropertyController {
      */
     @Operation(summary = "Get all properties", description = "Retrieve a paginated list of all properties")
     @GetMapping("/all")
-    public ResponseEntity<Page<PropertyResponseDTO>> findAllProperties(@Parameter(
+    public ResponseEntity<Page<PropertySummaryDTO>> findAllProperties(@Parameter(
             name = "pageable",
             description = "Pageable object containing pagination information",
             example = "{\"page\": 0, \"size\": 10, \"sort\": \"title,asc\"}") Pageable pageable) {
@@ -60,18 +68,47 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.findAllProperties(pageable));
     }
 
+    /**
+     * Retrieves the newest properties using cursor (keyset) pagination, intended for infinite scrolling.
+     * No total count is computed, the response carries the cursor of the next slice instead.
+     *
+     * @param after the cursor returned with the previous slice, omitted for the first slice
+     * @param size  the maximum number of properties in the slice
+     * @return a slice of property summaries ordered from the newest one with the cursor of the next slice
+     */
+    @Operation(summary = "Scroll through properties", description = "Retrieve the newest properties page by page using a cursor instead of a page number")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDTO<PropertySummaryDTO>> scrollProperties(
+            @Parameter(description = "Cursor of the last seen property in the form creationDate,id", example = "2023-10-01T12:00:00,42")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of properties in the slice")
+            @Min(value = 1, message = "Size must be at least 1")
+            @Max(value = 100, message = "Size cannot be greater than 100")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(propertyService.findPropertiesAfter(after, size));
+    }
+
     /**
      * Retrieves a property by its ID.
+     * The response carries a strong ETag built from the property version; a request whose If-None-Match
+     * still matches it is answered with 304 Not Modified without loading the property.
      *
      * @param id the ID of the property to retrieve.
-     * @return the property's details.
+     * @param request the current request, used to evaluate If-None-Match.
+     * @return the property's details, or 304 Not Modified.
      */
     @Operation(summary = "Get property with given ID", description = "Retrieve a property DTO from given ID")
     @GetMapping("/{id}")
     public ResponseEntity<PropertyResponseDTO> findPropertyById(@Parameter(
-            description = "Property ID", in = ParameterIn.PATH) @PathVariable Long id) {
+            description = "Property ID", in = ParameterIn.PATH) @PathVariable Long id, WebRequest request) {
 
-        return ResponseEntity.ok(propertyService.findPropertyById(id));
+        String currentETag = eTag(propertyService.getPropertyVersion(id));
+        if (request.checkNotModified(currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        PropertyResponseDTO property = propertyService.findPropertyById(id);
+        return ResponseEntity.ok().eTag(eTag(property.getVersion())).body(property);
     }
 
     /**
@@ -83,7 +120,7 @@ public class PropertyController {
      */
     @Operation(summary = "Get all properties with availability status", description = "Retrieve a paginated list of all properties with given availability status")
     @GetMapping("/availability/{availability}")
-    public ResponseEntity<Page<PropertyResponseDTO>> findAllPropertiesByAvailability(
+    public ResponseEntity<Page<PropertySummaryDTO>> findAllPropertiesByAvailability(
             @Parameter(description = "Availability status", in = ParameterIn.PATH) @PathVariable boolean availability,
             @Parameter(name = "pageable",
                     description = "Pageable object containing pagination information",
@@ -103,7 +140,7 @@ public class PropertyController {
      */
     @Operation(summary = "Get all properties with country, city and availability status", description = "Retrieve a paginated list of all properties with given criteria")
     @GetMapping("/{city}/{country}/{availability}")
-    public ResponseEntity<Page<PropertyResponseDTO>> getAllPropertiesByCityCountryAvailability(
+    public ResponseEntity<Page<PropertySummaryDTO>> getAllPropertiesByCityCountryAvailability(
             @Parameter(description = "Name of the city", in = ParameterIn.PATH)
             @Size(max = 100, message = "City name cannot be longer than 100 characters")
             @Valid @PathVariable String city,
@@ -128,7 +165,7 @@ public class PropertyController {
      */
     @Operation(summary = "Get all properties with property type and availability status", description = "Retrieve a paginated list of all properties with given criteria")
     @GetMapping("/{propertyType}/{availability}")
-    public ResponseEntity<Page<PropertyResponseDTO>> getAllPropertiesByPropertyTypeAvailability(
+    public ResponseEntity<Page<PropertySummaryDTO>> getAllPropertiesByPropertyTypeAvailability(
             @Parameter(description = "Property type", in = ParameterIn.PATH) @Valid @PathVariable PropertyType propertyType,
             @Parameter(description = "Availability status", in = ParameterIn.PATH) @PathVariable boolean availability,
             @Parameter(name = "pageable",
@@ -138,6 +175,56 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.findAllPropertiesByPropertyTypeAndAvailability(propertyType, availability, pageable));
     }
 
+    /**
+     * Searches properties by any combination of type, location, price, area, rooms, availability and free date window.
+     *
+     * @param criteria the search criteria, every empty field is ignored
+     * @param pageable the pagination information.
+     * @return a paginated list of properties matching all given criteria.
+     */
+    @Operation(summary = "Search properties", description = "Retrieve a paginated list of properties matching all given criteria in a single query")
+    @GetMapping("/search")
+    public ResponseEntity<Page<PropertySummaryDTO>> searchProperties(
+            @Parameter(description = "Search criteria, every empty field is ignored") @Valid @ModelAttribute PropertySearchCriteriaDTO criteria,
+            @Parameter(name = "pageable",
+                    description = "Pageable object containing pagination information",
+                    example = "{\"page\": 0, \"size\": 10, \"sort\": \"pricePerDay,asc\"}") Pageable pageable) {
+
+        return ResponseEntity.ok(propertyService.searchProperties(criteria, pageable));
+    }
+
+    /**
+     * Retrieves all available properties free for a whole date window, optionally in a given city, country and of a given type.
+     *
+     * @param startDate    the first day of the stay
+     * @param endDate      the last day of the stay
+     * @param city         the name of the city, or null
+     * @param country      the name of the country, or null
+     * @param propertyType the type of the property, or null
+     * @param pageable     the pagination information.
+     * @return a paginated list of properties without any booking in the given dates.
+     */
+    @Operation(summary = "Get all properties free for given dates", description = "Retrieve a paginated list of available properties without any booking between the given dates")
+    @GetMapping("/free")
+    public ResponseEntity<Page<PropertySummaryDTO>> findFreeProperties(
+            @Parameter(description = "First day of the stay", example = "2026-12-20")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Last day of the stay", example = "2026-12-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Name of the city")
+            @Size(max = 100, message = "City name cannot be longer than 100 characters")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Name of the country")
+            @Size(max = 100, message = "Country name cannot be longer than 100 characters")
+            @RequestParam(required = false) String country,
+            @Parameter(description = "Property type") @RequestParam(required = false) PropertyType propertyType,
+            @Parameter(name = "pageable",
+                    description = "Pageable object containing pagination information",
+                    example = "{\"page\": 0, \"size\": 10, \"sort\": \"pricePerDay,asc\"}") Pageable pageable) {
+
+        return ResponseEntity.ok(propertyService.findFreeProperties(startDate, endDate, city, country, propertyType, pageable));
+    }
+
     /**
      * Creates a new property.
      *
@@ -231,4 +318,8 @@ public class PropertyController {
 
         return propertyService.updatePropertyDescription(id, description);
     }
+
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
 }
@@ -67,7 +67,7 @@ public class UserController {
      */
     @Operation(summary = "Get user by ID", description = "Retrieves a specific user's details by their ID. Requires ADMIN role or for the user to be fetching their own data.")
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.findUserEntityById(#id).username == principal.username)")
+    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.isSelf(#id, principal))")
     public ResponseEntity<UserResponseDTO> getUserById(
             @Parameter(description = "ID of the user to retrieve", in = ParameterIn.PATH) @PathVariable Long id) {
 
@@ -98,7 +98,7 @@ public class UserController {
      */
     @Operation(summary = "Get user by email", description = "Retrieves a specific user's details by their email.")
     @GetMapping("/email/{email}")
-    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.findUserEntityByEmail(#email).username == principal.username)")
+    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.isSelfByEmail(#email, principal))")
     public ResponseEntity<UserResponseDTO> getUserByEmail(
             @Parameter(description = "Email of the user to retrieve", in = ParameterIn.PATH) @PathVariable String email) {
 
@@ -145,7 +145,7 @@ public class UserController {
      */
     @Operation(summary = "Update user by ID", description = "Updates an existing user's details. Requires ADMIN role or for the user to be updating their own data.")
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.findUserEntityById(#id).username == principal.username)")
+    @PreAuthorize("hasRole('ADMIN') or (isAuthenticated() and @userService.isSelf(#id, principal))")
     public MessageResponseDTO updateUser(
             @Parameter(description = "ID of the user to update", in = ParameterIn.PATH) @PathVariable Long id,
             @Parameter(description = "User Body Request DTO") @Valid @RequestBody UserRequestDTO userRequestDTO) {
@@ -167,6 +167,22 @@ public class UserController {
         return userService.deleteUser(id);
     }
 
+    /**
+     * Enables or disables a user account.
+     * @param id The ID of the user.
+     * @param enabled True to enable the account, false to disable it.
+     * @return A message indicating the result of the operation.
+     */
+    @Operation(summary = "Enable or disable user by ID", description = "Enables or disables a user account. Disabling revokes all tokens of the user right away. Requires ADMIN role.")
+    @PatchMapping("/{id}/enabled")
+    @PreAuthorize("hasRole('ADMIN')")
+    public MessageResponseDTO setUserEnabled(
+            @Parameter(description = "ID of the user to enable or disable", in = ParameterIn.PATH) @PathVariable Long id,
+            @Parameter(description = "True to enable the account, false to disable it") @RequestParam boolean enabled) {
+
+        return userService.setUserEnabled(id, enabled);
+    }
+
     /**
      * Allows a user to change their password.
      * @param newPassword The new password for the user.
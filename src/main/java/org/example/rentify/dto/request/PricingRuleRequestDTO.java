@@ -0,0 +1,64 @@
+package org.example.rentify.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for pricing rule creation")
+/*
+ * PricingRuleRequestDTO is a Data Transfer Object (DTO) that represents the request
+ * for a pricing rule of a property in the Rentify application. It is used to transfer data between
+ * the client and server.
+ */
+public class PricingRuleRequestDTO {
+
+    @NotNull(message = "Rule type cannot be null")
+    @Schema(example = "NIGHTLY")
+    private PricingRuleType ruleType;
+
+    @NotNull(message = "Adjustment type cannot be null")
+    @Schema(example = "PERCENTAGE")
+    private PricingAdjustmentType adjustmentType;
+
+    @Schema(example = "2025-07-01")
+    private LocalDate startDate;
+
+    @Schema(example = "2025-08-31")
+    private LocalDate endDate;
+
+    @Schema(example = "[\"SATURDAY\", \"SUNDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @Min(value = 2, message = "Minimum number of days must be at least 2")
+    @Schema(example = "7")
+    private Integer minDays;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Fixed price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Fixed price must have at most 8 integer digits and 2 decimal places")
+    @Schema(example = "150.00")
+    private BigDecimal fixedPrice;
+
+    @Min(value = -99, message = "Percentage must be at least -99")
+    @Max(value = 1000, message = "Percentage must be at most 1000")
+    @Schema(example = "20")
+    private Integer percentage;
+
+    @Schema(example = "0")
+    private Integer priority;
+}
@@ -0,0 +1,72 @@
+package org.example.rentify.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PropertyType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for property search criteria")
+/*
+ * PropertySearchCriteriaDTO is a Data Transfer Object (DTO) that represents the optional
+ * filters of a property search in the Rentify application. Every field left empty is ignored,
+ * the remaining ones are combined into a single query.
+ */
+public class PropertySearchCriteriaDTO {
+
+    @Schema(example = "APARTMENT")
+    private PropertyType propertyType;
+
+    @Size(max = 100, message = "City name cannot be longer than 100 characters")
+    @Schema(example = "Krakow")
+    private String city;
+
+    @Size(max = 100, message = "Country name cannot be longer than 100 characters")
+    @Schema(example = "Poland")
+    private String country;
+
+    @DecimalMin(value = "0.0", message = "Minimum price cannot be negative")
+    @Schema(example = "50.00")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0.0", message = "Maximum price cannot be negative")
+    @Schema(example = "250.00")
+    private BigDecimal maxPrice;
+
+    @DecimalMin(value = "0.0", message = "Minimum area cannot be negative")
+    @Schema(example = "40.0")
+    private Double minArea;
+
+    @DecimalMin(value = "0.0", message = "Maximum area cannot be negative")
+    @Schema(example = "120.0")
+    private Double maxArea;
+
+    @Min(value = 0, message = "Minimum number of rooms cannot be negative")
+    @Schema(example = "2")
+    private Integer minRooms;
+
+    @Min(value = 0, message = "Maximum number of rooms cannot be negative")
+    @Schema(example = "4")
+    private Integer maxRooms;
+
+    @Schema(example = "true")
+    private Boolean availability;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(example = "2026-12-20")
+    private LocalDate availableFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(example = "2026-12-27")
+    private LocalDate availableTo;
+}
@@ -0,0 +1,23 @@
+package org.example.rentify.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for refreshing an access token")
+/*
+ * RefreshTokenRequestDTO is a Data Transfer Object (DTO) that represents the request
+ * for a new access token in the Rentify application. It carries the refresh token
+ * returned by the login or by the previous refresh.
+ */
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "Refresh token cannot be blank")
+    @Schema(example = "kq3Vx0eN2v9mRk7YfC1rUu8bTQy4sWz6aLp5dHjG0nE")
+    private String refreshToken;
+}
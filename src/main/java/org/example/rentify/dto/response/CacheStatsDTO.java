@@ -0,0 +1,38 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for in-process cache statistics")
+/*
+ * CacheStatsDTO is a Data Transfer Object (DTO) that represents the statistics of one in-process cache
+ * in the Rentify application. Counters are cumulative since the application started.
+ */
+public class CacheStatsDTO {
+
+    @Schema(example = "propertyDetail")
+    private String name;
+
+    @Schema(example = "250")
+    private int size;
+
+    @Schema(example = "10000")
+    private int maxSize;
+
+    @Schema(example = "9500")
+    private long hitCount;
+
+    @Schema(example = "500")
+    private long missCount;
+
+    @Schema(example = "20")
+    private long evictionCount;
+
+    @Schema(example = "0.95")
+    private double hitRate;
+}
@@ -0,0 +1,28 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for a cursor (keyset) paginated response")
+/*
+ * CursorPageResponseDTO is a Data Transfer Object (DTO) that represents one slice of a
+ * cursor paginated listing in the Rentify application. Unlike Page it carries no total count,
+ * the client passes nextCursor back as the "after" parameter to fetch the following slice.
+ */
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+
+    @Schema(example = "2023-10-01T12:00:00,42")
+    private String nextCursor;
+
+    @Schema(example = "true")
+    private boolean hasNext;
+}
@@ -26,6 +26,8 @@ public class JwtResponseDTO {
     private List<String> roles;
     @Schema(example = "Bearer")
     private String type = "Bearer";
+    @Schema(example = "kq3Vx0eN2v9mRk7YfC1rUu8bTQy4sWz6aLp5dHjG0nE")
+    private String refreshToken;
 
     public JwtResponseDTO(String token, Long id, String username, String email, List<String> roles) {
         this.token = token;
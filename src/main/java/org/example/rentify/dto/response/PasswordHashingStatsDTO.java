@@ -0,0 +1,47 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for password hashing executor statistics")
+/*
+ * PasswordHashingStatsDTO is a Data Transfer Object (DTO) that represents the statistics of the executor
+ * running the password checks of logins in the Rentify application. Counters are cumulative since the application started.
+ */
+public class PasswordHashingStatsDTO {
+
+    @Schema(example = "4")
+    private int threads;
+
+    @Schema(example = "100")
+    private int queueCapacity;
+
+    @Schema(example = "3")
+    private int queueSize;
+
+    @Schema(example = "4")
+    private int activeCount;
+
+    @Schema(example = "1200")
+    private long completedCount;
+
+    @Schema(example = "15")
+    private long rejectedCount;
+
+    @Schema(example = "12.5")
+    private double averageQueueWaitMs;
+
+    @Schema(example = "180.0")
+    private double maxQueueWaitMs;
+
+    @Schema(example = "75.3")
+    private double averageHashMs;
+
+    @Schema(example = "140.2")
+    private double maxHashMs;
+}
@@ -0,0 +1,35 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data Transfer Object for the price quote of a stay")
+/*
+ * PriceQuoteDTO is a Data Transfer Object (DTO) that represents the price of a stay
+ * at a property in the Rentify application, computed without creating a booking.
+ */
+public class PriceQuoteDTO {
+
+    @Schema(example = "1")
+    private Long propertyId;
+    @Schema(example = "2025-10-01")
+    private LocalDate startDate;
+    @Schema(example = "2025-10-10")
+    private LocalDate endDate;
+    @Schema(example = "10")
+    private Long days;
+    @Schema(example = "1100.00")
+    private BigDecimal subtotal;
+    @Schema(example = "-10")
+    private Integer lengthOfStayPercentage;
+    @Schema(example = "990.00")
+    private BigDecimal totalPrice;
+}
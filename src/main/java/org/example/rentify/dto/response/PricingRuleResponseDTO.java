@@ -0,0 +1,46 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data Transfer Object for pricing rule response")
+/*
+ * PricingRuleResponseDTO is a Data Transfer Object (DTO) that represents the response
+ * for a pricing rule of a property in the Rentify application. It is used to transfer data between
+ * the client and server.
+ */
+public class PricingRuleResponseDTO {
+
+    @Schema(example = "1")
+    private Long id;
+    @Schema(example = "NIGHTLY")
+    private PricingRuleType ruleType;
+    @Schema(example = "PERCENTAGE")
+    private PricingAdjustmentType adjustmentType;
+    @Schema(example = "2025-07-01")
+    private LocalDate startDate;
+    @Schema(example = "2025-08-31")
+    private LocalDate endDate;
+    @Schema(example = "[\"SATURDAY\", \"SUNDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+    @Schema(example = "7")
+    private Integer minDays;
+    @Schema(example = "150.00")
+    private BigDecimal fixedPrice;
+    @Schema(example = "20")
+    private Integer percentage;
+    @Schema(example = "0")
+    private Integer priority;
+}
@@ -39,6 +39,8 @@ public class PropertyResponseDTO {
     @Schema(example = "2023-10-01T12:00:00")
     private LocalDateTime creationDate;
     private AddressResponseDTO address;
+    @Schema(example = "3")
+    private Long version;
     private List<ImageResponseDTO> images;
     private List<ReviewResponseDTO> reviews;
 }
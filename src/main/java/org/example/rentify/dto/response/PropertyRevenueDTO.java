@@ -0,0 +1,32 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for the revenue of a property")
+/*
+ * PropertyRevenueDTO is a Data Transfer Object (DTO) that represents the payments received for a property
+ * in the Rentify application. It is selected directly by PaymentRepository queries, so the revenue of many properties
+ * is aggregated with a single SQL statement instead of loading their bookings and payments.
+ */
+public class PropertyRevenueDTO {
+
+    @Schema(example = "1")
+    private Long propertyId;
+
+    @Schema(example = "Beautiful Beach House")
+    private String title;
+
+    @Schema(example = "3")
+    private Long paymentCount;
+
+    @Schema(example = "1500.00")
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,58 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.enums.PropertyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for a property list entry")
+/*
+ * PropertySummaryDTO is a Data Transfer Object (DTO) that represents a property on list pages
+ * in the Rentify application. It is selected directly by PropertyRepository queries, so a whole page
+ * is read with a single SQL statement instead of loading the owner, address, images and reviews of every row.
+ */
+public class PropertySummaryDTO {
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "Beautiful Beach House")
+    private String title;
+
+    @Schema(example = "HOUSE")
+    private PropertyType propertyType;
+
+    @Schema(example = "100.0")
+    private BigDecimal pricePerDay;
+
+    @Schema(example = "Miami")
+    private String city;
+
+    @Schema(example = "https://example.com/images/beach-house.jpg")
+    private String coverImageUrl;
+
+    @Schema(example = "4.5")
+    private Double averageRating;
+
+    @Schema(example = "2023-10-01T12:00:00")
+    private LocalDateTime creationDate;
+
+    /**
+     * Creates a list entry from the columns selected by PropertyRepository queries.
+     *
+     * @param pricePerDay the price per day of the property, converted to a decimal
+     */
+    public PropertySummaryDTO(Long id, String title, PropertyType propertyType, Money pricePerDay, String city,
+                              String coverImageUrl, Double averageRating, LocalDateTime creationDate) {
+        this(id, title, propertyType, pricePerDay == null ? null : pricePerDay.toBigDecimal(), city, coverImageUrl, averageRating,
+                creationDate);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.rentify.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for the revenue of one period of a revenue series")
+/*
+ * RevenuePeriodDTO is a Data Transfer Object (DTO) that represents the payments received in one day, week or month
+ * in the Rentify application. It is read from the daily revenue rollup, not from the payments themselves.
+ */
+public class RevenuePeriodDTO {
+
+    @Schema(example = "2025-06-01")
+    private LocalDate periodStart;
+
+    @Schema(example = "3")
+    private Long paymentCount;
+
+    @Schema(example = "1500.00")
+    private BigDecimal totalAmount;
+}
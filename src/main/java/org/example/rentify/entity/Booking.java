@@ -7,7 +7,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.rentify.entity.enums.BookingStatus;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -43,8 +42,8 @@ public class Booking {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
-    @Column(name = "total_price", nullable = false)
-    private BigDecimal totalPrice;
+    @Column(name = "total_price", nullable = false, precision = 12, scale = 2)
+    private Money totalPrice;
 
     @Column(name = "booking_date", nullable = false)
     private LocalDateTime bookingDate;
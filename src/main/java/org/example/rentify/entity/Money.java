@@ -0,0 +1,124 @@
+package org.example.rentify.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/*
+ * Money is an exact amount of money, kept as a whole number of minor units of its currency, like grosze for PLN.
+ * Amounts of the same currency are added, subtracted and multiplied with long arithmetic, which is exact, throws on overflow
+ * and compares 100 and 100.00 as equal, unlike BigDecimal.equals.
+ * Prices and payments are stored with MoneyConverter in columns with two decimal places; Rentify does not store currencies,
+ * so amounts read from the database are in DEFAULT_CURRENCY.
+ */
+public record Money(long minorUnits, Currency currency) implements Comparable<Money> {
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("PLN");
+
+    public Money {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency " + currency + " has no minor unit");
+        }
+    }
+
+    /**
+     * Creates an amount of the default currency from its minor units.
+     *
+     * @param minorUnits the amount in minor units
+     * @return the amount
+     */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Creates an amount of the default currency from a decimal amount.
+     *
+     * @param amount the decimal amount, like 100.50
+     * @return the amount
+     * @throws IllegalArgumentException if the amount has more decimal places than the currency, or does not fit in a long
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Creates an amount of a currency from a decimal amount.
+     *
+     * @param amount   the decimal amount, like 100.50
+     * @param currency the currency of the amount
+     * @return the amount
+     * @throws IllegalArgumentException if the amount has more decimal places than the currency, or does not fit in a long
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        try {
+            return new Money(amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.UNNECESSARY)
+                    .unscaledValue().longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " cannot be represented exactly in " + currency);
+        }
+    }
+
+    /**
+     * Returns the zero amount of a currency.
+     *
+     * @param currency the currency
+     * @return the zero amount
+     */
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, sameCurrency(other).minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, sameCurrency(other).minorUnits), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    /**
+     * Returns the amount as a decimal with the scale of its currency, like 100.50.
+     *
+     * @return the decimal amount
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, sameCurrency(other).minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private Money sameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+        return other;
+    }
+}
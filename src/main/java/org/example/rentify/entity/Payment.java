@@ -8,9 +8,9 @@ import lombok.NoArgsConstructor;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 @Builder
 @Entity
@@ -22,6 +22,7 @@ import java.util.Objects;
 /*
  * Payment entity representing a payment in the system.
  * This class is mapped to the "payments" table in the database.
+ * Pending payments are claimed by PaymentProcessingWorker, which records its claim and the number of gateway attempts here.
  */
 public class Payment {
 
@@ -40,8 +41,8 @@ public class Payment {
     @Column(name = "payment_date", nullable = false)
     private LocalDateTime paymentDate;
 
-    @Column(name = "amount", nullable = false)
-    private BigDecimal amount;
+    @Column(name = "amount", nullable = false, precision = 12, scale = 2)
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "payment_method", nullable = false)
@@ -54,6 +55,15 @@ public class Payment {
     @Column(name = "transaction_id")
     private String transactionId;
 
+    @Column(name = "processing_claim")
+    private UUID processingClaim;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "processing_attempts", nullable = false)
+    private int processingAttempts;
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
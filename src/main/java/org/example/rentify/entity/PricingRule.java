@@ -0,0 +1,79 @@
+package org.example.rentify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "pricing_rules")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+/*
+ * PricingRule entity representing a seasonal, weekday or length-of-stay price rule of a property.
+ * This class is mapped to the "pricing_rules" table in the database.
+ */
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id", nullable = false)
+    private Property property;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 32)
+    private PricingRuleType ruleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "adjustment_type", nullable = false, length = 32)
+    private PricingAdjustmentType adjustmentType;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    /** Bitmask of the days of the week the rule applies to, bit 0 being Monday; null applies to every day. */
+    @Column(name = "days_of_week")
+    private Integer daysOfWeek;
+
+    @Column(name = "min_days")
+    private Integer minDays;
+
+    @Column(name = "fixed_price", precision = 10, scale = 2)
+    private Money fixedPrice;
+
+    @Column(name = "percentage")
+    private Integer percentage;
+
+    @Column(name = "priority", nullable = false)
+    private Integer priority;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        PricingRule that = (PricingRule) o;
+        return Objects.equals(id, that.id) && ruleType == that.ruleType && adjustmentType == that.adjustmentType && Objects.equals(startDate, that.startDate) && Objects.equals(endDate, that.endDate) && Objects.equals(daysOfWeek, that.daysOfWeek) && Objects.equals(minDays, that.minDays) && Objects.equals(fixedPrice, that.fixedPrice) && Objects.equals(percentage, that.percentage) && Objects.equals(priority, that.priority);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, ruleType, adjustmentType, startDate, endDate, daysOfWeek, minDays, fixedPrice, percentage, priority);
+    }
+}
@@ -6,14 +6,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.rentify.entity.enums.PropertyType;
+import org.hibernate.annotations.BatchSize;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
 @Table(name = "properties")
+@NamedEntityGraph(name = Property.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "owner", subgraph = "owner"),
+                @NamedAttributeNode("address")
+        },
+        subgraphs = @NamedSubgraph(name = "owner", attributeNodes = {
+                @NamedAttributeNode("roles"),
+                @NamedAttributeNode("address")
+        }))
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,6 +34,12 @@ import java.util.Objects;
  */
 public class Property {
 
+    /**
+     * Entity graph of the property detail view: owner with roles and address, and the property address
+     * are joined into the main query, images and reviews are loaded in batches.
+     */
+    public static final String DETAIL_GRAPH = "Property.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -50,7 +65,7 @@ public class Property {
     private Integer numberOfRooms;
 
     @Column(name = "price_per_day", nullable = false, precision = 10, scale = 2)
-    private BigDecimal pricePerDay;
+    private Money pricePerDay;
 
     @Column(name = "availability", nullable = false)
     @Builder.Default
@@ -65,14 +80,20 @@ public class Property {
     private Address address;
 
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Image> images;
 
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Booking> bookings;
 
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Review> reviews;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -0,0 +1,62 @@
+package org.example.rentify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "revenue_daily")
+@IdClass(RevenueDailyId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+/*
+ * RevenueDaily entity representing the payments for the bookings of a property made on one day with one status.
+ * This class is mapped to the "revenue_daily" table in the database.
+ * The rows are maintained by RevenueService with atomic upserts, so revenue reports read a few rows per day
+ * instead of aggregating every payment.
+ */
+public class RevenueDaily {
+
+    @Id
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Id
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false)
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RevenueDaily that = (RevenueDaily) o;
+        return Objects.equals(propertyId, that.propertyId) && Objects.equals(revenueDate, that.revenueDate) && paymentStatus == that.paymentStatus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(propertyId, revenueDate, paymentStatus);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.rentify.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.rentify.entity.enums.PaymentStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+/*
+ * RevenueDailyId is the composite primary key of RevenueDaily: the property, the payment day and the payment status.
+ */
+public class RevenueDailyId implements Serializable {
+
+    private Long propertyId;
+    private LocalDate revenueDate;
+    private PaymentStatus paymentStatus;
+}
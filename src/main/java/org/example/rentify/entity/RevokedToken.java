@@ -0,0 +1,47 @@
+package org.example.rentify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+/*
+ * RevokedToken entity representing an access token revoked before its expiry.
+ * This class is mapped to the "revoked_tokens" table in the database.
+ * The token is identified by its "jti" claim; the row is kept only until the token expires.
+ */
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", nullable = false)
+    private UUID jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RevokedToken that = (RevokedToken) o;
+        return Objects.equals(jti, that.jti) && Objects.equals(expiresAt, that.expiresAt) && Objects.equals(revokedAt, that.revokedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jti, expiresAt, revokedAt);
+    }
+}
@@ -95,6 +95,10 @@ public class User implements UserDetails {
     @ToString.Exclude
     private Set<Role> roles = new HashSet<>();
 
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private long tokenVersion = 0L;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         if (this.roles == null) {
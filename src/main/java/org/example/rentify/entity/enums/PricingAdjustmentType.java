@@ -0,0 +1,10 @@
+package org.example.rentify.entity.enums;
+
+/**
+ * PricingAdjustmentType is an enumeration that represents how a pricing rule changes a price in the Rentify application.
+ * It can either replace the price with a fixed one or change it by a percentage of the base price.
+ */
+public enum PricingAdjustmentType {
+    FIXED_PRICE,
+    PERCENTAGE
+}
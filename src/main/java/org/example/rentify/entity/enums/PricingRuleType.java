@@ -0,0 +1,11 @@
+package org.example.rentify.entity.enums;
+
+/**
+ * PricingRuleType is an enumeration that represents the type of pricing rule in the Rentify application.
+ * A NIGHTLY rule sets the price of the single days it matches, for example weekends or a high season,
+ * while a LENGTH_OF_STAY rule adjusts the total price of stays lasting at least a given number of days.
+ */
+public enum PricingRuleType {
+    NIGHTLY,
+    LENGTH_OF_STAY
+}
@@ -0,0 +1,11 @@
+package org.example.rentify.entity.enums;
+
+/*
+ * RevenueGranularity is an enumeration that represents the length of the periods of a revenue series
+ * in the Rentify application. Weeks start on Monday.
+ */
+public enum RevenueGranularity {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -28,6 +29,7 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles ResponseStatusException and returns a custom error message.
+     * Headers carried by the exception, like the Retry-After of a ServiceOverloadedException, are added to the response.
      *
      * @param ex the ResponseStatusException
      * @return a ResponseEntity with the error message
@@ -37,6 +39,7 @@ public class GlobalExceptionHandler {
         logger.warn("ResponseStatusException occurred: Status {}, Reason: {}", ex.getStatusCode(), ex.getReason(), ex);
         return ResponseEntity
                 .status(ex.getStatusCode())
+                .headers(ex.getHeaders())
                 .body(new MessageResponseDTO(ex.getReason() != null ? ex.getReason() : "Error processing request."));
     }
 
@@ -147,6 +150,21 @@ public class GlobalExceptionHandler {
                 .body(new MessageResponseDTO("Validation Error: " + errorMessage));
     }
 
+    /**
+     * Handles MissingServletRequestParameterException which occurs when a required request parameter is not given.
+     *
+     * @param ex the MissingServletRequestParameterException
+     * @return a ResponseEntity with a BAD_REQUEST status and a descriptive error message.
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<MessageResponseDTO> handleMissingServletRequestParameterException(MissingServletRequestParameterException ex) {
+        String errorMessage = String.format("Required parameter '%s' is missing.", ex.getParameterName());
+        logger.warn("Missing request parameter: {}", errorMessage, ex);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new MessageResponseDTO("Validation Error: " + errorMessage));
+    }
+
     /**
      * Handles AccessDeniedException and returns a custom error message.
      *
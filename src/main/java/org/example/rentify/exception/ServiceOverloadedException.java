@@ -0,0 +1,32 @@
+package org.example.rentify.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * ServiceOverloadedException is thrown when a request is rejected because the capacity reserved for it is exhausted.
+ * It results in a 503 Service Unavailable response with a Retry-After header telling the client when to retry.
+ */
+public class ServiceOverloadedException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        return headers;
+    }
+}
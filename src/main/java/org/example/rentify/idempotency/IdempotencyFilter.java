@@ -0,0 +1,211 @@
+package org.example.rentify.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.service.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * IdempotencyFilter makes the routes covered by its matchers, like booking creation and payment, safe to retry.
+ * A client sending an Idempotency-Key header with such a request gets the stored response of the first request with that key
+ * on every retry, marked with an Idempotency-Replayed header, without the booking or payment being created again.
+ * Reusing a key for a different request is answered with 422 Unprocessable Entity, a retry arriving while the first request
+ * is still being processed with 409 Conflict. Server errors are not stored, so such a request can be retried with the same key.
+ * The filter runs after the Spring Security filter chain, keys are scoped to the authenticated user.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_IDEMPOTENCY_REPLAYED = "Idempotency-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final List<RequestMatcher> matchers;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public IdempotencyFilter(List<RequestMatcher> matchers, IdempotencyService idempotencyService) {
+        this.matchers = List.copyOf(matchers);
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * Replays the stored response of a request with a known key, or processes the request and stores its response.
+     * Requests matching no matcher, without an Idempotency-Key header or of anonymous users pass through untouched.
+     *
+     * @param request     The HTTP request.
+     * @param response    The HTTP response.
+     * @param filterChain The filter chain.
+     * @throws ServletException If an error occurs during the filter process.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+        String username = idempotencyKey != null ? currentUsername() : null;
+        if (username == null || matchers.stream().noneMatch(matcher -> matcher.matches(request))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(request, cachedRequest.body);
+        IdempotencyService.Outcome outcome = idempotencyService.start(username, idempotencyKey, requestHash);
+        switch (outcome.status()) {
+            case REPLAY -> replay(response, outcome.response());
+            case MISMATCH -> reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key has already been used for a different request.");
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed.");
+            }
+            case STARTED -> process(cachedRequest, response, filterChain, username, idempotencyKey, requestHash);
+        }
+    }
+
+    private void process(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String username, String idempotencyKey, String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                idempotencyService.complete(username, idempotencyKey, new IdempotencyService.StoredResponse(requestHash,
+                        responseWrapper.getStatus(), responseWrapper.getContentType(),
+                        new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                logger.debug("Releasing Idempotency-Key of user {} after a failed request, URI: {}", username, request.getRequestURI());
+                idempotencyService.release(username, idempotencyKey, requestHash);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(HttpServletResponse response, IdempotencyService.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(HEADER_IDEMPOTENCY_REPLAYED, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new MessageResponseDTO(message));
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static String hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Request wrapper reading the body once, so it can be hashed and still be read by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(@NonNull byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
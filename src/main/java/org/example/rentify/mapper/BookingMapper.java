@@ -10,7 +10,7 @@ import org.mapstruct.*;
  * This interface uses MapStruct to generate the implementation at compile time.
  */
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
-        uses = {PropertyMapper.class, UserMapper.class, PaymentMapper.class})
+        uses = {PropertyMapper.class, UserMapper.class, PaymentMapper.class, MoneyMapper.class})
 public interface BookingMapper {
 
     /**
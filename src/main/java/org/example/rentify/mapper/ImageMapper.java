@@ -23,6 +23,7 @@ public interface ImageMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "property", ignore = true)
     @Mapping(target = "uploadDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Image imageRequestDtoToImage(ImageRequestDTO imageRequestDTO);
 
     /**
@@ -42,5 +43,6 @@ public interface ImageMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "property", ignore = true)
     @Mapping(target = "uploadDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateImageFromDto(ImageRequestDTO imageRequestDTO, @MappingTarget Image image);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.example.rentify.mapper;
+
+import org.example.rentify.entity.Money;
+
+import java.math.BigDecimal;
+
+/*
+ * MoneyMapper converts between the Money attributes of the entities and the decimal amounts of the DTOs.
+ * Its methods are static, so the mappers using it call them without an instance.
+ */
+public final class MoneyMapper {
+
+    private MoneyMapper() {
+    }
+
+    /**
+     * Converts an amount to a decimal with two decimal places.
+     *
+     * @param money the amount to convert
+     * @return the decimal amount, or null if the amount is null
+     */
+    public static BigDecimal moneyToBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    /**
+     * Converts a decimal amount to Money.
+     *
+     * @param amount the decimal amount to convert
+     * @return the amount, or null if the decimal amount is null
+     * @throws IllegalArgumentException if the amount has more than two decimal places
+     */
+    public static Money bigDecimalToMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+
+    /**
+     * Converts a floating point amount to Money, using its shortest decimal representation.
+     *
+     * @param amount the amount to convert
+     * @return the amount, or null if the floating point amount is null
+     * @throws IllegalArgumentException if the amount has more than two decimal places
+     */
+    public static Money doubleToMoney(Double amount) {
+        return amount == null ? null : Money.of(BigDecimal.valueOf(amount));
+    }
+}
@@ -11,7 +11,7 @@ import org.mapstruct.*;
  * Uses MapStruct for automatic implementation generation.
  */
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
-        uses = {BookingMapper.class})
+        uses = {BookingMapper.class, MoneyMapper.class})
 public interface PaymentMapper {
 
     /**
@@ -25,6 +25,9 @@ public interface PaymentMapper {
     @Mapping(target = "paymentDate", ignore = true)
     @Mapping(target = "paymentStatus", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "processingClaim", ignore = true)
+    @Mapping(target = "claimedUntil", ignore = true)
+    @Mapping(target = "processingAttempts", ignore = true)
     Payment paymentRequestDtoToPayment(PaymentRequestDTO paymentRequestDTO);
 
     /**
@@ -46,5 +49,8 @@ public interface PaymentMapper {
     @Mapping(target = "paymentDate", ignore = true)
     @Mapping(target = "paymentStatus", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "processingClaim", ignore = true)
+    @Mapping(target = "claimedUntil", ignore = true)
+    @Mapping(target = "processingAttempts", ignore = true)
     void updatePaymentFromDto(PaymentRequestDTO paymentRequestDTO, @MappingTarget Payment payment);
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package org.example.rentify.mapper;
+
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.PricingRuleResponseDTO;
+import org.example.rentify.entity.PricingRule;
+import org.mapstruct.*;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * PricingRuleMapper interface for mapping between PricingRule entity and DTOs.
+ * Uses MapStruct for automatic implementation generation.
+ */
+@Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        uses = {MoneyMapper.class})
+public interface PricingRuleMapper {
+
+    /**
+     * Converts a PricingRuleRequestDTO to a PricingRule entity.
+     *
+     * @param pricingRuleRequestDTO the PricingRuleRequestDTO to convert
+     * @return the converted PricingRule entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "property", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    PricingRule pricingRuleRequestDtoToPricingRule(PricingRuleRequestDTO pricingRuleRequestDTO);
+
+    /**
+     * Converts a PricingRule entity to a PricingRuleResponseDTO.
+     *
+     * @param pricingRule the PricingRule entity to convert
+     * @return the converted PricingRuleResponseDTO
+     */
+    PricingRuleResponseDTO pricingRuleToPricingRuleResponseDto(PricingRule pricingRule);
+
+    /**
+     * Replaces an existing PricingRule entity with data from a PricingRuleRequestDTO.
+     * Unlike the other update mappings, missing values are cleared, since a missing date or day of week widens the rule.
+     *
+     * @param pricingRuleRequestDTO the DTO containing update data
+     * @param pricingRule the PricingRule entity to update
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "property", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updatePricingRuleFromDto(PricingRuleRequestDTO pricingRuleRequestDTO, @MappingTarget PricingRule pricingRule);
+
+    /**
+     * Converts a set of days of the week to the bitmask stored with a pricing rule, bit 0 being Monday.
+     *
+     * @param daysOfWeek the days of the week, or null or empty for every day
+     * @return the bitmask, or null for every day
+     */
+    default Integer daysOfWeekToMask(Set<DayOfWeek> daysOfWeek) {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            return null;
+        }
+        int mask = 0;
+        for (DayOfWeek day : daysOfWeek) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * Converts the bitmask stored with a pricing rule to a set of days of the week.
+     *
+     * @param mask the bitmask, bit 0 being Monday
+     * @return the days of the week, or null for every day
+     */
+    default Set<DayOfWeek> maskToDaysOfWeek(Integer mask) {
+        if (mask == null) {
+            return null;
+        }
+        Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                daysOfWeek.add(day);
+            }
+        }
+        return daysOfWeek;
+    }
+}
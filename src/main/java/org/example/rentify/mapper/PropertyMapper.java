@@ -11,7 +11,7 @@ import org.mapstruct.*;
  * Uses MapStruct for automatic implementation generation.
  */
 @Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
-        uses = {AddressMapper.class, UserMapper.class, ReviewMapper.class, ImageMapper.class, BookingMapper.class})
+        uses = {AddressMapper.class, UserMapper.class, ReviewMapper.class, ImageMapper.class, BookingMapper.class, MoneyMapper.class})
 public interface PropertyMapper {
 
     /**
@@ -27,6 +27,7 @@ public interface PropertyMapper {
     @Mapping(target = "images", ignore = true)
     @Mapping(target = "availability", source = "availability")
     @Mapping(target = "bookings", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Property propertyRequestDtoToProperty(PropertyRequestDTO propertyRequestDTO);
 
     /**
@@ -49,5 +50,6 @@ public interface PropertyMapper {
     @Mapping(target = "reviews", ignore = true)
     @Mapping(target = "images", ignore = true)
     @Mapping(target = "bookings", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updatePropertyFromDto(PropertyRequestDTO propertyRequestDTO, @MappingTarget Property property);
 }
\ No newline at end of file
@@ -34,6 +34,7 @@ public interface UserMapper {
     @Mapping(target = "credentialsNonExpired", constant = "true")
     @Mapping(target = "roles", ignore = true)
     @Mapping(target = "payments", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     @Mapping(target = "password", ignore = true)
     User userRegistrationDtoToUser(UserRegistrationDTO userRegistrationDTO);
 
@@ -55,6 +56,7 @@ public interface UserMapper {
     @Mapping(target = "accountNonLocked", ignore = true)
     @Mapping(target = "credentialsNonExpired", ignore = true)
     @Mapping(target = "payments", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     User userRequestDtoToUser(UserRequestDTO userRequestDTO);
 
     /**
@@ -76,6 +78,7 @@ public interface UserMapper {
     @Mapping(target = "credentialsNonExpired", ignore = true)
     @Mapping(target = "authorities", ignore = true)
     @Mapping(target = "payments", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     void updateUserFromDto(UserRequestDTO userRequestDTO, @MappingTarget User user);
 
     /**
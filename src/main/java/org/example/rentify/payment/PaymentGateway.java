@@ -0,0 +1,21 @@
+package org.example.rentify.payment;
+
+/**
+ * PaymentGateway is the extension point through which PaymentProcessingWorker charges pending payments.
+ * At most one implementation is active; without one, payment processing cannot be enabled and payments stay pending.
+ * <p>
+ * Implementations are called concurrently from several worker threads and must be thread-safe. A payment can be
+ * charged more than once when its worker dies or its claim expires before the result is stored, so implementations
+ * must pass the payment ID to the provider as an idempotency key, returning the original result for a repeated charge.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Charges a payment.
+     *
+     * @param request the payment to charge
+     * @return the result of the charge, approved with the transaction ID of the provider or declined with a reason
+     * @throws PaymentGatewayException if the provider could not be reached or failed, so the charge should be retried
+     */
+    PaymentGatewayResult charge(PaymentGatewayRequest request);
+}
@@ -0,0 +1,16 @@
+package org.example.rentify.payment;
+
+/**
+ * Thrown by a PaymentGateway when a charge could not be completed and should be retried later,
+ * for example because the provider could not be reached. Declined charges are results, not exceptions.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.rentify.payment;
+
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.enums.PaymentMethod;
+
+/**
+ * A pending payment to be charged by a PaymentGateway.
+ *
+ * @param paymentId     the ID of the payment, also the idempotency key of the charge
+ * @param amount        the amount to charge
+ * @param paymentMethod the payment method chosen by the user
+ * @param transactionId the transaction ID given by the client, or null
+ */
+public record PaymentGatewayRequest(Long paymentId, Money amount, PaymentMethod paymentMethod, String transactionId) {
+}
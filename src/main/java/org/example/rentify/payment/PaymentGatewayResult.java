@@ -0,0 +1,19 @@
+package org.example.rentify.payment;
+
+/**
+ * The result of charging a payment through a PaymentGateway.
+ *
+ * @param approved      true if the charge was approved, false if it was declined
+ * @param transactionId the transaction ID of the provider for an approved charge, or null
+ * @param declineReason the reason of a declined charge, or null
+ */
+public record PaymentGatewayResult(boolean approved, String transactionId, String declineReason) {
+
+    public static PaymentGatewayResult approved(String transactionId) {
+        return new PaymentGatewayResult(true, transactionId, null);
+    }
+
+    public static PaymentGatewayResult declined(String declineReason) {
+        return new PaymentGatewayResult(false, null, declineReason);
+    }
+}
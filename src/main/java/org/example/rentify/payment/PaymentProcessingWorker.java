@@ -0,0 +1,158 @@
+package org.example.rentify.payment;
+
+import jakarta.annotation.PreDestroy;
+import org.example.rentify.service.PaymentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PaymentProcessingWorker drives pending payments to their final status through the PaymentGateway.
+ * A fixed number of workers run on virtual threads; each one claims a batch of pending payments, charges them one by one
+ * and stores every result in its own short transaction. Claims are taken with FOR UPDATE SKIP LOCKED, so workers on this
+ * and on other instances never process the same payment and throughput grows with the number of workers.
+ * A claim expires after the lease, so the payments of a worker that died are picked up again; the lease must therefore
+ * be longer than a batch of gateway calls takes. Charges that fail are retried after a delay, up to a maximum number of attempts.
+ * Processing is disabled by default; enabling it without a configured PaymentGateway fails at startup.
+ */
+@Component
+public class PaymentProcessingWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentProcessingWorker.class);
+
+    private final PaymentService paymentService;
+    private final PaymentGateway paymentGateway;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * @param paymentGateway the configured gateway, or null when none is configured
+     * @param enabled      whether the workers are started, which requires a configured gateway
+     * @param workers      the number of workers
+     * @param batchSize    the maximum number of payments claimed by a worker at once
+     * @param pollInterval the pause of a worker that found no pending payments
+     * @param lease        how long a claim holds before the payments can be claimed again
+     * @param maxAttempts  the maximum number of processing attempts of a payment before it fails
+     * @param retryDelay   the pause before a payment whose charge failed is claimed again
+     */
+    @Autowired
+    public PaymentProcessingWorker(PaymentService paymentService, @Nullable PaymentGateway paymentGateway,
+                                   @Value("${rentify.payment.processing.enabled:false}") boolean enabled,
+                                   @Value("${rentify.payment.processing.workers:4}") int workers,
+                                   @Value("${rentify.payment.processing.batch-size:10}") int batchSize,
+                                   @Value("${rentify.payment.processing.poll-interval:PT1S}") Duration pollInterval,
+                                   @Value("${rentify.payment.processing.lease:PT1M}") Duration lease,
+                                   @Value("${rentify.payment.processing.max-attempts:5}") int maxAttempts,
+                                   @Value("${rentify.payment.processing.retry-delay:PT30S}") Duration retryDelay) {
+        if (workers <= 0 || batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Payment processing workers, batch size and maximum attempts must be positive");
+        }
+        if (enabled && paymentGateway == null) {
+            throw new IllegalStateException("Payment processing is enabled but no payment gateway is configured");
+        }
+        this.paymentService = paymentService;
+        this.paymentGateway = paymentGateway;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Starts the workers once the application has started, unless processing is disabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread.Builder builder = Thread.ofVirtual().name("payment-worker-", 1);
+        for (int i = 0; i < workers; i++) {
+            threads.add(builder.start(this::run));
+        }
+        logger.info("Started {} payment processing workers", workers);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    /**
+     * Claims one batch of pending payments and processes it.
+     *
+     * @return the number of claimed payments, 0 if there were no claimable pending payments
+     */
+    public int processBatch() {
+        if (paymentGateway == null) {
+            throw new IllegalStateException("No payment gateway is configured");
+        }
+        UUID claim = UUID.randomUUID();
+        List<PaymentGatewayRequest> batch = paymentService.claimPendingPayments(claim, batchSize, lease);
+        for (PaymentGatewayRequest request : batch) {
+            process(request, claim);
+        }
+        return batch.size();
+    }
+
+    private void process(PaymentGatewayRequest request, UUID claim) {
+        PaymentGatewayResult result;
+        try {
+            result = paymentGateway.charge(request);
+        } catch (PaymentGatewayException e) {
+            logger.warn("Charging payment {} failed, it will be retried: {}", request.paymentId(), e.getMessage());
+            paymentService.retryProcessing(request.paymentId(), claim, maxAttempts, retryDelay);
+            return;
+        }
+        if (!paymentService.completeProcessing(request.paymentId(), claim, result)) {
+            logger.warn("Payment {} was changed while it was being charged, the result of the gateway is discarded", request.paymentId());
+        } else if (!result.approved()) {
+            logger.info("Payment {} was declined: {}", request.paymentId(), result.declineReason());
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (processBatch() == 0) {
+                    Thread.sleep(pollInterval);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Payment processing failed", e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
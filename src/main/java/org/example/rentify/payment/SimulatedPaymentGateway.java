@@ -0,0 +1,64 @@
+package org.example.rentify.payment;
+
+import org.example.rentify.entity.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SimulatedPaymentGateway is a local PaymentGateway for development and tests, active only when
+ * rentify.payment.gateway is set to "simulated", as the dev profile does. It never collects any money.
+ * It waits for the configured latency like a remote provider would, declines charges above a limit and fails
+ * the configured share of charges with a PaymentGatewayException, so retries can be exercised.
+ * The transaction ID is derived from the payment ID, so a repeated charge of a payment returns the same transaction ID.
+ */
+@Component
+@ConditionalOnProperty(name = "rentify.payment.gateway", havingValue = "simulated")
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private final Duration latency;
+    private final Money declineAbove;
+    private final double failureRate;
+
+    /**
+     * @param latency      the time every charge takes
+     * @param declineAbove the largest amount approved, larger amounts are declined
+     * @param failureRate  the share of charges failing with a PaymentGatewayException, between 0 and 1
+     */
+    @Autowired
+    public SimulatedPaymentGateway(@Value("${rentify.payment.simulated.latency:PT0.2S}") Duration latency,
+                                   @Value("${rentify.payment.simulated.decline-above:100000}") BigDecimal declineAbove,
+                                   @Value("${rentify.payment.simulated.failure-rate:0}") double failureRate) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        this.latency = latency;
+        this.declineAbove = Money.of(declineAbove);
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public PaymentGatewayResult charge(PaymentGatewayRequest request) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted while charging payment " + request.paymentId(), e);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new PaymentGatewayException("Simulated gateway failure for payment " + request.paymentId());
+        }
+        if (request.amount().compareTo(declineAbove) > 0) {
+            return PaymentGatewayResult.declined("Amount exceeds the limit of " + declineAbove);
+        }
+        return PaymentGatewayResult.approved("sim_" + UUID.nameUUIDFromBytes(
+                ("payment-" + request.paymentId()).getBytes(StandardCharsets.UTF_8)));
+    }
+}
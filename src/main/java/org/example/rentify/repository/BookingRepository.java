@@ -2,6 +2,8 @@ package org.example.rentify.repository;
 
 import org.example.rentify.entity.Booking;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,12 +32,67 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByUserId(Long userId);
 
     /**
-     * Finds bookings for a property that overlap with the given date range.
+     * Checks if a property has any booking.
      *
      * @param propertyId the ID of the property
+     * @return true if the property has a booking, false otherwise
+     */
+    boolean existsByPropertyId(Long propertyId);
+
+    /**
+     * Checks if a property has a booking overlapping the given date range.
+     *
+     * @param propertyId the ID of the property
+     * @param endDate    the end date of the requested booking
      * @param startDate  the start date of the requested booking
+     * @return true if a booking overlaps the given date range, false otherwise
+     */
+    boolean existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long propertyId, LocalDate endDate, LocalDate startDate);
+
+    /**
+     * Checks if a property has a booking other than the given one overlapping the given date range.
+     *
+     * @param propertyId the ID of the property
      * @param endDate    the end date of the requested booking
-     * @return a list of bookings that overlap with the given date range
+     * @param startDate  the start date of the requested booking
+     * @param bookingId  the ID of the booking to leave out
+     * @return true if another booking overlaps the given date range, false otherwise
+     */
+    boolean existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(Long propertyId, LocalDate endDate, LocalDate startDate, Long bookingId);
+
+    /**
+     * Checks if the booking with the given ID was made by the user with the given username, without loading the booking.
+     *
+     * @param id       the ID of the booking
+     * @param username the username of the user
+     * @return true if the booking exists and was made by the user, false otherwise
+     */
+    boolean existsByIdAndUserUsername(Long id, String username);
+
+    /**
+     * Finds the booked dates of all bookings.
+     *
+     * @return the booked dates of all bookings
+     */
+    @Query("SELECT b.id AS id, b.property.id AS propertyId, b.startDate AS startDate, b.endDate AS endDate FROM Booking b")
+    List<BookedDates> findAllBookedDates();
+
+    /**
+     * Finds the booked dates of the bookings of a property.
+     *
+     * @param propertyId the ID of the property
+     * @return the booked dates of the bookings of the property
+     */
+    @Query("SELECT b.id AS id, b.property.id AS propertyId, b.startDate AS startDate, b.endDate AS endDate FROM Booking b WHERE b.property.id = :propertyId")
+    List<BookedDates> findBookedDatesByPropertyId(@Param("propertyId") Long propertyId);
+
+    /**
+     * Projection of the dates a booking occupies, without loading the booking, its property or its user.
      */
-    List<Booking> findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long propertyId, LocalDate endDate, LocalDate startDate);
-}
\ No newline at end of file
+    interface BookedDates {
+        Long getId();
+        Long getPropertyId();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/*
+ * IdempotencyKeyRepository interface for managing IdempotencyKey entities.
+ * This interface extends JpaRepository to provide CRUD operations.
+ */
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    /**
+     * Finds the idempotency key of a user.
+     *
+     * @param username       the username of the user
+     * @param idempotencyKey the key sent by the user
+     * @return an Optional containing the key if found, or empty if not found
+     */
+    Optional<IdempotencyKey> findByUsernameAndIdempotencyKey(String username, String idempotencyKey);
+
+    /**
+     * Stores the idempotency key of a request that starts now, unless the key is already used.
+     * An expired key, or one whose request has been in progress since before staleBefore, is taken over instead,
+     * so a key whose request was cut off by a crash does not block retries forever.
+     * Concurrent requests with the same key are serialized by the unique constraint, so only one of them stores the key.
+     *
+     * @param username       the username of the user
+     * @param idempotencyKey the key sent by the user
+     * @param requestHash    the SHA-256 hash of the request
+     * @param now            the current time
+     * @param expiresAt      the time the key expires
+     * @param staleBefore    the start time before which a request still in progress is considered lost
+     * @return 1 if the request may proceed, 0 if the key is used by another request
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (username, idempotency_key, request_hash, created_at, expires_at) " +
+            "VALUES (:username, :idempotencyKey, :requestHash, :now, :expiresAt) " +
+            "ON CONFLICT (username, idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at, " +
+            "response_status = NULL, response_content_type = NULL, response_body = NULL " +
+            "WHERE idempotency_keys.expires_at < :now " +
+            "OR (idempotency_keys.response_status IS NULL AND idempotency_keys.created_at < :staleBefore)", nativeQuery = true)
+    int start(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey,
+              @Param("requestHash") String requestHash, @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Stores the response of a finished request.
+     *
+     * @param username            the username of the user
+     * @param idempotencyKey      the key sent by the user
+     * @param requestHash         the SHA-256 hash of the request
+     * @param responseStatus      the HTTP status of the response
+     * @param responseContentType the content type of the response, or null
+     * @param responseBody        the body of the response
+     * @return 1 if the response was stored, 0 if the key was taken over by another request in the meantime
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.responseStatus = :responseStatus, k.responseContentType = :responseContentType, " +
+            "k.responseBody = :responseBody WHERE k.username = :username AND k.idempotencyKey = :idempotencyKey " +
+            "AND k.requestHash = :requestHash AND k.responseStatus IS NULL")
+    int complete(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey,
+                 @Param("requestHash") String requestHash, @Param("responseStatus") int responseStatus,
+                 @Param("responseContentType") String responseContentType, @Param("responseBody") String responseBody);
+
+    /**
+     * Deletes the key of a request that is still in progress, so the request can be retried with the same key.
+     *
+     * @param username       the username of the user
+     * @param idempotencyKey the key sent by the user
+     * @param requestHash    the SHA-256 hash of the request
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.username = :username AND k.idempotencyKey = :idempotencyKey " +
+            "AND k.requestHash = :requestHash AND k.responseStatus IS NULL")
+    int release(@Param("username") String username, @Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash);
+
+    /**
+     * Deletes the expired keys.
+     *
+     * @param now the current time
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,15 +1,27 @@
 package org.example.rentify.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.rentify.dto.response.PropertyRevenueDTO;
 import org.example.rentify.entity.Booking;
 import org.example.rentify.entity.Payment;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
+import org.example.rentify.payment.PaymentGatewayRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /*
  * PaymentRepository interface for managing Payment entities.
@@ -17,6 +29,31 @@ import java.util.List;
  */
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+    /**
+     * Aggregate of the totals queries, counting the payments and summing their amounts in the database.
+     */
+    String TOTALS_SELECT = "SELECT COUNT(p) AS count, COALESCE(SUM(p.amount), 0) AS total FROM Payment p";
+
+    /**
+     * Optional filters of the totals queries, ignored when null: the payment status and the payment date range,
+     * with the start inclusive and the end exclusive. The dates are cast, otherwise PostgreSQL cannot tell the type of a null date.
+     */
+    String TOTALS_FILTER = " (:status IS NULL OR p.paymentStatus = :status)" +
+            " AND (CAST(:from AS LocalDateTime) IS NULL OR p.paymentDate >= :from)" +
+            " AND (CAST(:to AS LocalDateTime) IS NULL OR p.paymentDate < :to)";
+
+    /**
+     * Revenue of properties: every property is joined to the payments for its bookings that match the totals filters,
+     * so properties without matching payments are listed with a zero total.
+     */
+    String REVENUE_SELECT = "SELECT new org.example.rentify.dto.response.PropertyRevenueDTO(pr.id, pr.title, COUNT(p), COALESCE(SUM(p.amount), 0)) " +
+            "FROM Property pr LEFT JOIN Booking b ON b.property = pr LEFT JOIN Payment p ON p.booking = b AND" + TOTALS_FILTER;
+
+    /**
+     * Grouping of the revenue queries, one row per property.
+     */
+    String REVENUE_GROUP_BY = " GROUP BY pr.id, pr.title ORDER BY pr.id";
+
     /**
      * Finds a payment by its booking ID.
      *
@@ -25,6 +62,64 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Payment findByBookingId(Long bookingId);
 
+    /**
+     * Finds a payment by its ID and locks it until the end of the transaction,
+     * so concurrent changes of the payment are applied to the revenue rollup one after another.
+     *
+     * @param id the ID of the payment
+     * @return an Optional containing the locked payment if found, or empty if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Finds a payment by its booking ID and locks it until the end of the transaction.
+     *
+     * @param bookingId the booking ID of the payment
+     * @return the locked payment with the specified booking ID, or null if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.booking.id = :bookingId")
+    Payment findByBookingIdForUpdate(@Param("bookingId") Long bookingId);
+
+    /**
+     * Finds pending payments that are not claimed by a processing worker, or whose claim has expired, and locks them
+     * until the end of the transaction. Rows locked by another worker are skipped instead of waited for,
+     * so concurrent workers claim disjoint batches.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of payments
+     * @return the IDs of the locked payments, oldest first
+     */
+    @Query(value = "SELECT p.id FROM payments p WHERE p.payment_status = 'PENDING' " +
+            "AND (p.claimed_until IS NULL OR p.claimed_until < :now) " +
+            "ORDER BY p.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimablePendingIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Claims payments for a processing worker and counts the processing attempt.
+     *
+     * @param ids          the IDs of the payments
+     * @param claim        the claim ID of the worker
+     * @param claimedUntil the time the claim expires
+     * @return the number of claimed payments
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.processingClaim = :claim, p.claimedUntil = :claimedUntil, " +
+            "p.processingAttempts = p.processingAttempts + 1 WHERE p.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claim") UUID claim, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Finds the payments of a claim as gateway requests, without loading their bookings and users.
+     *
+     * @param claim the claim ID of the worker
+     * @return the claimed payments, ordered by ID
+     */
+    @Query("SELECT new org.example.rentify.payment.PaymentGatewayRequest(p.id, p.amount, p.paymentMethod, p.transactionId) " +
+            "FROM Payment p WHERE p.processingClaim = :claim ORDER BY p.id")
+    List<PaymentGatewayRequest> findGatewayRequestsByClaim(@Param("claim") UUID claim);
+
     /**
      * Finds all payments associated with a specific user.
      *
@@ -32,4 +127,94 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * @return a list of payments associated with the specified user
      */
     List<Payment> findByUser(User user);
+
+    /**
+     * Checks if the payment with the given ID was made by the user with the given username, without loading the payment.
+     *
+     * @param id       the ID of the payment
+     * @param username the username of the user
+     * @return true if the payment exists and was made by the user, false otherwise
+     */
+    boolean existsByIdAndUserUsername(Long id, String username);
+
+    /**
+     * Counts the payments and sums their amounts, without loading them.
+     *
+     * @param status the status of the payments, or null for all statuses
+     * @param from   the earliest payment date, inclusive, or null
+     * @param to     the latest payment date, exclusive, or null
+     * @return the number of matching payments and the sum of their amounts
+     */
+    @Query(TOTALS_SELECT + " WHERE" + TOTALS_FILTER)
+    PaymentTotals sumAmounts(@Param("status") PaymentStatus status,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
+
+    /**
+     * Counts the payments of a user and sums their amounts, without loading them.
+     *
+     * @param username the username of the user
+     * @param status   the status of the payments, or null for all statuses
+     * @param from     the earliest payment date, inclusive, or null
+     * @param to       the latest payment date, exclusive, or null
+     * @return the number of matching payments and the sum of their amounts
+     */
+    @Query(TOTALS_SELECT + " WHERE p.user.username = :username AND" + TOTALS_FILTER)
+    PaymentTotals sumAmountsByUsername(@Param("username") String username,
+                                       @Param("status") PaymentStatus status,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    /**
+     * Counts the payments for the bookings of a property and sums their amounts, without loading them.
+     *
+     * @param propertyId the ID of the property
+     * @param status     the status of the payments, or null for all statuses
+     * @param from       the earliest payment date, inclusive, or null
+     * @param to         the latest payment date, exclusive, or null
+     * @return the number of matching payments and the sum of their amounts
+     */
+    @Query(TOTALS_SELECT + " WHERE p.booking.property.id = :propertyId AND" + TOTALS_FILTER)
+    PaymentTotals sumAmountsByPropertyId(@Param("propertyId") Long propertyId,
+                                         @Param("status") PaymentStatus status,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    /**
+     * Aggregates the revenue of the given properties, one row per existing property.
+     *
+     * @param propertyIds the IDs of the properties
+     * @param status      the status of the payments, or null for all statuses
+     * @param from        the earliest payment date, inclusive, or null
+     * @param to          the latest payment date, exclusive, or null
+     * @return the revenue of each existing property, ordered by property ID
+     */
+    @Query(REVENUE_SELECT + " WHERE pr.id IN :propertyIds" + REVENUE_GROUP_BY)
+    List<PropertyRevenueDTO> findRevenueByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds,
+                                                      @Param("status") PaymentStatus status,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    /**
+     * Aggregates the revenue of all properties of an owner, one row per property.
+     *
+     * @param username the username of the owner
+     * @param status   the status of the payments, or null for all statuses
+     * @param from     the earliest payment date, inclusive, or null
+     * @param to       the latest payment date, exclusive, or null
+     * @return the revenue of each property of the owner, ordered by property ID
+     */
+    @Query(REVENUE_SELECT + " WHERE pr.owner.username = :username" + REVENUE_GROUP_BY)
+    List<PropertyRevenueDTO> findRevenueByOwnerUsername(@Param("username") String username,
+                                                        @Param("status") PaymentStatus status,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    /**
+     * Projection of the totals queries: the number of payments and the exact sum of their amounts.
+     */
+    interface PaymentTotals {
+        long getCount();
+        BigDecimal getTotal();
+    }
 }
@@ -0,0 +1,31 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.entity.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * PricingRuleRepository interface for managing PricingRule entities.
+ * This interface extends JpaRepository to provide CRUD operations.
+ */
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+
+    /**
+     * Finds the pricing rules of a property, the ones with the highest priority first.
+     *
+     * @param propertyId the ID of the property
+     * @return a list of pricing rules of the specified property
+     */
+    List<PricingRule> findByPropertyIdOrderByPriorityDescIdAsc(Long propertyId);
+
+    /**
+     * Finds a pricing rule by its ID within a property.
+     *
+     * @param id the ID of the pricing rule
+     * @param propertyId the ID of the property
+     * @return an Optional containing the pricing rule if it belongs to the property
+     */
+    Optional<PricingRule> findByIdAndPropertyId(Long id, Long propertyId);
+}
@@ -1,26 +1,37 @@
 package org.example.rentify.repository;
+
+import org.example.rentify.dto.response.PropertySummaryDTO;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.enums.PropertyType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /*
  * PropertyRepository interface for managing Property entities.
- * It extends JpaRepository to provide CRUD operations and custom query methods.
+ * It extends JpaRepository to provide CRUD operations and custom query methods,
+ * JpaSpecificationExecutor to run multi-criteria searches built by PropertySpecifications,
+ * and PropertySummaryRepository to select summaries of the properties those searches match.
  */
-public interface PropertyRepository extends JpaRepository<Property, Long> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property>, PropertySummaryRepository {
 
     /**
-     * Finds properties by their availability status.
-     *
-     * @param availability the availability status of the properties
-     * @param pageable the pagination information
-     * @return a page of properties with the specified availability status
+     * Constructor expression shared by the summary queries of the list endpoints.
      */
-    Page<Property> findByAvailability(Boolean availability, Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new org.example.rentify.dto.response.PropertySummaryDTO(p.id, p.title, p.propertyType, p.pricePerDay, a.city, " +
+            "(SELECT i.imageUrl FROM Image i WHERE i.id = (SELECT MIN(ci.id) FROM Image ci WHERE ci.property = p)), " +
+            "(SELECT AVG(r.rating) FROM Review r WHERE r.property = p), p.creationDate) " +
+            "FROM Property p LEFT JOIN p.address a";
 
     /**
      * Deletes a property by its ID.
@@ -28,27 +39,57 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
      */
     void deletePropertyById(Long id);
 
+    /**
+     * Finds summaries of all properties.
+     * The cover image is the first image uploaded for the property and the rating is the average of its reviews.
+     *
+     * @param pageable the pagination information
+     * @return a page of property summaries
+     */
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Property p")
+    Page<PropertySummaryDTO> findAllSummaries(Pageable pageable);
+
+    /**
+     * Finds summaries of properties by their availability status.
+     *
+     * @param availability the availability status of the properties
+     * @param pageable the pagination information
+     * @return a page of property summaries with the specified availability status
+     */
+    @Query(value = SUMMARY_SELECT + " WHERE p.availability = :availability",
+            countQuery = "SELECT COUNT(p) FROM Property p WHERE p.availability = :availability")
+    Page<PropertySummaryDTO> findSummariesByAvailability(@Param("availability") Boolean availability, Pageable pageable);
 
     /**
-     * Finds properties by their type and availability status.
+     * Finds summaries of properties by their type and availability status.
      *
      * @param propertyType the type of the properties
      * @param availability the availability status of the properties
      * @param pageable     the pagination information
-     * @return aa page of properties with the specified type and availability status
+     * @return a page of property summaries with the specified type and availability status
      */
-    Page<Property> findByPropertyTypeAndAvailability(PropertyType propertyType, Boolean availability, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + " WHERE p.propertyType = :propertyType AND p.availability = :availability",
+            countQuery = "SELECT COUNT(p) FROM Property p WHERE p.propertyType = :propertyType AND p.availability = :availability")
+    Page<PropertySummaryDTO> findSummariesByPropertyTypeAndAvailability(@Param("propertyType") PropertyType propertyType,
+                                                                        @Param("availability") Boolean availability,
+                                                                        Pageable pageable);
 
     /**
-     * Finds properties by country, city and availability status.
+     * Finds summaries of properties by country, city and availability status.
      *
      * @param addressCountry the country of the properties
      * @param addressCity    the city of the properties
      * @param availability   the availability status of the properties
      * @param pageable       the pagination information
-     * @return a page of properties with the specified country, city and availability status
+     * @return a page of property summaries with the specified country, city and availability status
      */
-    Page<Property> findAllByAddress_CountryAndAddress_CityAndAvailability(String addressCountry, String addressCity, Boolean availability, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + " WHERE a.country = :country AND a.city = :city AND p.availability = :availability",
+            countQuery = "SELECT COUNT(p) FROM Property p JOIN p.address a WHERE a.country = :country AND a.city = :city AND p.availability = :availability")
+    Page<PropertySummaryDTO> findSummariesByAddressCountryAndCityAndAvailability(@Param("country") String addressCountry,
+                                                                                 @Param("city") String addressCity,
+                                                                                 @Param("availability") Boolean availability,
+                                                                                 Pageable pageable);
 
     /**
      * Finds a property by its ID.
@@ -58,4 +99,88 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
      */
     Optional<Property> findPropertyById(Long id);
 
+    /**
+     * Checks if the property with the given ID is owned by the user with the given username.
+     * Only the ownership is checked, the property is not loaded.
+     *
+     * @param id       the ID of the property
+     * @param username the username of the owner
+     * @return true if the property exists and is owned by the user, false otherwise
+     */
+    boolean existsByIdAndOwnerUsername(Long id, String username);
+
+    /**
+     * Finds a property by its ID together with everything its detail view needs.
+     * The owner with roles and address and the property address are fetched in the same query.
+     *
+     * @param id the ID of the property to find
+     * @return an Optional containing the property if found, or empty if not found.
+     */
+    @EntityGraph(Property.DETAIL_GRAPH)
+    Optional<Property> findDetailedById(Long id);
+
+    /**
+     * Finds the version of a property without loading the entity.
+     *
+     * @param id the ID of the property
+     * @return an Optional containing the version if the property exists, or empty if not found.
+     */
+    @Query("SELECT p.version FROM Property p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Increments the version of a property, even if the property row itself is not modified.
+     * Used when data shown in the property detail view, like images, reviews or the address, changes.
+     * Pending changes are flushed first; a managed instance of the property keeps its old version,
+     * so it must not be modified afterwards in the same transaction.
+     *
+     * @param id the ID of the property
+     * @return the number of updated properties
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Property p SET p.version = p.version + 1 WHERE p.id = :id")
+    int incrementVersionById(@Param("id") Long id);
+
+    /**
+     * Increments the versions of all properties of an owner.
+     *
+     * @param ownerId the ID of the owner
+     * @return the number of updated properties
+     */
+    @Modifying
+    @Query("UPDATE Property p SET p.version = p.version + 1 WHERE p.owner.id = :ownerId")
+    int incrementVersionsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Increments the versions of all properties whose owner has the given role.
+     *
+     * @param roleId the ID of the role
+     * @return the number of updated properties
+     */
+    @Modifying
+    @Query("UPDATE Property p SET p.version = p.version + 1 WHERE p.owner.id IN (SELECT u.id FROM User u JOIN u.roles r WHERE r.id = :roleId)")
+    int incrementVersionsByOwnerRoleId(@Param("roleId") Long roleId);
+
+    /**
+     * Finds summaries of the newest properties, ordered by creation date and ID descending.
+     * Backed by the (creation_date, id) index, no count query is executed.
+     *
+     * @param limit the maximum number of properties to return
+     * @return a list of summaries of the newest properties
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY p.creationDate DESC, p.id DESC")
+    List<PropertySummaryDTO> findNewestSummaries(Limit limit);
+
+    /**
+     * Finds summaries of the properties that come right after the given cursor in creation date and ID descending order.
+     * The row value comparison lets the database seek directly into the (creation_date, id) index
+     * instead of skipping an OFFSET of rows.
+     *
+     * @param creationDate the creation date of the last property already returned
+     * @param id           the ID of the last property already returned
+     * @param limit        the maximum number of properties to return
+     * @return a list of summaries of properties older than the cursor
+     */
+    @Query(SUMMARY_SELECT + " WHERE (p.creationDate, p.id) < (:creationDate, :id) ORDER BY p.creationDate DESC, p.id DESC")
+    List<PropertySummaryDTO> findNewestSummariesBefore(@Param("creationDate") LocalDateTime creationDate, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,104 @@
+package org.example.rentify.repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.example.rentify.dto.request.PropertySearchCriteriaDTO;
+import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.Property;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * PropertySpecifications builds JPA Specifications for Property searches.
+ * All filters present in the criteria are combined with AND into a single SQL statement.
+ */
+public final class PropertySpecifications {
+
+    private PropertySpecifications() {
+    }
+
+    /**
+     * Builds a specification matching every non-null filter of the given criteria.
+     * The date window is expressed as a NOT EXISTS sub-query against bookings,
+     * so properties booked on any day of the window are excluded. It probes the (property_id, start_date, end_date)
+     * index of bookings once per candidate property, so no bookings are loaded.
+     *
+     * @param criteria the search criteria
+     * @return a specification combining all given filters
+     */
+    public static Specification<Property> matchesCriteria(PropertySearchCriteriaDTO criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (criteria.getPropertyType() != null) {
+                predicates.add(cb.equal(root.get("propertyType"), criteria.getPropertyType()));
+            }
+            if (criteria.getAvailability() != null) {
+                predicates.add(cb.equal(root.get("availability"), criteria.getAvailability()));
+            }
+            if (StringUtils.hasText(criteria.getCity()) || StringUtils.hasText(criteria.getCountry())) {
+                Join<Property, Address> address = addressJoin(root);
+                if (StringUtils.hasText(criteria.getCity())) {
+                    predicates.add(cb.equal(address.get("city"), criteria.getCity()));
+                }
+                if (StringUtils.hasText(criteria.getCountry())) {
+                    predicates.add(cb.equal(address.get("country"), criteria.getCountry()));
+                }
+            }
+            // prices are whole minor units, so price bounds with more decimal places are rounded inwards
+            if (criteria.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Money>get("pricePerDay"), priceBound(criteria.getMinPrice(), RoundingMode.CEILING)));
+            }
+            if (criteria.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Money>get("pricePerDay"), priceBound(criteria.getMaxPrice(), RoundingMode.FLOOR)));
+            }
+            if (criteria.getMinArea() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("area"), criteria.getMinArea()));
+            }
+            if (criteria.getMaxArea() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("area"), criteria.getMaxArea()));
+            }
+            if (criteria.getMinRooms() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("numberOfRooms"), criteria.getMinRooms()));
+            }
+            if (criteria.getMaxRooms() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("numberOfRooms"), criteria.getMaxRooms()));
+            }
+            if (criteria.getAvailableFrom() != null && criteria.getAvailableTo() != null) {
+                Subquery<Long> overlappingBookings = query.subquery(Long.class);
+                Root<Booking> booking = overlappingBookings.from(Booking.class);
+                overlappingBookings.select(booking.get("id"))
+                        .where(cb.equal(booking.get("property"), root),
+                                cb.lessThanOrEqualTo(booking.get("startDate"), criteria.getAvailableTo()),
+                                cb.greaterThanOrEqualTo(booking.get("endDate"), criteria.getAvailableFrom()));
+                predicates.add(cb.not(cb.exists(overlappingBookings)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Reuses the address join of the query when the caller already joined it, for example to select the city.
+     */
+    @SuppressWarnings("unchecked")
+    private static Join<Property, Address> addressJoin(Root<Property> root) {
+        return root.getJoins().stream()
+                .filter(join -> "address".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Property, Address>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("address"));
+    }
+
+    private static Money priceBound(BigDecimal price, RoundingMode roundingMode) {
+        return Money.of(price.setScale(Money.DEFAULT_CURRENCY.getDefaultFractionDigits(), roundingMode));
+    }
+}
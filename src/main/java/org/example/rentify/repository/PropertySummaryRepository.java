@@ -0,0 +1,24 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.dto.response.PropertySummaryDTO;
+import org.example.rentify.entity.Property;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/*
+ * PropertySummaryRepository is a repository fragment selecting property summaries for dynamic filters.
+ * It complements the JPQL summary queries of PropertyRepository with a Criteria query that accepts any Specification.
+ */
+public interface PropertySummaryRepository {
+
+    /**
+     * Finds summaries of properties matching the given specification.
+     * The page is read with a single SQL statement selecting only the summary columns, followed by a count query when needed.
+     *
+     * @param spec     the specification the properties must match
+     * @param pageable the pagination information
+     * @return a page of property summaries matching the specification
+     */
+    Page<PropertySummaryDTO> findSummaries(Specification<Property> spec, Pageable pageable);
+}
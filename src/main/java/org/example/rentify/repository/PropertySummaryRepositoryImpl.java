@@ -0,0 +1,82 @@
+package org.example.rentify.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.example.rentify.dto.response.PropertySummaryDTO;
+import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Image;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.Review;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/*
+ * PropertySummaryRepositoryImpl implements PropertySummaryRepository with the Criteria API.
+ * It selects the same columns as PropertyRepository.SUMMARY_SELECT, so list entries look the same whichever query produced them.
+ */
+class PropertySummaryRepositoryImpl implements PropertySummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PropertySummaryDTO> findSummaries(Specification<Property> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PropertySummaryDTO> query = cb.createQuery(PropertySummaryDTO.class);
+        Root<Property> property = query.from(Property.class);
+        Join<Property, Address> address = property.join("address", JoinType.LEFT);
+
+        Subquery<Long> firstImageId = query.subquery(Long.class);
+        Root<Image> firstImage = firstImageId.from(Image.class);
+        firstImageId.select(cb.min(firstImage.get("id"))).where(cb.equal(firstImage.get("property"), property));
+        Subquery<String> coverImageUrl = query.subquery(String.class);
+        Root<Image> coverImage = coverImageUrl.from(Image.class);
+        coverImageUrl.select(coverImage.get("imageUrl")).where(cb.equal(coverImage.get("id"), firstImageId));
+        Subquery<Double> averageRating = query.subquery(Double.class);
+        Root<Review> review = averageRating.from(Review.class);
+        averageRating.select(cb.avg(review.get("rating"))).where(cb.equal(review.get("property"), property));
+
+        query.select(cb.construct(PropertySummaryDTO.class, property.get("id"), property.get("title"),
+                property.get("propertyType"), property.get("pricePerDay"), address.get("city"), coverImageUrl, averageRating,
+                property.get("creationDate")));
+        Predicate predicate = spec == null ? null : spec.toPredicate(property, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(pageable.getSort(), property, cb));
+
+        TypedQuery<PropertySummaryDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<PropertySummaryDTO> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Property> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Property> property = query.from(Property.class);
+        query.select(cb.count(property));
+        Predicate predicate = spec == null ? null : spec.toPredicate(property, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
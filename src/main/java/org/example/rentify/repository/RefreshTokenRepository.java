@@ -0,0 +1,69 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * RefreshTokenRepository interface for managing RefreshToken entities.
+ * This interface extends JpaRepository to provide CRUD operations.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a refresh token by the hash of its value.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return an Optional containing the refresh token if found, or empty if not found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks a refresh token as used, unless it was used or revoked before.
+     * Concurrent attempts to use the same token are serialized by the row lock, so only one of them updates the row.
+     *
+     * @param id     the ID of the refresh token
+     * @param usedAt the time of use
+     * @return 1 if the token was marked as used, 0 if it had already been used or revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :usedAt WHERE r.id = :id AND r.usedAt IS NULL AND r.revoked = false")
+    int markUsed(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * Revokes all refresh tokens of a family.
+     *
+     * @param familyId the family of the tokens
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    /**
+     * Revokes all refresh tokens of a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.user.id = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes the expired refresh tokens of a user.
+     *
+     * @param userId the ID of the user
+     * @param now    the current time
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId AND r.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
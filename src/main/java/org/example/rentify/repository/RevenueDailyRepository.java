@@ -0,0 +1,114 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.entity.RevenueDaily;
+import org.example.rentify.entity.RevenueDailyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+ * RevenueDailyRepository interface for managing RevenueDaily entities.
+ * This interface extends JpaRepository to provide CRUD operations.
+ * The rollup rows are only changed with atomic upserts, so concurrent payments of the same property and day never lose an update.
+ */
+public interface RevenueDailyRepository extends JpaRepository<RevenueDaily, RevenueDailyId> {
+
+    /**
+     * Revenue series: the rollup rows matching the filters are summed per period, the start of a period being
+     * the date truncated to the unit of the series. Periods without payments are left out.
+     * The status is cast, otherwise PostgreSQL cannot tell the type of a null status.
+     */
+    String SERIES_SELECT = "SELECT CAST(date_trunc(CAST(:unit AS TEXT), r.revenue_date) AS DATE) AS \"periodStart\", " +
+            "SUM(r.payment_count) AS \"paymentCount\", SUM(r.total_amount) AS \"totalAmount\" FROM revenue_daily r WHERE ";
+
+    /**
+     * Filters and grouping of the revenue series, with both dates inclusive.
+     */
+    String SERIES_FILTER = " AND r.revenue_date BETWEEN :from AND :to" +
+            " AND (CAST(:status AS VARCHAR) IS NULL OR r.payment_status = :status)" +
+            " GROUP BY 1 HAVING SUM(r.payment_count) > 0 ORDER BY 1";
+
+    /**
+     * Adds payments to the rollup row of a property, day and status, creating the row if it does not exist yet.
+     * Negative values remove payments from the row.
+     *
+     * @param propertyId    the ID of the property
+     * @param ownerId       the ID of the owner of the property
+     * @param revenueDate   the payment day
+     * @param paymentStatus the name of the payment status
+     * @param paymentCount  the number of payments to add
+     * @param totalAmount   the amount to add
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revenue_daily (property_id, revenue_date, payment_status, owner_id, payment_count, total_amount) " +
+            "VALUES (:propertyId, :revenueDate, :paymentStatus, :ownerId, :paymentCount, :totalAmount) " +
+            "ON CONFLICT (property_id, revenue_date, payment_status) DO UPDATE SET " +
+            "payment_count = revenue_daily.payment_count + EXCLUDED.payment_count, " +
+            "total_amount = revenue_daily.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void addToDay(@Param("propertyId") Long propertyId, @Param("ownerId") Long ownerId, @Param("revenueDate") LocalDate revenueDate,
+                  @Param("paymentStatus") String paymentStatus, @Param("paymentCount") long paymentCount,
+                  @Param("totalAmount") BigDecimal totalAmount);
+
+    /**
+     * Removes all payments made by a user from the rollup, before the user and their payments are deleted.
+     *
+     * @param userId the ID of the user
+     * @return the number of changed rollup rows
+     */
+    @Modifying
+    @Query(value = "UPDATE revenue_daily r SET payment_count = r.payment_count - d.payment_count, total_amount = r.total_amount - d.total_amount " +
+            "FROM (SELECT b.property_id, CAST(p.payment_date AS DATE) AS revenue_date, p.payment_status, " +
+            "COUNT(*) AS payment_count, SUM(p.amount) AS total_amount " +
+            "FROM payments p JOIN bookings b ON b.id = p.booking_id WHERE p.user_id = :userId " +
+            "GROUP BY b.property_id, CAST(p.payment_date AS DATE), p.payment_status) d " +
+            "WHERE r.property_id = d.property_id AND r.revenue_date = d.revenue_date AND r.payment_status = d.payment_status",
+            nativeQuery = true)
+    int subtractPaymentsOfUser(@Param("userId") Long userId);
+
+    /**
+     * Finds the revenue series of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param unit       the PostgreSQL date_trunc unit of the periods: day, week or month
+     * @param status     the name of the payment status to count, or null for all statuses
+     * @param from       the first payment day, inclusive
+     * @param to         the last payment day, inclusive
+     * @return the periods with payments, ordered by their start
+     */
+    @Query(value = SERIES_SELECT + "r.property_id = :propertyId" + SERIES_FILTER, nativeQuery = true)
+    List<RevenuePeriod> findSeriesByPropertyId(@Param("propertyId") Long propertyId, @Param("unit") String unit,
+                                               @Param("status") String status, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /**
+     * Finds the revenue series of all properties of an owner.
+     *
+     * @param username the username of the owner
+     * @param unit     the PostgreSQL date_trunc unit of the periods: day, week or month
+     * @param status   the name of the payment status to count, or null for all statuses
+     * @param from     the first payment day, inclusive
+     * @param to       the last payment day, inclusive
+     * @return the periods with payments, ordered by their start
+     */
+    @Query(value = SERIES_SELECT + "r.owner_id = (SELECT u.id FROM users u WHERE u.username = :username)" + SERIES_FILTER,
+            nativeQuery = true)
+    List<RevenuePeriod> findSeriesByOwnerUsername(@Param("username") String username, @Param("unit") String unit,
+                                                  @Param("status") String status, @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    /**
+     * Revenue of one period of a series.
+     */
+    interface RevenuePeriod {
+        LocalDate getPeriodStart();
+
+        long getPaymentCount();
+
+        BigDecimal getTotalAmount();
+    }
+}
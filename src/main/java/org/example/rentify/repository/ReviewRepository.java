@@ -35,6 +35,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     Review findByBookingId(Long bookingId);
 
+    /**
+     * Checks if the review with the given ID was written by the user with the given username, without loading the review.
+     *
+     * @param id       the ID of the review
+     * @param username the username of the user
+     * @return true if the review exists and was written by the user, false otherwise
+     */
+    boolean existsByIdAndUserUsername(Long id, String username);
+
     /**
      * Deletes reviews by the booking ID.
      *
@@ -0,0 +1,58 @@
+package org.example.rentify.repository;
+
+import org.example.rentify.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * RevokedTokenRepository interface for managing RevokedToken entities.
+ * This interface extends JpaRepository to provide CRUD operations.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * Finds all revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the IDs and expiry times of the revoked tokens
+     */
+    @Query("SELECT r.jti AS jti, r.expiresAt AS expiresAt FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<RevokedJti> findUnexpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Finds the tokens revoked since the given time that have not expired yet.
+     *
+     * @param since the earliest revocation time
+     * @param now   the current time
+     * @return the IDs and expiry times of the revoked tokens
+     */
+    @Query("SELECT r.jti AS jti, r.expiresAt AS expiresAt FROM RevokedToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<RevokedJti> findUnexpiredRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes the rows of the revoked tokens that have expired.
+     * Called outside of any service transaction, so it runs in its own.
+     *
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Projection of the ID and expiry time of a revoked token.
+     */
+    interface RevokedJti {
+        UUID getJti();
+        LocalDateTime getExpiresAt();
+    }
+}
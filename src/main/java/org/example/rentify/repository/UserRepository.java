@@ -4,6 +4,9 @@ import org.example.rentify.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -48,6 +51,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Check if the user with the given email has the given username, without loading the entity.
+     * @param email The email of the user.
+     * @param username The username to check.
+     * @return true if a user with the given email and username exists, false otherwise.
+     */
+    boolean existsByEmailAndUsername(String email, String username);
+
+    /**
+     * Check if the user with the given ID has the given username, without loading the entity.
+     * @param id The ID of the user.
+     * @param username The username to check.
+     * @return true if a user with the given ID and username exists, false otherwise.
+     */
+    boolean existsByIdAndUsername(Long id, String username);
+
     /**
      * Find all users with a specific role name.
      * @param rolesName The name of the role to filter users by.
@@ -55,4 +74,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return A page of users with the specified role name.
      */
     Page<User> findAllByRolesName(String rolesName, Pageable pageable);
+
+    /**
+     * Find the token version of a user without loading the entity.
+     * @param username The username of the user.
+     * @return An Optional containing the token version if the user exists, or empty if not found.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.username = :username")
+    Optional<Long> findTokenVersionByUsername(@Param("username") String username);
+
+    /**
+     * Increment the token versions of all users with the given role, invalidating their issued tokens.
+     * @param roleId The ID of the role.
+     * @return The number of updated users.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id IN (SELECT ru.id FROM User ru JOIN ru.roles r WHERE r.id = :roleId)")
+    int incrementTokenVersionsByRoleId(@Param("roleId") Long roleId);
+
+    /**
+     * Replace the password hash of a user, like when it is rehashed with a higher BCrypt cost.
+     * @param username The username of the user.
+     * @param password The new password hash.
+     * @return The number of updated users.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
 }
@@ -0,0 +1,160 @@
+package org.example.rentify.security;
+
+import jakarta.annotation.PreDestroy;
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.exception.ServiceOverloadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHashingExecutor runs the password checks of logins on a small dedicated thread pool.
+ * BCrypt is deliberately expensive, so a burst of logins checked on the request threads would take every core
+ * away from the rest of the traffic. The pool bounds the cores spent on hashing and its queue bounds the logins
+ * waiting for one; a login arriving at a full queue is rejected right away with 503 Service Unavailable.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private static final String OVERLOADED_MESSAGE = "Too many login attempts are being processed. Please try again later.";
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    /**
+     * @param threads       the number of hashing threads, half of the available processors when not positive
+     * @param queueCapacity the maximum number of logins waiting for a hashing thread
+     * @param timeout       the maximum time a login waits for its check, including the time in the queue
+     * @param retryAfter    the delay advertised to rejected clients in the Retry-After header
+     */
+    @Autowired
+    public PasswordHashingExecutor(@Value("${rentify.security.password-hashing.threads:0}") int threads,
+                                   @Value("${rentify.security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                   @Value("${rentify.security.password-hashing.timeout:PT10S}") Duration timeout,
+                                   @Value("${rentify.security.password-hashing.retry-after:PT2S}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Runs a password check on a hashing thread and waits for its result.
+     * Runtime exceptions thrown by the check, like BadCredentialsException, are rethrown to the caller.
+     *
+     * @param task the password check
+     * @return the result of the check
+     * @throws ServiceOverloadedException if the queue is full or the check does not finish within the timeout
+     */
+    public <T> T run(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record(totalQueueWaitNanos, maxQueueWaitNanos, startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    record(totalHashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            logger.warn("Password hashing queue is full, rejecting login");
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password check failed", e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            logger.warn("Password check did not finish within {}, rejecting login", timeout);
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfter);
+        }
+    }
+
+    /**
+     * Returns the statistics of the executor.
+     *
+     * @return a PasswordHashingStatsDTO with the cumulative counters and timings
+     */
+    public PasswordHashingStatsDTO getStats() {
+        long completed = completedCount.sum();
+        return new PasswordHashingStatsDTO(executor.getMaximumPoolSize(), queueCapacity, executor.getQueue().size(),
+                executor.getActiveCount(), completed, rejectedCount.sum(),
+                averageMillis(totalQueueWaitNanos.sum(), completed), toMillis(maxQueueWaitNanos.get()),
+                averageMillis(totalHashNanos.sum(), completed), toMillis(maxHashNanos.get()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0.0 : toMillis(totalNanos) / count;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,9 +1,10 @@
 package org.example.rentify.security;
 
-import org.example.rentify.entity.User;
+import org.example.rentify.cache.UserPrincipalCache;
 import org.example.rentify.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,30 +14,52 @@ import org.springframework.transaction.annotation.Transactional;
 /*
  * UserDetailsServiceImpl class implements the UserDetailsService interface.
  * It is responsible for loading user-specific data during authentication.
+ * The service is stateless; loaded users are kept as immutable principals in UserPrincipalCache.
+ * As a UserDetailsPasswordService it also stores the passwords Spring Security rehashes on login when the BCrypt cost was raised.
  */
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
-    User user;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UserDetailsServiceImpl(@Autowired UserRepository userRepository) {
+    @Autowired
+    public UserDetailsServiceImpl(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     /**
      * This method loads user details by username.
-     * It retrieves the user from the database using the UserRepository.
+     * The principal is served from UserPrincipalCache and loaded from the database using the UserRepository on a miss;
+     * the roles of a user are fetched eagerly, so no transaction is opened on a cache hit.
      *
      * @param username the username of the user
-     * @return UserDetails object containing user information
+     * @return UserPrincipal containing user information
      * @throws UsernameNotFoundException if the user is not found
      */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        user = userRepository.findUserByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        UserPrincipal principal = userPrincipalCache.get(username,
+                key -> userRepository.findUserByUsername(key).map(UserPrincipal::from).orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("User Not Found with username: " + username);
+        }
+        return principal;
+    }
 
-        return user;
+    /**
+     * This method stores a password rehashed after a successful login.
+     * The password itself is unchanged, so the token version of the user is kept and issued tokens stay valid.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the new hash of the password
+     * @return the user details with the new password hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        userPrincipalCache.evict(user.getUsername());
+        return loadUserByUsername(user.getUsername());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package org.example.rentify.security;
+
+import lombok.Getter;
+import org.example.rentify.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Getter
+/*
+ * UserPrincipal is the immutable snapshot of a user that Spring Security authenticates with.
+ * Unlike the User entity it holds no lazy associations and cannot change after it is built,
+ * so a single instance can be cached and shared by concurrent requests.
+ */
+public final class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final long tokenVersion;
+    private final Set<GrantedAuthority> authorities;
+    private final boolean accountNonExpired;
+    private final boolean accountNonLocked;
+    private final boolean credentialsNonExpired;
+    private final boolean enabled;
+
+    private UserPrincipal(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.email = user.getEmail();
+        this.tokenVersion = user.getTokenVersion();
+        this.authorities = Set.copyOf(user.getAuthorities());
+        this.accountNonExpired = user.isAccountNonExpired();
+        this.accountNonLocked = user.isAccountNonLocked();
+        this.credentialsNonExpired = user.isCredentialsNonExpired();
+        this.enabled = user.isEnabled();
+    }
+
+    /**
+     * Builds the principal of a user.
+     *
+     * @param user the user entity
+     * @return the immutable principal of the user
+     */
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        return "UserPrincipal{id=" + id + ", username='" + username + "', authorities=" + authorities + "}";
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.rentify.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -8,12 +9,19 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.rentify.cache.RevokedTokenIndex;
+import org.example.rentify.cache.TokenVersionCache;
 import org.example.rentify.security.UserDetailsServiceImpl;
+import org.example.rentify.security.UserPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -21,6 +29,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 /*
@@ -34,10 +43,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, TokenVersionCache tokenVersionCache,
+                                   RevokedTokenIndex revokedTokenIndex,
+                                   @Value("${rentify.security.jwt.stateless:false}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.revokedTokenIndex = revokedTokenIndex;
+        this.stateless = stateless;
     }
 
     private static final String HEADER_AUTHORIZATION = "Authorization";
@@ -46,6 +63,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * This method is called for every request to check if the JWT token is valid
      * and set the authentication in the security context.
+     * In stateless mode the principal is built from the verified claims of the token instead of being loaded from the database,
+     * only the token version of the user is checked through TokenVersionCache.
+     * In both modes tokens revoked on their own, like on logout, are rejected through the in-memory RevokedTokenIndex.
      *
      * @param request  The HTTP request.
      * @param response The HTTP response.
@@ -62,19 +82,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
 
-            if (jwt != null && jwtUtil.validateJwtToken(jwt)) {
-                String username = jwtUtil.getUsernameFromJwtToken(jwt);
+            if (jwt != null) {
+                Claims claims = jwtUtil.getClaimsFromJwtToken(jwt);
+                String username = claims.getSubject();
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    UserDetails userDetails = revokedTokenIndex.isRevoked(claims.getId()) ? null
+                            : stateless ? userDetailsFromClaims(claims) : loadUserDetails(claims);
 
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.debug("Set Authentication in context for user '{}', URI: {}", username, request.getRequestURI());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        logger.debug("Set Authentication in context for user '{}', URI: {}", username, request.getRequestURI());
+                    } else {
+                        logger.warn("JWT token of user '{}' has been revoked", username);
+                    }
                 }
             }
         } catch (ExpiredJwtException e) {
@@ -93,6 +119,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Loads the user of a token through UserDetailsServiceImpl.
+     * Tokens carrying a token version are accepted only while it matches the version of the user.
+     *
+     * @param claims The verified claims of the token.
+     * @return The user details, or null if the token has been revoked.
+     */
+    private UserDetails loadUserDetails(Claims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        Long tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Long.class);
+        if (tokenVersion != null && userDetails instanceof UserPrincipal principal
+                && principal.getTokenVersion() != tokenVersion) {
+            return null;
+        }
+        return userDetails;
+    }
+
+    /**
+     * Builds the user details straight from the verified claims of a token, without loading the user.
+     * The token must carry the current token version of the user, so tokens issued before a password or role change are rejected.
+     *
+     * @param claims The verified claims of the token.
+     * @return The user details with the authorities of the roles claim, or null if the token has been revoked.
+     */
+    private UserDetails userDetailsFromClaims(Claims claims) {
+        Long tokenVersion = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Long.class);
+        if (tokenVersion == null || !tokenVersion.equals(tokenVersionCache.get(claims.getSubject()))) {
+            return null;
+        }
+        String roles = claims.get(JwtUtil.ROLES_CLAIM, String.class);
+        List<GrantedAuthority> authorities = StringUtils.hasText(roles)
+                ? AuthorityUtils.commaSeparatedStringToAuthorityList(roles)
+                : List.of();
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
     /**
      * This method parses the JWT token from the request headers.
      *
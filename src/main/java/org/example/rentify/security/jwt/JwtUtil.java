@@ -3,9 +3,11 @@ package org.example.rentify.security.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import org.example.rentify.entity.User;
+import org.example.rentify.cache.VerifiedTokenCache;
+import org.example.rentify.security.UserPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,6 +28,9 @@ public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
     @Value("${jwt.secret}")
     private String jwtSecretString;
 
@@ -34,11 +40,19 @@ public class JwtUtil {
     @Value("${jwt.issuer}")
     private String jwtIssuer;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     private Key key;
+    private JwtParser jwtParser;
+
+    @Autowired
+    public JwtUtil(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
     /**
      * This method is called after the bean is constructed.
-     * It initializes the JWT secret key.
+     * It initializes the JWT secret key and the parser shared by all verifications; the parser is immutable and thread-safe.
      */
     @PostConstruct
     public void init() {
@@ -48,16 +62,18 @@ public class JwtUtil {
         } else {
             this.key = Keys.hmacShaKeyFor(jwtSecretString.getBytes());
         }
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
      * Generate a JWT token for the given authentication.
+     * Every token gets a random ID as its "jti" claim, so it can be revoked on its own, like on logout.
      *
      * @param authentication the authentication object
      * @return the generated JWT token
      */
     public String generateToken(Authentication authentication) {
-        User userPrincipal = (User) authentication.getPrincipal();
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
@@ -66,8 +82,10 @@ public class JwtUtil {
                 .collect(Collectors.joining(","));
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userPrincipal.getUsername())
-                .claim("roles", authorities) // Add roles as a claim
+                .claim(ROLES_CLAIM, authorities) // Add roles as a claim
+                .claim(TOKEN_VERSION_CLAIM, userPrincipal.getTokenVersion())
                 .setIssuer(jwtIssuer)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -82,7 +100,28 @@ public class JwtUtil {
      * @return the username extracted from the token
      */
     public String getUsernameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return getClaimsFromJwtToken(token).getSubject();
+    }
+
+    /**
+     * Verify the JWT token and extract all of its claims.
+     * The claims of a verified token are cached until it expires, so a token is verified and parsed only once.
+     *
+     * @param token the JWT token
+     * @return the claims of the token, shared with other callers, so they must not be modified
+     * @throws JwtException if the token is invalid or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public Claims getClaimsFromJwtToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token must not be null or blank");
+        }
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+        }
+        return claims;
     }
 
     /**
@@ -93,7 +132,7 @@ public class JwtUtil {
      */
     public boolean validateJwtToken(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
+            getClaimsFromJwtToken(authToken);
             return true;
         } catch (SignatureException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
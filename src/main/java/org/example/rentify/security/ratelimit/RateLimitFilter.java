@@ -0,0 +1,165 @@
+package org.example.rentify.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.security.jwt.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * RateLimitFilter throttles clients on the routes covered by its rules, like login, property search and booking creation.
+ * Every client gets its own TokenBucket per rule. Requests carrying a valid JWT token are counted against the subject
+ * of the token, all other requests against the remote address. Behind a reverse proxy the remote address is the client
+ * address taken from X-Forwarded-For by the server, which only trusts the header when it comes from an internal proxy
+ * (server.forward-headers-strategy). A request finding its bucket empty is answered with
+ * 429 Too Many Requests and a Retry-After header.
+ * Buckets that have filled up again are dropped once a minute, and the number of buckets is capped; once the cap is reached,
+ * new clients of a rule share one overflow bucket until the next sweep, so memory stays bounded under a flood of distinct addresses.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String TOKEN_PREFIX = "Bearer ";
+    private static final String OVERFLOW_CLIENT = "overflow";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final List<RateLimitRule> rules;
+    private final JwtUtil jwtUtil;
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    public RateLimitFilter(List<RateLimitRule> rules, JwtUtil jwtUtil, int maxBuckets) {
+        this(rules, jwtUtil, maxBuckets, System::nanoTime);
+    }
+
+    RateLimitFilter(List<RateLimitRule> rules, JwtUtil jwtUtil, int maxBuckets, LongSupplier nanoClock) {
+        this.rules = List.copyOf(rules);
+        this.jwtUtil = jwtUtil;
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong() + SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * Takes a token from the bucket of the client for the first rule matching the request.
+     * Requests matching no rule pass through untouched.
+     *
+     * @param request     The HTTP request.
+     * @param response    The HTTP response.
+     * @param filterChain The filter chain.
+     * @throws ServletException If an error occurs during the filter process.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitRule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        String client = resolveClient(request);
+        long waitNanos = bucketFor(rule, client, now).tryConsume(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+        } else {
+            logger.warn("Rate limit '{}' exceeded by {}, URI: {}", rule.name(), client, request.getRequestURI());
+            reject(response, waitNanos);
+        }
+    }
+
+    /**
+     * Returns the number of buckets currently kept.
+     *
+     * @return the number of buckets
+     */
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    private RateLimitRule findRule(HttpServletRequest request) {
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private TokenBucket bucketFor(RateLimitRule rule, String client, long now) {
+        String key = rule.name() + "|" + client;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            key = rule.name() + "|" + OVERFLOW_CLIENT;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(rule.capacity(), rule.period(), now));
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+        String headerAuth = request.getHeader(HEADER_AUTHORIZATION);
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(TOKEN_PREFIX)) {
+            try {
+                String subject = jwtUtil.getClaimsFromJwtToken(headerAuth.substring(TOKEN_PREFIX.length())).getSubject();
+                if (subject != null) {
+                    return "user:" + subject;
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Rate limiting request with an invalid JWT token by address: {}", e.getMessage());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweepAt.get();
+        if (now - due >= 0 && nextSweepAt.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            sweep(now);
+        }
+    }
+
+    private void sweep(long now) {
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new MessageResponseDTO("Too many requests. Please retry after " + retryAfterSeconds + " seconds."));
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.rentify.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+
+/**
+ * RateLimitRule limits the requests matching it to capacity requests per period for every client,
+ * with bursts of up to capacity requests.
+ *
+ * @param name     the name of the rule, used in log messages and to keep the buckets of rules apart
+ * @param matcher  the requests the rule applies to
+ * @param capacity the number of requests a client may make per period
+ * @param period   the period the capacity applies to
+ */
+public record RateLimitRule(String name, RequestMatcher matcher, int capacity, Duration period) {
+
+    public boolean matches(HttpServletRequest request) {
+        return matcher.matches(request);
+    }
+}
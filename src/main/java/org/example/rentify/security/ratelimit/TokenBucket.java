@@ -0,0 +1,60 @@
+package org.example.rentify.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenBucket is a lock-free token bucket holding up to capacity tokens, refilled at capacity tokens per period.
+ * Instead of a token count it keeps a single timestamp, the moment the bucket will be full again
+ * (the generic cell rate algorithm), so taking a token is one compare-and-set and needs no refill timer.
+ */
+public final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity  the maximum number of tokens, also the size of the allowed burst
+     * @param period    the time in which an empty bucket is refilled to capacity
+     * @param nowNanos  the current time in nanoseconds; the bucket starts full
+     */
+    public TokenBucket(int capacity, Duration period, long nowNanos) {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Token bucket capacity and period must be positive.");
+        }
+        this.nanosPerToken = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token from the bucket.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return debt - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Checks if the bucket is full again, so dropping it does not change any later decision.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @return true if the bucket is full
+     */
+    public boolean isIdle(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.BookingOccupancyIndex;
 import org.example.rentify.dto.request.BookingRequestDTO;
 import org.example.rentify.dto.response.BookingResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
@@ -12,13 +13,15 @@ import org.example.rentify.mapper.BookingMapper;
 import org.example.rentify.repository.BookingRepository;
 import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -31,26 +34,40 @@ import java.util.Objects;
 @Service
 public class BookingService {
 
+    /**
+     * Name of the database constraint rejecting overlapping bookings of the same property.
+     */
+    static final String OVERLAP_CONSTRAINT = "ex_bookings_property_dates";
+
     private final BookingRepository bookingRepository;
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
     private final BookingMapper bookingMapper;
+    private final BookingOccupancyIndex occupancyIndex;
+    private final RevenueService revenueService;
+    private final PricingService pricingService;
 
     @Autowired
-    public BookingService(BookingRepository bookingRepository, PropertyRepository propertyRepository, UserRepository userRepository, BookingMapper bookingMapper) {
+    public BookingService(BookingRepository bookingRepository, PropertyRepository propertyRepository, UserRepository userRepository, BookingMapper bookingMapper,
+                          BookingOccupancyIndex occupancyIndex, RevenueService revenueService, PricingService pricingService) {
         this.bookingRepository = bookingRepository;
         this.propertyRepository = propertyRepository;
         this.userRepository = userRepository;
         this.bookingMapper = bookingMapper;
+        this.occupancyIndex = occupancyIndex;
+        this.revenueService = revenueService;
+        this.pricingService = pricingService;
     }
 
     /**
      * Creates a new booking for a property.
+     * The total price is quoted from the compiled pricing rules of the property.
      *
      * @param bookingRequestDTO the booking request data transfer object
      * @param username the username of the user making the booking
      * @throws ResponseStatusException if the property is not found, or if it is not available for booking,
-     *                                 or if there are date conflicts with existing bookings
+     *                                 or if there are date conflicts with existing bookings, including ones
+     *                                 created concurrently and rejected by the database
      * @return a message response data transfer object indicating success
      */
     @Transactional
@@ -61,12 +78,7 @@ public class BookingService {
         if (!Boolean.TRUE.equals(property.getAvailability())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Property is not available for booking");
         }
-        List<Booking> overlappingBookings = bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                bookingRequestDTO.getPropertyId(),
-                bookingRequestDTO.getEndDate(),
-                bookingRequestDTO.getStartDate());
-
-        if (!overlappingBookings.isEmpty()) {
+        if (hasOverlappingBooking(bookingRequestDTO.getPropertyId(), bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate(), null)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Property is already booked for the selected dates");
         }
 
@@ -82,10 +94,11 @@ public class BookingService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be after start date");
         }
 
-        booking.setTotalPrice(property.getPricePerDay().multiply(BigDecimal.valueOf(days)));
+        booking.setTotalPrice(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate()).total());
         booking.setBookingDate(LocalDateTime.now());
         booking.setBookingStatus(BookingStatus.PENDING);
-        bookingMapper.bookingToBookingResponseDto(bookingRepository.save(booking));
+        bookingMapper.bookingToBookingResponseDto(saveWithoutOverlap(booking));
+        occupancyIndex.put(property.getId(), booking.getId(), booking.getStartDate(), booking.getEndDate());
         return new MessageResponseDTO("Booking created successfully with ID: " + booking.getId());
     }
 
@@ -134,6 +147,7 @@ public class BookingService {
 
    /**
      * Accepts or rejects a booking request for a property.
+     * A cancelled booking is deleted with its payment, which is removed from the revenue rollup.
      *
      * @param bookingID the ID of the booking
      * @param propertyID the ID of the property
@@ -153,7 +167,9 @@ public class BookingService {
             if (booking.getPayment().getPaymentStatus().equals(PaymentStatus.COMPLETED)) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot cancel a completed booking");
             }
+            revenueService.reverse(booking.getPayment());
             bookingRepository.delete(booking);
+            occupancyIndex.remove(booking.getProperty().getId(), booking.getId());
             return new MessageResponseDTO("Booking cancelled successfully");
         }
         booking.setBookingStatus(bookingStatus);
@@ -162,7 +178,7 @@ public class BookingService {
     }
 
     /**
-     * Checks if the logged-in user is the owner of a booking.
+     * Checks if the logged-in user is the owner of a booking, without loading the booking.
      *
      * @param bookingId the ID of the booking
      * @param username the username of the logged-in user
@@ -171,13 +187,17 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public boolean isBookingOwner(Long bookingId, String username) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
-        return Objects.equals(booking.getUser().getUsername(), username);
+        if (bookingRepository.existsByIdAndUserUsername(bookingId, username)) {
+            return true;
+        }
+        if (!bookingRepository.existsById(bookingId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found");
+        }
+        return false;
     }
 
     /**
-     * Deletes a booking for a property.
+     * Deletes a booking for a property, together with its payment, which is removed from the revenue rollup.
      *
      * @param bookingID the ID of the booking
      * @param propertyID the ID of the property
@@ -193,7 +213,9 @@ public class BookingService {
         }
         Booking booking = bookingRepository.findById(bookingID)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
+        revenueService.reverse(booking.getPayment());
         bookingRepository.delete(booking);
+        occupancyIndex.remove(booking.getProperty().getId(), booking.getId());
         return new MessageResponseDTO("Booking ID " + bookingID + " deleted successfully");
     }
 
@@ -203,7 +225,8 @@ public class BookingService {
      * @param bookingRequestDTO the booking request data transfer object
      * @param bookingID the ID of the booking
      * @param username the username of the user making the request
-     * @throws ResponseStatusException if the booking is not found or if there are date conflicts with existing bookings
+     * @throws ResponseStatusException if the booking is not found or if there are date conflicts with other bookings,
+     *                                 including ones created concurrently and rejected by the database
      * @throws IllegalArgumentException if any of the parameters are null or negative
      * @return a message response data transfer object indicating success
      */
@@ -219,12 +242,7 @@ public class BookingService {
         if (!Objects.equals(property.getId(), booking.getProperty().getId())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Property ID does not match the booking's property");
         }
-        List<Booking> overlappingBookings = bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                bookingRequestDTO.getPropertyId(),
-                bookingRequestDTO.getEndDate(),
-                bookingRequestDTO.getStartDate()
-        );
-        if (!overlappingBookings.isEmpty()) {
+        if (hasOverlappingBooking(property.getId(), bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate(), booking.getId())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Property is already booked for the selected dates");
         }
         bookingMapper.updateBookingFromDto(bookingRequestDTO, booking);
@@ -235,10 +253,57 @@ public class BookingService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be after start date");
         }
 
-        booking.setTotalPrice(booking.getProperty().getPricePerDay().multiply(BigDecimal.valueOf(days)));
+        booking.setTotalPrice(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate()).total());
         booking.setBookingStatus(BookingStatus.PENDING);
-        bookingRepository.save(booking);
+        saveWithoutOverlap(booking);
+        occupancyIndex.put(property.getId(), booking.getId(), booking.getStartDate(), booking.getEndDate());
 
         return new MessageResponseDTO("Booking updated successfully with ID: " + booking.getId());
     }
+
+    /**
+     * Checks if a property has a booking overlapping the given dates.
+     * The occupancy index answers without touching the database when the dates are free; an overlap it reports
+     * is confirmed with a database query, and the property is dropped from the index if the overlap is gone.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the first booked day
+     * @param endDate the last booked day
+     * @param bookingId the ID of the booking being updated, or null for a new booking
+     * @return true if another booking overlaps the given dates, false otherwise
+     */
+    private boolean hasOverlappingBooking(Long propertyId, LocalDate startDate, LocalDate endDate, Long bookingId) {
+        if (!occupancyIndex.overlaps(propertyId, startDate, endDate, bookingId)) {
+            return false;
+        }
+        boolean overlaps = bookingId == null
+                ? bookingRepository.existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(propertyId, endDate, startDate)
+                : bookingRepository.existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(propertyId, endDate, startDate, bookingId);
+        if (!overlaps) {
+            occupancyIndex.invalidate(propertyId);
+        }
+        return overlaps;
+    }
+
+    /**
+     * Saves and flushes a booking, so an overlap with a booking committed concurrently is reported right away.
+     * The overlap check done before saving cannot see bookings of transactions that are still running,
+     * the exclusion constraint of the bookings table is the final arbiter.
+     *
+     * @param booking the booking to save
+     * @throws ResponseStatusException if the booking overlaps another booking of the same property
+     * @return the saved booking
+     */
+    private Booking saveWithoutOverlap(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            // Hibernate does not extract the constraint name of exclusion violations, so the driver message is checked
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getSQLException().getMessage().contains(OVERLAP_CONSTRAINT)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Property is already booked for the selected dates");
+            }
+            throw e;
+        }
+    }
 }
\ No newline at end of file
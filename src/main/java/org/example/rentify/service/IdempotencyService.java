@@ -0,0 +1,163 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.LocalCache;
+import org.example.rentify.entity.IdempotencyKey;
+import org.example.rentify.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service class for the Idempotency-Key support of booking and payment creation.
+ * A key is stored with the hash of its request before the request is processed, so of two concurrent requests with
+ * the same key only one is processed; the response is stored once the request has finished. Finished responses are also
+ * kept in a local cache, so a retry arriving at the same instance is answered without a query.
+ * Keys are scoped to the user sending them and expire after a day by default.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String CACHE_NAME = "idempotencyResponse";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final LocalCache<String, StoredResponse> responseCache;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+
+    /**
+     * The outcome of starting a request with an idempotency key.
+     */
+    public enum Status {
+        /** The key is new, the request is to be processed. */
+        STARTED,
+        /** The key was used by the same request before, its stored response is to be replayed. */
+        REPLAY,
+        /** The key is used by the same request, which is still being processed. */
+        IN_PROGRESS,
+        /** The key was used by a different request. */
+        MISMATCH
+    }
+
+    /**
+     * The stored response of a finished request.
+     *
+     * @param requestHash the SHA-256 hash of the request
+     * @param status      the HTTP status of the response
+     * @param contentType the content type of the response, or null
+     * @param body        the body of the response
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String body) {
+    }
+
+    /**
+     * The outcome of starting a request, with the stored response to replay.
+     *
+     * @param status   the outcome
+     * @param response the stored response for REPLAY, null otherwise
+     */
+    public record Outcome(Status status, StoredResponse response) {
+    }
+
+    /**
+     * @param ttl               how long a key is kept
+     * @param inProgressTimeout how long a request may be in progress before its key can be taken over by a retry
+     */
+    @Autowired
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, CacheRegistry cacheRegistry,
+                              @Value("${rentify.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${rentify.idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+                              @Value("${rentify.cache.idempotency-response.max-size:10000}") int cacheMaxSize,
+                              @Value("${rentify.cache.idempotency-response.ttl:PT10M}") Duration cacheTtl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.responseCache = cacheRegistry.register(CACHE_NAME, cacheMaxSize, cacheTtl.compareTo(ttl) < 0 ? cacheTtl : ttl);
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+    }
+
+    /**
+     * Starts a request with an idempotency key.
+     *
+     * @param username       the username of the user sending the request
+     * @param idempotencyKey the key sent by the user
+     * @param requestHash    the SHA-256 hash of the request
+     * @return STARTED if the request is to be processed, REPLAY with the response to return, IN_PROGRESS or MISMATCH
+     */
+    @Transactional
+    public Outcome start(String username, String idempotencyKey, String requestHash) {
+        StoredResponse cached = responseCache.get(cacheKey(username, idempotencyKey));
+        if (cached != null) {
+            return outcomeOf(cached, requestHash);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (idempotencyKeyRepository.start(username, idempotencyKey, requestHash, now, now.plus(ttl), now.minus(inProgressTimeout)) == 1) {
+            return new Outcome(Status.STARTED, null);
+        }
+        Optional<IdempotencyKey> stored = idempotencyKeyRepository.findByUsernameAndIdempotencyKey(username, idempotencyKey);
+        if (stored.isEmpty() || stored.get().getResponseStatus() == null) {
+            return new Outcome(stored.isPresent() && !stored.get().getRequestHash().equals(requestHash) ? Status.MISMATCH : Status.IN_PROGRESS, null);
+        }
+        IdempotencyKey key = stored.get();
+        StoredResponse response = new StoredResponse(key.getRequestHash(), key.getResponseStatus(), key.getResponseContentType(), key.getResponseBody());
+        responseCache.put(cacheKey(username, idempotencyKey), response);
+        return outcomeOf(response, requestHash);
+    }
+
+    /**
+     * Stores the response of a finished request, so retries with the same key are answered with it.
+     *
+     * @param username       the username of the user
+     * @param idempotencyKey the key sent by the user
+     * @param response       the response to store
+     */
+    @Transactional
+    public void complete(String username, String idempotencyKey, StoredResponse response) {
+        if (idempotencyKeyRepository.complete(username, idempotencyKey, response.requestHash(), response.status(),
+                response.contentType(), response.body()) == 1) {
+            responseCache.put(cacheKey(username, idempotencyKey), response);
+        } else {
+            logger.warn("Idempotency key of user {} was taken over before its response was stored", username);
+        }
+    }
+
+    /**
+     * Releases the key of a request that failed without a response worth replaying, so it can be retried with the same key.
+     *
+     * @param username       the username of the user
+     * @param idempotencyKey the key sent by the user
+     * @param requestHash    the SHA-256 hash of the request
+     */
+    @Transactional
+    public void release(String username, String idempotencyKey, String requestHash) {
+        idempotencyKeyRepository.release(username, idempotencyKey, requestHash);
+    }
+
+    /**
+     * Deletes the expired keys.
+     */
+    @Scheduled(fixedDelayString = "${rentify.idempotency.cleanup-interval:PT10M}",
+            initialDelayString = "${rentify.idempotency.cleanup-interval:PT10M}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        logger.debug("Deleted {} expired idempotency keys", deleted);
+    }
+
+    private static Outcome outcomeOf(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash) ? new Outcome(Status.REPLAY, response) : new Outcome(Status.MISMATCH, null);
+    }
+
+    private static String cacheKey(String username, String idempotencyKey) {
+        return username + "\n" + idempotencyKey;
+    }
+}
@@ -58,6 +58,7 @@ public class ImageService {
         image.setProperty(managedProperty);
         image.setUploadDate(LocalDateTime.now());
         imageRepository.save(image);
+        propertyService.markPropertyModified(propertyId);
         return new MessageResponseDTO("Image successfully added to property with ID " + propertyId);
     }
 
@@ -86,6 +87,23 @@ public class ImageService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves the version of the images of a property, for conditional requests.
+     * Every change to the images of a property increments the version of the property, so it is returned.
+     *
+     * @param propertyId the ID of the property
+     * @throws IllegalArgumentException if propertyId is null or negative
+     * @throws ResponseStatusException if the property does not exist
+     * @return the current version of the images of the property
+     */
+    @Transactional(readOnly = true)
+    public Long getImagesVersion(Long propertyId) {
+        if (propertyId == null || propertyId <= 0) {
+            throw new IllegalArgumentException("Property ID must not be null or negative");
+        }
+        return propertyService.getPropertyVersion(propertyId);
+    }
+
     /**
      * Deletes an image associated with a property.
      *
@@ -106,6 +124,7 @@ public class ImageService {
         Image image = imageRepository.findById(imageId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Image not found"));
         imageRepository.delete(image);
+        propertyService.markPropertyModified(propertyId);
         return new MessageResponseDTO("Image with ID " + imageId + " successfully deleted from property with ID " + propertyId);
     }
 
@@ -131,6 +150,7 @@ public class ImageService {
         imageMapper.updateImageFromDto(imageRequestDTO, image);
         image.setUploadDate(LocalDateTime.now());
         imageRepository.save(image);
+        propertyService.markPropertyModified(propertyId);
         return new MessageResponseDTO("Image with ID " + imageId + " successfully updated for property with ID " + propertyId);
     }
 }
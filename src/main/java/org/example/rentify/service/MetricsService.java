@@ -0,0 +1,55 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.LocalCache;
+import org.example.rentify.dto.response.CacheStatsDTO;
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.security.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * MetricsService collects runtime statistics of the application for the admin metrics endpoints.
+ */
+@Service
+public class MetricsService {
+
+    private final CacheRegistry cacheRegistry;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    public MetricsService(CacheRegistry cacheRegistry, PasswordHashingExecutor passwordHashingExecutor) {
+        this.cacheRegistry = cacheRegistry;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    /**
+     * Returns the statistics of all in-process caches.
+     *
+     * @return a list of CacheStatsDTOs, one per registered cache
+     */
+    public List<CacheStatsDTO> getCacheStats() {
+        return cacheRegistry.getCaches().stream()
+                .map(this::toCacheStats)
+                .toList();
+    }
+
+    /**
+     * Returns the statistics of the executor running the password checks of logins.
+     *
+     * @return the queue depth, rejections, queue wait and hash time of the password hashing executor
+     */
+    public PasswordHashingStatsDTO getPasswordHashingStats() {
+        return passwordHashingExecutor.getStats();
+    }
+
+    private CacheStatsDTO toCacheStats(LocalCache<?, ?> cache) {
+        long hits = cache.getHitCount();
+        long requests = hits + cache.getMissCount();
+        double hitRate = requests == 0 ? 0.0 : (double) hits / requests;
+        return new CacheStatsDTO(cache.getName(), cache.size(), cache.getMaxSize(),
+                hits, cache.getMissCount(), cache.getEvictionCount(), hitRate);
+    }
+}
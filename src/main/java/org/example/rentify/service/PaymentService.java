@@ -4,14 +4,19 @@ import jakarta.validation.Valid;
 import org.example.rentify.dto.request.PaymentRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PaymentResponseDTO;
+import org.example.rentify.dto.response.PropertyRevenueDTO;
 import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Payment;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
 import org.example.rentify.mapper.PaymentMapper;
+import org.example.rentify.payment.PaymentGatewayRequest;
+import org.example.rentify.payment.PaymentGatewayResult;
 import org.example.rentify.repository.BookingRepository;
 import org.example.rentify.repository.PaymentRepository;
+import org.example.rentify.repository.PaymentRepository.PaymentTotals;
 import org.example.rentify.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -20,25 +25,36 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class PaymentService {
 
+    /**
+     * Maximum number of properties whose revenue is calculated in one call.
+     */
+    public static final int MAX_REVENUE_PROPERTIES = 100;
+
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final PaymentMapper paymentMapper;
     private final BookingRepository bookingRepository;
+    private final RevenueService revenueService;
 
     @Autowired
     public PaymentService(PaymentRepository paymentRepository, UserRepository userRepository, PaymentMapper paymentMapper,
-                          BookingRepository bookingRepository) {
+                          BookingRepository bookingRepository, RevenueService revenueService) {
         this.paymentRepository = paymentRepository;
         this.userRepository = userRepository;
         this.paymentMapper = paymentMapper;
         this.bookingRepository = bookingRepository;
+        this.revenueService = revenueService;
     }
 
     /**
@@ -65,12 +81,15 @@ public class PaymentService {
 
     /**
      * Processes a payment for a booking identified by the given booking ID.
+     * The payment is created pending and added to the revenue rollup in the same transaction;
+     * it is charged asynchronously by PaymentProcessingWorker.
      *
      * @param bookingId the ID of the booking for which the payment is being made
      * @param paymentRequestDTO the DTO containing payment details
      * @return a MessageResponseDTO indicating the result of the payment operation
      * @throws ResponseStatusException if the booking is not found, payment already exists, or payment amount does not match booking total price
      */
+    @Transactional
     public MessageResponseDTO makePayment(Long bookingId, PaymentRequestDTO paymentRequestDTO) {
         if (bookingId == null || bookingId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Booking ID cannot be null or negative");
@@ -81,7 +100,7 @@ public class PaymentService {
         if (payment != null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment already exists for this booking");
         }
-        if (!Objects.equals(booking.getTotalPrice(), paymentRequestDTO.getAmount())) {
+        if (paymentRequestDTO.getAmount() == null || !Money.of(paymentRequestDTO.getAmount()).equals(booking.getTotalPrice())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment amount does not match booking total price");
         }
         payment = paymentMapper.paymentRequestDtoToPayment(paymentRequestDTO);
@@ -90,6 +109,7 @@ public class PaymentService {
         payment.setPaymentDate(LocalDateTime.now());
         payment.setPaymentStatus(PaymentStatus.PENDING);
         paymentRepository.save(payment);
+        revenueService.record(payment);
         return new MessageResponseDTO("Payment created successfully for booking ID: " + bookingId);
     }
 
@@ -112,20 +132,23 @@ public class PaymentService {
     }
 
     /**
-     * Deletes the payment associated with a specific booking ID.
+     * Deletes the payment associated with a specific booking ID and removes it from the revenue rollup.
      *
      * @param bookingId the ID of the booking for which the payment is being deleted
      * @return a MessageResponseDTO indicating the result of the deletion operation
      * @throws ResponseStatusException if the booking ID is null or negative, or if no payment is found for the booking ID
      */
+    @Transactional
     public MessageResponseDTO deletePaymentByBookingId(Long bookingId) {
         if (bookingId == null || bookingId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Booking ID can not be null or negative");
         }
-        Payment payment = paymentRepository.findByBookingId(bookingId);
+        Payment payment = paymentRepository.findByBookingIdForUpdate(bookingId);
         if (payment == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for booking ID: " + bookingId);
         }
+        revenueService.reverse(payment);
+        payment.getBooking().setPayment(null);
         paymentRepository.delete(payment);
         return new MessageResponseDTO("Payment deleted successfully for booking ID: " + bookingId);
     }
@@ -152,82 +175,135 @@ public class PaymentService {
 
     /**
      * Calculates the total amount paid by a specific user.
+     * The payments are counted and summed in the database, so none of them is loaded.
      *
      * @param username the username of the user whose total payment amount is to be calculated
-     * @return the total amount paid by the user
-     * @throws ResponseStatusException if the user is not found or has no payments
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return the exact total amount paid by the user
+     * @throws ResponseStatusException if the date range is invalid, or if the user is not found or has no matching payments
      */
-    public Double getTotalAmountPaidByUser(String username) {
-        User user = userRepository.findUserByUsername(username)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested User was not found"));
-
-        List<Payment> payments = paymentRepository.findByUser(user);
-        if (payments.isEmpty()) {
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalAmountPaidByUser(String username, PaymentStatus status, LocalDate from, LocalDate to) {
+        validateDateRange(from, to);
+        PaymentTotals totals = paymentRepository.sumAmountsByUsername(username, status, startOf(from), endOf(to));
+        if (totals.getCount() == 0) {
+            if (!userRepository.existsByUsername(username)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested User was not found");
+            }
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No payments found for user");
         }
-        return payments.stream()
-                .map(Payment::getAmount)
-                .mapToDouble(BigDecimal::doubleValue)
-                .sum();
+        return totals.getTotal();
     }
 
     /**
      * Calculates the total amount paid by all users.
+     * The payments are counted and summed in the database, so none of them is loaded.
      *
-     * @return the total amount paid by all users
-     * @throws ResponseStatusException if no payments are found
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return the exact total amount paid by all users
+     * @throws ResponseStatusException if the date range is invalid or no matching payments are found
      */
-    public BigDecimal getTotalAmountPaidByAllUsers() {
-        List<Payment> payments = paymentRepository.findAll();
-        if (payments.isEmpty()) {
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalAmountPaidByAllUsers(PaymentStatus status, LocalDate from, LocalDate to) {
+        validateDateRange(from, to);
+        PaymentTotals totals = paymentRepository.sumAmounts(status, startOf(from), endOf(to));
+        if (totals.getCount() == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No payments found");
         }
-        return payments.stream()
-                .map(Payment::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return totals.getTotal();
     }
 
     /**
      * Calculates the total amount paid by all users for a specific property.
+     * The payments are counted and summed in the database, so none of them is loaded.
      *
      * @param propertyId the ID of the property for which the total payment amount is to be calculated
-     * @return the total amount paid by all users for the specified property
-     * @throws ResponseStatusException if the property ID is null or negative, or if no bookings are found for the property
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return the exact total amount paid by all users for the specified property, zero if its bookings have no matching payments
+     * @throws ResponseStatusException if the property ID is null or negative, if the date range is invalid,
+     * or if no bookings are found for the property
      */
-    public BigDecimal getTotalAmountPaidByAllUsersForProperty(Long propertyId) {
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalAmountPaidByAllUsersForProperty(Long propertyId, PaymentStatus status, LocalDate from, LocalDate to) {
         if (propertyId == null || propertyId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Property ID cannot be null or negative");
         }
-        List<Booking> bookings = bookingRepository.findByPropertyId(propertyId);
-        if (bookings.isEmpty()) {
+        validateDateRange(from, to);
+        PaymentTotals totals = paymentRepository.sumAmountsByPropertyId(propertyId, status, startOf(from), endOf(to));
+        if (totals.getCount() == 0 && !bookingRepository.existsByPropertyId(propertyId)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No bookings found for property ID: " + propertyId);
         }
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        for (Booking booking : bookings) {
-            Payment payment = paymentRepository.findByBookingId(booking.getId());
-            if (payment != null) {
-                totalAmount = totalAmount.add(payment.getAmount());
-            }
+        return totals.getTotal();
+    }
+
+    /**
+     * Calculates the revenue of each of the given properties with a single query.
+     * Properties without matching payments are listed with a zero total, unknown property IDs are left out.
+     *
+     * @param propertyIds the IDs of the properties, at most MAX_REVENUE_PROPERTIES of them
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return the revenue of each existing property, ordered by property ID
+     * @throws ResponseStatusException if no property IDs or too many of them are given, if any of them is not positive,
+     * or if the date range is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyRevenueDTO> getRevenueByProperties(List<Long> propertyIds, PaymentStatus status, LocalDate from, LocalDate to) {
+        if (propertyIds == null || propertyIds.isEmpty() || propertyIds.size() > MAX_REVENUE_PROPERTIES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + MAX_REVENUE_PROPERTIES + " property IDs are required");
+        }
+        if (propertyIds.stream().anyMatch(id -> id == null || id <= 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Property ID cannot be null or negative");
         }
-        return totalAmount;
+        validateDateRange(from, to);
+        return paymentRepository.findRevenueByPropertyIds(Set.copyOf(propertyIds), status, startOf(from), endOf(to));
     }
 
     /**
-     * Updates the payment status for a specific payment ID.
+     * Calculates the revenue of each property owned by a user with a single query, like for the owner dashboard.
+     * Properties without matching payments are listed with a zero total.
+     *
+     * @param username the username of the owner
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day to count, or null
+     * @param to the last payment day to count, or null
+     * @return the revenue of each property of the owner, ordered by property ID
+     * @throws ResponseStatusException if the date range is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyRevenueDTO> getRevenueOfOwnedProperties(String username, PaymentStatus status, LocalDate from, LocalDate to) {
+        validateDateRange(from, to);
+        return paymentRepository.findRevenueByOwnerUsername(username, status, startOf(from), endOf(to));
+    }
+
+    /**
+     * Updates the payment status for a specific payment ID and moves the payment to the new status in the revenue rollup.
+     * The result of a processing worker still charging the payment is discarded.
      *
      * @param paymentId the ID of the payment to be updated
      * @param paymentStatus the new payment status to be set
      * @return a MessageResponseDTO indicating the result of the update operation
      * @throws ResponseStatusException if the payment ID is null or negative, or if no payment is found for the ID
      */
+    @Transactional
     public MessageResponseDTO updatePaymentStatus(Long paymentId, @Valid PaymentStatus paymentStatus) {
         if (paymentId == null || paymentId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment ID cannot be null or negative");
         }
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for ID: " + paymentId));
+        revenueService.reverse(payment);
         payment.setPaymentStatus(paymentStatus);
+        releaseClaim(payment);
         paymentRepository.save(payment);
+        revenueService.record(payment);
         return new MessageResponseDTO("Payment status updated successfully for payment ID: " + paymentId);
     }
 
@@ -250,37 +326,171 @@ public class PaymentService {
         return new MessageResponseDTO("Payment method updated successfully for payment ID: " + paymentId);
     }
 
+    /**
+     * Replaces the details of a payment, resetting it to a pending payment made now, to be processed again.
+     * The result of a processing worker still charging the old details is discarded.
+     * The revenue rollup is moved from the old amount, day and status of the payment to the new ones.
+     *
+     * @param paymentId the ID of the payment to be updated
+     * @param paymentRequestDTO the DTO containing the new payment details
+     * @return a MessageResponseDTO indicating the result of the update operation
+     * @throws ResponseStatusException if the payment ID is null or negative, or if no payment is found for the ID
+     */
+    @Transactional
     public MessageResponseDTO updatePayment(Long paymentId, @Valid PaymentRequestDTO paymentRequestDTO) {
         if (paymentId == null || paymentId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment ID cannot be null or negative");
         }
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for ID: " + paymentId));
 
+        revenueService.reverse(payment);
         paymentMapper.updatePaymentFromDto(paymentRequestDTO, payment);
         payment.setPaymentDate(LocalDateTime.now());
         payment.setPaymentStatus(PaymentStatus.PENDING);
+        payment.setProcessingAttempts(0);
+        releaseClaim(payment);
         paymentRepository.save(payment);
+        revenueService.record(payment);
         return new MessageResponseDTO("Payment updated successfully for payment ID: " + paymentId);
     }
 
 
     /**
-     * Checks if the user is the owner of the payment associated with the given payment ID.
+     * Checks if the user is the owner of the payment associated with the given payment ID, without loading the payment.
      *
      * @param paymentId the ID of the payment to check
      * @param username the username of the user to check ownership for
      * @return true if the user is the owner of the payment, false otherwise
      * @throws ResponseStatusException if the payment ID is null or negative, or if no payment is found for the ID
      */
+    @Transactional(readOnly = true)
     public boolean isPaymentOwner(Long paymentId, String username) {
         if (paymentId == null || paymentId <= 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Payment ID cannot be null or negative");
         }
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for ID: " + paymentId));
-        return payment.getUser().getUsername().equals(username);
+        if (paymentRepository.existsByIdAndUserUsername(paymentId, username)) {
+            return true;
+        }
+        if (!paymentRepository.existsById(paymentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found for ID: " + paymentId);
+        }
+        return false;
+    }
 
+    /**
+     * Claims a batch of pending payments for a processing worker.
+     * The payments are locked with SKIP LOCKED while they are claimed, so concurrent workers never claim the same payment,
+     * and the claim is committed before the gateway is called, so no transaction is held open during the call.
+     *
+     * @param claim the claim ID of the worker, unique for the batch
+     * @param batchSize the maximum number of payments to claim
+     * @param lease how long the claim holds; the payments can be claimed again after it, if the worker has not finished
+     * @return the claimed payments as gateway requests, empty if there are no claimable pending payments
+     */
+    @Transactional
+    public List<PaymentGatewayRequest> claimPendingPayments(UUID claim, int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = paymentRepository.lockClaimablePendingIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        paymentRepository.claim(ids, claim, now.plus(lease));
+        return paymentRepository.findGatewayRequestsByClaim(claim);
+    }
+
+    /**
+     * Stores the result of charging a claimed payment: an approved payment is completed with the transaction ID
+     * of the gateway, a declined one fails. The payment is moved to its new status in the revenue rollup.
+     *
+     * @param paymentId the ID of the payment
+     * @param claim the claim ID of the worker
+     * @param result the result of the charge
+     * @return true if the result was stored, false if the payment was deleted, changed or claimed by another worker in the meantime
+     */
+    @Transactional
+    public boolean completeProcessing(Long paymentId, UUID claim, PaymentGatewayResult result) {
+        Payment payment = findClaimed(paymentId, claim);
+        if (payment == null) {
+            return false;
+        }
+        revenueService.reverse(payment);
+        if (result.approved()) {
+            payment.setPaymentStatus(PaymentStatus.COMPLETED);
+            payment.setTransactionId(result.transactionId());
+        } else {
+            payment.setPaymentStatus(PaymentStatus.FAILED);
+        }
+        releaseClaim(payment);
+        paymentRepository.save(payment);
+        revenueService.record(payment);
+        return true;
     }
-}
 
+    /**
+     * Releases a claimed payment whose charge failed, so it is claimed again after the retry delay.
+     * A payment that has used up its attempts fails instead.
+     *
+     * @param paymentId the ID of the payment
+     * @param claim the claim ID of the worker
+     * @param maxAttempts the maximum number of processing attempts of a payment
+     * @param retryDelay the time before the payment can be claimed again
+     * @return true if the payment was released or failed, false if it was deleted, changed or claimed by another worker in the meantime
+     */
+    @Transactional
+    public boolean retryProcessing(Long paymentId, UUID claim, int maxAttempts, Duration retryDelay) {
+        Payment payment = findClaimed(paymentId, claim);
+        if (payment == null) {
+            return false;
+        }
+        if (payment.getProcessingAttempts() >= maxAttempts) {
+            revenueService.reverse(payment);
+            payment.setPaymentStatus(PaymentStatus.FAILED);
+            releaseClaim(payment);
+            paymentRepository.save(payment);
+            revenueService.record(payment);
+            return true;
+        }
+        payment.setProcessingClaim(null);
+        payment.setClaimedUntil(LocalDateTime.now().plus(retryDelay));
+        paymentRepository.save(payment);
+        return true;
+    }
+
+    /**
+     * Finds and locks a pending payment that is still claimed with the given claim ID.
+     *
+     * @return the payment, or null if it was deleted, changed or claimed by another worker
+     */
+    private Payment findClaimed(Long paymentId, UUID claim) {
+        return paymentRepository.findByIdForUpdate(paymentId)
+                .filter(payment -> payment.getPaymentStatus() == PaymentStatus.PENDING && claim.equals(payment.getProcessingClaim()))
+                .orElse(null);
+    }
+
+    private static void releaseClaim(Payment payment) {
+        payment.setProcessingClaim(null);
+        payment.setClaimedUntil(null);
+    }
+
+    /**
+     * Checks that the first day of a payment date range is not after its last day.
+     *
+     * @param from the first day, or null
+     * @param to the last day, or null
+     * @throws ResponseStatusException if the first day is after the last day
+     */
+    private static void validateDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Start date must not be after end date");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate from) {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    private static LocalDateTime endOf(LocalDate to) {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+}
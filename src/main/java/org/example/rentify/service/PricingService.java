@@ -0,0 +1,237 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.PropertyPricing;
+import org.example.rentify.cache.PropertyPricingCache;
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.dto.response.PriceQuoteDTO;
+import org.example.rentify.dto.response.PricingRuleResponseDTO;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.PricingRule;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+import org.example.rentify.mapper.PricingRuleMapper;
+import org.example.rentify.repository.PricingRuleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * PricingService class for managing the pricing rules of properties and pricing stays.
+ * The rules of a property are compiled into a day-price table kept in the property pricing cache,
+ * so a quote is a difference of two prefix sums instead of a walk over the rules for every day.
+ */
+@Service
+public class PricingService {
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final PricingRuleMapper pricingRuleMapper;
+    private final PropertyService propertyService;
+    private final PropertyPricingCache propertyPricingCache;
+    private final int horizonDays;
+    private final int maxStayDays;
+
+    @Autowired
+    public PricingService(PricingRuleRepository pricingRuleRepository, PricingRuleMapper pricingRuleMapper,
+                          PropertyService propertyService, PropertyPricingCache propertyPricingCache,
+                          @Value("${rentify.pricing.horizon-days:730}") int horizonDays,
+                          @Value("${rentify.pricing.max-stay-days:365}") int maxStayDays) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.pricingRuleMapper = pricingRuleMapper;
+        this.propertyService = propertyService;
+        this.propertyPricingCache = propertyPricingCache;
+        this.horizonDays = horizonDays;
+        this.maxStayDays = maxStayDays;
+    }
+
+    /**
+     * Quotes a stay at a property, from its start date to its end date, both inclusive.
+     * The compiled pricing is recompiled when the price per day of the property changed since it was cached.
+     * Stays longer than the maximum stay are rejected, since days outside the compiled window are priced one by one.
+     *
+     * @param property the property
+     * @param startDate the first day of the stay
+     * @param endDate the last day of the stay
+     * @throws IllegalArgumentException if the property or a date is null, the end date is before the start date,
+     *                                  or the stay is longer than the maximum stay
+     * @return the quote of the stay
+     */
+    @Transactional(readOnly = true)
+    public PropertyPricing.Quote quote(Property property, LocalDate startDate, LocalDate endDate) {
+        if (property == null || property.getId() == null) {
+            throw new IllegalArgumentException("Property must not be null");
+        }
+        validateStay(startDate, endDate);
+        PropertyPricing pricing = propertyPricingCache.get(property.getId(), key -> compile(key, property.getPricePerDay()));
+        if (!pricing.getBasePrice().equals(property.getPricePerDay())) {
+            pricing = compile(property.getId(), property.getPricePerDay());
+            propertyPricingCache.put(property.getId(), pricing);
+        }
+        return pricing.quote(startDate, endDate);
+    }
+
+    /**
+     * Quotes a stay at a property without creating a booking.
+     *
+     * @param propertyId the ID of the property
+     * @param startDate the first day of the stay
+     * @param endDate the last day of the stay
+     * @throws IllegalArgumentException if propertyId is null or negative, if the dates are missing or out of order,
+     *                                  or if the stay is longer than the maximum stay
+     * @throws ResponseStatusException if the property does not exist
+     * @return a PriceQuoteDTO with the price of the stay
+     */
+    @Transactional(readOnly = true)
+    public PriceQuoteDTO getQuote(Long propertyId, LocalDate startDate, LocalDate endDate) {
+        validateStay(startDate, endDate);
+        Property property = propertyService.getPropertyEntityById(propertyId);
+        PropertyPricing.Quote quote = quote(property, startDate, endDate);
+        return new PriceQuoteDTO(propertyId, startDate, endDate, quote.days(), quote.subtotal().toBigDecimal(),
+                quote.lengthOfStayPercentage(), quote.total().toBigDecimal());
+    }
+
+    /**
+     * Retrieves the pricing rules of a property, the ones with the highest priority first.
+     *
+     * @param propertyId the ID of the property
+     * @throws IllegalArgumentException if propertyId is null or negative
+     * @throws ResponseStatusException if the property does not exist
+     * @return a list of PricingRuleResponseDTOs, empty if the property only uses its price per day
+     */
+    @Transactional(readOnly = true)
+    public List<PricingRuleResponseDTO> getPricingRules(Long propertyId) {
+        propertyService.getPropertyEntityById(propertyId);
+        return pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId).stream()
+                .map(pricingRuleMapper::pricingRuleToPricingRuleResponseDto)
+                .toList();
+    }
+
+    /**
+     * Adds a pricing rule to a property.
+     *
+     * @param propertyId the ID of the property
+     * @param pricingRuleRequestDTO the DTO containing the pricing rule
+     * @throws IllegalArgumentException if propertyId is null or negative, or if the rule is null or inconsistent
+     * @throws ResponseStatusException if the property does not exist
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Transactional
+    public MessageResponseDTO addPricingRule(Long propertyId, PricingRuleRequestDTO pricingRuleRequestDTO) {
+        validatePricingRule(pricingRuleRequestDTO);
+        Property property = propertyService.getPropertyEntityById(propertyId);
+        PricingRule pricingRule = pricingRuleMapper.pricingRuleRequestDtoToPricingRule(pricingRuleRequestDTO);
+        pricingRule.setProperty(property);
+        if (pricingRule.getPriority() == null) {
+            pricingRule.setPriority(0);
+        }
+        PricingRule savedRule = pricingRuleRepository.save(pricingRule);
+        propertyPricingCache.evict(propertyId);
+        return new MessageResponseDTO("Pricing rule added successfully with ID: " + savedRule.getId());
+    }
+
+    /**
+     * Replaces a pricing rule of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param ruleId the ID of the pricing rule
+     * @param pricingRuleRequestDTO the DTO containing the new pricing rule
+     * @throws IllegalArgumentException if an ID is null or negative, or if the rule is null or inconsistent
+     * @throws ResponseStatusException if the pricing rule does not exist in the property
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Transactional
+    public MessageResponseDTO updatePricingRule(Long propertyId, Long ruleId, PricingRuleRequestDTO pricingRuleRequestDTO) {
+        validatePricingRule(pricingRuleRequestDTO);
+        PricingRule pricingRule = getPricingRuleEntity(propertyId, ruleId);
+        pricingRuleMapper.updatePricingRuleFromDto(pricingRuleRequestDTO, pricingRule);
+        if (pricingRule.getPriority() == null) {
+            pricingRule.setPriority(0);
+        }
+        pricingRuleRepository.save(pricingRule);
+        propertyPricingCache.evict(propertyId);
+        return new MessageResponseDTO("Pricing rule updated successfully with ID: " + ruleId);
+    }
+
+    /**
+     * Deletes a pricing rule of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param ruleId the ID of the pricing rule
+     * @throws IllegalArgumentException if an ID is null or negative
+     * @throws ResponseStatusException if the pricing rule does not exist in the property
+     * @return a MessageResponseDTO indicating the result of the operation
+     */
+    @Transactional
+    public MessageResponseDTO deletePricingRule(Long propertyId, Long ruleId) {
+        PricingRule pricingRule = getPricingRuleEntity(propertyId, ruleId);
+        pricingRuleRepository.delete(pricingRule);
+        propertyPricingCache.evict(propertyId);
+        return new MessageResponseDTO("Pricing rule deleted successfully with ID: " + ruleId);
+    }
+
+    private PricingRule getPricingRuleEntity(Long propertyId, Long ruleId) {
+        if (propertyId == null || propertyId <= 0 || ruleId == null || ruleId <= 0) {
+            throw new IllegalArgumentException("Property ID and Pricing Rule ID must not be null or negative");
+        }
+        return pricingRuleRepository.findByIdAndPropertyId(ruleId, propertyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pricing rule not found with ID: " + ruleId));
+    }
+
+    private void validateStay(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date must not be null");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxStayDays) {
+            throw new IllegalArgumentException("A stay must not be longer than " + maxStayDays + " days");
+        }
+    }
+
+    private PropertyPricing compile(Long propertyId, Money basePrice) {
+        return PropertyPricing.compile(basePrice, pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId),
+                LocalDate.now(), horizonDays);
+    }
+
+    private static void validatePricingRule(PricingRuleRequestDTO dto) {
+        if (dto == null || dto.getRuleType() == null || dto.getAdjustmentType() == null) {
+            throw new IllegalArgumentException("Pricing rule, its type and its adjustment type must not be null");
+        }
+        if (dto.getAdjustmentType() == PricingAdjustmentType.FIXED_PRICE
+                && (dto.getFixedPrice() == null || dto.getPercentage() != null)) {
+            throw new IllegalArgumentException("A fixed price rule requires a fixed price and no percentage");
+        }
+        if (dto.getAdjustmentType() == PricingAdjustmentType.PERCENTAGE
+                && (dto.getPercentage() == null || dto.getFixedPrice() != null)) {
+            throw new IllegalArgumentException("A percentage rule requires a percentage and no fixed price");
+        }
+        if (dto.getFixedPrice() != null) {
+            Money.of(dto.getFixedPrice());
+        }
+        if (dto.getRuleType() == PricingRuleType.NIGHTLY) {
+            if (dto.getMinDays() != null) {
+                throw new IllegalArgumentException("A nightly rule must not have a minimum number of days");
+            }
+            if (dto.getStartDate() != null && dto.getEndDate() != null && dto.getEndDate().isBefore(dto.getStartDate())) {
+                throw new IllegalArgumentException("End date must not be before start date");
+            }
+        } else {
+            if (dto.getMinDays() == null || dto.getAdjustmentType() != PricingAdjustmentType.PERCENTAGE) {
+                throw new IllegalArgumentException("A length of stay rule requires a minimum number of days and a percentage");
+            }
+            if (dto.getStartDate() != null || dto.getEndDate() != null
+                    || (dto.getDaysOfWeek() != null && !dto.getDaysOfWeek().isEmpty())) {
+                throw new IllegalArgumentException("A length of stay rule must not have dates or days of the week");
+            }
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.PropertyDetailCache;
 import org.example.rentify.dto.request.PropertyRequestDTO;
+import org.example.rentify.dto.request.PropertySearchCriteriaDTO;
+import org.example.rentify.dto.response.CursorPageResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PropertyResponseDTO;
+import org.example.rentify.dto.response.PropertySummaryDTO;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PropertyType;
 import org.example.rentify.mapper.PropertyMapper;
 import org.example.rentify.repository.PropertyRepository;
+import org.example.rentify.repository.PropertySpecifications;
 import org.example.rentify.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -19,7 +26,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 
 /*
  * PropertyService class for managing properties in the system.
@@ -32,88 +42,223 @@ public class PropertyService {
     private final PropertyRepository propertyRepository;
     private final PropertyMapper propertyMapper;
     private final UserRepository userRepository;
+    private final PropertyDetailCache propertyDetailCache;
 
     @Autowired
-    public PropertyService(PropertyRepository propertyRepository, PropertyMapper propertyMapper, UserRepository userRepository) {
+    public PropertyService(PropertyRepository propertyRepository, PropertyMapper propertyMapper, UserRepository userRepository,
+                           PropertyDetailCache propertyDetailCache) {
         this.propertyRepository = propertyRepository;
         this.propertyMapper = propertyMapper;
         this.userRepository = userRepository;
+        this.propertyDetailCache = propertyDetailCache;
     }
 
     /**
-     * Retrieves all properties in a paginated format as DTOs.
+     * Retrieves summaries of all properties in a paginated format.
      *
      * @param pageable Pagination information.
-     * @return A page of PropertyResponseDTOs.
+     * @return A page of PropertySummaryDTOs.
      * @throws ResponseStatusException If the propertiesPage is empty
      */
     @Transactional(readOnly = true)
-    public Page<PropertyResponseDTO> findAllProperties(Pageable pageable) {
+    public Page<PropertySummaryDTO> findAllProperties(Pageable pageable) {
 
-        Page<Property> propertiesPage = propertyRepository.findAll(pageable);
+        Page<PropertySummaryDTO> propertiesPage = propertyRepository.findAllSummaries(pageable);
         if (propertiesPage.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
         }
-        return propertiesPage.map(propertyMapper::propertyToPropertyResponseDto);
+        return propertiesPage;
     }
 
     /**
-     * Retrieves all properties with availability status
+     * Retrieves summaries of all properties with availability status
      *
      * @param availability The availability of the property.
-     * @return A page of PropertyResponseDTOs.
+     * @return A page of PropertySummaryDTOs.
      * @throws ResponseStatusException  If the propertiesPage is empty
      * @throws IllegalArgumentException If the availability is null.
      */
     @Transactional(readOnly = true)
-    public Page<PropertyResponseDTO> findAllPropertiesByAvailability(Boolean availability, Pageable pageable) {
-        Page<Property> propertiesPage = propertyRepository.findByAvailability(availability, pageable);
+    public Page<PropertySummaryDTO> findAllPropertiesByAvailability(Boolean availability, Pageable pageable) {
+        Page<PropertySummaryDTO> propertiesPage = propertyRepository.findSummariesByAvailability(availability, pageable);
         if (propertiesPage.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
         }
         if (availability == null) {
             throw new IllegalArgumentException("Availability cannot be null.");
         }
-        return propertiesPage.map(propertyMapper::propertyToPropertyResponseDto);
+        return propertiesPage;
     }
 
     /**
-     * Retrieves all properties with specific criteria in a paginated format as DTOs.
+     * Retrieves summaries of all properties with specific criteria in a paginated format.
      *
      * @param addressCountry The country of the property's address.
      * @param addressCity    The city of the property's address.
      * @param availability   The availability of the property.
      * @param pageable       Pagination information.
-     * @return A page of PropertyResponseDTOs.
+     * @return A page of PropertySummaryDTOs.
      * @throws ResponseStatusException  If the propertiesPage is empty
      */
     @Transactional(readOnly = true)
-    public Page<PropertyResponseDTO> findAllPropertiesByAddressCountryAndCityAndAvailability(String addressCountry, String addressCity, Boolean availability, Pageable pageable) {
+    public Page<PropertySummaryDTO> findAllPropertiesByAddressCountryAndCityAndAvailability(String addressCountry, String addressCity, Boolean availability, Pageable pageable) {
 
-        Page<Property> propertiesPage = propertyRepository.findAllByAddress_CountryAndAddress_CityAndAvailability(addressCountry, addressCity, availability, pageable);
+        Page<PropertySummaryDTO> propertiesPage = propertyRepository.findSummariesByAddressCountryAndCityAndAvailability(addressCountry, addressCity, availability, pageable);
         if (propertiesPage.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
         }
-        return propertiesPage.map(propertyMapper::propertyToPropertyResponseDto);
+        return propertiesPage;
     }
 
     /**
-     * Retrieves all properties with specific criteria in a paginated format as DTOs.
+     * Retrieves summaries of all properties with specific criteria in a paginated format.
      *
      * @param propertyType The type of the property.
      * @param availability The availability of the property.
      * @param pageable     Pagination information.
-     * @return A page of PropertyResponseDTOs.
+     * @return A page of PropertySummaryDTOs.
      * @throws ResponseStatusException  If the propertiesPage is empty
      */
     @Transactional(readOnly = true)
-    public Page<PropertyResponseDTO> findAllPropertiesByPropertyTypeAndAvailability(PropertyType propertyType, Boolean availability, Pageable pageable) {
+    public Page<PropertySummaryDTO> findAllPropertiesByPropertyTypeAndAvailability(PropertyType propertyType, Boolean availability, Pageable pageable) {
 
-        Page<Property> propertiesPage = propertyRepository.findByPropertyTypeAndAvailability(propertyType, availability, pageable);
+        Page<PropertySummaryDTO> propertiesPage = propertyRepository.findSummariesByPropertyTypeAndAvailability(propertyType, availability, pageable);
         if (propertiesPage.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
         }
-        return propertiesPage.map(propertyMapper::propertyToPropertyResponseDto);
+        return propertiesPage;
+    }
+
+    /**
+     * Searches properties matching all given criteria in a paginated format as DTOs.
+     * Every filter left empty in the criteria is ignored, the rest is combined into a single query
+     * selecting only the summary columns, so no owner, address or image is loaded per row.
+     *
+     * @param criteria The search criteria.
+     * @param pageable Pagination information.
+     * @return A page of PropertySummaryDTOs.
+     * @throws IllegalArgumentException If the criteria are null, a range is inverted, or the date window is incomplete.
+     * @throws ResponseStatusException  If the propertiesPage is empty
+     */
+    @Transactional(readOnly = true)
+    public Page<PropertySummaryDTO> searchProperties(PropertySearchCriteriaDTO criteria, Pageable pageable) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Search criteria cannot be null.");
+        }
+        if (criteria.getMinPrice() != null && criteria.getMaxPrice() != null
+                && criteria.getMinPrice().compareTo(criteria.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price.");
+        }
+        if (criteria.getMinArea() != null && criteria.getMaxArea() != null
+                && criteria.getMinArea() > criteria.getMaxArea()) {
+            throw new IllegalArgumentException("Minimum area cannot be greater than maximum area.");
+        }
+        if (criteria.getMinRooms() != null && criteria.getMaxRooms() != null
+                && criteria.getMinRooms() > criteria.getMaxRooms()) {
+            throw new IllegalArgumentException("Minimum number of rooms cannot be greater than maximum number of rooms.");
+        }
+        if ((criteria.getAvailableFrom() == null) != (criteria.getAvailableTo() == null)) {
+            throw new IllegalArgumentException("Both availableFrom and availableTo must be provided for a date window search.");
+        }
+        if (criteria.getAvailableFrom() != null && criteria.getAvailableFrom().isAfter(criteria.getAvailableTo())) {
+            throw new IllegalArgumentException("availableFrom cannot be after availableTo.");
+        }
+
+        return findSummariesMatching(criteria, pageable);
+    }
+
+    /**
+     * Retrieves summaries of available properties free for the whole given date window in a paginated format.
+     * It runs the same date window search as searchProperties, the city, country and type filters are optional.
+     *
+     * @param startDate    The first day of the stay.
+     * @param endDate      The last day of the stay.
+     * @param city         The city of the property's address, or null.
+     * @param country      The country of the property's address, or null.
+     * @param propertyType The type of the property, or null.
+     * @param pageable     Pagination information.
+     * @return A page of PropertySummaryDTOs.
+     * @throws IllegalArgumentException If a date is missing or the start date is after the end date.
+     * @throws ResponseStatusException  If the propertiesPage is empty
+     */
+    @Transactional(readOnly = true)
+    public Page<PropertySummaryDTO> findFreeProperties(LocalDate startDate, LocalDate endDate, String city, String country,
+                                                       PropertyType propertyType, Pageable pageable) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Both start date and end date must be provided.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
+        }
+
+        PropertySearchCriteriaDTO criteria = new PropertySearchCriteriaDTO();
+        criteria.setAvailability(true);
+        criteria.setAvailableFrom(startDate);
+        criteria.setAvailableTo(endDate);
+        criteria.setCity(city);
+        criteria.setCountry(country);
+        criteria.setPropertyType(propertyType);
+        return findSummariesMatching(criteria, pageable);
+    }
+
+    /**
+     * Reads a page of summaries of the properties matching the criteria with a single query built by PropertySpecifications.
+     *
+     * @throws ResponseStatusException If the propertiesPage is empty
+     */
+    private Page<PropertySummaryDTO> findSummariesMatching(PropertySearchCriteriaDTO criteria, Pageable pageable) {
+        Page<PropertySummaryDTO> propertiesPage = propertyRepository.findSummaries(PropertySpecifications.matchesCriteria(criteria), pageable);
+        if (propertiesPage.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
+        }
+        return propertiesPage;
+    }
+
+    /**
+     * Retrieves the newest properties using keyset (seek) pagination.
+     * Each slice is read with a single index range scan starting right after the cursor, and no count query is run,
+     * so the cost of a slice does not depend on how deep the client has scrolled.
+     * Only the summary columns are selected, so no owner, address or image is loaded per row.
+     *
+     * @param after The cursor returned with the previous slice in the form "creationDate,id", or null for the first slice.
+     * @param size  The maximum number of properties in the slice.
+     * @return A CursorPageResponseDTO with the property summaries and the cursor of the next slice.
+     * @throws IllegalArgumentException If the size is not positive or the cursor is malformed.
+     * @throws ResponseStatusException  If there are no properties at all.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<PropertySummaryDTO> findPropertiesAfter(String after, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be a positive number.");
+        }
+        Limit limit = Limit.of(size + 1);
+        List<PropertySummaryDTO> properties;
+        if (StringUtils.hasText(after)) {
+            int separator = after.lastIndexOf(',');
+            LocalDateTime creationDate;
+            long id;
+            try {
+                creationDate = LocalDateTime.parse(after.substring(0, Math.max(separator, 0)).trim());
+                id = Long.parseLong(after.substring(separator + 1).trim());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Cursor must have the form creationDate,id.");
+            }
+            properties = propertyRepository.findNewestSummariesBefore(creationDate, id, limit);
+        } else {
+            properties = propertyRepository.findNewestSummaries(limit);
+            if (properties.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No properties found with the specified criteria.");
+            }
+        }
+
+        boolean hasNext = properties.size() > size;
+        List<PropertySummaryDTO> slice = hasNext ? properties.subList(0, size) : properties;
+        String nextCursor = null;
+        if (hasNext) {
+            PropertySummaryDTO last = slice.get(slice.size() - 1);
+            nextCursor = last.getCreationDate() + "," + last.getId();
+        }
+        return new CursorPageResponseDTO<>(slice, nextCursor, hasNext);
     }
 
     /**
@@ -156,6 +301,7 @@ public class PropertyService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
 
         propertyRepository.deletePropertyById(id);
+        propertyDetailCache.evict(id);
         return new MessageResponseDTO("Property deleted successfully with ID: " + id);
     }
 
@@ -177,15 +323,17 @@ public class PropertyService {
             throw new IllegalArgumentException("Property request DTO cannot be null for update.");
         }
 
-        Property propertyToUpdate = propertyRepository.findPropertyById(id)
+        Property propertyToUpdate = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
         propertyMapper.updatePropertyFromDto(propertyRequestDTO, propertyToUpdate);
         propertyRepository.save(propertyToUpdate);
+        markPropertyModified(id);
         return new MessageResponseDTO("Property updated successfully with ID: " + id);
     }
 
     /**
      * Retrieves a property by its ID.
+     * The response is served from the property detail cache, which every write to the property evicts.
      *
      * @param id The ID of the property to retrieve.
      * @return The PropertyResponseDTO of the found property.
@@ -197,31 +345,66 @@ public class PropertyService {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Property ID must be a positive number.");
         }
-        Property property = propertyRepository.findPropertyById(id)
+        return propertyDetailCache.get(id, key -> propertyMapper.propertyToPropertyResponseDto(propertyRepository.findDetailedById(key)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + key))));
+    }
+
+    /**
+     * Retrieves the version of a property without loading it, for conditional requests.
+     *
+     * @param id The ID of the property.
+     * @return The current version of the property.
+     * @throws IllegalArgumentException If the ID is null or not positive.
+     * @throws ResponseStatusException  If the property with the given ID is not found in the database.
+     */
+    @Transactional(readOnly = true)
+    public Long getPropertyVersion(Long id) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Property ID must be a positive number.");
+        }
+        return propertyRepository.findVersionById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
-        return propertyMapper.propertyToPropertyResponseDto(property);
+    }
+
+    /**
+     * Marks a property as modified after data shown in its detail view, like its images, reviews or address, has changed.
+     * The version of the property is incremented and its cached detail is evicted.
+     *
+     * @param id The ID of the property.
+     */
+    @Transactional
+    public void markPropertyModified(Long id) {
+        if (id == null) {
+            return;
+        }
+        propertyRepository.incrementVersionById(id);
+        propertyDetailCache.evict(id);
     }
 
 
     /**
      * Checks if the authenticated user is the owner of the property with the given ID.
+     * The ownership is checked with a single query without loading the property; only when it fails
+     * is the existence of the property checked, so a missing property is still reported as not found.
      *
      * @param id The ID of the property.
      * @param username The username of the authenticated user.
      * @return true if the user is the owner, false otherwise.
      * @throws IllegalArgumentException If the ID is null or not positive, or if the username is blank.
-     * @throws ResponseStatusException  If the user or property is not found.
+     * @throws ResponseStatusException  If the property is not found.
      */
+    @Transactional(readOnly = true)
     public boolean isOwner(Long id, String username) {
         if (id == null || id <= 0 || !StringUtils.hasText(username)) {
             throw new IllegalArgumentException("Property ID and username must be a positive number and not blank.");
         }
-        if (userRepository.findUserByUsername(username).isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with given username: " + username);
+        if (propertyRepository.existsByIdAndOwnerUsername(id, username)) {
+            return true;
         }
-        Property property = propertyRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
-        return property.getOwner().getUsername().equals(username);
+        if (!propertyRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id);
+        }
+        return false;
     }
 
     /**
@@ -258,11 +441,12 @@ public class PropertyService {
         if (pricePerDay == null || pricePerDay.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Price per day must be a positive number.");
         }
-        Property property = propertyRepository.findPropertyById(id)
+        Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
 
-        property.setPricePerDay(pricePerDay);
+        property.setPricePerDay(Money.of(pricePerDay));
         propertyRepository.save(property);
+        propertyDetailCache.evict(id);
         return new MessageResponseDTO("Property price per day updated successfully with ID: " + id);
     }
 
@@ -283,10 +467,11 @@ public class PropertyService {
         if (availability == null) {
             throw new IllegalArgumentException("Availability cannot be null.");
         }
-        Property property = propertyRepository.findPropertyById(id)
+        Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
         property.setAvailability(availability);
         propertyRepository.save(property);
+        propertyDetailCache.evict(id);
         return new MessageResponseDTO("Property availability updated successfully with ID: " + id);
     }
 
@@ -307,10 +492,11 @@ public class PropertyService {
         if (!StringUtils.hasText(description)) {
             throw new IllegalArgumentException("Description cannot be blank.");
         }
-        Property property = propertyRepository.findPropertyById(id)
+        Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + id));
         property.setDescription(description);
         propertyRepository.save(property);
+        propertyDetailCache.evict(id);
         return new MessageResponseDTO("Property description updated successfully with ID: " + id);
     }
 }
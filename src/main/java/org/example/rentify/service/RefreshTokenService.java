@@ -0,0 +1,167 @@
+package org.example.rentify.service;
+
+import org.example.rentify.entity.RefreshToken;
+import org.example.rentify.entity.User;
+import org.example.rentify.repository.RefreshTokenRepository;
+import org.example.rentify.repository.UserRepository;
+import org.example.rentify.security.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service class for managing refresh tokens.
+ * Refresh tokens are opaque random values; only their SHA-256 hash is stored. A refresh token can be used once:
+ * using it marks it as used and issues its successor in the same family. Presenting a used or revoked token again
+ * means it was copied, so the whole family is revoked and its holder has to log in again.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refreshExpirationMs:1209600000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    /**
+     * A refresh token issued by rotation, together with the principal of its user.
+     *
+     * @param refreshToken the new refresh token
+     * @param principal    the principal of the user the token belongs to
+     */
+    public record RotatedRefreshToken(String refreshToken, UserPrincipal principal) {
+    }
+
+    /**
+     * Issues a refresh token starting a new family, like after a login.
+     * Expired refresh tokens of the user are deleted on the way.
+     *
+     * @param userId the ID of the user
+     * @return the refresh token
+     * @throws IllegalArgumentException if the user ID is null
+     */
+    @Transactional
+    public String issue(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID for refresh token cannot be null.");
+        }
+        refreshTokenRepository.deleteExpiredByUserId(userId, LocalDateTime.now());
+        return issue(userRepository.getReferenceById(userId), UUID.randomUUID());
+    }
+
+    /**
+     * Uses a refresh token and issues its successor in the same family.
+     * The family is revoked when the token has been used or revoked before, and that revocation is committed
+     * even though the call fails.
+     *
+     * @param refreshToken the refresh token presented by the client
+     * @return the new refresh token and the principal of its user
+     * @throws IllegalArgumentException if the refresh token is blank
+     * @throws ResponseStatusException with status UNAUTHORIZED if the token is unknown, expired, reused or its user is disabled
+     */
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public RotatedRefreshToken rotate(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new IllegalArgumentException("Refresh token cannot be blank.");
+        }
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token."));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (storedToken.isRevoked() || storedToken.getUsedAt() != null
+                || refreshTokenRepository.markUsed(storedToken.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(storedToken.getFamilyId());
+            logger.warn("Reuse of refresh token {} detected, revoked its family {}", storedToken.getId(), storedToken.getFamilyId());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token has already been used. Please log in again.");
+        }
+        if (storedToken.getExpiresAt().isBefore(now)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token has expired. Please log in again.");
+        }
+
+        User user = storedToken.getUser();
+        UserPrincipal principal = UserPrincipal.from(user);
+        if (!principal.isEnabled() || !principal.isAccountNonLocked() || !principal.isAccountNonExpired()) {
+            refreshTokenRepository.revokeFamily(storedToken.getFamilyId());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User account is not active.");
+        }
+        return new RotatedRefreshToken(issue(user, storedToken.getFamilyId()), principal);
+    }
+
+    /**
+     * Revokes the family of a refresh token, like on logout. Unknown tokens are ignored.
+     *
+     * @param refreshToken the refresh token presented by the client
+     */
+    @Transactional
+    public void revokeFamily(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(storedToken -> refreshTokenRepository.revokeFamily(storedToken.getFamilyId()));
+    }
+
+    /**
+     * Revokes all refresh tokens of a user, like after a password change.
+     *
+     * @param userId the ID of the user
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    private String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(refreshExpirationMs)))
+                .build());
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.rentify.service;
+
+import org.example.rentify.dto.response.RevenuePeriodDTO;
+import org.example.rentify.entity.Payment;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.enums.PaymentStatus;
+import org.example.rentify.entity.enums.RevenueGranularity;
+import org.example.rentify.repository.PropertyRepository;
+import org.example.rentify.repository.RevenueDailyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Service class for the daily revenue rollup.
+ * Every change of a payment is applied to the rollup in the transaction of the change: the old state of the payment
+ * is reversed and the new one recorded, so the rollup always matches the payments. Revenue series are then summed
+ * from at most one row per day and status, however many payments were made.
+ */
+@Service
+public class RevenueService {
+
+    /**
+     * Maximum number of days covered by one revenue series.
+     */
+    public static final long MAX_SERIES_DAYS = 3660;
+
+    private final RevenueDailyRepository revenueDailyRepository;
+    private final PropertyRepository propertyRepository;
+
+    @Autowired
+    public RevenueService(RevenueDailyRepository revenueDailyRepository, PropertyRepository propertyRepository) {
+        this.revenueDailyRepository = revenueDailyRepository;
+        this.propertyRepository = propertyRepository;
+    }
+
+    /**
+     * Adds a payment to the rollup of its property, payment day and status.
+     *
+     * @param payment the new or changed payment
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Payment payment) {
+        apply(payment, 1);
+    }
+
+    /**
+     * Removes a payment from the rollup, before it is changed or deleted.
+     *
+     * @param payment the payment in its current state, or null if there is none
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reverse(Payment payment) {
+        if (payment != null) {
+            apply(payment, -1);
+        }
+    }
+
+    /**
+     * Removes all payments made by a user from the rollup, before the user is deleted with their payments.
+     *
+     * @param userId the ID of the user
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reversePaymentsOfUser(Long userId) {
+        revenueDailyRepository.subtractPaymentsOfUser(userId);
+    }
+
+    /**
+     * Retrieves the revenue series of a property.
+     *
+     * @param propertyId the ID of the property
+     * @param granularity the length of the periods
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day
+     * @param to the last payment day
+     * @return the periods with payments, ordered by their start
+     * @throws ResponseStatusException if the property ID is null or negative, if the range is invalid, or if the property is not found
+     */
+    @Transactional(readOnly = true)
+    public List<RevenuePeriodDTO> getPropertySeries(Long propertyId, RevenueGranularity granularity, PaymentStatus status,
+                                                    LocalDate from, LocalDate to) {
+        if (propertyId == null || propertyId <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Property ID cannot be null or negative");
+        }
+        validateSeries(granularity, from, to);
+        List<RevenuePeriodDTO> series = toDtos(revenueDailyRepository.findSeriesByPropertyId(propertyId, unitOf(granularity),
+                nameOf(status), from, to));
+        if (series.isEmpty() && !propertyRepository.existsById(propertyId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + propertyId);
+        }
+        return series;
+    }
+
+    /**
+     * Retrieves the revenue series of all properties of an owner.
+     *
+     * @param username the username of the owner
+     * @param granularity the length of the periods
+     * @param status the status of the payments to count, or null for all statuses
+     * @param from the first payment day
+     * @param to the last payment day
+     * @return the periods with payments, ordered by their start, empty for users without paid properties
+     * @throws ResponseStatusException if the range is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<RevenuePeriodDTO> getOwnerSeries(String username, RevenueGranularity granularity, PaymentStatus status,
+                                                 LocalDate from, LocalDate to) {
+        validateSeries(granularity, from, to);
+        return toDtos(revenueDailyRepository.findSeriesByOwnerUsername(username, unitOf(granularity), nameOf(status), from, to));
+    }
+
+    private void apply(Payment payment, int sign) {
+        Property property = payment.getBooking().getProperty();
+        revenueDailyRepository.addToDay(property.getId(), property.getOwner().getId(), payment.getPaymentDate().toLocalDate(),
+                payment.getPaymentStatus().name(), sign, (sign < 0 ? payment.getAmount().negate() : payment.getAmount()).toBigDecimal());
+    }
+
+    /**
+     * Checks the granularity and the day range of a revenue series.
+     *
+     * @throws ResponseStatusException if the granularity or a day is missing, if the first day is after the last one,
+     * or if the range covers more than MAX_SERIES_DAYS days
+     */
+    private static void validateSeries(RevenueGranularity granularity, LocalDate from, LocalDate to) {
+        if (granularity == null || from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Granularity, start date and end date are required");
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Start date must not be after end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_SERIES_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date range cannot exceed " + MAX_SERIES_DAYS + " days");
+        }
+    }
+
+    private static String unitOf(RevenueGranularity granularity) {
+        return granularity.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String nameOf(PaymentStatus status) {
+        return status == null ? null : status.name();
+    }
+
+    private static List<RevenuePeriodDTO> toDtos(List<RevenueDailyRepository.RevenuePeriod> periods) {
+        return periods.stream()
+                .map(p -> new RevenuePeriodDTO(p.getPeriodStart(), p.getPaymentCount(), p.getTotalAmount()))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.PropertyDetailCache;
 import org.example.rentify.dto.request.ReviewRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.ReviewResponseDTO;
@@ -33,14 +34,17 @@ public class ReviewService {
     private final ReviewMapper reviewMapper;
     private final UserRepository userRepository;
     private final PropertyRepository propertyRepository;
+    private final PropertyDetailCache propertyDetailCache;
 
     @Autowired
-    public ReviewService(ReviewRepository reviewRepository, BookingRepository bookingRepository, ReviewMapper reviewMapper, UserRepository userRepository, PropertyRepository propertyRepository) {
+    public ReviewService(ReviewRepository reviewRepository, BookingRepository bookingRepository, ReviewMapper reviewMapper, UserRepository userRepository, PropertyRepository propertyRepository,
+                         PropertyDetailCache propertyDetailCache) {
         this.reviewRepository = reviewRepository;
         this.bookingRepository = bookingRepository;
         this.reviewMapper = reviewMapper;
         this.userRepository = userRepository;
         this.propertyRepository = propertyRepository;
+        this.propertyDetailCache = propertyDetailCache;
     }
 
     /**
@@ -140,6 +144,7 @@ public class ReviewService {
         review.setProperty(booking.getProperty());
         review.setReviewDate(LocalDateTime.now());
         reviewRepository.save(review);
+        markPropertyModified(review);
         return new MessageResponseDTO("Review created successfully for booking with ID " + bookingId + "!");
     }
 
@@ -162,6 +167,7 @@ public class ReviewService {
             review.getBooking().setReview(null);
         }
         reviewRepository.deleteReviewById(reviewId);
+        markPropertyModified(review);
         return new MessageResponseDTO("Review with ID " + reviewId + " deleted successfully!");
     }
 
@@ -184,6 +190,7 @@ public class ReviewService {
         review.setReviewDate(LocalDateTime.now());
         reviewMapper.updateReviewFromDto(reviewRequestDTO, review);
         reviewMapper.reviewToReviewResponseDto(reviewRepository.save(review));
+        markPropertyModified(review);
         return (new MessageResponseDTO("Review with review ID " + reviewId + " updated successfully!"));
     }
 
@@ -206,6 +213,7 @@ public class ReviewService {
         review.setReviewDate(LocalDateTime.now());
         review.setComment(comment);
         reviewMapper.reviewToReviewResponseDto(reviewRepository.save(review));
+        markPropertyModified(review);
         return (new MessageResponseDTO("Review description with review ID " + reviewId + " updated to " + comment + " successfully!"));
     }
 
@@ -228,11 +236,12 @@ public class ReviewService {
         review.setReviewDate(LocalDateTime.now());
         review.setRating(rating);
         reviewMapper.reviewToReviewResponseDto(reviewRepository.save(review));
+        markPropertyModified(review);
         return (new MessageResponseDTO("Review rating with review ID " + reviewId + " updated to " + rating + " successfully!"));
     }
 
     /**
-     * Checks if the user is the owner of the review.
+     * Checks if the user is the owner of the review, without loading the review.
      * @param reviewId the ID of the review
      * @param username the username of the user
      * @return true if the user is the owner of the review, false otherwise
@@ -242,8 +251,25 @@ public class ReviewService {
         if (reviewId == null || reviewId <= 0 || username == null) {
             throw new IllegalArgumentException("Review ID and Username cannot be null or negative");
         }
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found"));
-        return review.getUser().getUsername().equals(username);
+        if (reviewRepository.existsByIdAndUserUsername(reviewId, username)) {
+            return true;
+        }
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Review not found");
+        }
+        return false;
+    }
+
+    /**
+     * Marks the property the review belongs to as modified, its reviews are part of the property detail response.
+     * The version of the property is incremented and its cached detail is evicted.
+     *
+     * @param review the created, updated or deleted review
+     */
+    private void markPropertyModified(Review review) {
+        if (review.getProperty() != null) {
+            propertyRepository.incrementVersionById(review.getProperty().getId());
+            propertyDetailCache.evict(review.getProperty().getId());
+        }
     }
 }
@@ -1,5 +1,8 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.PropertyDetailCache;
+import org.example.rentify.cache.TokenVersionCache;
+import org.example.rentify.cache.UserPrincipalCache;
 import org.example.rentify.dto.request.RoleRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.RoleResponseDTO;
@@ -8,6 +11,7 @@ import org.example.rentify.entity.Role;
 import org.example.rentify.entity.User;
 import org.example.rentify.mapper.RoleMapper;
 import org.example.rentify.mapper.UserMapper;
+import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.RoleRepository;
 import org.example.rentify.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,13 +35,23 @@ public class RoleService {
     private final RoleMapper roleMapper;
     private final UserMapper userMapper;
     private final UserRepository userRepository;
+    private final PropertyRepository propertyRepository;
+    private final PropertyDetailCache propertyDetailCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Autowired
-    public RoleService(RoleRepository roleRepository, RoleMapper roleMapper, UserMapper userMapper, UserRepository userRepository) {
+    public RoleService(RoleRepository roleRepository, RoleMapper roleMapper, UserMapper userMapper, UserRepository userRepository,
+                       PropertyRepository propertyRepository, PropertyDetailCache propertyDetailCache, TokenVersionCache tokenVersionCache,
+                       UserPrincipalCache userPrincipalCache) {
         this.roleRepository = roleRepository;
         this.roleMapper = roleMapper;
         this.userMapper = userMapper;
         this.userRepository = userRepository;
+        this.propertyRepository = propertyRepository;
+        this.propertyDetailCache = propertyDetailCache;
+        this.tokenVersionCache = tokenVersionCache;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     /**
@@ -135,6 +149,8 @@ public class RoleService {
     }
 
    /**     * Deletes a role by its name.
+     * Owner roles are part of the property detail, so the versions of the properties of its holders are incremented.
+     * The role is also embedded in the tokens of its holders, so their token versions are incremented and their cached principals evicted as well.
      *
      * @param name the name of the role to delete
      * @return a message response DTO indicating success
@@ -152,12 +168,19 @@ public class RoleService {
         if ("ADMIN".equalsIgnoreCase(role.getName()) || "USER".equalsIgnoreCase(role.getName())) {
             throw new IllegalArgumentException("Cannot delete the ADMIN or USER role.");
         }
+        propertyRepository.incrementVersionsByOwnerRoleId(role.getId());
+        propertyDetailCache.evictAll();
+        userRepository.incrementTokenVersionsByRoleId(role.getId());
+        tokenVersionCache.evictAll();
+        userPrincipalCache.evictAll();
         roleRepository.delete(role);
         return new MessageResponseDTO("Role deleted successfully: " + name);
     }
 
     /**
      * Updates an existing role by its ID.
+     * Owner roles are part of the property detail, so the versions of the properties of its holders are incremented.
+     * The role is also embedded in the tokens of its holders, so their token versions are incremented and their cached principals evicted as well.
      *
      * @param id the ID of the role to update
      * @param roleRequestDTO the role request DTO containing the updated role details
@@ -187,6 +210,11 @@ public class RoleService {
         }
         existingRole.setDescription(roleRequestDTO.getDescription());
         roleRepository.save(existingRole);
+        propertyRepository.incrementVersionsByOwnerRoleId(id);
+        propertyDetailCache.evictAll();
+        userRepository.incrementTokenVersionsByRoleId(id);
+        tokenVersionCache.evictAll();
+        userPrincipalCache.evictAll();
         return new MessageResponseDTO("Role updated successfully: " + existingRole.getName());
     }
 }
\ No newline at end of file
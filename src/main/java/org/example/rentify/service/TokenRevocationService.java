@@ -0,0 +1,55 @@
+package org.example.rentify.service;
+
+import io.jsonwebtoken.Claims;
+import org.example.rentify.cache.RevokedTokenIndex;
+import org.example.rentify.entity.RevokedToken;
+import org.example.rentify.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Service class for revoking single access tokens, like on logout.
+ * A revoked token is stored by its "jti" claim until it expires and added to the RevokedTokenIndex,
+ * which JwtAuthenticationFilter consults on every request. Revoking all tokens of a user, like after a password change,
+ * goes through the token version of the user instead.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
+
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, RevokedTokenIndex revokedTokenIndex) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokenIndex = revokedTokenIndex;
+    }
+
+    /**
+     * Revokes an access token until it expires.
+     *
+     * @param claims the verified claims of the token
+     * @throws IllegalArgumentException if the claims are null or the token has no ID or expiry time
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        if (claims == null || claims.getId() == null || claims.getExpiration() == null) {
+            throw new IllegalArgumentException("Token cannot be revoked, it has no ID or expiry time.");
+        }
+        UUID jti = UUID.fromString(claims.getId());
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(expiresAt)
+                    .revokedAt(LocalDateTime.now())
+                    .build());
+        }
+        revokedTokenIndex.add(jti, expiresAt);
+    }
+}
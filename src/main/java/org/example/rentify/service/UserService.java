@@ -1,22 +1,34 @@
 package org.example.rentify.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.example.rentify.cache.PropertyDetailCache;
+import org.example.rentify.cache.TokenVersionCache;
+import org.example.rentify.cache.UserPrincipalCache;
 import org.example.rentify.dto.registration.UserRegistrationDTO;
 import org.example.rentify.dto.request.LoginRequestDTO;
+import org.example.rentify.dto.request.RefreshTokenRequestDTO;
 import org.example.rentify.dto.request.UserRequestDTO;
 import org.example.rentify.dto.response.JwtResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.UserResponseDTO;
 import org.example.rentify.entity.Role;
 import org.example.rentify.entity.User;
+import org.example.rentify.exception.ServiceOverloadedException;
 import org.example.rentify.mapper.UserMapper;
+import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.RoleRepository;
 import org.example.rentify.repository.UserRepository;
+import org.example.rentify.security.PasswordHashingExecutor;
+import org.example.rentify.security.UserPrincipal;
 import org.example.rentify.security.jwt.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -44,12 +56,22 @@ import java.util.stream.Collectors;
 @Service
 public class UserService {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final PropertyRepository propertyRepository;
+    private final PropertyDetailCache propertyDetailCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserPrincipalCache userPrincipalCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RevenueService revenueService;
 
     @Autowired
     public UserService(UserRepository userRepository,
@@ -57,13 +79,29 @@ public class UserService {
                        PasswordEncoder passwordEncoder,
                        UserMapper userMapper,
                        AuthenticationManager authenticationManager,
-                        JwtUtil jwtUtil) {
+                        JwtUtil jwtUtil,
+                       PropertyRepository propertyRepository,
+                       PropertyDetailCache propertyDetailCache,
+                       TokenVersionCache tokenVersionCache,
+                       UserPrincipalCache userPrincipalCache,
+                       PasswordHashingExecutor passwordHashingExecutor,
+                       RefreshTokenService refreshTokenService,
+                       TokenRevocationService tokenRevocationService,
+                       RevenueService revenueService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.propertyRepository = propertyRepository;
+        this.propertyDetailCache = propertyDetailCache;
+        this.tokenVersionCache = tokenVersionCache;
+        this.userPrincipalCache = userPrincipalCache;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.revenueService = revenueService;
     }
 
     /**
@@ -154,6 +192,8 @@ public class UserService {
 
     /**
      * Updates an existing user with the provided user request DTO.
+     * The user is shown as the owner in the detail of their properties, so the versions of those properties
+     * are incremented and all cached property details are evicted. The cached token version and principal are evicted under the old username.
      *
      * @param id The ID of the user to update.
      * @param userRequestDTO The user request DTO containing updated user details.
@@ -178,13 +218,21 @@ public class UserService {
             }
         }
 
+        String oldUsername = existingUser.getUsername();
         userMapper.updateUserFromDto(userRequestDTO, existingUser);
         userRepository.save(existingUser);
+        propertyRepository.incrementVersionsByOwnerId(id);
+        propertyDetailCache.evictAll();
+        tokenVersionCache.evict(oldUsername);
+        userPrincipalCache.evict(oldUsername);
         return new MessageResponseDTO("User updated successfully: " + existingUser.getUsername());
     }
 
      /**
      * Deletes a user by their ID.
+     * The user's properties are deleted with them, so all cached property details are evicted.
+     * Cached token versions and principals are evicted as well, so the tokens of the deleted user stop working right away.
+     * The payments of the user are removed from the revenue rollup of the properties they were made for.
      *
      * @param id The ID of the user to delete.
      * @return A MessageResponseDTO indicating success.
@@ -199,7 +247,11 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id + ". Could not delete.");
         }
+        revenueService.reversePaymentsOfUser(id);
         userRepository.deleteById(id);
+        propertyDetailCache.evictAll();
+        tokenVersionCache.evictAll();
+        userPrincipalCache.evictAll();
         return new MessageResponseDTO("User deleted successfully with id: " + id);
     }
 
@@ -254,18 +306,69 @@ public class UserService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User entity not found with email: " + email));
     }
 
+    /**
+     * Checks if the user with the given ID is the authenticated user.
+     * A principal loaded from the database carries the ID of its user, so no query is needed for it;
+     * other principals are checked with a single query without loading the user.
+     *
+     * @param id The ID of the user.
+     * @param principal The principal of the authenticated user.
+     * @return true if the user is the authenticated user, false otherwise.
+     * @throws IllegalArgumentException if id is null or not positive, or if the principal is null
+     * @throws ResponseStatusException if the user is not found.
+     */
+    @Transactional(readOnly = true)
+    public boolean isSelf(Long id, UserDetails principal) {
+        if (id == null || id <= 0 || principal == null) {
+            throw new IllegalArgumentException("User ID must be a positive number and principal cannot be null.");
+        }
+        boolean self = principal instanceof UserPrincipal userPrincipal
+                ? id.equals(userPrincipal.getId())
+                : userRepository.existsByIdAndUsername(id, principal.getUsername());
+        if (!self && !userRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User entity not found with id: " + id);
+        }
+        return self;
+    }
+
+    /**
+     * Checks if the user with the given email is the authenticated user, without loading the user.
+     *
+     * @param email The email of the user.
+     * @param principal The principal of the authenticated user.
+     * @return true if the user is the authenticated user, false otherwise.
+     * @throws IllegalArgumentException if the email is blank or the principal is null
+     * @throws ResponseStatusException if the user is not found.
+     */
+    @Transactional(readOnly = true)
+    public boolean isSelfByEmail(String email, UserDetails principal) {
+        if (!StringUtils.hasText(email) || principal == null) {
+            throw new IllegalArgumentException("Email cannot be blank and principal cannot be null.");
+        }
+        if (userRepository.existsByEmailAndUsername(email, principal.getUsername())) {
+            return true;
+        }
+        if (!userRepository.existsByEmail(email)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User entity not found with email: " + email);
+        }
+        return false;
+    }
+
     /**
      * Authenticates a user with the provided login credentials.
+     * The password is checked on the PasswordHashingExecutor, not on the request thread. No transaction is held
+     * while the login waits for a hashing thread, so queued logins do not tie up database connections.
+     * Besides the short-lived access token the response carries a refresh token starting a new refresh token family.
      *
      * @param loginRequest The login request containing username and password.
      * @return A ResponseEntity containing the JWT response or an error message.
+     * @throws ServiceOverloadedException if too many logins are already waiting for a password check
      */
-    @Transactional(readOnly = true)
     public ResponseEntity<?> authenticateUser(LoginRequestDTO loginRequest) {
 
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+            Authentication authentication = passwordHashingExecutor.run(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String jwt = jwtUtil.generateToken(authentication);
@@ -274,7 +377,7 @@ public class UserService {
             Long userId;
             String email;
 
-            if (principal instanceof User castedUser) {
+            if (principal instanceof UserPrincipal castedUser) {
                 username = castedUser.getUsername();
                 userId = castedUser.getId();
                 email = castedUser.getEmail();
@@ -289,20 +392,110 @@ public class UserService {
             List<String> roles = authentication.getAuthorities().stream()
                     .map(GrantedAuthority::getAuthority)
                     .collect(Collectors.toList());
-            return ResponseEntity.ok(new JwtResponseDTO(
+            JwtResponseDTO jwtResponse = new JwtResponseDTO(
                     jwt,
                     userId,
                     username,
                     email,
                     roles
-            ));
+            );
+            jwtResponse.setRefreshToken(refreshTokenService.issue(userId));
+            return ResponseEntity.ok(jwtResponse);
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponseDTO("Error: Invalid username or password!"));
+        } catch (AccountStatusException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponseDTO("Error: User account is not active!"));
         }
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     * The presented refresh token is used up; no password is checked, so refreshing is cheap compared to a login.
+     *
+     * @param refreshTokenRequest The request containing the refresh token.
+     * @return A JwtResponseDTO with the new access token and refresh token.
+     * @throws IllegalArgumentException if the request is null
+     * @throws ResponseStatusException with status UNAUTHORIZED if the refresh token is invalid, expired or reused
+     */
+    public JwtResponseDTO refreshAccessToken(RefreshTokenRequestDTO refreshTokenRequest) {
+        if (refreshTokenRequest == null) {
+            throw new IllegalArgumentException("Refresh token request cannot be null.");
+        }
+        RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(refreshTokenRequest.getRefreshToken());
+        UserPrincipal principal = rotated.principal();
+
+        String jwt = jwtUtil.generateToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        List<String> roles = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+        JwtResponseDTO jwtResponse = new JwtResponseDTO(jwt, principal.getId(), principal.getUsername(), principal.getEmail(), roles);
+        jwtResponse.setRefreshToken(rotated.refreshToken());
+        return jwtResponse;
+    }
+
+    /**
+     * Logs a user out by revoking the presented access token and, if given, the family of their refresh token.
+     * An expired access token needs no revocation, so the refresh token is revoked anyway.
+     *
+     * @param authorizationHeader The Authorization header carrying the access token.
+     * @param refreshTokenRequest The request containing the refresh token, may be null.
+     * @return A MessageResponseDTO indicating success.
+     * @throws IllegalArgumentException if the header does not carry a Bearer token
+     * @throws ResponseStatusException with status UNAUTHORIZED if the access token is invalid
+     */
+    public MessageResponseDTO logout(String authorizationHeader, RefreshTokenRequestDTO refreshTokenRequest) {
+        if (!StringUtils.hasText(authorizationHeader) || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            throw new IllegalArgumentException("Authorization header with a Bearer token is required for logout.");
+        }
+        try {
+            Claims claims = jwtUtil.getClaimsFromJwtToken(authorizationHeader.substring(BEARER_PREFIX.length()));
+            if (claims.getId() != null) {
+                tokenRevocationService.revoke(claims);
+            }
+        } catch (ExpiredJwtException e) {
+            // The access token cannot be used anymore, only the refresh token is left to revoke.
+        } catch (JwtException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid access token.");
+        }
+        if (refreshTokenRequest != null && StringUtils.hasText(refreshTokenRequest.getRefreshToken())) {
+            refreshTokenService.revokeFamily(refreshTokenRequest.getRefreshToken());
+        }
+        return new MessageResponseDTO("Logged out successfully.");
+    }
+
+    /**
+     * Enables or disables a user account.
+     * Disabling increments the token version of the user, so all tokens issued before are rejected,
+     * and revokes all refresh tokens of the user; a disabled user cannot log in again.
+     *
+     * @param id The ID of the user.
+     * @param enabled True to enable the account, false to disable it.
+     * @return A MessageResponseDTO indicating success.
+     * @throws IllegalArgumentException if id is null or not positive
+     * @throws ResponseStatusException if the user is not found
+     */
+    @Transactional
+    public MessageResponseDTO setUserEnabled(Long id, boolean enabled) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("User ID must be a positive number.");
+        }
+        User user = userRepository.findUserById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id));
+        user.setEnabled(enabled);
+        if (!enabled) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+            refreshTokenService.revokeAll(user.getId());
+        }
+        userRepository.save(user);
+        tokenVersionCache.evict(user.getUsername());
+        userPrincipalCache.evict(user.getUsername());
+        return new MessageResponseDTO("User " + (enabled ? "enabled" : "disabled") + " successfully: " + user.getUsername());
+    }
+
     /**
      * Changes the password for a user.
+     * The token version of the user is incremented, so all tokens issued before the change are rejected,
+     * and all refresh tokens of the user are revoked.
      *
      * @param username The username of the user whose password is to be changed.
      * @param newPassword The new password to set.
@@ -322,7 +515,11 @@ public class UserService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Old password is incorrect.");
         }
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersionCache.evict(username);
+        userPrincipalCache.evict(username);
+        refreshTokenService.revokeAll(user.getId());
         return new MessageResponseDTO("Password changed successfully for user: " + username);
     }
 }
\ No newline at end of file
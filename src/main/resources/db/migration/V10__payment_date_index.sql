@@ -0,0 +1,3 @@
+-- PaymentRepository totals queries filtered by a payment date range.
+-- The totals of a user and of a property are narrowed down by idx_payments_user and the bookings of the property first.
+CREATE INDEX idx_payments_date ON payments (payment_date);
@@ -0,0 +1,26 @@
+-- Daily revenue rollup: the number and sum of the payments for the bookings of a property, per payment day and status.
+-- RevenueService keeps it up to date in the same transaction as every change of a payment;
+-- the rows of a property are removed with it.
+CREATE TABLE revenue_daily
+(
+    property_id    BIGINT       NOT NULL,
+    revenue_date   DATE         NOT NULL,
+    payment_status VARCHAR(255) NOT NULL,
+    owner_id       BIGINT       NOT NULL,
+    payment_count  BIGINT       NOT NULL,
+    total_amount   DECIMAL      NOT NULL,
+    CONSTRAINT pk_revenue_daily PRIMARY KEY (property_id, revenue_date, payment_status),
+    CONSTRAINT fk_revenue_daily_on_property FOREIGN KEY (property_id) REFERENCES properties (id) ON DELETE CASCADE,
+    CONSTRAINT fk_revenue_daily_on_owner FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Revenue series of an owner across all their properties
+CREATE INDEX idx_revenue_daily_owner_date ON revenue_daily (owner_id, revenue_date);
+
+-- Rollup of the payments made so far
+INSERT INTO revenue_daily (property_id, revenue_date, payment_status, owner_id, payment_count, total_amount)
+SELECT b.property_id, CAST(p.payment_date AS DATE), p.payment_status, pr.owner_id, COUNT(*), SUM(p.amount)
+FROM payments p
+         JOIN bookings b ON b.id = p.booking_id
+         JOIN properties pr ON pr.id = b.property_id
+GROUP BY b.property_id, CAST(p.payment_date AS DATE), p.payment_status, pr.owner_id;
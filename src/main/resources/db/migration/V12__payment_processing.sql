@@ -0,0 +1,10 @@
+-- Claims of pending payments by the payment processing workers.
+-- A worker claims a batch of pending payments with a random claim ID and holds it until claimed_until, while the gateway
+-- is called outside of any transaction. A payment whose worker died is claimed again once the claim has expired.
+ALTER TABLE payments
+    ADD COLUMN processing_claim    UUID,
+    ADD COLUMN claimed_until       TIMESTAMP WITHOUT TIME ZONE,
+    ADD COLUMN processing_attempts INTEGER DEFAULT 0 NOT NULL;
+
+-- Workers look for claimable pending payments only, which are few compared to all payments
+CREATE INDEX idx_payments_pending ON payments (id) WHERE payment_status = 'PENDING';
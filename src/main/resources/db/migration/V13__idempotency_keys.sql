@@ -0,0 +1,21 @@
+-- Idempotency keys of booking and payment creation requests, scoped to the user sending them.
+-- A key is stored with the hash of its request when the request starts and with the response once it has finished,
+-- so a retried request is answered with the stored response instead of being processed again.
+-- A key without a response belongs to a request still being processed.
+CREATE TABLE idempotency_keys
+(
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    username              VARCHAR(255)                            NOT NULL,
+    idempotency_key       VARCHAR(255)                            NOT NULL,
+    request_hash          VARCHAR(64)                             NOT NULL,
+    response_status       INTEGER,
+    response_content_type VARCHAR(255),
+    response_body         TEXT,
+    created_at            TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    expires_at            TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (id),
+    CONSTRAINT uc_idempotency_keys_username_key UNIQUE (username, idempotency_key)
+);
+
+-- Cleanup of expired keys
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
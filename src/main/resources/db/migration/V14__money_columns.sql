@@ -0,0 +1,18 @@
+-- Fixed-scale money columns: prices and payments are whole minor units (see Money), so they are stored with two decimal places,
+-- like properties.price_per_day already is.
+-- Amounts with more decimal places could only come from rows written before; they are rounded half up.
+ALTER TABLE bookings ALTER COLUMN total_price TYPE NUMERIC(12, 2) USING ROUND(total_price, 2);
+ALTER TABLE payments ALTER COLUMN amount TYPE NUMERIC(12, 2) USING ROUND(amount, 2);
+ALTER TABLE revenue_daily ALTER COLUMN total_amount TYPE NUMERIC(14, 2);
+
+-- Rebuild the rollup from the rounded payments, so it still matches them exactly
+DELETE FROM revenue_daily;
+INSERT INTO revenue_daily (property_id, revenue_date, payment_status, owner_id, payment_count, total_amount)
+SELECT b.property_id, CAST(p.payment_date AS DATE), p.payment_status, pr.owner_id, COUNT(*), SUM(p.amount)
+FROM payments p
+         JOIN bookings b ON b.id = p.booking_id
+         JOIN properties pr ON pr.id = b.property_id
+GROUP BY b.property_id, CAST(p.payment_date AS DATE), p.payment_status, pr.owner_id;
+
+-- Changing the column types rewrote the tables and dropped their column statistics
+ANALYZE bookings, payments, revenue_daily;
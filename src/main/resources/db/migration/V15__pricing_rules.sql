@@ -0,0 +1,25 @@
+-- Pricing rules of a property, compiled into a cached day-price table used to quote and price bookings.
+-- NIGHTLY rules set the price of the days matching their optional date range and days of the week
+-- (a bitmask with bit 0 for Monday up to bit 6 for Sunday); among matching rules the highest priority wins.
+-- LENGTH_OF_STAY rules adjust the total of stays of at least min_days days by a percentage.
+CREATE TABLE pricing_rules
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    property_id     BIGINT                                  NOT NULL,
+    rule_type       VARCHAR(32)                             NOT NULL,
+    adjustment_type VARCHAR(32)                             NOT NULL,
+    start_date      DATE,
+    end_date        DATE,
+    days_of_week    INTEGER,
+    min_days        INTEGER,
+    fixed_price     NUMERIC(10, 2),
+    percentage      INTEGER,
+    priority        INTEGER                                 NOT NULL DEFAULT 0,
+    version         BIGINT                                  NOT NULL DEFAULT 0,
+    CONSTRAINT pk_pricing_rules PRIMARY KEY (id),
+    CONSTRAINT fk_pricing_rules_on_property FOREIGN KEY (property_id) REFERENCES properties (id) ON DELETE CASCADE,
+    CONSTRAINT ck_pricing_rules_dates CHECK (start_date IS NULL OR end_date IS NULL OR start_date <= end_date)
+);
+
+-- Loading the rules of a property when its day-price table is compiled
+CREATE INDEX idx_pricing_rules_property_id ON pricing_rules (property_id);
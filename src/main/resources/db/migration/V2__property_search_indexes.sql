@@ -0,0 +1,11 @@
+-- Composite indexes backing the multi-criteria property search (/api/properties/search).
+-- Equality filters come first, the price range last, so each index serves both
+-- "type + availability" and "type + availability + price range" lookups.
+CREATE INDEX idx_properties_type_availability_price ON properties (property_type, availability, price_per_day);
+
+CREATE INDEX idx_properties_availability_price ON properties (availability, price_per_day);
+
+CREATE INDEX idx_addresses_city_country ON addresses (city, country);
+
+-- Supports the NOT EXISTS date-window filter against bookings.
+CREATE INDEX idx_bookings_property_dates ON bookings (property_id, start_date, end_date);
@@ -0,0 +1,3 @@
+-- Backs the keyset (seek) pagination of property listings (/api/properties/scroll).
+-- The column order matches ORDER BY creation_date DESC, id DESC, so each slice is a single index range scan.
+CREATE INDEX idx_properties_creation_date_id ON properties (creation_date DESC, id DESC);
@@ -0,0 +1,5 @@
+-- Optimistic lock versions of properties and images.
+-- They also back the strong ETags of GET /api/properties/{id} and GET /api/properties/{propertyId}/image/all.
+ALTER TABLE properties ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE images ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Rejects overlapping bookings of the same property in the database, so two concurrent requests can never both
+-- book the same dates after passing the overlap check in BookingService.
+-- Both booking dates are inclusive, the same as in the overlap check of BookingService.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_property_dates
+        EXCLUDE USING gist (property_id WITH =, daterange(start_date, end_date, '[]') WITH &&);
@@ -0,0 +1,26 @@
+-- Indexes on the foreign keys the repositories look rows up by.
+-- PostgreSQL does not index foreign key columns on its own, so each of these lookups was a sequential scan.
+-- Already covered elsewhere: bookings (property_id, start_date, end_date) and addresses (city, country) in V2,
+-- properties (property_type, availability) by the prefix of idx_properties_type_availability_price,
+-- payments (booking_id) and reviews (booking_id) by their unique constraints.
+
+-- BookingRepository.findByUserId
+CREATE INDEX idx_bookings_user ON bookings (user_id);
+
+-- PaymentRepository.findByUser
+CREATE INDEX idx_payments_user ON payments (user_id);
+
+-- ReviewRepository.findByPropertyId and the average rating of the property summaries
+CREATE INDEX idx_reviews_property ON reviews (property_id);
+
+-- ReviewRepository.findByUserId
+CREATE INDEX idx_reviews_user ON reviews (user_id);
+
+-- ImageRepository.findByPropertyId; the id column also serves the MIN(id) cover image lookup of the property summaries
+CREATE INDEX idx_images_property_id ON images (property_id, id);
+
+-- Roles of a user; the primary key (role_id, user_id) only serves lookups by role
+CREATE INDEX idx_user_roles_user ON user_roles (user_id);
+
+-- Properties of an owner, like the version bump after an owner update
+CREATE INDEX idx_properties_owner ON properties (owner_id);
@@ -0,0 +1,3 @@
+-- Version of the access tokens of a user, embedded in every token as the "tv" claim.
+-- Incrementing it invalidates all tokens issued before, like after a password or role change.
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
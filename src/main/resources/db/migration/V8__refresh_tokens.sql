@@ -0,0 +1,25 @@
+-- Refresh tokens exchanged for new access tokens without checking the password again.
+-- Only the SHA-256 hash of a token is stored. Every token is used once and replaced by a new one of the same family;
+-- presenting a used token again revokes the whole family, so a stolen token stops working for the thief and the owner.
+CREATE TABLE refresh_tokens
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_id    BIGINT                                  NOT NULL,
+    token_hash VARCHAR(64)                             NOT NULL,
+    family_id  UUID                                    NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    expires_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    used_at    TIMESTAMP WITHOUT TIME ZONE,
+    revoked    BOOLEAN DEFAULT FALSE                   NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id)
+);
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT uc_refresh_tokens_token_hash UNIQUE (token_hash);
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT FK_REFRESH_TOKENS_ON_USER FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
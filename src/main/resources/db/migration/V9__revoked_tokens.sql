@@ -0,0 +1,14 @@
+-- Access tokens revoked before their expiry, like on logout, identified by their "jti" claim.
+-- A row is needed only until the token expires; every instance keeps the IDs of the revoked tokens in memory
+-- and picks up rows revoked by other instances through revoked_at.
+CREATE TABLE revoked_tokens
+(
+    jti        UUID                        NOT NULL,
+    expires_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_revoked_tokens PRIMARY KEY (jti)
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
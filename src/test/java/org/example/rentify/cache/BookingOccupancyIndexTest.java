@@ -0,0 +1,175 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.repository.BookingRepository;
+import org.example.rentify.repository.BookingRepository.BookedDates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingOccupancyIndex Unit Tests")
+class BookingOccupancyIndexTest {
+
+    private static final Long PROPERTY_ID = 7L;
+    private static final LocalDate JUNE_1 = LocalDate.of(2026, 6, 1);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookingOccupancyIndex(bookingRepository);
+    }
+
+    @Nested
+    @DisplayName("overlaps Tests")
+    class OverlapsTests {
+        @Test
+        @DisplayName("Should load a property on its first lookup and answer later lookups from memory")
+        void overlaps_shouldLoadPropertyOnce() {
+            when(bookingRepository.findBookedDatesByPropertyId(PROPERTY_ID))
+                    .thenReturn(List.of(dates(1L, day(10), day(14))));
+
+            assertTrue(index.overlaps(PROPERTY_ID, day(12), day(13), null));
+            assertFalse(index.overlaps(PROPERTY_ID, day(20), day(22), null));
+            verify(bookingRepository, times(1)).findBookedDatesByPropertyId(PROPERTY_ID);
+        }
+
+        @Test
+        @DisplayName("Should treat both booking dates as inclusive")
+        void overlaps_shouldTreatDatesAsInclusive() {
+            when(bookingRepository.findBookedDatesByPropertyId(PROPERTY_ID))
+                    .thenReturn(List.of(dates(1L, day(10), day(14)), dates(2L, day(20), day(25))));
+
+            assertTrue(index.overlaps(PROPERTY_ID, day(14), day(16), null));
+            assertTrue(index.overlaps(PROPERTY_ID, day(18), day(20), null));
+            assertTrue(index.overlaps(PROPERTY_ID, day(1), day(30), null));
+            assertFalse(index.overlaps(PROPERTY_ID, day(15), day(19), null));
+            assertFalse(index.overlaps(PROPERTY_ID, day(1), day(9), null));
+            assertFalse(index.overlaps(PROPERTY_ID, day(26), day(28), null));
+        }
+
+        @Test
+        @DisplayName("Should leave out the excluded booking")
+        void overlaps_whenOnlyExcludedBookingOverlaps_shouldReturnFalse() {
+            when(bookingRepository.findBookedDatesByPropertyId(PROPERTY_ID))
+                    .thenReturn(List.of(dates(1L, day(10), day(14)), dates(2L, day(15), day(18))));
+
+            assertFalse(index.overlaps(PROPERTY_ID, day(11), day(13), 1L));
+            assertTrue(index.overlaps(PROPERTY_ID, day(11), day(15), 1L));
+        }
+
+        @Test
+        @DisplayName("Should not keep dates loaded while a booking was changed")
+        void overlaps_whenBookingChangedDuringLoad_shouldNotKeepLoadedDates() {
+            when(bookingRepository.findBookedDatesByPropertyId(PROPERTY_ID)).thenAnswer(invocation -> {
+                index.put(PROPERTY_ID, 2L, day(20), day(22));
+                return List.of(dates(1L, day(10), day(14)));
+            });
+
+            index.overlaps(PROPERTY_ID, day(10), day(11), null);
+            index.overlaps(PROPERTY_ID, day(10), day(11), null);
+
+            verify(bookingRepository, times(2)).findBookedDatesByPropertyId(PROPERTY_ID);
+            assertEquals(0, index.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("maintenance Tests")
+    class MaintenanceTests {
+        @BeforeEach
+        void warmUp() {
+            when(bookingRepository.findAllBookedDates()).thenReturn(List.of(
+                    dates(1L, day(10), day(14)),
+                    dates(2L, day(1), day(3)),
+                    dates(3L, 8L, day(10), day(14))));
+            index.warmUp();
+        }
+
+        @Test
+        @DisplayName("Should answer from the warmed index without loading properties")
+        void warmUp_shouldLoadAllProperties() {
+            assertEquals(2, index.size());
+            assertTrue(index.overlaps(PROPERTY_ID, day(2), day(2), null));
+            assertTrue(index.overlaps(8L, day(14), day(15), null));
+            verify(bookingRepository, never()).findBookedDatesByPropertyId(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should add new bookings and move updated ones")
+        void put_shouldAddAndMoveBookings() {
+            index.put(PROPERTY_ID, 4L, day(20), day(21));
+            assertTrue(index.overlaps(PROPERTY_ID, day(21), day(22), null));
+
+            index.put(PROPERTY_ID, 1L, day(5), day(6));
+            assertFalse(index.overlaps(PROPERTY_ID, day(10), day(14), null));
+            assertTrue(index.overlaps(PROPERTY_ID, day(6), day(7), null));
+        }
+
+        @Test
+        @DisplayName("Should remove deleted bookings")
+        void remove_shouldFreeDates() {
+            index.remove(PROPERTY_ID, 1L);
+
+            assertFalse(index.overlaps(PROPERTY_ID, day(10), day(14), null));
+            assertTrue(index.overlaps(PROPERTY_ID, day(3), day(4), null));
+        }
+
+        @Test
+        @DisplayName("Should reload an invalidated property on its next lookup")
+        void invalidate_shouldReloadProperty() {
+            when(bookingRepository.findBookedDatesByPropertyId(PROPERTY_ID)).thenReturn(List.of());
+
+            index.invalidate(PROPERTY_ID);
+
+            assertFalse(index.overlaps(PROPERTY_ID, day(10), day(14), null));
+            verify(bookingRepository).findBookedDatesByPropertyId(PROPERTY_ID);
+        }
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return JUNE_1.withDayOfMonth(dayOfMonth);
+    }
+
+    private static BookedDates dates(Long id, LocalDate startDate, LocalDate endDate) {
+        return dates(id, PROPERTY_ID, startDate, endDate);
+    }
+
+    private static BookedDates dates(Long id, Long propertyId, LocalDate startDate, LocalDate endDate) {
+        return new BookedDates() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPropertyId() {
+                return propertyId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.rentify.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LocalCache Unit Tests")
+class LocalCacheTest {
+
+    private AtomicLong now;
+    private LocalCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000);
+        cache = new LocalCache<>("test", 3, 100, now::get);
+    }
+
+    @Nested
+    @DisplayName("get Tests")
+    class GetTests {
+        @Test
+        @DisplayName("Should count hits and misses")
+        void get_shouldCountHitsAndMisses() {
+            cache.put(1L, "one");
+
+            assertEquals("one", cache.get(1L));
+            assertNull(cache.get(2L));
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("Should expire entries after their time to live")
+        void get_whenEntryExpired_shouldReturnNullAndCountEviction() {
+            cache.put(1L, "one");
+            now.addAndGet(100);
+
+            assertNull(cache.get(1L));
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("Should honour a per-entry expiry time")
+        void get_whenEntryHasOwnExpiry_shouldExpireAtThatTime() {
+            cache.put(1L, "one", 1_500);
+            now.addAndGet(400);
+            assertEquals("one", cache.get(1L));
+
+            now.addAndGet(100);
+            assertNull(cache.get(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("get with loader Tests")
+    class GetWithLoaderTests {
+        @Test
+        @DisplayName("Should load once and serve the next reads from the cache")
+        void get_whenMiss_shouldLoadAndCache() {
+            AtomicInteger loads = new AtomicInteger();
+
+            assertEquals("v1", cache.get(1L, key -> "v" + loads.incrementAndGet()));
+            assertEquals("v1", cache.get(1L, key -> "v" + loads.incrementAndGet()));
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should not cache a value loaded while an entry was invalidated")
+        void get_whenInvalidatedDuringLoad_shouldNotCacheLoadedValue() {
+            String loaded = cache.get(1L, key -> {
+                cache.invalidate(key);
+                return "stale";
+            });
+
+            assertEquals("stale", loaded);
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should propagate loader exceptions without caching anything")
+        void get_whenLoaderThrows_shouldPropagate() {
+            assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+                throw new IllegalStateException("not found");
+            }));
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction Tests")
+    class EvictionTests {
+        @Test
+        @DisplayName("Should evict the oldest entry when the maximum size is exceeded")
+        void put_whenFull_shouldEvictOldestEntry() {
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+            cache.put(3L, "three");
+            cache.put(4L, "four");
+
+            assertEquals(3, cache.size());
+            assertNull(cache.get(1L));
+            assertEquals("four", cache.get(4L));
+            assertEquals(1, cache.getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("Should stay bounded when entries are repeatedly invalidated and re-added")
+        void put_whenChurning_shouldStayBounded() {
+            for (long i = 0; i < 1_000; i++) {
+                cache.put(i, "value");
+                cache.invalidate(i);
+            }
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+            cache.put(3L, "three");
+
+            assertEquals(3, cache.size());
+            assertEquals("one", cache.get(1L));
+        }
+
+        @Test
+        @DisplayName("Should treat an entry cached again after invalidation as the newest one")
+        void put_whenKeyReloadedAfterInvalidation_shouldEvictInInsertionOrder() {
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+            cache.put(3L, "three");
+            cache.invalidate(1L);
+            cache.put(1L, "reloaded");
+
+            cache.put(4L, "four");
+
+            assertEquals(3, cache.size());
+            assertEquals("reloaded", cache.get(1L));
+            assertNull(cache.get(2L));
+            assertEquals("three", cache.get(3L));
+            assertEquals("four", cache.get(4L));
+        }
+
+        @Test
+        @DisplayName("Should keep the position of an entry whose value is replaced")
+        void put_whenValueReplaced_shouldKeepInsertionOrder() {
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+            cache.put(3L, "three");
+            cache.put(1L, "replaced");
+
+            cache.put(4L, "four");
+
+            assertNull(cache.get(1L));
+            assertEquals("two", cache.get(2L));
+        }
+
+        @Test
+        @DisplayName("Should remove every entry on invalidateAll")
+        void invalidateAll_shouldClearCache() {
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+
+            cache.invalidateAll();
+
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation after commit Tests")
+    class InvalidateAfterCommitTests {
+
+        @AfterEach
+        void clearSynchronization() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should invalidate right away outside a transaction")
+        void invalidateAfterCommit_whenNoTransaction_shouldInvalidateNow() {
+            cache.put(1L, "one");
+
+            cache.invalidateAfterCommit(1L);
+
+            assertNull(cache.get(1L));
+        }
+
+        @Test
+        @DisplayName("Should invalidate again after commit an entry reloaded during the transaction")
+        void invalidateAfterCommit_whenReloadedBeforeCommit_shouldInvalidateAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.put(1L, "one");
+            cache.put(2L, "two");
+
+            cache.invalidateAfterCommit(1L);
+            assertNull(cache.get(1L));
+            cache.put(1L, "stale");
+            commit();
+
+            assertNull(cache.get(1L));
+            assertEquals("two", cache.get(2L));
+        }
+
+        @Test
+        @DisplayName("Should invalidate all entries again after commit")
+        void invalidateAllAfterCommit_whenReloadedBeforeCommit_shouldInvalidateAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.put(1L, "one");
+
+            cache.invalidateAllAfterCommit();
+            assertEquals(0, cache.size());
+            cache.put(1L, "stale");
+            commit();
+
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should not invalidate again when the transaction rolls back")
+        void invalidateAfterCommit_whenRolledBack_shouldNotInvalidateAgain() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.put(1L, "one");
+
+            cache.invalidateAfterCommit(1L);
+            cache.put(1L, "reloaded");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertEquals("reloaded", cache.get(1L));
+        }
+
+        private void commit() {
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        }
+    }
+}
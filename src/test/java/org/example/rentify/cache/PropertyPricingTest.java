@@ -0,0 +1,156 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.PricingRule;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PropertyPricing Unit Tests")
+class PropertyPricingTest {
+
+    private static final Money BASE_PRICE = price("100.00");
+    // A Monday
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 2);
+    private static final int WEEKEND = (1 << 5) | (1 << 6);
+
+    @Nested
+    @DisplayName("dayPrice Tests")
+    class DayPriceTests {
+
+        @Test
+        @DisplayName("Should use the base price when no rule matches")
+        void dayPrice_whenNoRules_shouldReturnBasePrice() {
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(), FROM, 30);
+
+            assertEquals(BASE_PRICE, pricing.dayPrice(FROM));
+            assertEquals(BASE_PRICE, pricing.dayPrice(FROM.plusDays(100)));
+        }
+
+        @Test
+        @DisplayName("Should apply a weekend percentage only on Saturdays and Sundays")
+        void dayPrice_whenWeekendRule_shouldAdjustWeekends() {
+            PricingRule weekend = nightly(null, null, WEEKEND, PricingAdjustmentType.PERCENTAGE, null, 25, 0);
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(weekend), FROM, 30);
+
+            assertEquals(BASE_PRICE, pricing.dayPrice(FROM.plusDays(4)));
+            assertEquals(price("125.00"), pricing.dayPrice(FROM.plusDays(5)));
+            assertEquals(price("125.00"), pricing.dayPrice(FROM.plusDays(6)));
+        }
+
+        @Test
+        @DisplayName("Should let the first rule in priority order win over the others")
+        void dayPrice_whenRulesOverlap_shouldUseFirstMatchingRule() {
+            PricingRule season = nightly(FROM, FROM.plusDays(9), null, PricingAdjustmentType.FIXED_PRICE, price("180.00"), null, 10);
+            PricingRule weekend = nightly(null, null, WEEKEND, PricingAdjustmentType.PERCENTAGE, null, 25, 0);
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(season, weekend), FROM, 30);
+
+            assertEquals(price("180.00"), pricing.dayPrice(FROM.plusDays(5)));
+            assertEquals(price("125.00"), pricing.dayPrice(FROM.plusDays(12)));
+            assertEquals(BASE_PRICE, pricing.dayPrice(FROM.plusDays(10)));
+        }
+
+        @Test
+        @DisplayName("Should round percentages half up to minor units")
+        void dayPrice_whenPercentageNotExact_shouldRoundHalfUp() {
+            PricingRule discount = nightly(null, null, null, PricingAdjustmentType.PERCENTAGE, null, -15, 0);
+            PropertyPricing pricing = PropertyPricing.compile(price("99.99"), List.of(discount), FROM, 0);
+
+            assertEquals(price("84.99"), pricing.dayPrice(FROM));
+        }
+    }
+
+    @Nested
+    @DisplayName("quote Tests")
+    class QuoteTests {
+
+        @Test
+        @DisplayName("Should price every day of the stay, both dates included")
+        void quote_whenNoRules_shouldMultiplyBasePrice() {
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(), FROM, 30);
+
+            PropertyPricing.Quote quote = pricing.quote(FROM.plusDays(1), FROM.plusDays(3));
+
+            assertEquals(3, quote.days());
+            assertEquals(price("300.00"), quote.subtotal());
+            assertNull(quote.lengthOfStayPercentage());
+            assertEquals(price("300.00"), quote.total());
+        }
+
+        @Test
+        @DisplayName("Should give the same subtotal inside, across and outside the precomputed window")
+        void quote_whenStayLeavesWindow_shouldMatchDayByDaySum() {
+            PricingRule weekend = nightly(null, null, WEEKEND, PricingAdjustmentType.FIXED_PRICE, price("150.00"), null, 0);
+            PropertyPricing compiled = PropertyPricing.compile(BASE_PRICE, List.of(weekend), FROM, 14);
+            PropertyPricing uncompiled = PropertyPricing.compile(BASE_PRICE, List.of(weekend), FROM, 0);
+
+            for (int start = -10; start < 20; start += 3) {
+                LocalDate startDate = FROM.plusDays(start);
+                LocalDate endDate = startDate.plusDays(9);
+                assertEquals(uncompiled.quote(startDate, endDate), compiled.quote(startDate, endDate));
+            }
+            assertEquals(price("1100.00"), compiled.quote(FROM, FROM.plusDays(9)).subtotal());
+        }
+
+        @Test
+        @DisplayName("Should apply the length of stay rule with the highest minimum reached")
+        void quote_whenLengthOfStayRules_shouldApplyLongestReached() {
+            PricingRule week = lengthOfStay(7, -10);
+            PricingRule month = lengthOfStay(28, -25);
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(week, month), FROM, 60);
+
+            assertNull(pricing.quote(FROM, FROM.plusDays(5)).lengthOfStayPercentage());
+            PropertyPricing.Quote weekQuote = pricing.quote(FROM, FROM.plusDays(6));
+            assertEquals(-10, weekQuote.lengthOfStayPercentage());
+            assertEquals(price("630.00"), weekQuote.total());
+            PropertyPricing.Quote monthQuote = pricing.quote(FROM, FROM.plusDays(29));
+            assertEquals(-25, monthQuote.lengthOfStayPercentage());
+            assertEquals(price("3000.00"), monthQuote.subtotal());
+            assertEquals(price("2250.00"), monthQuote.total());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the end date is before the start date")
+        void quote_whenEndBeforeStart_shouldThrowIllegalArgumentException() {
+            PropertyPricing pricing = PropertyPricing.compile(BASE_PRICE, List.of(), FROM, 30);
+
+            assertThrows(IllegalArgumentException.class, () -> pricing.quote(FROM.plusDays(1), FROM));
+        }
+    }
+
+    private static Money price(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+
+    private static PricingRule nightly(LocalDate startDate, LocalDate endDate, Integer daysOfWeek,
+                                       PricingAdjustmentType adjustmentType, Money fixedPrice, Integer percentage, int priority) {
+        return PricingRule.builder()
+                .ruleType(PricingRuleType.NIGHTLY)
+                .adjustmentType(adjustmentType)
+                .startDate(startDate)
+                .endDate(endDate)
+                .daysOfWeek(daysOfWeek)
+                .fixedPrice(fixedPrice)
+                .percentage(percentage)
+                .priority(priority)
+                .build();
+    }
+
+    private static PricingRule lengthOfStay(int minDays, int percentage) {
+        return PricingRule.builder()
+                .ruleType(PricingRuleType.LENGTH_OF_STAY)
+                .adjustmentType(PricingAdjustmentType.PERCENTAGE)
+                .minDays(minDays)
+                .percentage(percentage)
+                .priority(0)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.rentify.cache;
+
+import org.example.rentify.repository.RevokedTokenRepository;
+import org.example.rentify.repository.RevokedTokenRepository.RevokedJti;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevokedTokenIndex Unit Tests")
+class RevokedTokenIndexTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private RevokedTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RevokedTokenIndex(revokedTokenRepository, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("isRevoked Tests")
+    class IsRevokedTests {
+        @Test
+        @DisplayName("Should report the tokens loaded at startup as revoked")
+        void isRevoked_whenLoadedAtStartup_shouldReturnTrue() {
+            UUID revoked = UUID.randomUUID();
+            when(revokedTokenRepository.findUnexpired(any())).thenReturn(List.of(revokedJti(revoked, 5)));
+
+            index.warmUp();
+
+            assertTrue(index.isRevoked(revoked.toString()));
+            assertFalse(index.isRevoked(UUID.randomUUID().toString()));
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        @DisplayName("Should report a token added outside a transaction as revoked right away")
+        void isRevoked_whenAdded_shouldReturnTrue() {
+            UUID revoked = UUID.randomUUID();
+
+            index.add(revoked, LocalDateTime.now().plusMinutes(5));
+
+            assertTrue(index.isRevoked(revoked.toString()));
+        }
+
+        @Test
+        @DisplayName("Should return false for tokens without an ID")
+        void isRevoked_whenIdNull_shouldReturnFalse() {
+            assertFalse(index.isRevoked(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh Tests")
+    class RefreshTests {
+        @Test
+        @DisplayName("Should pick up the tokens revoked since the last refresh")
+        void refresh_shouldAddTokensRevokedSinceLastRefresh() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            when(revokedTokenRepository.findUnexpired(any())).thenReturn(List.of(revokedJti(first, 5)));
+            when(revokedTokenRepository.findUnexpiredRevokedSince(any(), any())).thenReturn(List.of(revokedJti(first, 5), revokedJti(second, 5)));
+
+            index.warmUp();
+            index.refresh();
+
+            assertTrue(index.isRevoked(first.toString()));
+            assertTrue(index.isRevoked(second.toString()));
+            assertEquals(2, index.size());
+            verify(revokedTokenRepository, times(1)).findUnexpired(any());
+        }
+
+        @Test
+        @DisplayName("Should drop the tokens that have expired")
+        void refresh_shouldDropExpiredTokens() {
+            UUID expired = UUID.randomUUID();
+            UUID valid = UUID.randomUUID();
+            index.add(expired, LocalDateTime.now().minusSeconds(1));
+            index.add(valid, LocalDateTime.now().plusMinutes(5));
+            when(revokedTokenRepository.findUnexpired(any())).thenReturn(List.of());
+
+            index.refresh();
+
+            assertFalse(index.isRevoked(expired.toString()));
+            assertTrue(index.isRevoked(valid.toString()));
+        }
+
+        @Test
+        @DisplayName("Should delete the expired rows once per cleanup interval")
+        void refresh_shouldDeleteExpiredRowsOncePerInterval() {
+            when(revokedTokenRepository.findUnexpired(any())).thenReturn(List.of());
+            when(revokedTokenRepository.findUnexpiredRevokedSince(any(), any())).thenReturn(List.of());
+
+            index.refresh();
+            index.refresh();
+
+            verify(revokedTokenRepository, times(1)).deleteExpired(any());
+        }
+    }
+
+    private static RevokedJti revokedJti(UUID jti, long minutesToExpiry) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(minutesToExpiry);
+        return new RevokedJti() {
+            @Override
+            public UUID getJti() {
+                return jti;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -4,16 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import org.example.rentify.dto.registration.UserRegistrationDTO;
 import org.example.rentify.dto.request.LoginRequestDTO;
+import org.example.rentify.dto.request.RefreshTokenRequestDTO;
 import org.example.rentify.dto.response.JwtResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.exception.ServiceOverloadedException;
 import org.example.rentify.service.UserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,10 +26,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -64,6 +71,11 @@ public class AuthControllerTest {
         validUserRegistrationRequest.setAddress(null);
     }
 
+    @AfterEach
+    void tearDown() {
+        Mockito.reset(userService);
+    }
+
     @Nested
     @DisplayName("POST /api/auth/login")
     class LoginEndpointTests {
@@ -104,6 +116,21 @@ public class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value("Error: Invalid username or password!"));
         }
 
+        @Test
+        @DisplayName("should return 503 Service Unavailable with Retry-After when login capacity is exhausted")
+        void whenLoginCapacityExhausted_thenReturns503WithRetryAfter() throws Exception {
+            when(userService.authenticateUser(any(LoginRequestDTO.class)))
+                    .thenThrow(new ServiceOverloadedException("Too many login attempts are being processed. Please try again later.", Duration.ofSeconds(2)));
+
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validLoginRequest))
+                            .with(csrf()))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.message").value("Too many login attempts are being processed. Please try again later."));
+        }
+
         @Test
         @DisplayName("should return 400 Bad Request for invalid login request DTO (validation failure)")
         void whenLoginWithInvalidRequestDto_thenReturns400() throws Exception {
@@ -126,6 +153,99 @@ public class AuthControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/auth/refresh")
+    class RefreshEndpointTests {
+
+        @Test
+        @DisplayName("should return 200 OK with a new JWT and refresh token for a valid refresh token")
+        void whenRefreshWithValidToken_thenReturns200AndTokens() throws Exception {
+            JwtResponseDTO jwtResponse = new JwtResponseDTO("new-jwt-token", 1L, "testUser", "testuser@example.com", List.of("ROLE_USER"));
+            jwtResponse.setRefreshToken("new-refresh-token");
+            when(userService.refreshAccessToken(any(RefreshTokenRequestDTO.class))).thenReturn(jwtResponse);
+
+            mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(refreshTokenRequest("old-refresh-token")))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("new-jwt-token"))
+                    .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"))
+                    .andExpect(jsonPath("$.username").value("testUser"));
+        }
+
+        @Test
+        @DisplayName("should return 401 Unauthorized for a reused refresh token")
+        void whenRefreshWithReusedToken_thenReturns401() throws Exception {
+            when(userService.refreshAccessToken(any(RefreshTokenRequestDTO.class)))
+                    .thenThrow(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token has already been used. Please log in again."));
+
+            mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(refreshTokenRequest("used-refresh-token")))
+                            .with(csrf()))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Refresh token has already been used. Please log in again."));
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request for a blank refresh token")
+        void whenRefreshWithBlankToken_thenReturns400() throws Exception {
+            mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(refreshTokenRequest("")))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+        }
+
+        private RefreshTokenRequestDTO refreshTokenRequest(String refreshToken) {
+            RefreshTokenRequestDTO request = new RefreshTokenRequestDTO();
+            request.setRefreshToken(refreshToken);
+            return request;
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/auth/logout")
+    class LogoutEndpointTests {
+
+        @Test
+        @DisplayName("should return 200 OK after revoking the access and refresh token")
+        void whenLogoutWithTokens_thenReturns200() throws Exception {
+            when(userService.logout(eq("Bearer access-token"), any(RefreshTokenRequestDTO.class)))
+                    .thenReturn(new MessageResponseDTO("Logged out successfully."));
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer access-token")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO("refresh-token")))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Logged out successfully."));
+        }
+
+        @Test
+        @DisplayName("should return 200 OK without a refresh token in the body")
+        void whenLogoutWithoutBody_thenReturns200() throws Exception {
+            when(userService.logout("Bearer access-token", null)).thenReturn(new MessageResponseDTO("Logged out successfully."));
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer access-token")
+                            .with(csrf()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("should return 400 Bad Request without an access token")
+        void whenLogoutWithoutAccessToken_thenReturns400() throws Exception {
+            when(userService.logout(null, null))
+                    .thenThrow(new IllegalArgumentException("Authorization header with a Bearer token is required for logout."));
+
+            mockMvc.perform(post("/api/auth/logout").with(csrf()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/auth/register")
     class RegisterEndpointTests {
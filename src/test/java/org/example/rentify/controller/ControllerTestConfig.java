@@ -1,5 +1,7 @@
 package org.example.rentify.controller;
 
+import org.example.rentify.cache.RevokedTokenIndex;
+import org.example.rentify.cache.TokenVersionCache;
 import org.example.rentify.security.UserDetailsServiceImpl;
 import org.example.rentify.security.jwt.JwtUtil;
 import org.example.rentify.service.*;
@@ -25,6 +27,12 @@ public class ControllerTestConfig {
     @Bean
     public JwtUtil jwtUtil() {return Mockito.mock(JwtUtil.class);}
 
+    @Bean
+    public TokenVersionCache tokenVersionCache() {return Mockito.mock(TokenVersionCache.class);}
+
+    @Bean
+    public RevokedTokenIndex revokedTokenIndex() {return Mockito.mock(RevokedTokenIndex.class);}
+
     @Bean
     public UserDetailsServiceImpl userDetailsServiceImpl() {return Mockito.mock(UserDetailsServiceImpl.class);}
 
@@ -46,6 +54,15 @@ public class ControllerTestConfig {
     @Bean
     public PaymentService paymentService() {return Mockito.mock(PaymentService.class);}
 
+    @Bean
+    public RevenueService revenueService() {return Mockito.mock(RevenueService.class);}
+
+    @Bean
+    public PricingService pricingService() {return Mockito.mock(PricingService.class);}
+
+    @Bean
+    public MetricsService metricsService() {return Mockito.mock(MetricsService.class);}
+
     @Bean
     public SecurityFilterChain testSecurityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -16,6 +16,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -28,7 +29,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -171,6 +172,30 @@ public class ImageControllerTest {
                     .andExpect(jsonPath("$[0].imageUrl").value(imageResponseDTO.getImageUrl()));
         }
 
+        @Test
+        @DisplayName("should return a strong ETag built from the images version")
+        void whenGetAllImages_thenReturnsETag() throws Exception {
+            when(imageService.getImagesVersion(testPropertyId)).thenReturn(7L);
+            when(imageService.getAllImagesByPropertyId(testPropertyId)).thenReturn(List.of(imageResponseDTO));
+
+            mockMvc.perform(get("/api/properties/{propertyId}/image/all", testPropertyId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+        }
+
+        @Test
+        @DisplayName("should return 304 Not Modified without loading the images when If-None-Match matches")
+        void whenIfNoneMatchMatches_thenReturns304() throws Exception {
+            when(imageService.getImagesVersion(testPropertyId)).thenReturn(7L);
+
+            mockMvc.perform(get("/api/properties/{propertyId}/image/all", testPropertyId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                    .andExpect(content().string(""));
+            verify(imageService, never()).getAllImagesByPropertyId(any());
+        }
+
         @Test
         @DisplayName("should return 404 Not Found if property does not exist (service throws)")
         void whenGetAllImagesForNonExistentProperty_thenReturns404() throws Exception {
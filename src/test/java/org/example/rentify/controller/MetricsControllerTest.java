@@ -0,0 +1,95 @@
+package org.example.rentify.controller;
+
+import org.example.rentify.dto.response.CacheStatsDTO;
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.service.MetricsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(ControllerTestConfig.class)
+@WebMvcTest(MetricsController.class)
+@DisplayName("MetricsController Integration Tests")
+public class MetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @AfterEach
+    void tearDown() {
+        Mockito.reset(metricsService);
+    }
+
+    @Nested
+    @DisplayName("GET /api/admin/metrics/caches")
+    class GetCacheStatsTests {
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should return 200 OK with cache statistics for an admin")
+        void whenAdmin_thenReturnsCacheStats() throws Exception {
+            when(metricsService.getCacheStats()).thenReturn(List.of(
+                    new CacheStatsDTO("propertyDetail", 2, 10000, 30, 10, 1, 0.75)));
+
+            mockMvc.perform(get("/api/admin/metrics/caches"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("propertyDetail"))
+                    .andExpect(jsonPath("$[0].hitCount").value(30))
+                    .andExpect(jsonPath("$[0].evictionCount").value(1))
+                    .andExpect(jsonPath("$[0].hitRate").value(0.75));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 403 Forbidden for a non-admin user")
+        void whenNotAdmin_thenReturns403() throws Exception {
+            mockMvc.perform(get("/api/admin/metrics/caches"))
+                    .andExpect(status().isForbidden());
+            Mockito.verifyNoInteractions(metricsService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/admin/metrics/password-hashing")
+    class GetPasswordHashingStatsTests {
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should return 200 OK with password hashing statistics for an admin")
+        void whenAdmin_thenReturnsPasswordHashingStats() throws Exception {
+            when(metricsService.getPasswordHashingStats()).thenReturn(
+                    new PasswordHashingStatsDTO(4, 100, 3, 4, 1200, 15, 12.5, 180.0, 75.3, 140.2));
+
+            mockMvc.perform(get("/api/admin/metrics/password-hashing"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.threads").value(4))
+                    .andExpect(jsonPath("$.queueSize").value(3))
+                    .andExpect(jsonPath("$.rejectedCount").value(15))
+                    .andExpect(jsonPath("$.averageHashMs").value(75.3));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 403 Forbidden for a non-admin user")
+        void whenNotAdmin_thenReturns403() throws Exception {
+            mockMvc.perform(get("/api/admin/metrics/password-hashing"))
+                    .andExpect(status().isForbidden());
+            Mockito.verifyNoInteractions(metricsService);
+        }
+    }
+}
@@ -5,11 +5,16 @@ import org.example.rentify.dto.request.PaymentRequestDTO;
 import org.example.rentify.dto.response.BookingResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PaymentResponseDTO;
+import org.example.rentify.dto.response.PropertyRevenueDTO;
+import org.example.rentify.dto.response.RevenuePeriodDTO;
 import org.example.rentify.entity.enums.BookingStatus;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
+import org.example.rentify.entity.enums.RevenueGranularity;
 import org.example.rentify.service.BookingService;
 import org.example.rentify.service.PaymentService;
+import org.example.rentify.service.PropertyService;
+import org.example.rentify.service.RevenueService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +33,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -56,6 +62,12 @@ public class PaymentControllerTest {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private RevenueService revenueService;
+
+    @Autowired
+    private PropertyService propertyService;
+
     private PaymentRequestDTO validPaymentRequestDTO;
     private PaymentResponseDTO paymentResponseDTO;
 
@@ -92,7 +104,7 @@ public class PaymentControllerTest {
 
     @AfterEach
     void tearDown() {
-        Mockito.reset(paymentService, bookingService);
+        Mockito.reset(paymentService, bookingService, revenueService, propertyService);
     }
 
     @Nested
@@ -273,13 +285,28 @@ public class PaymentControllerTest {
         @WithMockUser(username = adminUsername, roles = "ADMIN")
         @DisplayName("should return 200 OK and total amount for ADMIN")
         void whenAdminRequestsTotalForUser_thenSucceeds() throws Exception {
-            Double expectedAmount = 100.00;
-            when(paymentService.getTotalAmountPaidByUser(testUsername)).thenReturn(expectedAmount);
+            BigDecimal expectedAmount = new BigDecimal("100.10");
+            when(paymentService.getTotalAmountPaidByUser(testUsername, null, null, null)).thenReturn(expectedAmount);
 
             mockMvc.perform(get("/api/bookings/payments/user/{username}/total", testUsername))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(content().string(String.valueOf(expectedAmount)));
+                    .andExpect(content().string("100.10"));
+        }
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should pass the status and date range filters to the service")
+        void whenAdminRequestsFilteredTotalForUser_thenPassesFilters() throws Exception {
+            when(paymentService.getTotalAmountPaidByUser(testUsername, PaymentStatus.COMPLETED,
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))).thenReturn(new BigDecimal("50.00"));
+
+            mockMvc.perform(get("/api/bookings/payments/user/{username}/total", testUsername)
+                            .param("status", "COMPLETED")
+                            .param("from", "2025-01-01")
+                            .param("to", "2025-01-31"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("50.00"));
         }
     }
 
@@ -291,7 +318,7 @@ public class PaymentControllerTest {
         @DisplayName("should return 200 OK and total amount for ADMIN")
         void whenAdminRequestsTotalForAll_thenSucceeds() throws Exception {
             BigDecimal expectedTotal = new BigDecimal("500.00");
-            when(paymentService.getTotalAmountPaidByAllUsers()).thenReturn(expectedTotal);
+            when(paymentService.getTotalAmountPaidByAllUsers(null, null, null)).thenReturn(expectedTotal);
 
             MvcResult result = mockMvc.perform(get("/api/bookings/payments/total"))
                     .andExpect(status().isOk())
@@ -302,6 +329,154 @@ public class PaymentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/bookings/payments/me/properties/revenue")
+    class GetRevenueOfOwnedPropertiesTests {
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 200 OK and the revenue of the properties of the authenticated user")
+        void whenUserRequestsOwnRevenue_thenSucceeds() throws Exception {
+            when(paymentService.getRevenueOfOwnedProperties(testUsername, null, null, null))
+                    .thenReturn(List.of(new PropertyRevenueDTO(1L, "First", 2L, new BigDecimal("300.00"))));
+
+            mockMvc.perform(get("/api/bookings/payments/me/properties/revenue"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].propertyId").value(1))
+                    .andExpect(jsonPath("$[0].paymentCount").value(2))
+                    .andExpect(jsonPath("$[0].totalAmount").value(300.00));
+        }
+
+        @Test
+        @WithAnonymousUser
+        @DisplayName("should return 403 Forbidden for anonymous user")
+        void whenAnonymousRequestsRevenue_thenReturns403() throws Exception {
+            mockMvc.perform(get("/api/bookings/payments/me/properties/revenue"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bookings/payments/properties/revenue")
+    class GetRevenueByPropertiesTests {
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should return 200 OK and the revenue of the given properties for ADMIN")
+        void whenAdminRequestsRevenue_thenSucceeds() throws Exception {
+            when(paymentService.getRevenueByProperties(List.of(1L, 2L), null, null, null))
+                    .thenReturn(List.of(new PropertyRevenueDTO(1L, "First", 1L, new BigDecimal("100.00")),
+                            new PropertyRevenueDTO(2L, "Second", 0L, BigDecimal.ZERO)));
+
+            mockMvc.perform(get("/api/bookings/payments/properties/revenue").param("propertyIds", "1,2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[1].totalAmount").value(0));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 403 Forbidden for non-admin user")
+        void whenUserRequestsRevenue_thenReturns403() throws Exception {
+            mockMvc.perform(get("/api/bookings/payments/properties/revenue").param("propertyIds", "1"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bookings/payments/property/{propertyId}/revenue")
+    class GetPropertyRevenueSeriesTests {
+        private final LocalDate from = LocalDate.of(2025, 6, 1);
+        private final LocalDate to = LocalDate.of(2025, 6, 30);
+
+        @Test
+        @WithMockUser(username = ownerUsername)
+        @DisplayName("should return 200 OK and the weekly series of the property for its owner")
+        void whenOwnerRequestsSeries_thenSucceeds() throws Exception {
+            when(propertyService.isOwner(1L, ownerUsername)).thenReturn(true);
+            when(revenueService.getPropertySeries(1L, RevenueGranularity.WEEK, PaymentStatus.COMPLETED, from, to))
+                    .thenReturn(List.of(new RevenuePeriodDTO(LocalDate.of(2025, 6, 9), 2L, new BigDecimal("350.00"))));
+
+            mockMvc.perform(get("/api/bookings/payments/property/{propertyId}/revenue", 1L)
+                            .param("granularity", "WEEK").param("status", "COMPLETED")
+                            .param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].periodStart").value("2025-06-09"))
+                    .andExpect(jsonPath("$[0].paymentCount").value(2))
+                    .andExpect(jsonPath("$[0].totalAmount").value(350.00));
+        }
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should default to a daily series for ADMIN")
+        void whenAdminRequestsSeriesWithoutGranularity_thenUsesDays() throws Exception {
+            when(revenueService.getPropertySeries(1L, RevenueGranularity.DAY, null, from, to)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/bookings/payments/property/{propertyId}/revenue", 1L)
+                            .param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 403 Forbidden for a user who does not own the property")
+        void whenOtherUserRequestsSeries_thenReturns403() throws Exception {
+            when(propertyService.isOwner(1L, testUsername)).thenReturn(false);
+
+            mockMvc.perform(get("/api/bookings/payments/property/{propertyId}/revenue", 1L)
+                            .param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bookings/payments/me/revenue and /owner/{username}/revenue")
+    class GetOwnerRevenueSeriesTests {
+        private final LocalDate from = LocalDate.of(2025, 1, 1);
+        private final LocalDate to = LocalDate.of(2025, 12, 31);
+
+        @Test
+        @WithMockUser(username = ownerUsername)
+        @DisplayName("should return 200 OK and the monthly series of the authenticated owner")
+        void whenOwnerRequestsOwnSeries_thenSucceeds() throws Exception {
+            when(revenueService.getOwnerSeries(ownerUsername, RevenueGranularity.MONTH, null, from, to))
+                    .thenReturn(List.of(new RevenuePeriodDTO(LocalDate.of(2025, 6, 1), 4L, new BigDecimal("900.00"))));
+
+            mockMvc.perform(get("/api/bookings/payments/me/revenue")
+                            .param("granularity", "MONTH").param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].periodStart").value("2025-06-01"))
+                    .andExpect(jsonPath("$[0].totalAmount").value(900.00));
+        }
+
+        @Test
+        @WithMockUser(username = ownerUsername)
+        @DisplayName("should return 400 Bad Request when the date range is missing")
+        void whenRangeMissing_thenReturns400() throws Exception {
+            mockMvc.perform(get("/api/bookings/payments/me/revenue"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should return 200 OK and the series of any owner for ADMIN")
+        void whenAdminRequestsOwnerSeries_thenSucceeds() throws Exception {
+            when(revenueService.getOwnerSeries(ownerUsername, RevenueGranularity.DAY, null, from, to)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/bookings/payments/owner/{username}/revenue", ownerUsername)
+                            .param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 403 Forbidden when a non-admin user requests the series of an owner")
+        void whenUserRequestsOwnerSeries_thenReturns403() throws Exception {
+            mockMvc.perform(get("/api/bookings/payments/owner/{username}/revenue", ownerUsername)
+                            .param("from", from.toString()).param("to", to.toString()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/bookings/payments/property/{propertyId}/total")
     class GetTotalAmountPaidByAllUsersForPropertyTests {
@@ -311,7 +486,7 @@ public class PaymentControllerTest {
         void whenAdminRequestsTotalForProperty_thenSucceeds() throws Exception {
             BigDecimal expectedTotal = new BigDecimal("250.00");
             Long testPropertyId = 200L;
-            when(paymentService.getTotalAmountPaidByAllUsersForProperty(testPropertyId)).thenReturn(expectedTotal);
+            when(paymentService.getTotalAmountPaidByAllUsersForProperty(testPropertyId, null, null, null)).thenReturn(expectedTotal);
 
             MvcResult result = mockMvc.perform(get("/api/bookings/payments/property/{propertyId}/total", testPropertyId))
                     .andExpect(status().isOk())
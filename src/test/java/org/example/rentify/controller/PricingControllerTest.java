@@ -0,0 +1,218 @@
+package org.example.rentify.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.dto.response.PriceQuoteDTO;
+import org.example.rentify.dto.response.PricingRuleResponseDTO;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+import org.example.rentify.service.PricingService;
+import org.example.rentify.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(ControllerTestConfig.class)
+@WebMvcTest(PricingController.class)
+@DisplayName("PricingController Integration Tests")
+public class PricingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    private PricingRuleRequestDTO pricingRuleRequestDTO;
+    private final Long testPropertyId = 1L;
+    private final Long testRuleId = 10L;
+    private final String ownerUsername = "ownerUser";
+    private final String otherUsername = "otherUser";
+    private final String adminUsername = "adminUser";
+
+    @BeforeEach
+    void setUp() {
+        pricingRuleRequestDTO = new PricingRuleRequestDTO();
+        pricingRuleRequestDTO.setRuleType(PricingRuleType.LENGTH_OF_STAY);
+        pricingRuleRequestDTO.setAdjustmentType(PricingAdjustmentType.PERCENTAGE);
+        pricingRuleRequestDTO.setMinDays(7);
+        pricingRuleRequestDTO.setPercentage(-10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Mockito.reset(pricingService, propertyService);
+    }
+
+    @Nested
+    @DisplayName("GET /api/properties/{propertyId}/pricing/quote")
+    class GetQuoteTests {
+
+        @Test
+        @WithMockUser(username = otherUsername, roles = "USER")
+        @DisplayName("should return the quote of the stay")
+        void whenGetQuote_thenReturnsQuote() throws Exception {
+            LocalDate startDate = LocalDate.of(2025, 10, 1);
+            LocalDate endDate = LocalDate.of(2025, 10, 7);
+            PriceQuoteDTO quote = new PriceQuoteDTO(testPropertyId, startDate, endDate, 7L,
+                    new BigDecimal("700.00"), -10, new BigDecimal("630.00"));
+            when(pricingService.getQuote(testPropertyId, startDate, endDate)).thenReturn(quote);
+
+            mockMvc.perform(get("/api/properties/{propertyId}/pricing/quote", testPropertyId)
+                            .param("startDate", "2025-10-01")
+                            .param("endDate", "2025-10-07"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.days").value(7))
+                    .andExpect(jsonPath("$.lengthOfStayPercentage").value(-10))
+                    .andExpect(jsonPath("$.totalPrice").value(630.00));
+        }
+
+        @Test
+        @WithMockUser(username = otherUsername, roles = "USER")
+        @DisplayName("should return 400 Bad Request when the service rejects the dates")
+        void whenGetQuoteWithInvalidDates_thenReturnsBadRequest() throws Exception {
+            when(pricingService.getQuote(eq(testPropertyId), any(), any()))
+                    .thenThrow(new IllegalArgumentException("End date must not be before start date"));
+
+            mockMvc.perform(get("/api/properties/{propertyId}/pricing/quote", testPropertyId)
+                            .param("startDate", "2025-10-07")
+                            .param("endDate", "2025-10-01"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/properties/{propertyId}/pricing/rules/all")
+    class GetAllPricingRulesTests {
+
+        @Test
+        @WithMockUser(username = otherUsername, roles = "USER")
+        @DisplayName("should return the pricing rules of the property")
+        void whenGetAllPricingRules_thenReturnsRules() throws Exception {
+            PricingRuleResponseDTO rule = new PricingRuleResponseDTO();
+            rule.setId(testRuleId);
+            rule.setRuleType(PricingRuleType.LENGTH_OF_STAY);
+            when(pricingService.getPricingRules(testPropertyId)).thenReturn(List.of(rule));
+
+            mockMvc.perform(get("/api/properties/{propertyId}/pricing/rules/all", testPropertyId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(testRuleId))
+                    .andExpect(jsonPath("$[0].ruleType").value("LENGTH_OF_STAY"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/properties/{propertyId}/pricing/rules/add")
+    class AddPricingRuleTests {
+
+        @Test
+        @WithMockUser(username = ownerUsername, roles = "USER")
+        @DisplayName("should allow property OWNER to add a pricing rule")
+        void whenAddPricingRuleAsOwner_thenSucceeds() throws Exception {
+            when(propertyService.isOwner(testPropertyId, ownerUsername)).thenReturn(true);
+            when(pricingService.addPricingRule(eq(testPropertyId), any(PricingRuleRequestDTO.class)))
+                    .thenReturn(new MessageResponseDTO("Pricing rule added successfully with ID: " + testRuleId));
+
+            mockMvc.perform(post("/api/properties/{propertyId}/pricing/rules/add", testPropertyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(pricingRuleRequestDTO)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Pricing rule added successfully with ID: " + testRuleId));
+        }
+
+        @Test
+        @WithMockUser(username = otherUsername, roles = "USER")
+        @DisplayName("should return 403 Forbidden when the user is not the owner")
+        void whenAddPricingRuleAsOtherUser_thenForbidden() throws Exception {
+            when(propertyService.isOwner(testPropertyId, otherUsername)).thenReturn(false);
+
+            mockMvc.perform(post("/api/properties/{propertyId}/pricing/rules/add", testPropertyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(pricingRuleRequestDTO)))
+                    .andExpect(status().isForbidden());
+            verify(pricingService, never()).addPricingRule(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should return 400 Bad Request when the rule type is missing")
+        void whenAddPricingRuleWithoutType_thenBadRequest() throws Exception {
+            pricingRuleRequestDTO.setRuleType(null);
+
+            mockMvc.perform(post("/api/properties/{propertyId}/pricing/rules/add", testPropertyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(pricingRuleRequestDTO)))
+                    .andExpect(status().isBadRequest());
+            verify(pricingService, never()).addPricingRule(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT and DELETE /api/properties/{propertyId}/pricing/rules")
+    class UpdateAndDeletePricingRuleTests {
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should allow ADMIN to update a pricing rule")
+        void whenUpdatePricingRuleAsAdmin_thenSucceeds() throws Exception {
+            when(pricingService.updatePricingRule(eq(testPropertyId), eq(testRuleId), any(PricingRuleRequestDTO.class)))
+                    .thenReturn(new MessageResponseDTO("Pricing rule updated successfully with ID: " + testRuleId));
+
+            mockMvc.perform(put("/api/properties/{propertyId}/pricing/rules/update/{ruleId}", testPropertyId, testRuleId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(pricingRuleRequestDTO)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Pricing rule updated successfully with ID: " + testRuleId));
+        }
+
+        @Test
+        @WithMockUser(username = ownerUsername, roles = "USER")
+        @DisplayName("should allow property OWNER to delete a pricing rule")
+        void whenDeletePricingRuleAsOwner_thenSucceeds() throws Exception {
+            when(propertyService.isOwner(testPropertyId, ownerUsername)).thenReturn(true);
+            when(pricingService.deletePricingRule(testPropertyId, testRuleId))
+                    .thenReturn(new MessageResponseDTO("Pricing rule deleted successfully with ID: " + testRuleId));
+
+            mockMvc.perform(delete("/api/properties/{propertyId}/pricing/rules/delete/{ruleId}", testPropertyId, testRuleId))
+                    .andExpect(status().isOk());
+            verify(pricingService).deletePricingRule(testPropertyId, testRuleId);
+        }
+
+        @Test
+        @WithMockUser(username = otherUsername, roles = "USER")
+        @DisplayName("should return 403 Forbidden when a non-owner deletes a pricing rule")
+        void whenDeletePricingRuleAsOtherUser_thenForbidden() throws Exception {
+            when(propertyService.isOwner(testPropertyId, otherUsername)).thenReturn(false);
+
+            mockMvc.perform(delete("/api/properties/{propertyId}/pricing/rules/delete/{ruleId}", testPropertyId, testRuleId))
+                    .andExpect(status().isForbidden());
+            verify(pricingService, never()).deletePricingRule(any(), any());
+        }
+    }
+}
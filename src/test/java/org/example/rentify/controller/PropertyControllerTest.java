@@ -3,6 +3,7 @@ package org.example.rentify.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.rentify.dto.request.AddressRequestDTO;
 import org.example.rentify.dto.request.PropertyRequestDTO;
+import org.example.rentify.dto.request.PropertySearchCriteriaDTO;
 import org.example.rentify.dto.response.*;
 import org.example.rentify.entity.enums.PropertyType;
 import org.example.rentify.service.PropertyService;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -19,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -29,13 +32,15 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.not;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,6 +61,7 @@ public class PropertyControllerTest {
 
     private PropertyRequestDTO validPropertyRequestDTO;
     private PropertyResponseDTO propertyResponseDTO;
+    private PropertySummaryDTO propertySummaryDTO;
     private AddressRequestDTO validAddressRequestDTO;
 
 
@@ -105,6 +111,10 @@ public class PropertyControllerTest {
         propertyResponseDTO.setAddress(addressResponseDTO);
         propertyResponseDTO.setImages(Collections.emptyList());
         propertyResponseDTO.setReviews(Collections.emptyList());
+
+        propertySummaryDTO = new PropertySummaryDTO(testPropertyId, validPropertyRequestDTO.getTitle(), PropertyType.HOUSE,
+                BigDecimal.valueOf(validPropertyRequestDTO.getPricePerDay()), addressResponseDTO.getCity(),
+                "https://example.com/images/beach-house.jpg", 4.5, LocalDateTime.of(2023, 10, 1, 12, 0));
     }
 
     private AddressResponseDTO getAddressResponseDTO() {
@@ -130,7 +140,7 @@ public class PropertyControllerTest {
         @WithMockUser(username = testUsername)
         @DisplayName("should return 200 OK and a page of properties")
         void whenFindAllProperties_thenReturnsPageOfProperties() throws Exception {
-            Page<PropertyResponseDTO> propertyPage = new PageImpl<>(List.of(propertyResponseDTO), PageRequest.of(0, 10), 1);
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO), PageRequest.of(0, 10), 1);
             when(propertyService.findAllProperties(any(Pageable.class))).thenReturn(propertyPage);
 
             mockMvc.perform(get("/api/properties/all")
@@ -139,6 +149,9 @@ public class PropertyControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.content[0].id").value(testPropertyId))
+                    .andExpect(jsonPath("$.content[0].coverImageUrl").value(propertySummaryDTO.getCoverImageUrl()))
+                    .andExpect(jsonPath("$.content[0].averageRating").value(4.5))
+                    .andExpect(jsonPath("$.content[0].owner").doesNotExist())
                     .andExpect(jsonPath("$.totalPages").value(1))
                     .andExpect(jsonPath("$.totalElements").value(1));
         }
@@ -159,6 +172,49 @@ public class PropertyControllerTest {
                     .andExpect(jsonPath("$.title").value(propertyResponseDTO.getTitle()));
         }
 
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return a strong ETag built from the property version")
+        void whenPropertyExists_thenReturnsETag() throws Exception {
+            propertyResponseDTO.setVersion(3L);
+            when(propertyService.getPropertyVersion(testPropertyId)).thenReturn(3L);
+            when(propertyService.findPropertyById(testPropertyId)).thenReturn(propertyResponseDTO);
+
+            mockMvc.perform(get("/api/properties/{id}", testPropertyId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(jsonPath("$.version").value(3));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 304 Not Modified without loading the property when If-None-Match matches")
+        void whenIfNoneMatchMatches_thenReturns304() throws Exception {
+            when(propertyService.getPropertyVersion(testPropertyId)).thenReturn(3L);
+
+            mockMvc.perform(get("/api/properties/{id}", testPropertyId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(content().string(""));
+            verify(propertyService, never()).findPropertyById(any());
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 200 OK with the new ETag when If-None-Match is stale")
+        void whenIfNoneMatchIsStale_thenReturnsProperty() throws Exception {
+            propertyResponseDTO.setVersion(4L);
+            when(propertyService.getPropertyVersion(testPropertyId)).thenReturn(4L);
+            when(propertyService.findPropertyById(testPropertyId)).thenReturn(propertyResponseDTO);
+
+            mockMvc.perform(get("/api/properties/{id}", testPropertyId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                    .andExpect(jsonPath("$.id").value(testPropertyId));
+        }
+
         @Test
         @WithMockUser(username = testUsername)
         @DisplayName("should return 404 Not Found when property does not exist")
@@ -181,13 +237,13 @@ public class PropertyControllerTest {
         @WithMockUser(username = testUsername)
         @DisplayName("should return 200 OK and page of available properties")
         void whenFindByAvailable_thenReturnsProperties() throws Exception {
-            Page<PropertyResponseDTO> propertyPage = new PageImpl<>(List.of(propertyResponseDTO), PageRequest.of(0, 5), 1);
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO), PageRequest.of(0, 5), 1);
             when(propertyService.findAllPropertiesByAvailability(eq(true), any(Pageable.class))).thenReturn(propertyPage);
 
             mockMvc.perform(get("/api/properties/availability/{availability}", true)
                             .param("size", "5"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.content[0].availability").value(true));
+                    .andExpect(jsonPath("$.content[0].id").value(testPropertyId));
         }
     }
 
@@ -198,13 +254,14 @@ public class PropertyControllerTest {
         @WithMockUser(username = testUsername)
         @DisplayName("should return 200 OK for valid criteria")
         void whenValidCriteria_thenReturnsPage() throws Exception {
-            Page<PropertyResponseDTO> propertyPage = new PageImpl<>(List.of(propertyResponseDTO));
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO));
             when(propertyService.findAllPropertiesByAddressCountryAndCityAndAvailability(eq("Anytown"), eq("CountryLand"), eq(true), any(Pageable.class)))
                     .thenReturn(propertyPage);
 
             mockMvc.perform(get("/api/properties/{city}/{country}/{availability}", "Anytown", "CountryLand", true))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.content[0].id").value(testPropertyId));
+                    .andExpect(jsonPath("$.content[0].id").value(testPropertyId))
+                    .andExpect(jsonPath("$.content[0].city").value("Anytown"));
         }
 
         @Test
@@ -231,7 +288,7 @@ public class PropertyControllerTest {
         @WithMockUser(username = testUsername)
         @DisplayName("should return 200 OK for valid property type")
         void whenValidPropertyType_thenReturnsPage() throws Exception {
-            Page<PropertyResponseDTO> propertyPage = new PageImpl<>(List.of(propertyResponseDTO));
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO));
             when(propertyService.findAllPropertiesByPropertyTypeAndAvailability(eq(PropertyType.HOUSE), eq(true), any(Pageable.class)))
                     .thenReturn(propertyPage);
 
@@ -252,6 +309,136 @@ public class PropertyControllerTest {
     }
 
 
+    @Nested
+    @DisplayName("GET /api/properties/search")
+    class SearchPropertiesTests {
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 200 OK and bind all query parameters into the criteria")
+        void whenValidCriteria_thenReturnsPage() throws Exception {
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO), PageRequest.of(0, 10), 1);
+            when(propertyService.searchProperties(any(PropertySearchCriteriaDTO.class), any(Pageable.class))).thenReturn(propertyPage);
+
+            mockMvc.perform(get("/api/properties/search")
+                            .param("propertyType", "HOUSE")
+                            .param("city", "Anytown")
+                            .param("country", "CountryLand")
+                            .param("minPrice", "100")
+                            .param("maxPrice", "300")
+                            .param("minRooms", "2")
+                            .param("availability", "true")
+                            .param("availableFrom", "2026-12-20")
+                            .param("availableTo", "2026-12-27"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(testPropertyId));
+
+            ArgumentCaptor<PropertySearchCriteriaDTO> captor = ArgumentCaptor.forClass(PropertySearchCriteriaDTO.class);
+            Mockito.verify(propertyService).searchProperties(captor.capture(), any(Pageable.class));
+            PropertySearchCriteriaDTO criteria = captor.getValue();
+            assertEquals(PropertyType.HOUSE, criteria.getPropertyType());
+            assertEquals("Anytown", criteria.getCity());
+            assertEquals(0, new BigDecimal("300").compareTo(criteria.getMaxPrice()));
+            assertEquals(2, criteria.getMinRooms());
+            assertEquals(LocalDate.of(2026, 12, 20), criteria.getAvailableFrom());
+            assertEquals(LocalDate.of(2026, 12, 27), criteria.getAvailableTo());
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 400 Bad Request for a negative minimum price")
+        void whenNegativeMinPrice_thenReturns400() throws Exception {
+            mockMvc.perform(get("/api/properties/search").param("minPrice", "-1"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsStringIgnoringCase("minPrice: Minimum price cannot be negative")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/properties/free")
+    class FindFreePropertiesTests {
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 200 OK with the properties free in the given dates")
+        void whenValidDates_thenReturnsPage() throws Exception {
+            Page<PropertySummaryDTO> propertyPage = new PageImpl<>(List.of(propertySummaryDTO));
+            when(propertyService.findFreeProperties(eq(LocalDate.of(2026, 12, 20)), eq(LocalDate.of(2026, 12, 27)),
+                    eq("Krakow"), isNull(), eq(PropertyType.APARTMENT), any(Pageable.class))).thenReturn(propertyPage);
+
+            mockMvc.perform(get("/api/properties/free")
+                            .param("startDate", "2026-12-20")
+                            .param("endDate", "2026-12-27")
+                            .param("city", "Krakow")
+                            .param("propertyType", "APARTMENT"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(propertySummaryDTO.getId()));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 400 Bad Request when the end date is missing")
+        void whenEndDateMissing_thenReturns400() throws Exception {
+            mockMvc.perform(get("/api/properties/free").param("startDate", "2026-12-20"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Validation Error: Required parameter 'endDate' is missing."));
+
+            Mockito.verifyNoInteractions(propertyService);
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 400 Bad Request when the service rejects the dates")
+        void whenDatesInverted_thenReturns400() throws Exception {
+            when(propertyService.findFreeProperties(any(), any(), any(), any(), any(), any(Pageable.class)))
+                    .thenThrow(new IllegalArgumentException("Start date cannot be after end date."));
+
+            mockMvc.perform(get("/api/properties/free")
+                            .param("startDate", "2026-12-27")
+                            .param("endDate", "2026-12-20"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsStringIgnoringCase("Start date cannot be after end date.")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/properties/scroll")
+    class ScrollPropertiesTests {
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 200 OK with the slice and the next cursor")
+        void whenCursorGiven_thenReturnsSlice() throws Exception {
+            CursorPageResponseDTO<PropertySummaryDTO> slice = new CursorPageResponseDTO<>(List.of(propertySummaryDTO), "2023-10-01T12:00,1", true);
+            when(propertyService.findPropertiesAfter("2023-10-02T12:00,7", 5)).thenReturn(slice);
+
+            mockMvc.perform(get("/api/properties/scroll")
+                            .param("after", "2023-10-02T12:00,7")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(testPropertyId))
+                    .andExpect(jsonPath("$.nextCursor").value("2023-10-01T12:00,1"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should use the default size when no parameters are given")
+        void whenNoParameters_thenUsesDefaultSize() throws Exception {
+            when(propertyService.findPropertiesAfter(null, 20)).thenReturn(new CursorPageResponseDTO<>(List.of(propertySummaryDTO), null, false));
+
+            mockMvc.perform(get("/api/properties/scroll"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @WithMockUser(username = testUsername)
+        @DisplayName("should return 400 Bad Request for a size above the limit")
+        void whenSizeTooLarge_thenReturns400() throws Exception {
+            mockMvc.perform(get("/api/properties/scroll").param("size", "500"))
+                    .andExpect(status().isBadRequest());
+            Mockito.verifyNoInteractions(propertyService);
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/properties/create")
     class CreatePropertyTests {
@@ -5,7 +5,6 @@ import org.example.rentify.dto.registration.UserRegistrationDTO;
 import org.example.rentify.dto.request.AddressRequestDTO;
 import org.example.rentify.dto.request.UserRequestDTO;
 import org.example.rentify.dto.response.*;
-import org.example.rentify.entity.User;
 import org.example.rentify.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -68,7 +68,6 @@ public class UserControllerTest {
 
 
     private final String adminUsername = "admin";
-    private User mockUserForSpell;
 
     @BeforeEach
     void setUp() {
@@ -88,11 +87,6 @@ public class UserControllerTest {
         validUserRegistrationDTO = new UserRegistrationDTO(
                 "newUser", "newPassword123!", "newuser@example.com", "New", "User", "+19876543210", validAddressRequestDTO
         );
-
-        mockUserForSpell = new User();
-        mockUserForSpell.setId(selfUserId);
-        mockUserForSpell.setUsername(selfUsername);
-        mockUserForSpell.setEmail(selfUserEmail);
     }
 
     @AfterEach
@@ -141,7 +135,7 @@ public class UserControllerTest {
         @WithMockUser(username = selfUsername)
         @DisplayName("should return 200 OK when user requests their own details by ID")
         void whenUserRequestsOwnId_thenReturnsUser() throws Exception {
-            when(userService.findUserEntityById(selfUserId)).thenReturn(mockUserForSpell);
+            when(userService.isSelf(eq(selfUserId), any(UserDetails.class))).thenReturn(true);
             when(userService.findUserDtoById(selfUserId)).thenReturn(userResponseDTO);
 
             mockMvc.perform(get("/api/users/{id}", selfUserId))
@@ -154,10 +148,7 @@ public class UserControllerTest {
         @WithMockUser(username = selfUsername)
         @DisplayName("should return 403 Forbidden when user requests another user's details by ID")
         void whenUserRequestsOtherId_thenReturns403() throws Exception {
-            User otherMockUser = new User();
-            otherMockUser.setId(otherUserId);
-            otherMockUser.setUsername(otherUsername);
-            when(userService.findUserEntityById(otherUserId)).thenReturn(otherMockUser);
+            when(userService.isSelf(eq(otherUserId), any(UserDetails.class))).thenReturn(false);
 
             mockMvc.perform(get("/api/users/{id}", otherUserId))
                     .andExpect(status().isForbidden());
@@ -244,7 +235,7 @@ public class UserControllerTest {
         @WithMockUser(username = selfUsername)
         @DisplayName("should return 200 OK when user requests their own details by email")
         void whenUserRequestsOwnEmail_thenReturnsUser() throws Exception {
-            when(userService.findUserEntityByEmail(selfUserEmail)).thenReturn(mockUserForSpell);
+            when(userService.isSelfByEmail(eq(selfUserEmail), any(UserDetails.class))).thenReturn(true);
             when(userService.findUserDtoByEmail(selfUserEmail)).thenReturn(userResponseDTO);
             mockMvc.perform(get("/api/users/email/{email}", selfUserEmail))
                     .andExpect(status().isOk())
@@ -319,7 +310,7 @@ public class UserControllerTest {
         @DisplayName("should return 200 OK when user updates their own details with valid DTO")
         void whenUserUpdatesOwnDetails_thenSucceeds() throws Exception {
             MessageResponseDTO successResponse = new MessageResponseDTO("User updated successfully.");
-            when(userService.findUserEntityById(selfUserId)).thenReturn(mockUserForSpell);
+            when(userService.isSelf(eq(selfUserId), any(UserDetails.class))).thenReturn(true);
             when(userService.updateUser(eq(selfUserId), any(UserRequestDTO.class))).thenReturn(successResponse);
 
             mockMvc.perform(put("/api/users/{id}", selfUserId)
@@ -350,7 +341,7 @@ public class UserControllerTest {
             invalidUpdateDto.setEmail("invalid-email");
             invalidUpdateDto.setUsername("validUser");
 
-            when(userService.findUserEntityById(selfUserId)).thenReturn(mockUserForSpell);
+            when(userService.isSelf(eq(selfUserId), any(UserDetails.class))).thenReturn(true);
 
             mockMvc.perform(put("/api/users/{id}", selfUserId)
                             .contentType(MediaType.APPLICATION_JSON)
@@ -385,6 +376,41 @@ public class UserControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("PATCH /api/users/{id}/enabled")
+    class SetUserEnabledTests {
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should return 200 OK when ADMIN disables user")
+        void whenAdminDisablesUser_thenSucceeds() throws Exception {
+            MessageResponseDTO successResponse = new MessageResponseDTO("User disabled successfully: " + otherUsername);
+            when(userService.setUserEnabled(otherUserId, false)).thenReturn(successResponse);
+
+            mockMvc.perform(patch("/api/users/{id}/enabled", otherUserId).param("enabled", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value(successResponse.getMessage()));
+        }
+
+        @Test
+        @WithMockUser(username = adminUsername, roles = "ADMIN")
+        @DisplayName("should return 404 Not Found when user to disable does not exist")
+        void whenUserToDisableNotFound_thenReturns404() throws Exception {
+            when(userService.setUserEnabled(999L, false))
+                    .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: 999"));
+
+            mockMvc.perform(patch("/api/users/{id}/enabled", 999L).param("enabled", "false"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @WithMockUser(username = selfUsername, roles = "USER")
+        @DisplayName("should return 403 Forbidden when non-ADMIN tries to disable user")
+        void whenNonAdminDisablesUser_thenReturns403() throws Exception {
+            mockMvc.perform(patch("/api/users/{id}/enabled", otherUserId).param("enabled", "false"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/users/update/password")
     class ChangePasswordTests {
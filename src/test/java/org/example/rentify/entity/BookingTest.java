@@ -34,7 +34,7 @@ class BookingTest {
         booking.setUser(user);
         booking.setStartDate(LocalDate.of(2025, 10, 1));
         booking.setEndDate(LocalDate.of(2025, 10, 10));
-        booking.setTotalPrice(new BigDecimal("1000.00"));
+        booking.setTotalPrice(Money.of(new BigDecimal("1000.00")));
         booking.setBookingDate(LocalDateTime.of(2025, 9, 1, 10, 0));
         booking.setBookingStatus(BookingStatus.PENDING);
         Payment payment = new Payment();
@@ -47,7 +47,7 @@ class BookingTest {
         assertEquals(user, booking.getUser());
         assertEquals(LocalDate.of(2025, 10, 1), booking.getStartDate());
         assertEquals(LocalDate.of(2025, 10, 10), booking.getEndDate());
-        assertEquals(new BigDecimal("1000.00"), booking.getTotalPrice());
+        assertEquals(Money.of(new BigDecimal("1000.00")), booking.getTotalPrice());
         assertEquals(LocalDateTime.of(2025, 9, 1, 10, 0), booking.getBookingDate());
         assertEquals(BookingStatus.PENDING, booking.getBookingStatus());
         assertEquals(payment, booking.getPayment());
@@ -59,7 +59,7 @@ class BookingTest {
     void testAllArgsConstructor() {
         LocalDate startDate = LocalDate.of(2025, 11, 1);
         LocalDate endDate = LocalDate.of(2025, 11, 5);
-        BigDecimal totalPrice = new BigDecimal("500.00");
+        Money totalPrice = Money.of(new BigDecimal("500.00"));
         LocalDateTime bookingDate = LocalDateTime.of(2025, 10, 15, 14, 30);
         BookingStatus status = BookingStatus.CONFIRMED;
         Payment payment = new Payment();
@@ -84,7 +84,7 @@ class BookingTest {
     void testBuilder() {
         LocalDate startDate = LocalDate.of(2026, 1, 10);
         LocalDate endDate = LocalDate.of(2026, 1, 15);
-        BigDecimal totalPrice = new BigDecimal("750.00");
+        Money totalPrice = Money.of(new BigDecimal("750.00"));
         LocalDateTime bookingDate = LocalDateTime.now();
         BookingStatus status = BookingStatus.COMPLETED;
         Payment payment = Payment.builder().id(2L).build();
@@ -122,7 +122,7 @@ class BookingTest {
         LocalDateTime commonBookingDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
         LocalDate commonStartDate = LocalDate.of(2025, 2, 1);
         LocalDate commonEndDate = LocalDate.of(2025, 2, 10);
-        BigDecimal commonPrice = new BigDecimal("200.00");
+        Money commonPrice = Money.of(new BigDecimal("200.00"));
 
         Booking booking1 = Booking.builder()
                 .id(1L)
@@ -156,7 +156,7 @@ class BookingTest {
         LocalDateTime commonBookingDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
         LocalDate commonStartDate = LocalDate.of(2025, 2, 1);
         LocalDate commonEndDate = LocalDate.of(2025, 2, 10);
-        BigDecimal commonPrice = new BigDecimal("200.00");
+        Money commonPrice = Money.of(new BigDecimal("200.00"));
 
         Booking booking1 = Booking.builder()
                 .id(1L)
@@ -209,7 +209,7 @@ class BookingTest {
                 .id(1L)
                 .startDate(LocalDate.of(2025, 2, 1))
                 .endDate(LocalDate.of(2025, 2, 10))
-                .totalPrice(new BigDecimal("200.00"))
+                .totalPrice(Money.of(new BigDecimal("200.00")))
                 .bookingDate(LocalDateTime.of(2025, 1, 1, 12, 0, 0))
                 .bookingStatus(BookingStatus.PENDING)
                 .build();
@@ -224,7 +224,7 @@ class BookingTest {
                 .id(1L)
                 .startDate(LocalDate.of(2025, 2, 1))
                 .endDate(LocalDate.of(2025, 2, 10))
-                .totalPrice(new BigDecimal("200.00"))
+                .totalPrice(Money.of(new BigDecimal("200.00")))
                 .bookingDate(LocalDateTime.of(2025, 1, 1, 12, 0, 0))
                 .bookingStatus(BookingStatus.PENDING)
                 .build();
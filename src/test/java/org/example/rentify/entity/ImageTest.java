@@ -44,13 +44,14 @@ class ImageTest {
     @DisplayName("Should create Image with all-args constructor")
     void testAllArgsConstructor() {
         LocalDateTime uploadTime = LocalDateTime.of(2025, 5, 26, 15, 30, 0);
-        Image image = new Image(2L, property, "example.com/another.jpg", "Another test image", uploadTime);
+        Image image = new Image(2L, property, "example.com/another.jpg", "Another test image", uploadTime, 3L);
 
         assertEquals(2L, image.getId());
         assertEquals(property, image.getProperty());
         assertEquals("example.com/another.jpg", image.getImageUrl());
         assertEquals("Another test image", image.getDescription());
         assertEquals(uploadTime, image.getUploadDate());
+        assertEquals(3L, image.getVersion());
     }
 
     @Test
@@ -58,8 +59,8 @@ class ImageTest {
     void testEqualsAndHashCode_SameLogicalObjects() {
         LocalDateTime commonUploadDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
 
-        Image image1 = new Image(1L, null, "example.com/img1.jpg", "Desc1", commonUploadDate);
-        Image image2 = new Image(1L, Property.builder().id(99L).build(), "example.com/img1.jpg", "Desc1", commonUploadDate);
+        Image image1 = new Image(1L, null, "example.com/img1.jpg", "Desc1", commonUploadDate, 0L);
+        Image image2 = new Image(1L, Property.builder().id(99L).build(), "example.com/img1.jpg", "Desc1", commonUploadDate, 0L);
         assertEquals(image1, image2, "Images with same id, imageUrl, description, and uploadDate should be equal.");
         assertEquals(image1.hashCode(), image2.hashCode(), "HashCodes should be the same for equal objects based on defined fields.");
     }
@@ -70,11 +71,11 @@ class ImageTest {
         LocalDateTime commonUploadDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
         Property someProperty = Property.builder().id(1L).build();
 
-        Image image1 = new Image(1L, someProperty, "example.com/img.jpg", "Desc", commonUploadDate);
-        Image image2_differentId = new Image(2L, someProperty, "example.com/img.jpg", "Desc", commonUploadDate);
-        Image image3_differentUrl = new Image(1L, someProperty, "example.com/img_DIFFERENT.jpg", "Desc", commonUploadDate);
-        Image image4_differentDesc = new Image(1L, someProperty, "http:/example.com/img.jpg", "DIFFERENT Desc", commonUploadDate);
-        Image image5_differentDate = new Image(1L, someProperty, "example.com/img.jpg", "Desc", LocalDateTime.now());
+        Image image1 = new Image(1L, someProperty, "example.com/img.jpg", "Desc", commonUploadDate, 0L);
+        Image image2_differentId = new Image(2L, someProperty, "example.com/img.jpg", "Desc", commonUploadDate, 0L);
+        Image image3_differentUrl = new Image(1L, someProperty, "example.com/img_DIFFERENT.jpg", "Desc", commonUploadDate, 0L);
+        Image image4_differentDesc = new Image(1L, someProperty, "http:/example.com/img.jpg", "DIFFERENT Desc", commonUploadDate, 0L);
+        Image image5_differentDate = new Image(1L, someProperty, "example.com/img.jpg", "Desc", LocalDateTime.now(), 0L);
 
         assertNotEquals(image1, image2_differentId, "Images with different IDs should not be equal.");
         assertNotEquals(image1, image3_differentUrl, "Images with different imageUrls should not be equal.");
@@ -87,14 +88,14 @@ class ImageTest {
     @Test
     @DisplayName("Equals should be true for same instance")
     void testEquals_SameInstance() {
-        Image image1 = new Image(1L, property, "example.com/img.jpg", "Desc", LocalDateTime.now());
+        Image image1 = new Image(1L, property, "example.com/img.jpg", "Desc", LocalDateTime.now(), 0L);
         assertEquals(image1, image1);
     }
 
     @Test
     @DisplayName("HashCode consistency based on defined fields")
     void testHashCode_Consistency() {
-        Image image = new Image(1L, property, "example.com/img.jpg", "Desc", LocalDateTime.of(2025, 1, 1, 0,0));
+        Image image = new Image(1L, property, "example.com/img.jpg", "Desc", LocalDateTime.of(2025, 1, 1, 0,0), 0L);
         int initialHashCode = image.hashCode();
 
         image.setProperty(Property.builder().id(5L).title("Another Property For Image").build());
@@ -108,9 +109,9 @@ class ImageTest {
     @DisplayName("Test with null description for equals and hashCode")
     void testNullDescriptionInEqualsAndHashCode() {
         LocalDateTime commonUploadDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
-        Image image1 = new Image(1L, property, "url", null, commonUploadDate);
-        Image image2 = new Image(1L, property, "url", null, commonUploadDate);
-        Image image3 = new Image(1L, property, "url", "desc", commonUploadDate);
+        Image image1 = new Image(1L, property, "url", null, commonUploadDate, 0L);
+        Image image2 = new Image(1L, property, "url", null, commonUploadDate, 0L);
+        Image image3 = new Image(1L, property, "url", "desc", commonUploadDate, 0L);
 
         assertEquals(image1, image2);
         assertEquals(image1.hashCode(), image2.hashCode());
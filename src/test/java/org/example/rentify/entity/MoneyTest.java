@@ -0,0 +1,80 @@
+package org.example.rentify.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should create amounts from decimals of any scale up to the currency's")
+    void testOf() {
+        assertEquals(10050, Money.of(new BigDecimal("100.50")).minorUnits());
+        assertEquals(Money.of(new BigDecimal("100")), Money.of(new BigDecimal("100.00")));
+        assertEquals(Money.ofMinor(10000), Money.of(new BigDecimal("1E+2")));
+        assertEquals(Money.DEFAULT_CURRENCY, Money.ofMinor(1).currency());
+    }
+
+    @Test
+    @DisplayName("Should reject amounts with more decimal places than the currency or too large for a long")
+    void testOf_whenNotExact_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("100.001")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1E+20")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(BigDecimal.ONE, Currency.getInstance("XAU")));
+    }
+
+    @Test
+    @DisplayName("Should add, subtract, multiply and negate exactly")
+    void testArithmetic() {
+        Money price = Money.of(new BigDecimal("0.10"));
+
+        assertEquals(Money.of(new BigDecimal("0.30")), price.plus(price).plus(price));
+        assertEquals(Money.of(new BigDecimal("-0.10")), price.minus(price.times(2)));
+        assertEquals(Money.of(new BigDecimal("-0.10")), price.negate());
+        assertEquals(Money.ofMinor(70), price.times(7));
+        assertTrue(price.isPositive());
+        assertEquals(0, Money.zero(Money.DEFAULT_CURRENCY).signum());
+    }
+
+    @Test
+    @DisplayName("Should throw ArithmeticException on overflow")
+    void testArithmetic_whenOverflow_shouldThrowArithmeticException() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).times(2));
+    }
+
+    @Test
+    @DisplayName("Should not mix currencies")
+    void testCurrencyMismatch_shouldThrowIllegalArgumentException() {
+        Money euros = new Money(100, Currency.getInstance("EUR"));
+
+        assertThrows(IllegalArgumentException.class, () -> Money.ofMinor(100).plus(euros));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofMinor(100).compareTo(euros));
+        assertNotEquals(Money.ofMinor(100), euros);
+    }
+
+    @Test
+    @DisplayName("Should convert to a decimal with the scale of the currency")
+    void testToBigDecimal() {
+        assertEquals(new BigDecimal("100.50"), Money.ofMinor(10050).toBigDecimal());
+        assertEquals(new BigDecimal("100.00"), Money.of(new BigDecimal("100")).toBigDecimal());
+        assertEquals("100.50 PLN", Money.ofMinor(10050).toString());
+        assertTrue(Money.ofMinor(1).compareTo(Money.ofMinor(2)) < 0);
+    }
+
+    @Test
+    @DisplayName("MoneyConverter should round-trip amounts and nulls")
+    void testConverter() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("100.50"), converter.convertToDatabaseColumn(Money.ofMinor(10050)));
+        assertEquals(Money.ofMinor(10050), converter.convertToEntityAttribute(new BigDecimal("100.5")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -30,7 +30,7 @@ class PaymentTest {
         assertNull(payment.getId());
 
         LocalDateTime paymentTime = LocalDateTime.of(2025, 5, 27, 12, 0, 0);
-        BigDecimal amount = new BigDecimal("199.99");
+        Money amount = Money.of(new BigDecimal("199.99"));
 
         payment.setId(1L);
         payment.setUser(user);
@@ -55,12 +55,12 @@ class PaymentTest {
     @DisplayName("Should create Payment with all-args constructor")
     void testAllArgsConstructor() {
         LocalDateTime paymentTime = LocalDateTime.of(2025, 5, 26, 18, 30, 0);
-        BigDecimal amount = new BigDecimal("99.50");
+        Money amount = Money.of(new BigDecimal("99.50"));
         PaymentMethod method = PaymentMethod.PAYPAL;
         PaymentStatus status = PaymentStatus.PENDING;
         String transactionId = "txn_def456";
 
-        Payment payment = new Payment(2L, user, booking, paymentTime, amount, method, status, transactionId);
+        Payment payment = new Payment(2L, user, booking, paymentTime, amount, method, status, transactionId, null, null, 0);
 
         assertEquals(2L, payment.getId());
         assertEquals(user, payment.getUser());
@@ -70,13 +70,15 @@ class PaymentTest {
         assertEquals(method, payment.getPaymentMethod());
         assertEquals(status, payment.getPaymentStatus());
         assertEquals(transactionId, payment.getTransactionId());
+        assertNull(payment.getProcessingClaim());
+        assertEquals(0, payment.getProcessingAttempts());
     }
 
     @Test
     @DisplayName("Should create Payment using builder")
     void testBuilder() {
         LocalDateTime paymentTime = LocalDateTime.now();
-        BigDecimal amount = new BigDecimal("300.00");
+        Money amount = Money.of(new BigDecimal("300.00"));
         PaymentMethod method = PaymentMethod.BANK_TRANSFER;
         PaymentStatus status = PaymentStatus.FAILED;
         String transactionId = "txn_ghi789";
@@ -106,7 +108,7 @@ class PaymentTest {
     @DisplayName("Equals and HashCode should be consistent based on defined fields")
     void testEqualsAndHashCode_SameLogicalObjects() {
         LocalDateTime commonPaymentDate = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
-        BigDecimal commonAmount = new BigDecimal("150.00");
+        Money commonAmount = Money.of(new BigDecimal("150.00"));
         String commonTxnId = "common_txn";
 
         Payment payment1 = Payment.builder()
@@ -139,7 +141,7 @@ class PaymentTest {
     @DisplayName("Equals should return false for different objects based on defined fields")
     void testEquals_DifferentObjects() {
         LocalDateTime commonPaymentDate = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
-        BigDecimal commonAmount = new BigDecimal("150.00");
+        Money commonAmount = Money.of(new BigDecimal("150.00"));
         String commonTxnId = "common_txn";
 
         Payment payment1 = Payment.builder()
@@ -154,7 +156,7 @@ class PaymentTest {
 
         Payment payment2_differentId = Payment.builder().id(2L).paymentDate(commonPaymentDate).amount(commonAmount).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.COMPLETED).transactionId(commonTxnId).user(user).booking(booking).build();
         Payment payment3_differentDate = Payment.builder().id(1L).paymentDate(LocalDateTime.now()).amount(commonAmount).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.COMPLETED).transactionId(commonTxnId).user(user).booking(booking).build();
-        Payment payment4_differentAmount = Payment.builder().id(1L).paymentDate(commonPaymentDate).amount(new BigDecimal("1.00")).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.COMPLETED).transactionId(commonTxnId).user(user).booking(booking).build();
+        Payment payment4_differentAmount = Payment.builder().id(1L).paymentDate(commonPaymentDate).amount(Money.of(new BigDecimal("1.00"))).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.COMPLETED).transactionId(commonTxnId).user(user).booking(booking).build();
         Payment payment5_differentMethod = Payment.builder().id(1L).paymentDate(commonPaymentDate).amount(commonAmount).paymentMethod(PaymentMethod.PAYPAL).paymentStatus(PaymentStatus.COMPLETED).transactionId(commonTxnId).user(user).booking(booking).build();
         Payment payment6_differentStatus = Payment.builder().id(1L).paymentDate(commonPaymentDate).amount(commonAmount).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.PENDING).transactionId(commonTxnId).user(user).booking(booking).build();
         Payment payment7_differentTxnId = Payment.builder().id(1L).paymentDate(commonPaymentDate).amount(commonAmount).paymentMethod(PaymentMethod.CREDIT_CARD).paymentStatus(PaymentStatus.COMPLETED).transactionId("different_txn").user(user).booking(booking).build();
@@ -181,7 +183,7 @@ class PaymentTest {
         Payment payment = Payment.builder()
                 .id(1L)
                 .paymentDate(LocalDateTime.of(2025, 1, 1, 10, 0))
-                .amount(new BigDecimal("100.00"))
+                .amount(Money.of(new BigDecimal("100.00")))
                 .paymentMethod(PaymentMethod.CREDIT_CARD)
                 .paymentStatus(PaymentStatus.COMPLETED)
                 .transactionId("txn1")
@@ -193,7 +195,7 @@ class PaymentTest {
         payment.setUser(User.builder().id(2L).build());
         assertEquals(initialHashCode, payment.hashCode(), "HashCode should not change if user (not in hashCode) changes.");
 
-        payment.setAmount(new BigDecimal("101.00"));
+        payment.setAmount(Money.of(new BigDecimal("101.00")));
         assertNotEquals(initialHashCode, payment.hashCode(), "HashCode should change if amount (in hashCode) changes.");
     }
 
@@ -201,7 +203,7 @@ class PaymentTest {
     @DisplayName("Test with null transactionId for equals and hashCode")
     void testNullTransactionIdInEqualsAndHashCode() {
         LocalDateTime commonDate = LocalDateTime.of(2025, 1, 1, 0,0);
-        BigDecimal commonAmount = new BigDecimal("50.00");
+        Money commonAmount = Money.of(new BigDecimal("50.00"));
 
         Payment payment1 = Payment.builder().id(1L).paymentDate(commonDate).amount(commonAmount).paymentMethod(PaymentMethod.PAYPAL).paymentStatus(PaymentStatus.PENDING).transactionId(null).build();
         Payment payment2 = Payment.builder().id(1L).paymentDate(commonDate).amount(commonAmount).paymentMethod(PaymentMethod.PAYPAL).paymentStatus(PaymentStatus.PENDING).transactionId(null).build();
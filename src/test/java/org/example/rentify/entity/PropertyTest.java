@@ -41,7 +41,7 @@ class PropertyTest {
         property.setPropertyType(PropertyType.HOUSE);
         property.setArea(120.75);
         property.setNumberOfRooms(3);
-        property.setPricePerDay(new BigDecimal("150.00"));
+        property.setPricePerDay(Money.of(new BigDecimal("150.00")));
         property.setAvailability(false);
         property.setCreationDate(creationTime);
         property.setAddress(address);
@@ -56,7 +56,7 @@ class PropertyTest {
         assertEquals(PropertyType.HOUSE, property.getPropertyType());
         assertEquals(120.75, property.getArea());
         assertEquals(3, property.getNumberOfRooms());
-        assertEquals(new BigDecimal("150.00"), property.getPricePerDay());
+        assertEquals(Money.of(new BigDecimal("150.00")), property.getPricePerDay());
         assertFalse(property.getAvailability());
         assertEquals(creationTime, property.getCreationDate());
         assertEquals(address, property.getAddress());
@@ -75,8 +75,8 @@ class PropertyTest {
 
         Property property = new Property(
                 2L, owner, "Grand Villa", "A luxurious villa with a pool.",
-                PropertyType.VILLA, 350.50, 7, new BigDecimal("500.00"),
-                true, creationTime, address, images, bookings, reviews
+                PropertyType.VILLA, 350.50, 7, Money.of(new BigDecimal("500.00")),
+                true, creationTime, address, images, bookings, reviews, 3L
         );
 
         assertEquals(2L, property.getId());
@@ -86,13 +86,14 @@ class PropertyTest {
         assertEquals(PropertyType.VILLA, property.getPropertyType());
         assertEquals(350.50, property.getArea());
         assertEquals(7, property.getNumberOfRooms());
-        assertEquals(new BigDecimal("500.00"), property.getPricePerDay());
+        assertEquals(Money.of(new BigDecimal("500.00")), property.getPricePerDay());
         assertTrue(property.getAvailability());
         assertEquals(creationTime, property.getCreationDate());
         assertEquals(address, property.getAddress());
         assertEquals(images, property.getImages());
         assertEquals(bookings, property.getBookings());
         assertEquals(reviews, property.getReviews());
+        assertEquals(3L, property.getVersion());
     }
 
     @Test
@@ -106,7 +107,7 @@ class PropertyTest {
                 .propertyType(PropertyType.APARTMENT)
                 .area(85.0)
                 .numberOfRooms(2)
-                .pricePerDay(new BigDecimal("220.00"))
+                .pricePerDay(Money.of(new BigDecimal("220.00")))
                 .address(address)
                 .images(new ArrayList<>())
                 .bookings(new ArrayList<>())
@@ -134,7 +135,7 @@ class PropertyTest {
                 .title("Rustic Cabin")
                 .propertyType(PropertyType.HOUSE)
                 .area(60.0)
-                .pricePerDay(new BigDecimal("90.00"))
+                .pricePerDay(Money.of(new BigDecimal("90.00")))
                 .availability(false)
                 .creationDate(specificCreationTime)
                 .address(address)
@@ -152,14 +153,14 @@ class PropertyTest {
         LocalDateTime commonCreationDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
         Property property1 = Property.builder()
                 .id(1L).title("Test Prop").description("Desc").propertyType(PropertyType.HOUSE)
-                .area(100.0).numberOfRooms(3).pricePerDay(new BigDecimal("100"))
+                .area(100.0).numberOfRooms(3).pricePerDay(Money.of(new BigDecimal("100")))
                 .availability(true).creationDate(commonCreationDate)
                 .owner(owner).address(address)
                 .build();
 
         Property property2 = Property.builder()
                 .id(1L).title("Test Prop").description("Desc").propertyType(PropertyType.HOUSE)
-                .area(100.0).numberOfRooms(3).pricePerDay(new BigDecimal("100"))
+                .area(100.0).numberOfRooms(3).pricePerDay(Money.of(new BigDecimal("100")))
                 .availability(true).creationDate(commonCreationDate)
                 .owner(User.builder().id(99L).build())
                 .address(Address.builder().id(99L).build())
@@ -173,7 +174,7 @@ class PropertyTest {
     @DisplayName("Equals should return false for different objects based on defined fields")
     void testEquals_DifferentObjects() {
         LocalDateTime commonCreationDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
-        BigDecimal commonPrice = new BigDecimal("100");
+        Money commonPrice = Money.of(new BigDecimal("100"));
         Double commonArea = 100.0;
         Integer commonRooms = 3;
         Boolean commonAvailability = true;
@@ -245,7 +246,7 @@ class PropertyTest {
     void testHashCode_Consistency() {
         Property property = Property.builder()
                 .id(1L).title("Consistent Prop").description("Desc").propertyType(PropertyType.APARTMENT)
-                .area(100.0).numberOfRooms(3).pricePerDay(new BigDecimal("100"))
+                .area(100.0).numberOfRooms(3).pricePerDay(Money.of(new BigDecimal("100")))
                 .availability(true).creationDate(LocalDateTime.of(2025,1,1,0,0))
                 .owner(owner)
                 .build();
@@ -263,7 +264,7 @@ class PropertyTest {
         LocalDateTime commonCreationDate = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
         PropertyType commonType = PropertyType.PENTHOUSE;
         Double commonArea = 50.0;
-        BigDecimal commonPrice = new BigDecimal("50");
+        Money commonPrice = Money.of(new BigDecimal("50"));
         Boolean commonAvailability = true;
 
 
@@ -88,7 +88,7 @@ class UserTest {
         User user = new User(2L, "jane_doe", "pa$$wOrd", "jane@example.com",
                 "Jane", "Doe", "987654321", regDate,
                 false, false, false, false,
-                address, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), roles);
+                address, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), roles, 4L);
 
         assertEquals(2L, user.getId());
         assertEquals("jane_doe", user.getUsername());
@@ -104,6 +104,7 @@ class UserTest {
         assertFalse(user.isEnabled());
         assertEquals(address, user.getAddress());
         assertTrue(user.getRoles().contains(roleAdmin));
+        assertEquals(4L, user.getTokenVersion());
     }
 
     @Test
@@ -127,6 +128,7 @@ class UserTest {
         assertTrue(user.isAccountNonLocked(), "AccountNonLocked should default to true");
         assertTrue(user.isCredentialsNonExpired(), "CredentialsNonExpired should default to true");
         assertTrue(user.isEnabled(), "Enabled should default to true");
+        assertEquals(0L, user.getTokenVersion(), "TokenVersion should default to 0");
         assertNotNull(user.getRoles(), "Roles should default to an empty set");
         assertTrue(user.getRoles().isEmpty(), "Roles should default to an empty set");
         assertNull(user.getProperties());
@@ -0,0 +1,232 @@
+package org.example.rentify.idempotency;
+
+import org.example.rentify.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter Unit Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"propertyId\":1}";
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(List.of(new AntPathRequestMatcher("/api/bookings/create", "POST")), idempotencyService);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("testUser", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("doFilter Tests")
+    class DoFilterTests {
+        @Test
+        @DisplayName("Should process a new request and store its response")
+        void doFilter_whenKeyNew_shouldProcessAndStoreResponse() throws Exception {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.STARTED, null));
+            EchoServlet servlet = new EchoServlet(201);
+
+            MockHttpServletResponse response = perform(request("key-1"), servlet);
+
+            assertEquals(201, response.getStatus());
+            assertEquals(BODY, response.getContentAsString());
+            assertEquals(BODY, servlet.receivedBody);
+            ArgumentCaptor<IdempotencyService.StoredResponse> captor = ArgumentCaptor.forClass(IdempotencyService.StoredResponse.class);
+            verify(idempotencyService).complete(eq("testUser"), eq("key-1"), captor.capture());
+            assertEquals(201, captor.getValue().status());
+            assertEquals(BODY, captor.getValue().body());
+            assertEquals("application/json", captor.getValue().contentType());
+            assertEquals(64, captor.getValue().requestHash().length());
+            verify(idempotencyService, never()).release(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should replay the stored response without processing the request")
+        void doFilter_whenKeyReplayed_shouldReturnStoredResponse() throws Exception {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.REPLAY,
+                            new IdempotencyService.StoredResponse("hash", 201, "application/json", "{\"id\":5}")));
+            EchoServlet servlet = new EchoServlet(201);
+
+            MockHttpServletResponse response = perform(request("key-1"), servlet);
+
+            assertEquals(201, response.getStatus());
+            assertEquals("{\"id\":5}", response.getContentAsString());
+            assertEquals("true", response.getHeader(IdempotencyFilter.HEADER_IDEMPOTENCY_REPLAYED));
+            assertNull(servlet.receivedBody);
+            verify(idempotencyService, never()).complete(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should hash the same request to the same value and a different body to a different one")
+        void doFilter_shouldHashMethodUriAndBody() throws Exception {
+            when(idempotencyService.start(eq("testUser"), anyString(), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.IN_PROGRESS, null));
+
+            perform(request("key-1"), new EchoServlet(201));
+            perform(request("key-1"), new EchoServlet(201));
+            MockHttpServletRequest other = request("key-1");
+            other.setContent("{\"propertyId\":2}".getBytes());
+            perform(other, new EchoServlet(201));
+
+            ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+            verify(idempotencyService, times(3)).start(eq("testUser"), eq("key-1"), captor.capture());
+            assertEquals(captor.getAllValues().get(0), captor.getAllValues().get(1));
+            assertNotEquals(captor.getAllValues().get(0), captor.getAllValues().get(2));
+        }
+
+        @Test
+        @DisplayName("Should return 422 when the key was used for a different request")
+        void doFilter_whenKeyMismatch_shouldReturn422() throws Exception {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.MISMATCH, null));
+            EchoServlet servlet = new EchoServlet(201);
+
+            MockHttpServletResponse response = perform(request("key-1"), servlet);
+
+            assertEquals(422, response.getStatus());
+            assertTrue(response.getContentAsString().contains("different request"));
+            assertNull(servlet.receivedBody);
+        }
+
+        @Test
+        @DisplayName("Should return 409 with Retry-After while the first request is in progress")
+        void doFilter_whenKeyInProgress_shouldReturn409() throws Exception {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.IN_PROGRESS, null));
+
+            MockHttpServletResponse response = perform(request("key-1"), new EchoServlet(201));
+
+            assertEquals(409, response.getStatus());
+            assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        }
+
+        @Test
+        @DisplayName("Should release the key when the request fails with a server error")
+        void doFilter_whenServerError_shouldReleaseKey() throws Exception {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.STARTED, null));
+
+            MockHttpServletResponse response = perform(request("key-1"), new EchoServlet(500));
+
+            assertEquals(500, response.getStatus());
+            verify(idempotencyService).release(eq("testUser"), eq("key-1"), anyString());
+            verify(idempotencyService, never()).complete(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should release the key when the request throws")
+        void doFilter_whenChainThrows_shouldReleaseKey() {
+            when(idempotencyService.start(eq("testUser"), eq("key-1"), anyString()))
+                    .thenReturn(new IdempotencyService.Outcome(IdempotencyService.Status.STARTED, null));
+            HttpServlet failing = new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                    throw new IllegalStateException("boom");
+                }
+            };
+
+            assertThrows(IllegalStateException.class, () -> perform(request("key-1"), failing));
+
+            verify(idempotencyService).release(eq("testUser"), eq("key-1"), anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject a key longer than 255 characters with 400")
+        void doFilter_whenKeyTooLong_shouldReturn400() throws Exception {
+            MockHttpServletResponse response = perform(request("k".repeat(256)), new EchoServlet(201));
+
+            assertEquals(400, response.getStatus());
+            verifyNoInteractions(idempotencyService);
+        }
+
+        @Test
+        @DisplayName("Should pass through requests without a key, of anonymous users or on other routes")
+        void doFilter_whenNotApplicable_shouldPassThrough() throws Exception {
+            assertEquals(201, perform(request(null), new EchoServlet(201)).getStatus());
+
+            MockHttpServletRequest otherRoute = request("key-1");
+            otherRoute.setRequestURI("/api/properties/create");
+            otherRoute.setServletPath("/api/properties/create");
+            assertEquals(201, perform(otherRoute, new EchoServlet(201)).getStatus());
+
+            SecurityContextHolder.clearContext();
+            assertEquals(201, perform(request("key-1"), new EchoServlet(201)).getStatus());
+
+            verifyNoInteractions(idempotencyService);
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, HttpServlet servlet) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/bookings/create");
+        request.setServletPath("/api/bookings/create");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes());
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.HEADER_IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        return request;
+    }
+
+    private static final class EchoServlet extends HttpServlet {
+
+        private final int status;
+        private String receivedBody;
+
+        private EchoServlet(int status) {
+            this.status = status;
+        }
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            receivedBody = new String(req.getInputStream().readAllBytes());
+            resp.setStatus(status);
+            resp.setContentType("application/json");
+            resp.getWriter().write(receivedBody);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.rentify.mapper;
 import org.example.rentify.dto.request.BookingRequestDTO;
 import org.example.rentify.dto.response.BookingResponseDTO;
 import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.BookingStatus;
@@ -46,7 +47,7 @@ class BookingMapperTest {
         bookingEntity.setProperty(propertyEntity);
         bookingEntity.setStartDate(LocalDate.of(2025, 9, 1));
         bookingEntity.setEndDate(LocalDate.of(2025, 9, 5));
-        bookingEntity.setTotalPrice(new BigDecimal("500.00"));
+        bookingEntity.setTotalPrice(Money.of(new BigDecimal("500.00")));
         bookingEntity.setBookingDate(LocalDateTime.now().minusDays(2));
         bookingEntity.setBookingStatus(BookingStatus.CONFIRMED);
     }
@@ -107,7 +108,7 @@ class BookingMapperTest {
             assertEquals(bookingEntity.getId(), mappedDto.getId());
             assertEquals(bookingEntity.getStartDate(), mappedDto.getStartDate());
             assertEquals(bookingEntity.getEndDate(), mappedDto.getEndDate());
-            assertEquals(bookingEntity.getTotalPrice(), mappedDto.getTotalPrice());
+            assertEquals(bookingEntity.getTotalPrice().toBigDecimal(), mappedDto.getTotalPrice());
             assertEquals(bookingEntity.getBookingDate(), mappedDto.getBookingDate());
             assertEquals(bookingEntity.getBookingStatus(), mappedDto.getBookingStatus());
         }
@@ -150,7 +151,7 @@ class BookingMapperTest {
             targetBooking.setProperty(new Property());
             targetBooking.setBookingDate(LocalDateTime.now().minusDays(5));
             targetBooking.setBookingStatus(BookingStatus.CANCELLED);
-            targetBooking.setTotalPrice(new BigDecimal("99.00"));
+            targetBooking.setTotalPrice(Money.of(new BigDecimal("99.00")));
             targetBooking.setStartDate(LocalDate.of(2024, 1, 1));
             targetBooking.setEndDate(LocalDate.of(2024, 1, 5));
 
@@ -165,7 +166,7 @@ class BookingMapperTest {
             assertNotNull(targetBooking.getProperty(), "Property should not be changed");
             assertNotNull(targetBooking.getBookingDate(), "BookingDate should not be changed");
             assertEquals(BookingStatus.CANCELLED, targetBooking.getBookingStatus(), "BookingStatus should not be changed");
-            assertEquals(new BigDecimal("99.00"), targetBooking.getTotalPrice(), "TotalPrice should not be changed");
+            assertEquals(Money.of(new BigDecimal("99.00")), targetBooking.getTotalPrice(), "TotalPrice should not be changed");
             assertNull(targetBooking.getPayment(), "Payment should remain ignored/null");
             assertNull(targetBooking.getReview(), "Review should remain ignored/null");
         }
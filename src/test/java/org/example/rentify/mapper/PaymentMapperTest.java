@@ -4,6 +4,7 @@ import org.example.rentify.dto.request.PaymentRequestDTO;
 import org.example.rentify.dto.response.BookingResponseDTO;
 import org.example.rentify.dto.response.PaymentResponseDTO;
 import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Payment;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PaymentMethod;
@@ -56,7 +57,7 @@ class PaymentMapperTest {
         paymentEntity.setUser(user);
         paymentEntity.setBooking(bookingEntity);
         paymentEntity.setPaymentDate(LocalDateTime.now().minusHours(2));
-        paymentEntity.setAmount(new BigDecimal("200.50"));
+        paymentEntity.setAmount(Money.of(new BigDecimal("200.50")));
         paymentEntity.setPaymentMethod(PaymentMethod.PAYPAL);
         paymentEntity.setPaymentStatus(PaymentStatus.COMPLETED);
         paymentEntity.setTransactionId("txn_xyz789");
@@ -72,7 +73,7 @@ class PaymentMapperTest {
             Payment mappedPayment = paymentMapper.paymentRequestDtoToPayment(paymentRequestDTO);
 
             assertNotNull(mappedPayment);
-            assertEquals(paymentRequestDTO.getAmount(), mappedPayment.getAmount());
+            assertEquals(Money.of(paymentRequestDTO.getAmount()), mappedPayment.getAmount());
             assertEquals(paymentRequestDTO.getPaymentMethod(), mappedPayment.getPaymentMethod());
             assertEquals(paymentRequestDTO.getTransactionId(), mappedPayment.getTransactionId());
 
@@ -116,7 +117,7 @@ class PaymentMapperTest {
             assertNotNull(mappedDto);
             assertEquals(paymentEntity.getId(), mappedDto.getId());
             assertEquals(paymentEntity.getPaymentDate(), mappedDto.getPaymentDate());
-            assertEquals(paymentEntity.getAmount(), mappedDto.getAmount());
+            assertEquals(paymentEntity.getAmount().toBigDecimal(), mappedDto.getAmount());
             assertEquals(paymentEntity.getPaymentMethod(), mappedDto.getPaymentMethod());
             assertEquals(paymentEntity.getPaymentStatus(), mappedDto.getPaymentStatus());
             assertEquals(paymentEntity.getTransactionId(), mappedDto.getTransactionId());
@@ -170,7 +171,7 @@ class PaymentMapperTest {
         void shouldUpdateEntityFromDto_NonNullFields() {
             Payment targetPayment = new Payment();
             targetPayment.setId(20L);
-            targetPayment.setAmount(new BigDecimal("50.00"));
+            targetPayment.setAmount(Money.of(new BigDecimal("50.00")));
             targetPayment.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
             targetPayment.setTransactionId("old_txn");
             User originalUser = new User(); originalUser.setId(2L);
@@ -183,7 +184,7 @@ class PaymentMapperTest {
 
             paymentMapper.updatePaymentFromDto(paymentRequestDTO, targetPayment);
 
-            assertEquals(paymentRequestDTO.getAmount(), targetPayment.getAmount());
+            assertEquals(Money.of(paymentRequestDTO.getAmount()), targetPayment.getAmount());
             assertEquals(paymentRequestDTO.getPaymentMethod(), targetPayment.getPaymentMethod());
             assertEquals(paymentRequestDTO.getTransactionId(), targetPayment.getTransactionId());
 
@@ -198,7 +199,7 @@ class PaymentMapperTest {
         @DisplayName("Should ignore null fields from DTO during update")
         void shouldIgnoreNullFieldsFromDtoDuringUpdate() {
             Payment targetPayment = new Payment();
-            targetPayment.setAmount(new BigDecimal("100.00"));
+            targetPayment.setAmount(Money.of(new BigDecimal("100.00")));
             targetPayment.setPaymentMethod(PaymentMethod.PAYPAL);
             targetPayment.setTransactionId("original_txn_id");
 
@@ -209,7 +210,7 @@ class PaymentMapperTest {
 
             paymentMapper.updatePaymentFromDto(updateDtoWithNulls, targetPayment);
 
-            assertEquals(new BigDecimal("100.00"), targetPayment.getAmount(), "Amount should not change for null DTO field");
+            assertEquals(Money.of(new BigDecimal("100.00")), targetPayment.getAmount(), "Amount should not change for null DTO field");
             assertEquals(PaymentMethod.PAYPAL, targetPayment.getPaymentMethod(), "PaymentMethod should be updated");
             assertEquals("original_txn_id", targetPayment.getTransactionId(), "TransactionId should not change for null DTO field");
         }
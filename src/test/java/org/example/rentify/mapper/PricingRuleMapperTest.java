@@ -0,0 +1,93 @@
+package org.example.rentify.mapper;
+
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.PricingRuleResponseDTO;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.PricingRule;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PricingRuleMapper Unit Tests")
+class PricingRuleMapperTest {
+
+    private PricingRuleMapper pricingRuleMapper;
+    private PricingRuleRequestDTO pricingRuleRequestDTO;
+
+    @BeforeEach
+    void setUp() {
+        pricingRuleMapper = Mappers.getMapper(PricingRuleMapper.class);
+
+        pricingRuleRequestDTO = new PricingRuleRequestDTO();
+        pricingRuleRequestDTO.setRuleType(PricingRuleType.NIGHTLY);
+        pricingRuleRequestDTO.setAdjustmentType(PricingAdjustmentType.FIXED_PRICE);
+        pricingRuleRequestDTO.setStartDate(LocalDate.of(2025, 7, 1));
+        pricingRuleRequestDTO.setEndDate(LocalDate.of(2025, 8, 31));
+        pricingRuleRequestDTO.setDaysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY));
+        pricingRuleRequestDTO.setFixedPrice(new BigDecimal("150.50"));
+        pricingRuleRequestDTO.setPriority(5);
+    }
+
+    @Test
+    @DisplayName("Should map the days of the week to a bitmask and back")
+    void shouldMapDaysOfWeekThroughBitmask() {
+        PricingRule pricingRule = pricingRuleMapper.pricingRuleRequestDtoToPricingRule(pricingRuleRequestDTO);
+
+        assertEquals(1 | (1 << 6), pricingRule.getDaysOfWeek());
+        assertEquals(Money.of(new BigDecimal("150.50")), pricingRule.getFixedPrice());
+        assertNull(pricingRule.getId());
+        assertNull(pricingRule.getProperty());
+
+        pricingRule.setId(1L);
+        PricingRuleResponseDTO responseDTO = pricingRuleMapper.pricingRuleToPricingRuleResponseDto(pricingRule);
+
+        assertEquals(1L, responseDTO.getId());
+        assertEquals(Set.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY), responseDTO.getDaysOfWeek());
+        assertEquals(new BigDecimal("150.50"), responseDTO.getFixedPrice());
+        assertEquals(5, responseDTO.getPriority());
+    }
+
+    @Test
+    @DisplayName("Should map an empty set of days of the week to every day")
+    void shouldMapEmptyDaysOfWeekToNull() {
+        pricingRuleRequestDTO.setDaysOfWeek(Set.of());
+
+        assertNull(pricingRuleMapper.pricingRuleRequestDtoToPricingRule(pricingRuleRequestDTO).getDaysOfWeek());
+        assertNull(pricingRuleMapper.maskToDaysOfWeek(null));
+    }
+
+    @Test
+    @DisplayName("Should clear the values missing from the DTO on update")
+    void updatePricingRuleFromDto_shouldReplaceAllValues() {
+        PricingRule pricingRule = pricingRuleMapper.pricingRuleRequestDtoToPricingRule(pricingRuleRequestDTO);
+        pricingRule.setId(1L);
+        PricingRuleRequestDTO updateDTO = new PricingRuleRequestDTO();
+        updateDTO.setRuleType(PricingRuleType.LENGTH_OF_STAY);
+        updateDTO.setAdjustmentType(PricingAdjustmentType.PERCENTAGE);
+        updateDTO.setMinDays(7);
+        updateDTO.setPercentage(-10);
+
+        pricingRuleMapper.updatePricingRuleFromDto(updateDTO, pricingRule);
+
+        assertEquals(1L, pricingRule.getId());
+        assertEquals(PricingRuleType.LENGTH_OF_STAY, pricingRule.getRuleType());
+        assertEquals(7, pricingRule.getMinDays());
+        assertEquals(-10, pricingRule.getPercentage());
+        assertNull(pricingRule.getStartDate());
+        assertNull(pricingRule.getEndDate());
+        assertNull(pricingRule.getDaysOfWeek());
+        assertNull(pricingRule.getFixedPrice());
+        assertNull(pricingRule.getPriority());
+    }
+}
@@ -6,6 +6,7 @@ import org.example.rentify.dto.response.AddressResponseDTO;
 import org.example.rentify.dto.response.PropertyResponseDTO;
 import org.example.rentify.dto.response.UserResponseDTO;
 import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PropertyType;
@@ -95,7 +96,7 @@ class PropertyMapperTest {
         propertyEntity.setPropertyType(PropertyType.APARTMENT);
         propertyEntity.setArea(500.00);
         propertyEntity.setNumberOfRooms(15);
-        propertyEntity.setPricePerDay(new BigDecimal("1000.00"));
+        propertyEntity.setPricePerDay(Money.of(new BigDecimal("1000.00")));
         propertyEntity.setAvailability(false);
         propertyEntity.setOwner(ownerEntity);
         propertyEntity.setAddress(addressEntity);
@@ -120,7 +121,7 @@ class PropertyMapperTest {
             assertEquals(propertyRequestDTO.getPropertyType(), mappedProperty.getPropertyType());
             assertEquals(propertyRequestDTO.getArea(), mappedProperty.getArea());
             assertEquals(propertyRequestDTO.getNumberOfRooms(), mappedProperty.getNumberOfRooms());
-            assertEquals(BigDecimal.valueOf(propertyRequestDTO.getPricePerDay()), mappedProperty.getPricePerDay());
+            assertEquals(Money.of(BigDecimal.valueOf(propertyRequestDTO.getPricePerDay())), mappedProperty.getPricePerDay());
             assertEquals(propertyRequestDTO.isAvailability(), mappedProperty.getAvailability());
 
             assertNull(mappedProperty.getId(), "ID should be ignored");
@@ -178,7 +179,7 @@ class PropertyMapperTest {
             assertEquals(propertyEntity.getPropertyType().name(), mappedDto.getPropertyType());
             assertEquals(propertyEntity.getArea(), mappedDto.getArea());
             assertEquals(propertyEntity.getNumberOfRooms(), mappedDto.getNumberOfRooms());
-            assertEquals(propertyEntity.getPricePerDay(), mappedDto.getPricePerDay());
+            assertEquals(propertyEntity.getPricePerDay().toBigDecimal(), mappedDto.getPricePerDay());
             assertEquals(propertyEntity.getAvailability(), mappedDto.getAvailability());
             assertEquals(propertyEntity.getCreationDate(), mappedDto.getCreationDate());
 
@@ -229,7 +230,7 @@ class PropertyMapperTest {
             targetAddress.setPostalCode("OLD ZIP");
             targetProperty.setAddress(targetAddress);
             targetProperty.setTitle("Initial Title");
-            targetProperty.setPricePerDay(new BigDecimal("50.00"));
+            targetProperty.setPricePerDay(Money.of(new BigDecimal("50.00")));
             propertyMapper.updatePropertyFromDto(propertyRequestDTO, targetProperty);
 
             assertEquals(propertyRequestDTO.getTitle(), targetProperty.getTitle());
@@ -237,7 +238,7 @@ class PropertyMapperTest {
             assertEquals(propertyRequestDTO.getPropertyType(), targetProperty.getPropertyType());
             assertEquals(propertyRequestDTO.getArea(), targetProperty.getArea());
             assertEquals(propertyRequestDTO.getNumberOfRooms(), targetProperty.getNumberOfRooms());
-            assertEquals(BigDecimal.valueOf(propertyRequestDTO.getPricePerDay()), targetProperty.getPricePerDay());
+            assertEquals(Money.of(BigDecimal.valueOf(propertyRequestDTO.getPricePerDay())), targetProperty.getPricePerDay());
             assertEquals(propertyRequestDTO.isAvailability(), targetProperty.getAvailability());
 
 
@@ -311,7 +312,7 @@ class PropertyMapperTest {
             assertEquals(PropertyType.APARTMENT, targetProperty.getPropertyType());
             assertEquals(100.0, targetProperty.getArea());
             assertEquals(3, targetProperty.getNumberOfRooms());
-            assertEquals(BigDecimal.valueOf(120.50), targetProperty.getPricePerDay());
+            assertEquals(Money.of(BigDecimal.valueOf(120.50)), targetProperty.getPricePerDay());
             assertFalse(targetProperty.getAvailability());
             assertNotNull(targetProperty.getAddress());
             assertEquals("Unchanged St", targetProperty.getAddress().getStreetAddress());
@@ -321,7 +322,7 @@ class PropertyMapperTest {
             Property targetProperty = new Property();
             targetProperty.setTitle("Original Title");
             targetProperty.setDescription("Original Description");
-            targetProperty.setPricePerDay(new BigDecimal("100.00"));
+            targetProperty.setPricePerDay(Money.of(new BigDecimal("100.00")));
             targetProperty.setPropertyType(PropertyType.APARTMENT);
             targetProperty.setArea(100.0);
             targetProperty.setNumberOfRooms(3);
@@ -0,0 +1,206 @@
+package org.example.rentify.payment;
+
+import org.example.rentify.dto.request.PaymentRequestDTO;
+import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.entity.enums.BookingStatus;
+import org.example.rentify.entity.enums.PaymentMethod;
+import org.example.rentify.entity.enums.PropertyType;
+import org.example.rentify.repository.BookingRepository;
+import org.example.rentify.repository.PropertyRepository;
+import org.example.rentify.repository.RoleRepository;
+import org.example.rentify.repository.UserRepository;
+import org.example.rentify.service.PaymentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Checks that concurrent payment processing workers claim disjoint batches, so every pending payment is charged
+ * exactly once and completed, and that the revenue rollup follows the new status.
+ * Runs against the PostgreSQL database configured through the POSTGRES_* environment variables.
+ */
+@SpringBootTest(properties = {
+        "rentify.payment.gateway=counting",
+        "rentify.payment.processing.enabled=false",
+        "rentify.payment.processing.batch-size=3"
+})
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB", matches = ".+")
+@DisplayName("PaymentProcessingWorker Integration Tests")
+class PaymentProcessingIntegrationTest {
+
+    private static final int PAYMENTS = 30;
+    private static final int WORKERS = 8;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Autowired
+    private PaymentProcessingWorker worker;
+    @Autowired
+    private CountingPaymentGateway gateway;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User guest;
+    private Property property;
+
+    @TestConfiguration
+    static class GatewayConfig {
+        @Bean
+        CountingPaymentGateway countingPaymentGateway() {
+            return new CountingPaymentGateway();
+        }
+    }
+
+    static class CountingPaymentGateway implements PaymentGateway {
+        private final Map<Long, AtomicInteger> charges = new ConcurrentHashMap<>();
+
+        @Override
+        public PaymentGatewayResult charge(PaymentGatewayRequest request) {
+            charges.computeIfAbsent(request.paymentId(), id -> new AtomicInteger()).incrementAndGet();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PaymentGatewayResult.approved("counted_" + request.paymentId());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findRoleByName("USER").orElseThrow();
+        owner = userRepository.save(newUser("processing_owner", userRole));
+        guest = userRepository.save(newUser("processing_guest", userRole));
+        property = propertyRepository.save(Property.builder()
+                .owner(owner)
+                .title("Processing property")
+                .propertyType(PropertyType.HOUSE)
+                .area(80.0)
+                .numberOfRooms(3)
+                .pricePerDay(Money.of(new BigDecimal("150.00")))
+                .address(newAddress())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM payments WHERE booking_id IN (SELECT id FROM bookings WHERE property_id = ?)", property.getId());
+        jdbcTemplate.update("DELETE FROM bookings WHERE property_id = ?", property.getId());
+        propertyRepository.deleteById(property.getId());
+        userRepository.deleteById(guest.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    @DisplayName("Concurrent workers should charge every pending payment exactly once")
+    void processBatch_whenWorkersRunConcurrently_shouldChargeEveryPaymentOnce() throws Exception {
+        List<Long> paymentIds = createPendingPayments();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            futures.add(executor.submit(() -> {
+                while (worker.processBatch() > 0) {
+                    Thread.yield();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (Long paymentId : paymentIds) {
+            assertEquals(1, gateway.charges.get(paymentId).get(), "charges of payment " + paymentId);
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT payment_status, transaction_id, processing_claim FROM payments WHERE id = ?", paymentId);
+            assertEquals("COMPLETED", row.get("payment_status"));
+            assertEquals("counted_" + paymentId, row.get("transaction_id"));
+            assertNull(row.get("processing_claim"));
+        }
+        assertEquals(PAYMENTS, jdbcTemplate.queryForObject(
+                "SELECT SUM(payment_count) FROM revenue_daily WHERE property_id = ? AND payment_status = 'COMPLETED'", Long.class, property.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT SUM(payment_count) FROM revenue_daily WHERE property_id = ? AND payment_status = 'PENDING'", Long.class, property.getId()));
+    }
+
+    private List<Long> createPendingPayments() {
+        List<Long> paymentIds = new ArrayList<>();
+        LocalDate firstDay = LocalDate.now().plusYears(2);
+        for (int i = 0; i < PAYMENTS; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .property(property)
+                    .user(guest)
+                    .startDate(firstDay.plusDays(2L * i))
+                    .endDate(firstDay.plusDays(2L * i + 1))
+                    .totalPrice(Money.of(new BigDecimal("150.00")))
+                    .bookingDate(LocalDateTime.now())
+                    .bookingStatus(BookingStatus.CONFIRMED)
+                    .build());
+            PaymentRequestDTO request = new PaymentRequestDTO();
+            request.setAmount(new BigDecimal("150.00"));
+            request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+            paymentService.makePayment(booking.getId(), request);
+            paymentIds.add(jdbcTemplate.queryForObject("SELECT id FROM payments WHERE booking_id = ?", Long.class, booking.getId()));
+        }
+        return paymentIds;
+    }
+
+    private User newUser(String username, Role role) {
+        return User.builder()
+                .username(username)
+                .password("secret")
+                .email(username + "@rentify.com")
+                .registrationDate(LocalDate.now())
+                .roles(Set.of(role))
+                .build();
+    }
+
+    private Address newAddress() {
+        Address address = new Address();
+        address.setStreetAddress("Processing Street 1");
+        address.setCity("Gdansk");
+        address.setPostalCode("80-001");
+        address.setCountry("Poland");
+        address.setStateOrProvince("Pomorskie");
+        return address;
+    }
+}
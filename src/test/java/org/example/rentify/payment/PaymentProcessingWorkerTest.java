@@ -0,0 +1,121 @@
+package org.example.rentify.payment;
+
+import org.example.rentify.entity.enums.PaymentMethod;
+import org.example.rentify.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.example.rentify.entity.Money;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentProcessingWorker Unit Tests")
+class PaymentProcessingWorkerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    private PaymentProcessingWorker worker;
+
+    private final PaymentGatewayRequest first = new PaymentGatewayRequest(1L, Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD, null);
+    private final PaymentGatewayRequest second = new PaymentGatewayRequest(2L, Money.of(new BigDecimal("200.00")), PaymentMethod.PAYPAL, "tx");
+
+    @BeforeEach
+    void setUp() {
+        worker = new PaymentProcessingWorker(paymentService, paymentGateway, false, 2, 10, Duration.ofSeconds(1), LEASE, 5, RETRY_DELAY);
+    }
+
+    @Test
+    @DisplayName("processBatch should charge every claimed payment and store the results under the claim of the batch")
+    void processBatch_shouldChargeClaimedPayments() {
+        when(paymentService.claimPendingPayments(any(UUID.class), eq(10), eq(LEASE))).thenReturn(List.of(first, second));
+        when(paymentGateway.charge(first)).thenReturn(PaymentGatewayResult.approved("gw_1"));
+        when(paymentGateway.charge(second)).thenReturn(PaymentGatewayResult.declined("Insufficient funds"));
+        when(paymentService.completeProcessing(any(), any(), any())).thenReturn(true);
+
+        assertEquals(2, worker.processBatch());
+
+        ArgumentCaptor<UUID> claim = ArgumentCaptor.forClass(UUID.class);
+        verify(paymentService).claimPendingPayments(claim.capture(), eq(10), eq(LEASE));
+        verify(paymentService).completeProcessing(1L, claim.getValue(), PaymentGatewayResult.approved("gw_1"));
+        verify(paymentService).completeProcessing(2L, claim.getValue(), PaymentGatewayResult.declined("Insufficient funds"));
+        verify(paymentService, never()).retryProcessing(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("processBatch should release a payment for a retry when the gateway fails and go on with the batch")
+    void processBatch_whenGatewayFails_shouldRetryPayment() {
+        when(paymentService.claimPendingPayments(any(UUID.class), eq(10), eq(LEASE))).thenReturn(List.of(first, second));
+        when(paymentGateway.charge(first)).thenThrow(new PaymentGatewayException("Timeout"));
+        when(paymentGateway.charge(second)).thenReturn(PaymentGatewayResult.approved("gw_2"));
+        when(paymentService.completeProcessing(any(), any(), any())).thenReturn(true);
+
+        assertEquals(2, worker.processBatch());
+
+        verify(paymentService).retryProcessing(eq(1L), any(UUID.class), eq(5), eq(RETRY_DELAY));
+        verify(paymentService, never()).completeProcessing(eq(1L), any(), any());
+        verify(paymentService).completeProcessing(eq(2L), any(UUID.class), eq(PaymentGatewayResult.approved("gw_2")));
+    }
+
+    @Test
+    @DisplayName("processBatch should return 0 without calling the gateway when there are no pending payments")
+    void processBatch_whenNoPendingPayments_shouldReturnZero() {
+        when(paymentService.claimPendingPayments(any(UUID.class), anyInt(), any())).thenReturn(List.of());
+
+        assertEquals(0, worker.processBatch());
+
+        verifyNoInteractions(paymentGateway);
+    }
+
+    @Test
+    @DisplayName("start should not start workers when processing is disabled")
+    void start_whenDisabled_shouldNotProcess() {
+        worker.start();
+
+        verifyNoInteractions(paymentService, paymentGateway);
+    }
+
+    @Test
+    @DisplayName("Constructor should reject a non-positive number of workers")
+    void constructor_whenNoWorkers_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PaymentProcessingWorker(paymentService, paymentGateway,
+                true, 0, 10, Duration.ofSeconds(1), LEASE, 5, RETRY_DELAY));
+    }
+
+    @Test
+    @DisplayName("Constructor should refuse to enable processing without a payment gateway")
+    void constructor_whenEnabledWithoutGateway_shouldThrowIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new PaymentProcessingWorker(paymentService, null,
+                true, 2, 10, Duration.ofSeconds(1), LEASE, 5, RETRY_DELAY));
+    }
+
+    @Test
+    @DisplayName("A disabled worker without a payment gateway should leave pending payments untouched")
+    void processBatch_whenNoGateway_shouldNotClaimPayments() {
+        PaymentProcessingWorker disabled = new PaymentProcessingWorker(paymentService, null,
+                false, 2, 10, Duration.ofSeconds(1), LEASE, 5, RETRY_DELAY);
+
+        disabled.start();
+        assertThrows(IllegalStateException.class, disabled::processBatch);
+        verifyNoInteractions(paymentService);
+    }
+}
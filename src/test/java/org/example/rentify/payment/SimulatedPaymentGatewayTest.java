@@ -0,0 +1,56 @@
+package org.example.rentify.payment;
+
+import org.example.rentify.entity.enums.PaymentMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.example.rentify.entity.Money;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SimulatedPaymentGateway Unit Tests")
+class SimulatedPaymentGatewayTest {
+
+    private final SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, new BigDecimal("1000"), 0);
+
+    @Test
+    @DisplayName("Should approve a payment with the same transaction ID every time it is charged")
+    void charge_whenWithinLimit_shouldApproveIdempotently() {
+        PaymentGatewayResult result = gateway.charge(request(1L, "999.99"));
+
+        assertTrue(result.approved());
+        assertTrue(result.transactionId().startsWith("sim_"));
+        assertEquals(result, gateway.charge(request(1L, "999.99")));
+        assertNotEquals(result.transactionId(), gateway.charge(request(2L, "999.99")).transactionId());
+    }
+
+    @Test
+    @DisplayName("Should decline a payment above the limit")
+    void charge_whenAboveLimit_shouldDecline() {
+        PaymentGatewayResult result = gateway.charge(request(1L, "1000.01"));
+
+        assertFalse(result.approved());
+        assertNull(result.transactionId());
+        assertNotNull(result.declineReason());
+    }
+
+    @Test
+    @DisplayName("Should fail every charge with a failure rate of 1")
+    void charge_whenFailureRateIsOne_shouldThrowPaymentGatewayException() {
+        SimulatedPaymentGateway failing = new SimulatedPaymentGateway(Duration.ZERO, new BigDecimal("1000"), 1);
+
+        assertThrows(PaymentGatewayException.class, () -> failing.charge(request(1L, "10.00")));
+    }
+
+    @Test
+    @DisplayName("Should reject a failure rate outside of 0 and 1")
+    void constructor_whenFailureRateInvalid_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulatedPaymentGateway(Duration.ZERO, BigDecimal.ONE, 1.5));
+    }
+
+    private static PaymentGatewayRequest request(Long paymentId, String amount) {
+        return new PaymentGatewayRequest(paymentId, Money.of(new BigDecimal(amount)), PaymentMethod.CREDIT_CARD, null);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.rentify.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks with EXPLAIN that the lookups of the repositories are served by their indexes.
+ * Sequential scans are disabled for the test transaction, so on tables of any size the planner picks
+ * a usable index whenever one exists; the queries mirror the SQL Hibernate generates for each repository method.
+ * Runs against the PostgreSQL database configured through the POSTGRES_* environment variables.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB", matches = ".+")
+@DisplayName("Repository index usage Integration Tests")
+class RepositoryIndexUsageIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("BookingRepository.findByUserId should use idx_bookings_user")
+    void bookingsByUser_shouldUseIndex() {
+        assertUsesIndex("idx_bookings_user", "SELECT * FROM bookings WHERE user_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("BookingRepository overlap check should use an index on the property and dates")
+    void bookingOverlap_shouldUseIndex() {
+        assertUsesBookingDatesIndex("SELECT id FROM bookings WHERE property_id = ? AND start_date <= ? AND end_date >= ? FETCH FIRST 1 ROWS ONLY",
+                1L, LocalDate.of(2026, 12, 27), LocalDate.of(2026, 12, 20));
+    }
+
+    @Test
+    @DisplayName("PaymentRepository.findByUser should use idx_payments_user")
+    void paymentsByUser_shouldUseIndex() {
+        assertUsesIndex("idx_payments_user", "SELECT * FROM payments WHERE user_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("PaymentRepository.findByBookingId should use uc_payments_booking")
+    void paymentByBooking_shouldUseIndex() {
+        assertUsesIndex("uc_payments_booking", "SELECT * FROM payments WHERE booking_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("PaymentRepository totals filtered by payment date should use idx_payments_date")
+    void paymentTotalsByDate_shouldUseIndex() {
+        assertUsesIndex("idx_payments_date", "SELECT COUNT(*), SUM(amount) FROM payments WHERE payment_date >= ? AND payment_date < ?",
+                LocalDate.of(2026, 1, 1).atStartOfDay(), LocalDate.of(2026, 2, 1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("ReviewRepository.findByPropertyId should use idx_reviews_property")
+    void reviewsByProperty_shouldUseIndex() {
+        assertUsesIndex("idx_reviews_property", "SELECT * FROM reviews WHERE property_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("ReviewRepository.findByUserId should use idx_reviews_user")
+    void reviewsByUser_shouldUseIndex() {
+        assertUsesIndex("idx_reviews_user", "SELECT * FROM reviews WHERE user_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("ImageRepository.findByPropertyId should use idx_images_property_id")
+    void imagesByProperty_shouldUseIndex() {
+        assertUsesIndex("idx_images_property_id", "SELECT * FROM images WHERE property_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("Roles of a user should be read through idx_user_roles_user")
+    void rolesByUser_shouldUseIndex() {
+        // With an empty table a full scan of the (role_id, user_id) primary key costs the same, so give the planner real statistics
+        jdbcTemplate.update("INSERT INTO users (username, password, email, registration_date, account_non_expired, account_non_locked, " +
+                "credentials_non_expired, enabled) SELECT 'index_user_' || n, 'secret', 'index_user_' || n || '@rentify.com', now(), " +
+                "true, true, true, true FROM generate_series(1, 1000) AS n");
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, role_id) SELECT u.id, r.id FROM users u, roles r " +
+                "WHERE u.username LIKE 'index_user_%' AND r.name = 'USER'");
+        jdbcTemplate.execute("ANALYZE user_roles");
+
+        assertUsesIndex("idx_user_roles_user",
+                "SELECT r.* FROM user_roles ur JOIN roles r ON r.id = ur.role_id WHERE ur.user_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("Properties of an owner should be read through idx_properties_owner")
+    void propertiesByOwner_shouldUseIndex() {
+        assertUsesIndex("idx_properties_owner", "SELECT id FROM properties WHERE owner_id = ?", 1L);
+    }
+
+    @Test
+    @DisplayName("PropertyRepository.findSummariesByPropertyTypeAndAvailability should use idx_properties_type_availability_price")
+    void propertiesByTypeAndAvailability_shouldUseIndex() {
+        assertUsesIndex("idx_properties_type_availability_price",
+                "SELECT id FROM properties WHERE property_type = ? AND availability = ?", "APARTMENT", true);
+    }
+
+    @Test
+    @DisplayName("PropertyRepository.findSummariesByAddressCountryAndCityAndAvailability should use idx_addresses_city_country")
+    void addressesByCountryAndCity_shouldUseIndex() {
+        assertUsesIndex("idx_addresses_city_country",
+                "SELECT p.id FROM properties p JOIN addresses a ON a.id = p.address_id WHERE a.country = ? AND a.city = ? AND p.availability = ?",
+                "Poland", "Krakow", true);
+    }
+
+    @Test
+    @DisplayName("The PropertySpecifications date window should probe an index on the property and dates in its anti-join")
+    void freePropertiesAntiJoin_shouldUseIndex() {
+        assertUsesBookingDatesIndex(
+                "SELECT p.id FROM properties p WHERE p.availability = true AND NOT EXISTS " +
+                        "(SELECT 1 FROM bookings b WHERE b.property_id = p.id AND b.start_date <= ? AND b.end_date >= ?)",
+                LocalDate.of(2026, 12, 27), LocalDate.of(2026, 12, 20));
+    }
+
+    private void assertUsesIndex(String indexName, String sql, Object... parameters) {
+        String plan = explain(sql, parameters);
+        assertTrue(plan.contains(indexName), () -> "Expected " + indexName + " in the plan of " + sql + "\n" + plan);
+    }
+
+    /**
+     * The gist index of the bookings exclusion constraint covers the same columns as idx_bookings_property_dates,
+     * the planner may pick either one.
+     */
+    private void assertUsesBookingDatesIndex(String sql, Object... parameters) {
+        String plan = explain(sql, parameters);
+        assertTrue(plan.contains("idx_bookings_property_dates") || plan.contains("ex_bookings_property_dates"),
+                () -> "Expected an index on the property and dates in the plan of " + sql + "\n" + plan);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters).stream()
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.rentify.security;
+
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordHashingExecutor Unit Tests")
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("run Tests")
+    class RunTests {
+        @Test
+        @DisplayName("Should run the task on a hashing thread and return its result")
+        void run_shouldReturnResultFromHashingThread() {
+            executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+            String threadName = executor.run(() -> Thread.currentThread().getName());
+
+            assertTrue(threadName.startsWith("password-hashing-"));
+        }
+
+        @Test
+        @DisplayName("Should rethrow runtime exceptions of the task")
+        void run_whenTaskThrows_shouldRethrow() {
+            executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+            assertThrows(BadCredentialsException.class, () -> executor.run(() -> {
+                throw new BadCredentialsException("Bad credentials");
+            }));
+        }
+
+        @Test
+        @DisplayName("Should reject with 503 and Retry-After when the queue is full")
+        void run_whenQueueFull_shouldRejectWithServiceOverloaded() throws Exception {
+            executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.run(() -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.run(() -> "second"));
+            waitForQueueSize(1);
+
+            ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                    () -> executor.run(() -> "third"));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+            assertEquals("3", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            release.countDown();
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executor.getStats().getRejectedCount());
+        }
+
+        @Test
+        @DisplayName("Should reject with 503 when the task does not finish within the timeout")
+        void run_whenTimeoutExceeded_shouldRejectWithServiceOverloaded() {
+            executor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(50), Duration.ofSeconds(1));
+            CountDownLatch never = new CountDownLatch(1);
+
+            assertThrows(ServiceOverloadedException.class, () -> executor.run(() -> {
+                await(never);
+                return "late";
+            }));
+        }
+    }
+
+    @Nested
+    @DisplayName("getStats Tests")
+    class GetStatsTests {
+        @Test
+        @DisplayName("Should report the completed tasks and their timings")
+        void getStats_shouldReportCompletedTasks() {
+            executor = new PasswordHashingExecutor(2, 5, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+            executor.run(() -> sleep(20));
+            executor.run(() -> sleep(20));
+            PasswordHashingStatsDTO stats = executor.getStats();
+
+            assertEquals(2, stats.getThreads());
+            assertEquals(5, stats.getQueueCapacity());
+            assertEquals(2, stats.getCompletedCount());
+            assertEquals(0, stats.getRejectedCount());
+            assertTrue(stats.getAverageHashMs() >= 20.0);
+            assertTrue(stats.getMaxHashMs() >= stats.getAverageHashMs());
+            assertTrue(stats.getMaxQueueWaitMs() >= stats.getAverageQueueWaitMs());
+        }
+    }
+
+    private void waitForQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getStats().getQueueSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(size, executor.getStats().getQueueSize());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+}
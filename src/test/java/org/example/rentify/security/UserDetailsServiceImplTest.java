@@ -0,0 +1,148 @@
+package org.example.rentify.security;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.UserPrincipalCache;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDetailsServiceImpl Unit Tests")
+class UserDetailsServiceImplTest {
+
+    private static final String USERNAME = "testUser";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache userPrincipalCache;
+    private UserDetailsServiceImpl userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(new CacheRegistry(), 100, Duration.ofMinutes(1));
+        userDetailsService = new UserDetailsServiceImpl(userRepository, userPrincipalCache);
+
+        Role role = new Role();
+        role.setName("USER");
+        user = new User();
+        user.setId(1L);
+        user.setUsername(USERNAME);
+        user.setPassword("encoded");
+        user.setEmail("test@example.com");
+        user.setRoles(new HashSet<>(Set.of(role)));
+        user.setTokenVersion(3L);
+    }
+
+    @Nested
+    @DisplayName("loadUserByUsername Tests")
+    class LoadUserByUsernameTests {
+        @Test
+        @DisplayName("Should return the principal of the user")
+        void loadUserByUsername_whenUserExists_shouldReturnPrincipal() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.of(user));
+
+            UserDetails userDetails = userDetailsService.loadUserByUsername(USERNAME);
+
+            UserPrincipal principal = assertInstanceOf(UserPrincipal.class, userDetails);
+            assertEquals(1L, principal.getId());
+            assertEquals(USERNAME, principal.getUsername());
+            assertEquals("encoded", principal.getPassword());
+            assertEquals("test@example.com", principal.getEmail());
+            assertEquals(3L, principal.getTokenVersion());
+            assertEquals(Set.of("ROLE_USER"), AuthorityUtils.authorityListToSet(principal.getAuthorities()));
+            assertTrue(principal.isEnabled());
+        }
+
+        @Test
+        @DisplayName("Should load the user once and serve later calls from the cache")
+        void loadUserByUsername_whenCalledTwice_shouldHitDatabaseOnce() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.of(user));
+
+            UserDetails first = userDetailsService.loadUserByUsername(USERNAME);
+            UserDetails second = userDetailsService.loadUserByUsername(USERNAME);
+
+            assertSame(first, second);
+            verify(userRepository, times(1)).findUserByUsername(USERNAME);
+        }
+
+        @Test
+        @DisplayName("Should reload the user after its principal is evicted")
+        void loadUserByUsername_whenEvicted_shouldReload() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.of(user));
+            userDetailsService.loadUserByUsername(USERNAME);
+
+            user.setTokenVersion(4L);
+            userPrincipalCache.evict(USERNAME);
+            UserPrincipal reloaded = (UserPrincipal) userDetailsService.loadUserByUsername(USERNAME);
+
+            assertEquals(4L, reloaded.getTokenVersion());
+            verify(userRepository, times(2)).findUserByUsername(USERNAME);
+        }
+
+        @Test
+        @DisplayName("Should not be affected by later changes to the loaded entity")
+        void loadUserByUsername_whenEntityChanges_shouldKeepSnapshot() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.of(user));
+            UserDetails userDetails = userDetailsService.loadUserByUsername(USERNAME);
+
+            user.setPassword("changed");
+            user.getRoles().clear();
+
+            assertEquals("encoded", userDetails.getPassword());
+            assertEquals(1, userDetails.getAuthorities().size());
+        }
+
+        @Test
+        @DisplayName("Should throw UsernameNotFoundException when the user does not exist")
+        void loadUserByUsername_whenUserMissing_shouldThrow() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.empty());
+
+            UsernameNotFoundException exception = assertThrows(UsernameNotFoundException.class,
+                    () -> userDetailsService.loadUserByUsername(USERNAME));
+
+            assertEquals("User Not Found with username: " + USERNAME, exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("updatePassword Tests")
+    class UpdatePasswordTests {
+        @Test
+        @DisplayName("Should store the rehashed password and evict the stale principal")
+        void updatePassword_shouldStoreHashAndReloadPrincipal() {
+            when(userRepository.findUserByUsername(USERNAME)).thenReturn(Optional.of(user));
+            UserDetails stale = userDetailsService.loadUserByUsername(USERNAME);
+            when(userRepository.updatePasswordByUsername(USERNAME, "rehashed")).then(invocation -> {
+                user.setPassword("rehashed");
+                return 1;
+            });
+
+            UserDetails updated = userDetailsService.updatePassword(stale, "rehashed");
+
+            assertEquals("rehashed", updated.getPassword());
+            assertEquals(3L, ((UserPrincipal) updated).getTokenVersion());
+            assertSame(updated, userDetailsService.loadUserByUsername(USERNAME));
+            verify(userRepository, times(2)).findUserByUsername(USERNAME);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.rentify.security.jwt;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.RevokedTokenIndex;
+import org.example.rentify.cache.TokenVersionCache;
+import org.example.rentify.cache.VerifiedTokenCache;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.security.UserDetailsServiceImpl;
+import org.example.rentify.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Unit Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String USERNAME = "testUser";
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+    @Mock
+    private RevokedTokenIndex revokedTokenIndex;
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new VerifiedTokenCache(new CacheRegistry(), 100, Duration.ofMinutes(5)));
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecretString", "a-test-secret-that-is-at-least-32-bytes-long");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(jwtUtil, "jwtIssuer", "RentifyTest");
+        jwtUtil.init();
+
+        Role role = new Role();
+        role.setName("USER");
+        user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword("encoded");
+        user.setRoles(Set.of(role));
+        user.setTokenVersion(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("stateless mode Tests")
+    class StatelessTests {
+        @Test
+        @DisplayName("Should authenticate from the token claims without loading the user")
+        void doFilter_whenTokenVersionMatches_shouldAuthenticateFromClaims() throws Exception {
+            when(tokenVersionCache.get(USERNAME)).thenReturn(2L);
+
+            filter(true).doFilter(requestWith(token()), new MockHttpServletResponse(), new MockFilterChain());
+
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertNotNull(authentication);
+            assertEquals(USERNAME, ((UserDetails) authentication.getPrincipal()).getUsername());
+            assertEquals(Set.of("ROLE_USER"), AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when the token version is outdated")
+        void doFilter_whenTokenVersionOutdated_shouldNotAuthenticate() throws Exception {
+            when(tokenVersionCache.get(USERNAME)).thenReturn(3L);
+
+            filter(true).doFilter(requestWith(token()), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when the user no longer exists")
+        void doFilter_whenUserMissing_shouldNotAuthenticate() throws Exception {
+            when(tokenVersionCache.get(USERNAME)).thenReturn(null);
+
+            filter(true).doFilter(requestWith(token()), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Nested
+    @DisplayName("default mode Tests")
+    class DefaultModeTests {
+        @Test
+        @DisplayName("Should authenticate with the loaded user")
+        void doFilter_whenTokenVersionMatches_shouldAuthenticateWithLoadedUser() throws Exception {
+            String token = token();
+            when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(UserPrincipal.from(user));
+
+            filter(false).doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertEquals(USERNAME, ((UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUsername());
+            verify(tokenVersionCache, never()).get(anyString());
+        }
+
+        @Test
+        @DisplayName("Should not authenticate when the password was changed after the token was issued")
+        void doFilter_whenTokenVersionOutdated_shouldNotAuthenticate() throws Exception {
+            String token = token();
+            user.setTokenVersion(3L);
+            when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(UserPrincipal.from(user));
+
+            filter(false).doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Nested
+    @DisplayName("revocation Tests")
+    class RevocationTests {
+        @Test
+        @DisplayName("Should not authenticate with a revoked token in default mode")
+        void doFilter_whenTokenRevoked_shouldNotAuthenticate() throws Exception {
+            String token = token();
+            when(revokedTokenIndex.isRevoked(jwtUtil.getClaimsFromJwtToken(token).getId())).thenReturn(true);
+
+            filter(false).doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate with a revoked token in stateless mode")
+        void doFilter_whenTokenRevokedInStatelessMode_shouldNotAuthenticate() throws Exception {
+            String token = token();
+            when(revokedTokenIndex.isRevoked(jwtUtil.getClaimsFromJwtToken(token).getId())).thenReturn(true);
+
+            filter(true).doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            verifyNoInteractions(tokenVersionCache);
+        }
+
+        @Test
+        @DisplayName("Should still authenticate with another token of the same user")
+        void doFilter_whenOtherTokenRevoked_shouldAuthenticate() throws Exception {
+            String revoked = token();
+            String token = token();
+            when(revokedTokenIndex.isRevoked(anyString()))
+                    .thenAnswer(invocation -> invocation.getArgument(0).equals(jwtUtil.getClaimsFromJwtToken(revoked).getId()));
+            when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(UserPrincipal.from(user));
+
+            filter(false).doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+            assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenVersionCache, revokedTokenIndex, stateless);
+    }
+
+    private String token() {
+        return jwtUtil.generateToken(new UsernamePasswordAuthenticationToken(UserPrincipal.from(user), null, user.getAuthorities()));
+    }
+
+    private static MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
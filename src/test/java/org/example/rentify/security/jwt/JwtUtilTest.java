@@ -0,0 +1,135 @@
+package org.example.rentify.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.VerifiedTokenCache;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtUtil Unit Tests")
+class JwtUtilTest {
+
+    private static final String USERNAME = "testUser";
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(new CacheRegistry(), 100, Duration.ofMinutes(5));
+        jwtUtil = jwtUtil(60_000);
+
+        Role role = new Role();
+        role.setName("USER");
+        user = new User();
+        user.setUsername(USERNAME);
+        user.setRoles(Set.of(role));
+        user.setTokenVersion(1L);
+    }
+
+    @Nested
+    @DisplayName("getClaimsFromJwtToken Tests")
+    class GetClaimsFromJwtTokenTests {
+        @Test
+        @DisplayName("Should return the claims of a valid token")
+        void getClaimsFromJwtToken_whenValid_shouldReturnClaims() {
+            Claims claims = jwtUtil.getClaimsFromJwtToken(token(jwtUtil));
+
+            assertEquals(USERNAME, claims.getSubject());
+            assertEquals("ROLE_USER", claims.get(JwtUtil.ROLES_CLAIM, String.class));
+            assertEquals(1L, claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Long.class));
+        }
+
+        @Test
+        @DisplayName("Should give every token its own ID")
+        void getClaimsFromJwtToken_shouldReturnUniqueTokenIds() {
+            String first = jwtUtil.getClaimsFromJwtToken(token(jwtUtil)).getId();
+            String second = jwtUtil.getClaimsFromJwtToken(token(jwtUtil)).getId();
+
+            assertNotNull(first);
+            assertNotEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("Should verify a token only once and reuse its claims")
+        void getClaimsFromJwtToken_whenCalledTwice_shouldReuseCachedClaims() {
+            String token = token(jwtUtil);
+
+            Claims first = jwtUtil.getClaimsFromJwtToken(token);
+            Claims second = jwtUtil.getClaimsFromJwtToken(token);
+
+            assertSame(first, second);
+            assertSame(first, verifiedTokenCache.get(token));
+        }
+
+        @Test
+        @DisplayName("Should reject an expired token and not cache it")
+        void getClaimsFromJwtToken_whenExpired_shouldThrow() {
+            JwtUtil expiringJwtUtil = jwtUtil(-1_000);
+            String token = token(expiringJwtUtil);
+
+            assertThrows(ExpiredJwtException.class, () -> expiringJwtUtil.getClaimsFromJwtToken(token));
+            assertNull(verifiedTokenCache.get(token));
+        }
+
+        @Test
+        @DisplayName("Should reject a token with a tampered signature")
+        void getClaimsFromJwtToken_whenTampered_shouldThrow() {
+            String token = token(jwtUtil);
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThrows(SignatureException.class, () -> jwtUtil.getClaimsFromJwtToken(tampered));
+        }
+    }
+
+    @Nested
+    @DisplayName("validateJwtToken Tests")
+    class ValidateJwtTokenTests {
+        @Test
+        @DisplayName("Should return true for a valid token")
+        void validateJwtToken_whenValid_shouldReturnTrue() {
+            assertTrue(jwtUtil.validateJwtToken(token(jwtUtil)));
+        }
+
+        @Test
+        @DisplayName("Should return false for a malformed token")
+        void validateJwtToken_whenMalformed_shouldReturnFalse() {
+            assertFalse(jwtUtil.validateJwtToken("not.a.token"));
+        }
+
+        @Test
+        @DisplayName("Should return false for a null or blank token")
+        void validateJwtToken_whenNullOrBlank_shouldReturnFalse() {
+            assertFalse(jwtUtil.validateJwtToken(null));
+            assertFalse(jwtUtil.validateJwtToken(" "));
+        }
+    }
+
+    private JwtUtil jwtUtil(int expirationMs) {
+        JwtUtil util = new JwtUtil(verifiedTokenCache);
+        ReflectionTestUtils.setField(util, "jwtSecretString", "a-test-secret-that-is-at-least-32-bytes-long");
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(util, "jwtIssuer", "RentifyTest");
+        util.init();
+        return util;
+    }
+
+    private String token(JwtUtil util) {
+        return util.generateToken(new UsernamePasswordAuthenticationToken(UserPrincipal.from(user), null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.rentify.security.ratelimit;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import org.example.rentify.security.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter Unit Tests")
+class RateLimitFilterTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private long now;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        filter = filter(100);
+    }
+
+    @Nested
+    @DisplayName("doFilter Tests")
+    class DoFilterTests {
+        @Test
+        @DisplayName("Should pass requests within the limit and reject the next one with 429 and Retry-After")
+        void doFilter_whenLimitExceeded_shouldReturn429() throws Exception {
+            assertEquals(200, perform(login("10.0.0.1")).getStatus());
+            assertEquals(200, perform(login("10.0.0.1")).getStatus());
+
+            MockHttpServletResponse response = perform(login("10.0.0.1"));
+
+            assertEquals(429, response.getStatus());
+            assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertTrue(response.getContentAsString().contains("Too many requests"));
+        }
+
+        @Test
+        @DisplayName("Should allow the client again once a token is refilled")
+        void doFilter_afterRefill_shouldPass() throws Exception {
+            perform(login("10.0.0.1"));
+            perform(login("10.0.0.1"));
+
+            now += TimeUnit.SECONDS.toNanos(30);
+
+            assertEquals(200, perform(login("10.0.0.1")).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should keep separate buckets per address")
+        void doFilter_whenDifferentAddresses_shouldLimitSeparately() throws Exception {
+            perform(login("10.0.0.1"));
+            perform(login("10.0.0.1"));
+
+            assertEquals(200, perform(login("10.0.0.2")).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should count requests with a valid token against its subject from any address")
+        void doFilter_whenTokenValid_shouldLimitBySubject() throws Exception {
+            Claims claims = mock(Claims.class);
+            when(claims.getSubject()).thenReturn("testUser");
+            when(jwtUtil.getClaimsFromJwtToken("valid")).thenReturn(claims);
+
+            assertEquals(200, perform(withToken(search("10.0.0.1"), "valid")).getStatus());
+            assertEquals(200, perform(withToken(search("10.0.0.2"), "valid")).getStatus());
+            assertEquals(429, perform(withToken(search("10.0.0.3"), "valid")).getStatus());
+            assertEquals(200, perform(search("10.0.0.3")).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the address when the token is invalid")
+        void doFilter_whenTokenInvalid_shouldLimitByAddress() throws Exception {
+            when(jwtUtil.getClaimsFromJwtToken("invalid")).thenThrow(new MalformedJwtException("Invalid"));
+
+            perform(withToken(search("10.0.0.1"), "invalid"));
+            perform(search("10.0.0.1"));
+
+            assertEquals(429, perform(search("10.0.0.1")).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should not limit requests matching no rule")
+        void doFilter_whenNoRuleMatches_shouldPass() throws Exception {
+            MockHttpServletRequest request = request("POST", "/api/properties/create", "10.0.0.1");
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals(200, perform(request).getStatus());
+            }
+            assertEquals(0, filter.getBucketCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("bucket eviction Tests")
+    class EvictionTests {
+        @Test
+        @DisplayName("Should drop buckets that have filled up again")
+        void doFilter_whenBucketsIdle_shouldDropThem() throws Exception {
+            perform(login("10.0.0.1"));
+            perform(login("10.0.0.2"));
+            assertEquals(2, filter.getBucketCount());
+
+            now += TimeUnit.MINUTES.toNanos(2);
+            perform(login("10.0.0.3"));
+
+            assertEquals(1, filter.getBucketCount());
+        }
+
+        @Test
+        @DisplayName("Should share an overflow bucket once the bucket cap is reached")
+        void doFilter_whenCapReached_shouldUseOverflowBucket() throws Exception {
+            filter = filter(2);
+            perform(login("10.0.0.1"));
+            perform(login("10.0.0.2"));
+
+            assertEquals(200, perform(login("10.0.0.3")).getStatus());
+            assertEquals(200, perform(login("10.0.0.4")).getStatus());
+            assertEquals(429, perform(login("10.0.0.5")).getStatus());
+            assertEquals(3, filter.getBucketCount());
+        }
+    }
+
+    private RateLimitFilter filter(int maxBuckets) {
+        return new RateLimitFilter(List.of(
+                new RateLimitRule("login", new AntPathRequestMatcher("/api/auth/login", "POST"), 2, Duration.ofMinutes(1)),
+                new RateLimitRule("search", new AntPathRequestMatcher("/api/properties/**", "GET"), 2, Duration.ofMinutes(1))),
+                jwtUtil, maxBuckets, () -> now);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest login(String address) {
+        return request("POST", "/api/auth/login", address);
+    }
+
+    private static MockHttpServletRequest search(String address) {
+        return request("GET", "/api/properties/search", address);
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private static MockHttpServletRequest withToken(MockHttpServletRequest request, String token) {
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.rentify.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Checks that clients behind a reverse proxy are rate limited by the address in X-Forwarded-For
+ * instead of all sharing the bucket of the proxy address.
+ * Runs against the PostgreSQL database configured through the POSTGRES_* environment variables.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "rentify.rate-limit.login.capacity=1")
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB", matches = ".+")
+@DisplayName("RateLimitFilter forwarded header Integration Tests")
+class RateLimitForwardedHeaderIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Should keep separate buckets for clients forwarded by a trusted proxy")
+    void doFilter_whenForwardedByProxy_shouldLimitByForwardedAddress() throws Exception {
+        assertNotEquals(429, login("203.0.113.10"));
+        assertEquals(429, login("203.0.113.10"));
+
+        assertNotEquals(429, login("203.0.113.11"));
+    }
+
+    private int login(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"forwarded_client\",\"password\":\"WrongPassword1!\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
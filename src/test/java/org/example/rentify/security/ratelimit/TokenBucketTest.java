@@ -0,0 +1,81 @@
+package org.example.rentify.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a burst of capacity tokens and then report the wait for the next one")
+    void tryConsume_whenBurstExhausted_shouldReportWait() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(SECOND, bucket.tryConsume(0));
+    }
+
+    @Test
+    @DisplayName("Should refill one token per period divided by capacity")
+    void tryConsume_afterRefillInterval_shouldAllowAgain() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertEquals(SECOND / 2, bucket.tryConsume(SECOND / 2));
+        assertEquals(0, bucket.tryConsume(SECOND));
+        assertTrue(bucket.tryConsume(SECOND) > 0);
+    }
+
+    @Test
+    @DisplayName("Should be idle only once it has filled up again")
+    void isIdle_shouldReportFullBucket() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        assertTrue(bucket.isIdle(0));
+
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.isIdle(SECOND / 2));
+        assertTrue(bucket.isIdle(SECOND));
+    }
+
+    @Test
+    @DisplayName("Should never hand out more than capacity tokens to concurrent callers")
+    void tryConsume_whenConcurrent_shouldNotExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, Duration.ofDays(1), 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    if (bucket.tryConsume(0) == 0) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity")
+    void constructor_whenCapacityNotPositive_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, Duration.ofMinutes(1), 0));
+    }
+}
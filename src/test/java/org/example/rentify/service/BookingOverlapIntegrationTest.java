@@ -0,0 +1,181 @@
+package org.example.rentify.service;
+
+import org.example.rentify.dto.request.BookingRequestDTO;
+import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.entity.enums.PropertyType;
+import org.example.rentify.repository.PropertyRepository;
+import org.example.rentify.repository.RoleRepository;
+import org.example.rentify.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Checks that the exclusion constraint of the bookings table rejects a double booking the overlap check
+ * of BookingService cannot see yet, and that the rejection is reported as 409 Conflict.
+ * Runs against the PostgreSQL database configured through the POSTGRES_* environment variables.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB", matches = ".+")
+@DisplayName("BookingService overlap Integration Tests")
+class BookingOverlapIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User guest;
+    private Property property;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findRoleByName("USER").orElseThrow();
+        owner = userRepository.save(newUser("overlap_owner", userRole));
+        guest = userRepository.save(newUser("overlap_guest", userRole));
+        property = propertyRepository.save(Property.builder()
+                .owner(owner)
+                .title("Overlap property")
+                .propertyType(PropertyType.HOUSE)
+                .area(80.0)
+                .numberOfRooms(3)
+                .pricePerDay(Money.of(new BigDecimal("150.00")))
+                .address(newAddress())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bookings WHERE property_id = ?", property.getId());
+        propertyRepository.deleteById(property.getId());
+        userRepository.deleteById(guest.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    @DisplayName("createBooking should return 409 when a concurrent booking of the same dates commits first")
+    void createBooking_whenConcurrentBookingCommitsFirst_shouldThrowConflict() throws Exception {
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            bookingService.createBooking(request(10, 14), guest.getUsername());
+            firstInserted.countDown();
+            await(releaseFirst);
+        }));
+        assertTrue(firstInserted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> bookingService.createBooking(request(12, 16), guest.getUsername()));
+        awaitBlockedOnConstraint();
+        releaseFirst.countDown();
+
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        ResponseStatusException cause = assertInstanceOf(ResponseStatusException.class, exception.getCause());
+        assertEquals(HttpStatus.CONFLICT, cause.getStatusCode());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings WHERE property_id = ?", Integer.class, property.getId()));
+    }
+
+    @Test
+    @DisplayName("createBooking should accept adjacent bookings of the same property")
+    void createBooking_whenDatesDoNotOverlap_shouldSucceed() {
+        bookingService.createBooking(request(10, 14), guest.getUsername());
+        bookingService.createBooking(request(15, 18), guest.getUsername());
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings WHERE property_id = ?", Integer.class, property.getId()));
+    }
+
+    @Test
+    @DisplayName("createBooking should return 409 for dates overlapping a committed booking")
+    void createBooking_whenDatesOverlapCommittedBooking_shouldThrowConflict() {
+        bookingService.createBooking(request(10, 14), guest.getUsername());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> bookingService.createBooking(request(14, 16), guest.getUsername()));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+    }
+
+    private void awaitBlockedOnConstraint() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND query ILIKE 'insert into bookings%'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("The second booking never waited on the first one");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BookingRequestDTO request(int startDay, int endDay) {
+        BookingRequestDTO request = new BookingRequestDTO();
+        request.setPropertyId(property.getId());
+        request.setStartDate(LocalDate.now().plusYears(1).withDayOfMonth(startDay));
+        request.setEndDate(LocalDate.now().plusYears(1).withDayOfMonth(endDay));
+        return request;
+    }
+
+    private User newUser(String username, Role role) {
+        return User.builder()
+                .username(username)
+                .password("secret")
+                .email(username + "@rentify.com")
+                .registrationDate(LocalDate.now())
+                .roles(Set.of(role))
+                .build();
+    }
+
+    private Address newAddress() {
+        Address address = new Address();
+        address.setStreetAddress("Overlap Street 1");
+        address.setCity("Gdansk");
+        address.setPostalCode("80-001");
+        address.setCountry("Poland");
+        address.setStateOrProvince("Pomorskie");
+        return address;
+    }
+}
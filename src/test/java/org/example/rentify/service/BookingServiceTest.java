@@ -1,9 +1,12 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.BookingOccupancyIndex;
+import org.example.rentify.cache.PropertyPricing;
 import org.example.rentify.dto.request.BookingRequestDTO;
 import org.example.rentify.dto.response.BookingResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.Payment;
@@ -13,6 +16,7 @@ import org.example.rentify.mapper.BookingMapper;
 import org.example.rentify.repository.BookingRepository;
 import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,10 +25,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -48,6 +54,12 @@ class BookingServiceTest {
     private UserRepository userRepository;
     @Mock
     private BookingMapper bookingMapper;
+    @Mock
+    private BookingOccupancyIndex occupancyIndex;
+    @Mock
+    private RevenueService revenueService;
+    @Mock
+    private PricingService pricingService;
 
     @InjectMocks
     private BookingService bookingService;
@@ -71,7 +83,7 @@ class BookingServiceTest {
 
         property = new Property();
         property.setId(propertyId);
-        property.setPricePerDay(new BigDecimal("100.00"));
+        property.setPricePerDay(Money.of(new BigDecimal("100.00")));
         property.setAvailability(true);
 
         bookingRequestDTO = new BookingRequestDTO();
@@ -85,7 +97,7 @@ class BookingServiceTest {
         booking.setProperty(property);
         booking.setStartDate(bookingRequestDTO.getStartDate());
         booking.setEndDate(bookingRequestDTO.getEndDate());
-        booking.setTotalPrice(new BigDecimal("300.00"));
+        booking.setTotalPrice(Money.of(new BigDecimal("300.00")));
         booking.setBookingDate(LocalDateTime.now());
         booking.setBookingStatus(BookingStatus.PENDING);
 
@@ -93,7 +105,7 @@ class BookingServiceTest {
         bookingResponseDTO.setId(bookingId);
         bookingResponseDTO.setStartDate(booking.getStartDate());
         bookingResponseDTO.setEndDate(booking.getEndDate());
-        bookingResponseDTO.setTotalPrice(booking.getTotalPrice());
+        bookingResponseDTO.setTotalPrice(booking.getTotalPrice().toBigDecimal());
 
         payment = new Payment();
         payment.setId(1L);
@@ -108,12 +120,10 @@ class BookingServiceTest {
         @DisplayName("Should create booking successfully when property available and no overlaps")
         void createBooking_whenPropertyAvailableAndNoOverlap_shouldSucceed() {
             when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                    propertyId, bookingRequestDTO.getEndDate(), bookingRequestDTO.getStartDate()))
-                    .thenReturn(Collections.emptyList());
+            when(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate())).thenReturn(quoteOf("300.00"));
             when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
             when(bookingMapper.bookingRequestDtoToBooking(bookingRequestDTO)).thenReturn(booking);
-            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            when(bookingRepository.saveAndFlush(any(Booking.class))).thenAnswer(invocation -> {
                 Booking savedBooking = invocation.getArgument(0);
                 savedBooking.setId(2L);
                 return savedBooking;
@@ -126,11 +136,14 @@ class BookingServiceTest {
             assertNotNull(response);
             assertTrue(response.getMessage().startsWith("Booking created successfully with ID:"));
             verify(propertyRepository).findPropertyById(propertyId);
-            verify(bookingRepository).findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(LocalDate.class), any(LocalDate.class));
+            verify(occupancyIndex).overlaps(propertyId, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate(), null);
+            verify(bookingRepository, never()).existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(), any());
             verify(userRepository).findUserByUsername(testUsername);
             verify(bookingMapper).bookingRequestDtoToBooking(bookingRequestDTO);
-            verify(bookingRepository).save(any(Booking.class));
+            verify(bookingRepository).saveAndFlush(any(Booking.class));
+            verify(occupancyIndex).put(propertyId, 2L, booking.getStartDate(), booking.getEndDate());
             verify(bookingMapper).bookingToBookingResponseDto(any(Booking.class));
+            assertEquals(Money.of(new BigDecimal("300.00")), booking.getTotalPrice());
         }
 
         @Test
@@ -160,9 +173,10 @@ class BookingServiceTest {
         @DisplayName("Should throw ResponseStatusException when dates overlap")
         void createBooking_whenDatesOverlap_shouldThrowConflictException() {
             when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+            when(occupancyIndex.overlaps(propertyId, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate(), null)).thenReturn(true);
+            when(bookingRepository.existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
                     propertyId, bookingRequestDTO.getEndDate(), bookingRequestDTO.getStartDate()))
-                    .thenReturn(List.of(new Booking()));
+                    .thenReturn(true);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> bookingService.createBooking(bookingRequestDTO, testUsername));
@@ -170,11 +184,54 @@ class BookingServiceTest {
             assertEquals("Property is already booked for the selected dates", exception.getReason());
         }
 
+        @Test
+        @DisplayName("Should throw ResponseStatusException when the database rejects a concurrent overlapping booking")
+        void createBooking_whenDatabaseRejectsOverlap_shouldThrowConflictException() {
+            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate())).thenReturn(quoteOf("300.00"));
+            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
+            when(bookingMapper.bookingRequestDtoToBooking(bookingRequestDTO)).thenReturn(booking);
+            when(bookingRepository.saveAndFlush(any(Booking.class)))
+                    .thenThrow(integrityViolation("ERROR: conflicting key value violates exclusion constraint \"" + BookingService.OVERLAP_CONSTRAINT + "\""));
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> bookingService.createBooking(bookingRequestDTO, testUsername));
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertEquals("Property is already booked for the selected dates", exception.getReason());
+        }
+
+        @Test
+        @DisplayName("Should propagate other integrity violations unchanged")
+        void createBooking_whenOtherIntegrityViolation_shouldPropagate() {
+            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate())).thenReturn(quoteOf("300.00"));
+            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
+            when(bookingMapper.bookingRequestDtoToBooking(bookingRequestDTO)).thenReturn(booking);
+            DataIntegrityViolationException violation = integrityViolation("ERROR: insert or update on table \"bookings\" violates foreign key constraint");
+            when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(violation);
+
+            DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                    () -> bookingService.createBooking(bookingRequestDTO, testUsername));
+            assertSame(violation, exception);
+        }
+
+        @Test
+        @DisplayName("Should reject a stay the pricing refuses to quote without saving the booking")
+        void createBooking_whenStayTooLong_shouldThrowIllegalArgumentException() {
+            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
+            when(bookingMapper.bookingRequestDtoToBooking(bookingRequestDTO)).thenReturn(booking);
+            when(pricingService.quote(property, bookingRequestDTO.getStartDate(), bookingRequestDTO.getEndDate()))
+                    .thenThrow(new IllegalArgumentException("A stay must not be longer than 365 days"));
+
+            assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(bookingRequestDTO, testUsername));
+            verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
+        }
+
         @Test
         @DisplayName("Should throw ResponseStatusException when user not found")
         void createBooking_whenUserNotFound_shouldThrowNotFoundException() {
             when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(), any())).thenReturn(Collections.emptyList());
             when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.empty());
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
@@ -188,7 +245,6 @@ class BookingServiceTest {
         void createBooking_whenEndDateNotAfterStartDate_shouldThrowBadRequestException() {
             bookingRequestDTO.setEndDate(bookingRequestDTO.getStartDate().minusDays(1));
             when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(), any())).thenReturn(Collections.emptyList());
             when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
             when(bookingMapper.bookingRequestDtoToBooking(bookingRequestDTO)).thenReturn(booking);
 
@@ -321,6 +377,8 @@ class BookingServiceTest {
 
             assertEquals("Booking cancelled successfully", response.getMessage());
             verify(bookingRepository).delete(booking);
+            verify(revenueService).reverse(payment);
+            verify(occupancyIndex).remove(propertyId, bookingId);
         }
 
         @Test
@@ -362,18 +420,19 @@ class BookingServiceTest {
         @Test
         @DisplayName("Should return true if user is booking owner")
         void isBookingOwner_whenUserIsOwner_shouldReturnTrue() {
-            when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+            when(bookingRepository.existsByIdAndUserUsername(bookingId, testUsername)).thenReturn(true);
 
             boolean result = bookingService.isBookingOwner(bookingId, testUsername);
 
             assertTrue(result);
-            verify(bookingRepository).findById(bookingId);
+            verify(bookingRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("Should return false if user is not booking owner")
         void isBookingOwner_whenUserIsNotOwner_shouldReturnFalse() {
-            when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+            when(bookingRepository.existsByIdAndUserUsername(bookingId, "anotherUser")).thenReturn(false);
+            when(bookingRepository.existsById(bookingId)).thenReturn(true);
 
             boolean result = bookingService.isBookingOwner(bookingId, "anotherUser");
 
@@ -383,7 +442,8 @@ class BookingServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when booking not found")
         void isBookingOwner_whenBookingNotFound_shouldThrowNotFoundException() {
-            when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+            when(bookingRepository.existsByIdAndUserUsername(bookingId, testUsername)).thenReturn(false);
+            when(bookingRepository.existsById(bookingId)).thenReturn(false);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> bookingService.isBookingOwner(bookingId, testUsername));
@@ -406,6 +466,8 @@ class BookingServiceTest {
             assertEquals("Booking ID " + bookingId + " deleted successfully", response.getMessage());
             verify(bookingRepository).findById(bookingId);
             verify(bookingRepository).delete(booking);
+            verify(revenueService).reverse(booking.getPayment());
+            verify(occupancyIndex).remove(propertyId, bookingId);
         }
 
         @Test
@@ -446,21 +508,20 @@ class BookingServiceTest {
         void updateBooking_whenValidAndNoConflict_shouldSucceed() {
             when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
             when(propertyRepository.findPropertyById(updateDto.getPropertyId())).thenReturn(Optional.of(property));
+            when(pricingService.quote(property, updateDto.getStartDate(), updateDto.getEndDate())).thenReturn(quoteOf("300.00"));
             booking.setProperty(property);
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                    updateDto.getPropertyId(), updateDto.getEndDate(), updateDto.getStartDate()))
-                    .thenReturn(Collections.emptyList());
             doNothing().when(bookingMapper).updateBookingFromDto(eq(updateDto), any(Booking.class));
-            when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+            when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(booking);
 
             MessageResponseDTO response = bookingService.updateBooking(updateDto, bookingId, testUsername);
 
             assertEquals("Booking updated successfully with ID: " + bookingId, response.getMessage());
             verify(bookingRepository).findById(bookingId);
             verify(propertyRepository).findPropertyById(updateDto.getPropertyId());
-            verify(bookingRepository).findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(LocalDate.class), any(LocalDate.class));
+            verify(occupancyIndex).overlaps(propertyId, updateDto.getStartDate(), updateDto.getEndDate(), bookingId);
             verify(bookingMapper).updateBookingFromDto(eq(updateDto), any(Booking.class));
-            verify(bookingRepository).save(booking);
+            verify(bookingRepository).saveAndFlush(booking);
+            verify(occupancyIndex).put(propertyId, bookingId, booking.getStartDate(), booking.getEndDate());
             assertEquals(BookingStatus.PENDING, booking.getBookingStatus());
         }
 
@@ -516,17 +577,36 @@ class BookingServiceTest {
             assertEquals("Property ID does not match the booking's property", exception.getReason());
         }
 
+        @Test
+        @DisplayName("Should update booking and drop the property from the index when the database does not confirm an overlap")
+        void updateBooking_whenIndexIsOutOfDate_shouldInvalidateAndSucceed() {
+            when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+            when(propertyRepository.findPropertyById(updateDto.getPropertyId())).thenReturn(Optional.of(property));
+            when(pricingService.quote(property, updateDto.getStartDate(), updateDto.getEndDate())).thenReturn(quoteOf("300.00"));
+            booking.setProperty(property);
+            when(occupancyIndex.overlaps(propertyId, updateDto.getStartDate(), updateDto.getEndDate(), bookingId)).thenReturn(true);
+            when(bookingRepository.existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+                    propertyId, updateDto.getEndDate(), updateDto.getStartDate(), bookingId))
+                    .thenReturn(false);
+            when(bookingRepository.saveAndFlush(booking)).thenReturn(booking);
+
+            MessageResponseDTO response = bookingService.updateBooking(updateDto, bookingId, testUsername);
+
+            assertEquals("Booking updated successfully with ID: " + bookingId, response.getMessage());
+            verify(occupancyIndex).invalidate(propertyId);
+            verify(bookingRepository).saveAndFlush(booking);
+        }
+
         @Test
         @DisplayName("Should throw ResponseStatusException on date conflict during update")
         void updateBooking_whenDateConflict_shouldThrowConflictException() {
             when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
             when(propertyRepository.findPropertyById(updateDto.getPropertyId())).thenReturn(Optional.of(property));
             booking.setProperty(property);
-            Booking overlappingBooking = new Booking();
-            overlappingBooking.setId(bookingId + 1);
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                    updateDto.getPropertyId(), updateDto.getEndDate(), updateDto.getStartDate()))
-                    .thenReturn(List.of(overlappingBooking));
+            when(occupancyIndex.overlaps(propertyId, updateDto.getStartDate(), updateDto.getEndDate(), bookingId)).thenReturn(true);
+            when(bookingRepository.existsByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+                    propertyId, updateDto.getEndDate(), updateDto.getStartDate(), bookingId))
+                    .thenReturn(true);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> bookingService.updateBooking(updateDto, bookingId, testUsername));
@@ -543,8 +623,6 @@ class BookingServiceTest {
             when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
             when(propertyRepository.findPropertyById(updateDto.getPropertyId())).thenReturn(Optional.of(property));
             booking.setProperty(property);
-            when(bookingRepository.findByPropertyIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(anyLong(), any(), any()))
-                    .thenReturn(Collections.emptyList());
             doNothing().when(bookingMapper).updateBookingFromDto(eq(updateDto), any(Booking.class));
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
@@ -554,4 +632,14 @@ class BookingServiceTest {
             assertEquals("End date must be after start date", exception.getReason());
         }
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException integrityViolation(String message) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(message, "23P01"), null));
+    }
+
+    private static PropertyPricing.Quote quoteOf(String total) {
+        Money price = Money.of(new BigDecimal(total));
+        return new PropertyPricing.Quote(3, price, null, price);
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.entity.IdempotencyKey;
+import org.example.rentify.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Unit Tests")
+class IdempotencyServiceTest {
+
+    private static final String USER = "testUser";
+    private static final String KEY = "key-1";
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, new CacheRegistry(),
+                Duration.ofHours(24), Duration.ofMinutes(1), 100, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("start Tests")
+    class StartTests {
+        @Test
+        @DisplayName("Should start the request when the key is stored")
+        void start_whenKeyNew_shouldReturnStarted() {
+            when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(1);
+
+            assertEquals(IdempotencyService.Status.STARTED, idempotencyService.start(USER, KEY, HASH).status());
+
+            ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(idempotencyKeyRepository).start(eq(USER), eq(KEY), eq(HASH), now.capture(), expiresAt.capture(), staleBefore.capture());
+            assertEquals(Duration.ofHours(24), Duration.between(now.getValue(), expiresAt.getValue()));
+            assertEquals(Duration.ofMinutes(1), Duration.between(staleBefore.getValue(), now.getValue()));
+        }
+
+        @Test
+        @DisplayName("Should replay a stored response and answer later retries from the cache")
+        void start_whenKeyCompleted_shouldReplayFromCache() {
+            when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(0);
+            when(idempotencyKeyRepository.findByUsernameAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(completedKey(HASH)));
+
+            IdempotencyService.Outcome first = idempotencyService.start(USER, KEY, HASH);
+            IdempotencyService.Outcome second = idempotencyService.start(USER, KEY, HASH);
+
+            assertEquals(IdempotencyService.Status.REPLAY, first.status());
+            assertEquals(201, first.response().status());
+            assertEquals("{\"id\":5}", first.response().body());
+            assertEquals(first.response(), second.response());
+            verify(idempotencyKeyRepository, times(1)).start(anyString(), anyString(), anyString(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should report a mismatch when the key was used for a different request")
+        void start_whenHashDiffers_shouldReturnMismatch() {
+            when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(0);
+            when(idempotencyKeyRepository.findByUsernameAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(completedKey("b".repeat(64))));
+
+            assertEquals(IdempotencyService.Status.MISMATCH, idempotencyService.start(USER, KEY, HASH).status());
+        }
+
+        @Test
+        @DisplayName("Should report a request in progress when no response is stored yet")
+        void start_whenKeyInProgress_shouldReturnInProgress() {
+            IdempotencyKey key = completedKey(HASH);
+            key.setResponseStatus(null);
+            when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(0);
+            when(idempotencyKeyRepository.findByUsernameAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(key));
+
+            assertEquals(IdempotencyService.Status.IN_PROGRESS, idempotencyService.start(USER, KEY, HASH).status());
+        }
+
+        @Test
+        @DisplayName("Should report a mismatch for a request in progress with a different hash")
+        void start_whenOtherRequestInProgress_shouldReturnMismatch() {
+            IdempotencyKey key = completedKey("b".repeat(64));
+            key.setResponseStatus(null);
+            when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(0);
+            when(idempotencyKeyRepository.findByUsernameAndIdempotencyKey(USER, KEY)).thenReturn(Optional.of(key));
+
+            assertEquals(IdempotencyService.Status.MISMATCH, idempotencyService.start(USER, KEY, HASH).status());
+        }
+    }
+
+    @Test
+    @DisplayName("complete should store the response and cache it for retries")
+    void complete_shouldStoreAndCacheResponse() {
+        IdempotencyService.StoredResponse response = new IdempotencyService.StoredResponse(HASH, 201, "application/json", "{}");
+        when(idempotencyKeyRepository.complete(USER, KEY, HASH, 201, "application/json", "{}")).thenReturn(1);
+
+        idempotencyService.complete(USER, KEY, response);
+        IdempotencyService.Outcome outcome = idempotencyService.start(USER, KEY, HASH);
+
+        assertEquals(IdempotencyService.Status.REPLAY, outcome.status());
+        assertSame(response, outcome.response());
+        verify(idempotencyKeyRepository, never()).start(anyString(), anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("complete should not cache a response whose key was taken over")
+    void complete_whenKeyTakenOver_shouldNotCache() {
+        when(idempotencyKeyRepository.complete(USER, KEY, HASH, 201, null, "{}")).thenReturn(0);
+        when(idempotencyKeyRepository.start(eq(USER), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(1);
+
+        idempotencyService.complete(USER, KEY, new IdempotencyService.StoredResponse(HASH, 201, null, "{}"));
+
+        assertEquals(IdempotencyService.Status.STARTED, idempotencyService.start(USER, KEY, HASH).status());
+    }
+
+    @Test
+    @DisplayName("release should delete the key in progress")
+    void release_shouldDeleteKey() {
+        idempotencyService.release(USER, KEY, HASH);
+
+        verify(idempotencyKeyRepository).release(USER, KEY, HASH);
+    }
+
+    @Test
+    @DisplayName("deleteExpired should delete the expired keys")
+    void deleteExpired_shouldDeleteExpiredKeys() {
+        idempotencyService.deleteExpired();
+
+        verify(idempotencyKeyRepository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    private static IdempotencyKey completedKey(String requestHash) {
+        return IdempotencyKey.builder()
+                .id(1L)
+                .username(USER)
+                .idempotencyKey(KEY)
+                .requestHash(requestHash)
+                .responseStatus(201)
+                .responseContentType("application/json")
+                .responseBody("{\"id\":5}")
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(24))
+                .build();
+    }
+}
@@ -86,6 +86,7 @@ class ImageServiceTest {
             verify(propertyService).getPropertyEntityById(1L);
             verify(imageMapper).imageRequestDtoToImage(imageRequestDTO);
             verify(imageRepository).save(image);
+            verify(propertyService).markPropertyModified(1L);
             assertNotNull(image.getUploadDate());
         }
 
@@ -206,6 +207,38 @@ class ImageServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getImagesVersion Tests")
+    class GetImagesVersionTests {
+
+        @Test
+        @DisplayName("Should return the version of the property the images belong to")
+        void getImagesVersion_whenPropertyExists_shouldReturnPropertyVersion() {
+            when(propertyService.getPropertyVersion(1L)).thenReturn(5L);
+
+            assertEquals(5L, imageService.getImagesVersion(1L));
+            verifyNoInteractions(imageRepository, imageMapper);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when propertyId is zero")
+        void getImagesVersion_whenPropertyIdIsZero_shouldThrowIllegalArgumentException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> imageService.getImagesVersion(0L));
+            assertEquals("Property ID must not be null or negative", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should propagate ResponseStatusException when property not found")
+        void getImagesVersion_whenPropertyNotFound_shouldPropagateResponseStatusException() {
+            when(propertyService.getPropertyVersion(1L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: 1"));
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> imageService.getImagesVersion(1L));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+    }
+
     @Nested
     @DisplayName("deleteImageFromProperty Tests")
     class DeleteImageFromPropertyTests {
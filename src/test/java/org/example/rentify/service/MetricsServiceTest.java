@@ -0,0 +1,79 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.LocalCache;
+import org.example.rentify.dto.response.CacheStatsDTO;
+import org.example.rentify.dto.response.PasswordHashingStatsDTO;
+import org.example.rentify.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("MetricsService Unit Tests")
+class MetricsServiceTest {
+
+    private CacheRegistry cacheRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private MetricsService metricsService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        cacheRegistry = new CacheRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(2, 10, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        metricsService = new MetricsService(cacheRegistry, passwordHashingExecutor);
+    }
+
+    @Test
+    @DisplayName("Should report the statistics of every registered cache")
+    void getCacheStats_shouldReportRegisteredCaches() {
+        LocalCache<Long, String> cache = cacheRegistry.register("propertyDetail", 10, Duration.ofMinutes(1));
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        List<CacheStatsDTO> stats = metricsService.getCacheStats();
+
+        assertEquals(1, stats.size());
+        CacheStatsDTO cacheStats = stats.getFirst();
+        assertEquals("propertyDetail", cacheStats.getName());
+        assertEquals(1, cacheStats.getSize());
+        assertEquals(10, cacheStats.getMaxSize());
+        assertEquals(3, cacheStats.getHitCount());
+        assertEquals(1, cacheStats.getMissCount());
+        assertEquals(0.75, cacheStats.getHitRate());
+    }
+
+    @Test
+    @DisplayName("Should report a zero hit rate for an unused cache")
+    void getCacheStats_whenCacheUnused_shouldReportZeroHitRate() {
+        cacheRegistry.register("unused", 10, Duration.ofMinutes(1));
+
+        assertEquals(0.0, metricsService.getCacheStats().getFirst().getHitRate());
+    }
+
+    @Test
+    @DisplayName("Should report the statistics of the password hashing executor")
+    void getPasswordHashingStats_shouldReportExecutorStats() {
+        passwordHashingExecutor.run(() -> "hash");
+
+        PasswordHashingStatsDTO stats = metricsService.getPasswordHashingStats();
+
+        assertEquals(2, stats.getThreads());
+        assertEquals(10, stats.getQueueCapacity());
+        assertEquals(1, stats.getCompletedCount());
+        assertEquals(0, stats.getRejectedCount());
+    }
+}
@@ -3,15 +3,20 @@ package org.example.rentify.service;
 import org.example.rentify.dto.request.PaymentRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PaymentResponseDTO;
+import org.example.rentify.dto.response.PropertyRevenueDTO;
 import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Payment;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PaymentMethod;
 import org.example.rentify.entity.enums.PaymentStatus;
 import org.example.rentify.mapper.PaymentMapper;
+import org.example.rentify.payment.PaymentGatewayRequest;
+import org.example.rentify.payment.PaymentGatewayResult;
 import org.example.rentify.repository.BookingRepository;
 import org.example.rentify.repository.PaymentRepository;
+import org.example.rentify.repository.PaymentRepository.PaymentTotals;
 import org.example.rentify.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,17 +24,21 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +56,8 @@ class PaymentServiceTest {
     private PaymentMapper paymentMapper;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private RevenueService revenueService;
 
     @InjectMocks
     private PaymentService paymentService;
@@ -75,7 +86,7 @@ class PaymentServiceTest {
         booking.setId(bookingId);
         booking.setUser(user);
         booking.setProperty(property);
-        booking.setTotalPrice(new BigDecimal("200.00"));
+        booking.setTotalPrice(Money.of(new BigDecimal("200.00")));
         booking.setStartDate(LocalDate.now().plusDays(1));
         booking.setEndDate(LocalDate.now().plusDays(3));
 
@@ -87,14 +98,14 @@ class PaymentServiceTest {
         payment.setId(paymentId);
         payment.setUser(user);
         payment.setBooking(booking);
-        payment.setAmount(new BigDecimal("200.00"));
+        payment.setAmount(Money.of(new BigDecimal("200.00")));
         payment.setPaymentDate(LocalDateTime.now().minusHours(1));
         payment.setPaymentStatus(PaymentStatus.COMPLETED);
         payment.setPaymentMethod(PaymentMethod.CREDIT_CARD);
 
         paymentResponseDTO = new PaymentResponseDTO();
         paymentResponseDTO.setId(paymentId);
-        paymentResponseDTO.setAmount(payment.getAmount());
+        paymentResponseDTO.setAmount(payment.getAmount().toBigDecimal());
         paymentResponseDTO.setPaymentDate(payment.getPaymentDate());
     }
 
@@ -163,7 +174,9 @@ class PaymentServiceTest {
             assertEquals(PaymentStatus.PENDING, payment.getPaymentStatus());
             assertEquals(booking, payment.getBooking());
             assertEquals(user, payment.getUser());
-            verify(paymentRepository).save(payment);
+            InOrder inOrder = inOrder(paymentRepository, revenueService);
+            inOrder.verify(paymentRepository).save(payment);
+            inOrder.verify(revenueService).record(payment);
         }
 
         @Test
@@ -198,6 +211,20 @@ class PaymentServiceTest {
             assertEquals("Payment already exists for this booking", exception.getReason());
         }
 
+        @Test
+        @DisplayName("Should accept an amount matching the total price with a different scale")
+        void makePayment_whenAmountHasDifferentScale_shouldSucceed() {
+            paymentRequestDTO.setAmount(new BigDecimal("200"));
+            when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+            when(paymentRepository.findByBookingId(bookingId)).thenReturn(null);
+            when(paymentMapper.paymentRequestDtoToPayment(paymentRequestDTO)).thenReturn(payment);
+
+            MessageResponseDTO response = paymentService.makePayment(bookingId, paymentRequestDTO);
+
+            assertEquals("Payment created successfully for booking ID: " + bookingId, response.getMessage());
+            verify(paymentRepository).save(payment);
+        }
+
         @Test
         @DisplayName("Should throw ResponseStatusException when payment amount does not match")
         void makePayment_whenAmountMismatch_shouldThrowBadRequestException() {
@@ -254,16 +281,18 @@ class PaymentServiceTest {
     @DisplayName("deletePaymentByBookingId Tests")
     class DeletePaymentByBookingIdTests {
         @Test
-        @DisplayName("Should delete payment successfully when found")
+        @DisplayName("Should delete payment successfully when found and remove it from the revenue rollup")
         void deletePaymentByBookingId_whenPaymentExists_shouldSucceed() {
-            when(paymentRepository.findByBookingId(bookingId)).thenReturn(payment);
+            when(paymentRepository.findByBookingIdForUpdate(bookingId)).thenReturn(payment);
             doNothing().when(paymentRepository).delete(payment);
 
             MessageResponseDTO response = paymentService.deletePaymentByBookingId(bookingId);
 
             assertNotNull(response);
             assertEquals("Payment deleted successfully for booking ID: " + bookingId, response.getMessage());
-            verify(paymentRepository).findByBookingId(bookingId);
+            verify(paymentRepository).findByBookingIdForUpdate(bookingId);
+            verify(revenueService).reverse(payment);
+            verify(revenueService, never()).record(any());
             verify(paymentRepository).delete(payment);
         }
 
@@ -279,12 +308,13 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when payment not found")
         void deletePaymentByBookingId_whenPaymentNotFound_shouldThrowNotFoundException() {
-            when(paymentRepository.findByBookingId(bookingId)).thenReturn(null);
+            when(paymentRepository.findByBookingIdForUpdate(bookingId)).thenReturn(null);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> paymentService.deletePaymentByBookingId(bookingId));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
             assertEquals("Payment not found for booking ID: " + bookingId, exception.getReason());
+            verifyNoInteractions(revenueService);
         }
     }
 
@@ -335,24 +365,37 @@ class PaymentServiceTest {
     @DisplayName("getTotalAmountPaidByUser Tests")
     class GetTotalAmountPaidByUserTests {
         @Test
-        @DisplayName("Should return total amount for user with payments")
+        @DisplayName("Should return the exact sum aggregated by the database")
         void getTotalAmountPaidByUser_whenUserHasPayments_shouldReturnSum() {
-            Payment payment2 = new Payment();
-            payment2.setAmount(new BigDecimal("150.00"));
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
-            when(paymentRepository.findByUser(user)).thenReturn(List.of(payment, payment2));
+            when(paymentRepository.sumAmountsByUsername(testUsername, null, null, null)).thenReturn(totals(2, "350.10"));
+
+            BigDecimal total = paymentService.getTotalAmountPaidByUser(testUsername, null, null, null);
+
+            assertEquals(new BigDecimal("350.10"), total);
+            verify(paymentRepository, never()).findByUser(any());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should pass the status and the days as an inclusive start and exclusive end")
+        void getTotalAmountPaidByUser_whenFiltered_shouldPassDateRange() {
+            LocalDate from = LocalDate.of(2025, 1, 1);
+            LocalDate to = LocalDate.of(2025, 1, 31);
+            when(paymentRepository.sumAmountsByUsername(testUsername, PaymentStatus.COMPLETED,
+                    from.atStartOfDay(), LocalDate.of(2025, 2, 1).atStartOfDay())).thenReturn(totals(1, "200.00"));
 
-            Double total = paymentService.getTotalAmountPaidByUser(testUsername);
+            BigDecimal total = paymentService.getTotalAmountPaidByUser(testUsername, PaymentStatus.COMPLETED, from, to);
 
-            assertEquals(350.00, total, 0.001);
+            assertEquals(new BigDecimal("200.00"), total);
         }
 
         @Test
         @DisplayName("Should throw ResponseStatusException when user not found")
         void getTotalAmountPaidByUser_whenUserNotFound_shouldThrowNotFoundException() {
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.empty());
+            when(paymentRepository.sumAmountsByUsername(testUsername, null, null, null)).thenReturn(totals(0, "0"));
+            when(userRepository.existsByUsername(testUsername)).thenReturn(false);
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
-                    () -> paymentService.getTotalAmountPaidByUser(testUsername));
+                    () -> paymentService.getTotalAmountPaidByUser(testUsername, null, null, null));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
             assertEquals("Requested User was not found", exception.getReason());
         }
@@ -360,36 +403,44 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when user has no payments")
         void getTotalAmountPaidByUser_whenUserHasNoPayments_shouldThrowNotFoundException() {
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
-            when(paymentRepository.findByUser(user)).thenReturn(Collections.emptyList());
+            when(paymentRepository.sumAmountsByUsername(testUsername, null, null, null)).thenReturn(totals(0, "0"));
+            when(userRepository.existsByUsername(testUsername)).thenReturn(true);
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
-                    () -> paymentService.getTotalAmountPaidByUser(testUsername));
+                    () -> paymentService.getTotalAmountPaidByUser(testUsername, null, null, null));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
             assertEquals("No payments found for user", exception.getReason());
         }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when the start date is after the end date")
+        void getTotalAmountPaidByUser_whenDateRangeInvalid_shouldThrowBadRequest() {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> paymentService.getTotalAmountPaidByUser(testUsername, null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            verifyNoInteractions(paymentRepository);
+        }
     }
 
     @Nested
     @DisplayName("getTotalAmountPaidByAllUsers Tests")
     class GetTotalAmountPaidByAllUsersTests {
         @Test
-        @DisplayName("Should return total amount for all users")
+        @DisplayName("Should return the exact sum aggregated by the database")
         void getTotalAmountPaidByAllUsers_whenPaymentsExist_shouldReturnSum() {
-            Payment payment1 = new Payment(); payment1.setAmount(new BigDecimal("100.00"));
-            Payment payment2 = new Payment(); payment2.setAmount(new BigDecimal("250.50"));
-            when(paymentRepository.findAll()).thenReturn(List.of(payment1, payment2));
+            when(paymentRepository.sumAmounts(PaymentStatus.COMPLETED, null, null)).thenReturn(totals(2, "350.50"));
 
-            BigDecimal total = paymentService.getTotalAmountPaidByAllUsers();
+            BigDecimal total = paymentService.getTotalAmountPaidByAllUsers(PaymentStatus.COMPLETED, null, null);
 
             assertEquals(new BigDecimal("350.50"), total);
+            verify(paymentRepository, never()).findAll();
         }
 
         @Test
         @DisplayName("Should throw ResponseStatusException when no payments exist")
         void getTotalAmountPaidByAllUsers_whenNoPayments_shouldThrowNotFoundException() {
-            when(paymentRepository.findAll()).thenReturn(Collections.emptyList());
+            when(paymentRepository.sumAmounts(null, null, null)).thenReturn(totals(0, "0"));
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
-                    () -> paymentService.getTotalAmountPaidByAllUsers());
+                    () -> paymentService.getTotalAmountPaidByAllUsers(null, null, null));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
             assertEquals("No payments found", exception.getReason());
         }
@@ -401,32 +452,28 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should return total amount for property")
         void getTotalAmountPaidByAllUsersForProperty_whenBookingsAndPaymentsExist_shouldReturnSum() {
-            Booking booking2 = new Booking(); booking2.setId(2L);
-            Payment payment2 = new Payment(); payment2.setAmount(new BigDecimal("50.00"));
+            when(paymentRepository.sumAmountsByPropertyId(propertyId, null, null, null)).thenReturn(totals(2, "250.00"));
 
-            when(bookingRepository.findByPropertyId(propertyId)).thenReturn(List.of(booking, booking2));
-            when(paymentRepository.findByBookingId(booking.getId())).thenReturn(payment);
-            when(paymentRepository.findByBookingId(booking2.getId())).thenReturn(payment2);
-
-            BigDecimal total = paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId);
+            BigDecimal total = paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId, null, null, null);
             assertEquals(new BigDecimal("250.00"), total);
+            verify(bookingRepository, never()).findByPropertyId(any());
         }
 
         @Test
         @DisplayName("Should return zero if property bookings have no payments")
         void getTotalAmountPaidByAllUsersForProperty_whenBookingsHaveNoPayments_shouldReturnZero() {
-            when(bookingRepository.findByPropertyId(propertyId)).thenReturn(List.of(booking));
-            when(paymentRepository.findByBookingId(booking.getId())).thenReturn(null);
+            when(paymentRepository.sumAmountsByPropertyId(propertyId, null, null, null)).thenReturn(totals(0, "0"));
+            when(bookingRepository.existsByPropertyId(propertyId)).thenReturn(true);
 
-            BigDecimal total = paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId);
-            assertEquals(BigDecimal.ZERO, total);
+            BigDecimal total = paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId, null, null, null);
+            assertEquals(0, BigDecimal.ZERO.compareTo(total));
         }
 
         @Test
         @DisplayName("Should throw ResponseStatusException for null propertyId")
         void getTotalAmountPaidByAllUsersForProperty_whenPropertyIdIsNull_shouldThrowBadRequest() {
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
-                    () -> paymentService.getTotalAmountPaidByAllUsersForProperty(null));
+                    () -> paymentService.getTotalAmountPaidByAllUsersForProperty(null, null, null, null));
             assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
             assertEquals("Property ID cannot be null or negative", exception.getReason());
         }
@@ -434,29 +481,92 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when no bookings for property")
         void getTotalAmountPaidByAllUsersForProperty_whenNoBookings_shouldThrowNotFound() {
-            when(bookingRepository.findByPropertyId(propertyId)).thenReturn(Collections.emptyList());
+            when(paymentRepository.sumAmountsByPropertyId(propertyId, null, null, null)).thenReturn(totals(0, "0"));
+            when(bookingRepository.existsByPropertyId(propertyId)).thenReturn(false);
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
-                    () -> paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId));
+                    () -> paymentService.getTotalAmountPaidByAllUsersForProperty(propertyId, null, null, null));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
             assertEquals("No bookings found for property ID: " + propertyId, exception.getReason());
         }
     }
 
+    @Nested
+    @DisplayName("getRevenueByProperties Tests")
+    class GetRevenueByPropertiesTests {
+        @Test
+        @DisplayName("Should aggregate the revenue of all properties in one query")
+        void getRevenueByProperties_shouldQueryOnceForAllProperties() {
+            List<PropertyRevenueDTO> revenue = List.of(
+                    new PropertyRevenueDTO(1L, "First", 2L, new BigDecimal("300.00")),
+                    new PropertyRevenueDTO(2L, "Second", 0L, BigDecimal.ZERO));
+            when(paymentRepository.findRevenueByPropertyIds(Set.of(1L, 2L), null, null, null)).thenReturn(revenue);
+
+            List<PropertyRevenueDTO> result = paymentService.getRevenueByProperties(List.of(1L, 2L, 1L), null, null, null);
+
+            assertEquals(revenue, result);
+            verify(paymentRepository, never()).findByBookingId(any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when no property IDs are given")
+        void getRevenueByProperties_whenNoIds_shouldThrowBadRequest() {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> paymentService.getRevenueByProperties(List.of(), null, null, null));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when too many property IDs are given")
+        void getRevenueByProperties_whenTooManyIds_shouldThrowBadRequest() {
+            List<Long> ids = java.util.stream.LongStream.rangeClosed(1, PaymentService.MAX_REVENUE_PROPERTIES + 1).boxed().toList();
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> paymentService.getRevenueByProperties(ids, null, null, null));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            verifyNoInteractions(paymentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when a property ID is not positive")
+        void getRevenueByProperties_whenIdNotPositive_shouldThrowBadRequest() {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> paymentService.getRevenueByProperties(List.of(1L, 0L), null, null, null));
+            assertEquals("Property ID cannot be null or negative", exception.getReason());
+        }
+
+        @Test
+        @DisplayName("Should aggregate the revenue of the properties of an owner")
+        void getRevenueOfOwnedProperties_shouldQueryByOwner() {
+            LocalDate from = LocalDate.of(2025, 3, 1);
+            List<PropertyRevenueDTO> revenue = List.of(new PropertyRevenueDTO(1L, "First", 1L, new BigDecimal("100.00")));
+            when(paymentRepository.findRevenueByOwnerUsername(testUsername, PaymentStatus.COMPLETED, from.atStartOfDay(), null))
+                    .thenReturn(revenue);
+
+            assertEquals(revenue, paymentService.getRevenueOfOwnedProperties(testUsername, PaymentStatus.COMPLETED, from, null));
+        }
+    }
+
     @Nested
     @DisplayName("updatePaymentStatus Tests")
     class UpdatePaymentStatusTests {
         @Test
-        @DisplayName("Should update payment status successfully")
+        @DisplayName("Should update payment status successfully and move the payment to the new status in the revenue rollup")
         void updatePaymentStatus_whenPaymentExists_shouldSucceed() {
-            PaymentStatus newStatus = PaymentStatus.COMPLETED;
-            when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+            PaymentStatus newStatus = PaymentStatus.REFUNDED;
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
             when(paymentRepository.save(payment)).thenReturn(payment);
+            doAnswer(invocation -> {
+                assertEquals(PaymentStatus.COMPLETED, invocation.<Payment>getArgument(0).getPaymentStatus());
+                return null;
+            }).when(revenueService).reverse(payment);
 
             MessageResponseDTO response = paymentService.updatePaymentStatus(paymentId, newStatus);
 
             assertEquals("Payment status updated successfully for payment ID: " + paymentId, response.getMessage());
             assertEquals(newStatus, payment.getPaymentStatus());
-            verify(paymentRepository).save(payment);
+            InOrder inOrder = inOrder(revenueService, paymentRepository);
+            inOrder.verify(revenueService).reverse(payment);
+            inOrder.verify(paymentRepository).save(payment);
+            inOrder.verify(revenueService).record(payment);
         }
 
         @Test
@@ -471,7 +581,7 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when payment not found")
         void updatePaymentStatus_whenPaymentNotFound_shouldThrowNotFound() {
-            when(paymentRepository.findById(paymentId)).thenReturn(Optional.empty());
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.empty());
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> paymentService.updatePaymentStatus(paymentId, PaymentStatus.COMPLETED));
             assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
@@ -501,13 +611,13 @@ class PaymentServiceTest {
     @DisplayName("updatePayment Tests")
     class UpdatePaymentTests {
         @Test
-        @DisplayName("Should update payment successfully")
+        @DisplayName("Should update payment successfully and move it in the revenue rollup")
         void updatePayment_whenPaymentExists_shouldSucceed() {
             PaymentRequestDTO updateDto = new PaymentRequestDTO();
             updateDto.setAmount(new BigDecimal("250.00"));
             updateDto.setPaymentMethod(PaymentMethod.PAYPAL);
 
-            when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
             doNothing().when(paymentMapper).updatePaymentFromDto(updateDto, payment);
             when(paymentRepository.save(payment)).thenReturn(payment);
 
@@ -516,8 +626,128 @@ class PaymentServiceTest {
             assertEquals("Payment updated successfully for payment ID: " + paymentId, response.getMessage());
             assertNotNull(payment.getPaymentDate());
             assertEquals(PaymentStatus.PENDING, payment.getPaymentStatus());
-            verify(paymentMapper).updatePaymentFromDto(updateDto, payment);
+            InOrder inOrder = inOrder(revenueService, paymentMapper, paymentRepository);
+            inOrder.verify(revenueService).reverse(payment);
+            inOrder.verify(paymentMapper).updatePaymentFromDto(updateDto, payment);
+            inOrder.verify(paymentRepository).save(payment);
+            inOrder.verify(revenueService).record(payment);
+        }
+    }
+
+    @Nested
+    @DisplayName("Payment processing Tests")
+    class PaymentProcessingTests {
+        private final UUID claim = UUID.randomUUID();
+
+        @BeforeEach
+        void setUp() {
+            payment.setPaymentStatus(PaymentStatus.PENDING);
+            payment.setProcessingClaim(claim);
+            payment.setClaimedUntil(LocalDateTime.now().plusMinutes(1));
+            payment.setProcessingAttempts(1);
+        }
+
+        @Test
+        @DisplayName("claimPendingPayments should claim the locked payments and return them as gateway requests")
+        void claimPendingPayments_shouldClaimLockedPayments() {
+            PaymentGatewayRequest request = new PaymentGatewayRequest(paymentId, payment.getAmount(), PaymentMethod.CREDIT_CARD, null);
+            when(paymentRepository.lockClaimablePendingIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of(paymentId));
+            when(paymentRepository.findGatewayRequestsByClaim(claim)).thenReturn(List.of(request));
+
+            List<PaymentGatewayRequest> result = paymentService.claimPendingPayments(claim, 10, Duration.ofMinutes(1));
+
+            assertEquals(List.of(request), result);
+            verify(paymentRepository).claim(eq(List.of(paymentId)), eq(claim), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("claimPendingPayments should not claim anything when no payment is claimable")
+        void claimPendingPayments_whenNothingClaimable_shouldReturnEmptyList() {
+            when(paymentRepository.lockClaimablePendingIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of());
+
+            assertTrue(paymentService.claimPendingPayments(claim, 10, Duration.ofMinutes(1)).isEmpty());
+            verify(paymentRepository, never()).claim(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("completeProcessing should complete an approved payment with the transaction ID of the gateway")
+        void completeProcessing_whenApproved_shouldCompletePayment() {
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertTrue(paymentService.completeProcessing(paymentId, claim, PaymentGatewayResult.approved("gw_1")));
+
+            assertEquals(PaymentStatus.COMPLETED, payment.getPaymentStatus());
+            assertEquals("gw_1", payment.getTransactionId());
+            assertNull(payment.getProcessingClaim());
+            assertNull(payment.getClaimedUntil());
+            InOrder inOrder = inOrder(revenueService, paymentRepository);
+            inOrder.verify(revenueService).reverse(payment);
+            inOrder.verify(paymentRepository).save(payment);
+            inOrder.verify(revenueService).record(payment);
+        }
+
+        @Test
+        @DisplayName("completeProcessing should fail a declined payment")
+        void completeProcessing_whenDeclined_shouldFailPayment() {
+            payment.setTransactionId("client_tx");
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertTrue(paymentService.completeProcessing(paymentId, claim, PaymentGatewayResult.declined("Insufficient funds")));
+
+            assertEquals(PaymentStatus.FAILED, payment.getPaymentStatus());
+            assertEquals("client_tx", payment.getTransactionId());
+        }
+
+        @Test
+        @DisplayName("completeProcessing should discard the result when the payment is claimed by another worker")
+        void completeProcessing_whenClaimedByAnotherWorker_shouldDiscardResult() {
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertFalse(paymentService.completeProcessing(paymentId, UUID.randomUUID(), PaymentGatewayResult.approved("gw_1")));
+
+            assertEquals(PaymentStatus.PENDING, payment.getPaymentStatus());
+            verify(paymentRepository, never()).save(any());
+            verifyNoInteractions(revenueService);
+        }
+
+        @Test
+        @DisplayName("completeProcessing should discard the result when the payment is no longer pending")
+        void completeProcessing_whenNoLongerPending_shouldDiscardResult() {
+            payment.setPaymentStatus(PaymentStatus.REFUNDED);
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertFalse(paymentService.completeProcessing(paymentId, claim, PaymentGatewayResult.approved("gw_1")));
+
+            assertEquals(PaymentStatus.REFUNDED, payment.getPaymentStatus());
+            verifyNoInteractions(revenueService);
+        }
+
+        @Test
+        @DisplayName("retryProcessing should release the claim until the retry delay has passed")
+        void retryProcessing_whenAttemptsLeft_shouldReleaseClaim() {
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertTrue(paymentService.retryProcessing(paymentId, claim, 5, Duration.ofSeconds(30)));
+
+            assertEquals(PaymentStatus.PENDING, payment.getPaymentStatus());
+            assertNull(payment.getProcessingClaim());
+            assertTrue(payment.getClaimedUntil().isAfter(LocalDateTime.now().plusSeconds(20)));
             verify(paymentRepository).save(payment);
+            verifyNoInteractions(revenueService);
+        }
+
+        @Test
+        @DisplayName("retryProcessing should fail a payment that has used up its attempts")
+        void retryProcessing_whenAttemptsUsedUp_shouldFailPayment() {
+            payment.setProcessingAttempts(5);
+            when(paymentRepository.findByIdForUpdate(paymentId)).thenReturn(Optional.of(payment));
+
+            assertTrue(paymentService.retryProcessing(paymentId, claim, 5, Duration.ofSeconds(30)));
+
+            assertEquals(PaymentStatus.FAILED, payment.getPaymentStatus());
+            assertNull(payment.getClaimedUntil());
+            verify(revenueService).reverse(payment);
+            verify(revenueService).record(payment);
         }
     }
 
@@ -527,18 +757,46 @@ class PaymentServiceTest {
         @Test
         @DisplayName("Should return true if user is payment owner")
         void isPaymentOwner_whenUserIsOwner_shouldReturnTrue() {
-            when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+            when(paymentRepository.existsByIdAndUserUsername(paymentId, testUsername)).thenReturn(true);
 
             boolean result = paymentService.isPaymentOwner(paymentId, testUsername);
             assertTrue(result);
+            verify(paymentRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("Should return false if user is not payment owner")
         void isPaymentOwner_whenUserIsNotOwner_shouldReturnFalse() {
-            when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(payment));
+            when(paymentRepository.existsByIdAndUserUsername(paymentId, "anotherUser")).thenReturn(false);
+            when(paymentRepository.existsById(paymentId)).thenReturn(true);
             boolean result = paymentService.isPaymentOwner(paymentId, "anotherUser");
             assertFalse(result);
         }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when payment not found")
+        void isPaymentOwner_whenPaymentNotFound_shouldThrowNotFoundException() {
+            when(paymentRepository.existsByIdAndUserUsername(paymentId, testUsername)).thenReturn(false);
+            when(paymentRepository.existsById(paymentId)).thenReturn(false);
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> paymentService.isPaymentOwner(paymentId, testUsername));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+            assertEquals("Payment not found for ID: " + paymentId, exception.getReason());
+        }
+    }
+
+    private static PaymentTotals totals(long count, String total) {
+        return new PaymentTotals() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
     }
-}
\ No newline at end of file
+}
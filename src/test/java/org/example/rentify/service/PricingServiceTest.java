@@ -0,0 +1,295 @@
+package org.example.rentify.service;
+
+import org.example.rentify.cache.PropertyPricing;
+import org.example.rentify.cache.PropertyPricingCache;
+import org.example.rentify.dto.request.PricingRuleRequestDTO;
+import org.example.rentify.dto.response.MessageResponseDTO;
+import org.example.rentify.dto.response.PriceQuoteDTO;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.PricingRule;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.enums.PricingAdjustmentType;
+import org.example.rentify.entity.enums.PricingRuleType;
+import org.example.rentify.mapper.PricingRuleMapper;
+import org.example.rentify.repository.PricingRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PricingService Unit Tests")
+class PricingServiceTest {
+
+    private static final int HORIZON_DAYS = 60;
+    private static final int MAX_STAY_DAYS = 90;
+
+    @Mock
+    private PricingRuleRepository pricingRuleRepository;
+    @Mock
+    private PricingRuleMapper pricingRuleMapper;
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private PropertyPricingCache propertyPricingCache;
+
+    private PricingService pricingService;
+    private Property property;
+    private PricingRuleRequestDTO pricingRuleRequestDTO;
+
+    private final Long propertyId = 1L;
+    private final Long ruleId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        pricingService = new PricingService(pricingRuleRepository, pricingRuleMapper, propertyService, propertyPricingCache, HORIZON_DAYS, MAX_STAY_DAYS);
+
+        property = new Property();
+        property.setId(propertyId);
+        property.setPricePerDay(Money.of(new BigDecimal("100.00")));
+
+        pricingRuleRequestDTO = new PricingRuleRequestDTO();
+        pricingRuleRequestDTO.setRuleType(PricingRuleType.NIGHTLY);
+        pricingRuleRequestDTO.setAdjustmentType(PricingAdjustmentType.PERCENTAGE);
+        pricingRuleRequestDTO.setDaysOfWeek(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        pricingRuleRequestDTO.setPercentage(20);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadPricingOnCacheMiss() {
+        when(propertyPricingCache.get(eq(propertyId), any())).thenAnswer(invocation ->
+                ((Function<Long, PropertyPricing>) invocation.getArgument(1)).apply(propertyId));
+    }
+
+    @Nested
+    @DisplayName("quote Tests")
+    class QuoteTests {
+
+        @Test
+        @DisplayName("Should compile the rules of the property on a cache miss and quote from them")
+        void quote_whenCacheMiss_shouldCompileRules() {
+            PricingRule lengthOfStay = PricingRule.builder().ruleType(PricingRuleType.LENGTH_OF_STAY)
+                    .adjustmentType(PricingAdjustmentType.PERCENTAGE).minDays(7).percentage(-10).priority(0).build();
+            when(pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId)).thenReturn(List.of(lengthOfStay));
+            loadPricingOnCacheMiss();
+            LocalDate startDate = LocalDate.now().plusDays(1);
+
+            PropertyPricing.Quote quote = pricingService.quote(property, startDate, startDate.plusDays(9));
+
+            assertEquals(10, quote.days());
+            assertEquals(Money.of(new BigDecimal("1000.00")), quote.subtotal());
+            assertEquals(Money.of(new BigDecimal("900.00")), quote.total());
+            verify(propertyPricingCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should recompile a cached pricing compiled with an outdated price per day")
+        void quote_whenPricePerDayChanged_shouldRecompile() {
+            PropertyPricing stale = PropertyPricing.compile(Money.of(new BigDecimal("80.00")), List.of(), LocalDate.now(), HORIZON_DAYS);
+            when(propertyPricingCache.get(eq(propertyId), any())).thenReturn(stale);
+            when(pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId)).thenReturn(List.of());
+            LocalDate startDate = LocalDate.now().plusDays(1);
+
+            PropertyPricing.Quote quote = pricingService.quote(property, startDate, startDate.plusDays(1));
+
+            assertEquals(Money.of(new BigDecimal("200.00")), quote.total());
+            ArgumentCaptor<PropertyPricing> captor = ArgumentCaptor.forClass(PropertyPricing.class);
+            verify(propertyPricingCache).put(eq(propertyId), captor.capture());
+            assertEquals(property.getPricePerDay(), captor.getValue().getBasePrice());
+        }
+
+        @Test
+        @DisplayName("Should accept a stay of exactly the maximum stay")
+        void quote_whenStayIsMaximumStay_shouldQuote() {
+            when(pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId)).thenReturn(List.of());
+            loadPricingOnCacheMiss();
+            LocalDate startDate = LocalDate.now();
+
+            PropertyPricing.Quote quote = pricingService.quote(property, startDate, startDate.plusDays(MAX_STAY_DAYS - 1));
+
+            assertEquals(MAX_STAY_DAYS, quote.days());
+        }
+
+        @Test
+        @DisplayName("Should reject a stay longer than the maximum stay before pricing it")
+        void quote_whenStayTooLong_shouldThrowIllegalArgumentException() {
+            LocalDate startDate = LocalDate.now();
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> pricingService.quote(property, startDate, startDate.plusDays(MAX_STAY_DAYS)));
+            assertEquals("A stay must not be longer than " + MAX_STAY_DAYS + " days", ex.getMessage());
+            verifyNoInteractions(propertyPricingCache, pricingRuleRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the property is null")
+        void quote_whenPropertyNull_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> pricingService.quote(null, LocalDate.now(), LocalDate.now()));
+        }
+    }
+
+    @Nested
+    @DisplayName("getQuote Tests")
+    class GetQuoteTests {
+
+        @Test
+        @DisplayName("Should return the quote of the stay without creating a booking")
+        void getQuote_whenValid_shouldReturnQuote() {
+            when(propertyService.getPropertyEntityById(propertyId)).thenReturn(property);
+            when(pricingRuleRepository.findByPropertyIdOrderByPriorityDescIdAsc(propertyId)).thenReturn(List.of());
+            loadPricingOnCacheMiss();
+            LocalDate startDate = LocalDate.now().plusDays(1);
+
+            PriceQuoteDTO quote = pricingService.getQuote(propertyId, startDate, startDate.plusDays(2));
+
+            assertEquals(propertyId, quote.getPropertyId());
+            assertEquals(3L, quote.getDays());
+            assertEquals(new BigDecimal("300.00"), quote.getSubtotal());
+            assertNull(quote.getLengthOfStayPercentage());
+            assertEquals(new BigDecimal("300.00"), quote.getTotalPrice());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the end date is before the start date")
+        void getQuote_whenEndBeforeStart_shouldThrowIllegalArgumentException() {
+            LocalDate startDate = LocalDate.now().plusDays(2);
+
+            assertThrows(IllegalArgumentException.class, () -> pricingService.getQuote(propertyId, startDate, startDate.minusDays(1)));
+            verifyNoInteractions(propertyService);
+        }
+
+        @Test
+        @DisplayName("Should reject a stay spanning the whole calendar without loading the property")
+        void getQuote_whenStayTooLong_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> pricingService.getQuote(propertyId, LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)));
+            verifyNoInteractions(propertyService, propertyPricingCache, pricingRuleRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if a date is missing")
+        void getQuote_whenDateNull_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> pricingService.getQuote(propertyId, null, LocalDate.now()));
+        }
+
+        @Test
+        @DisplayName("Should propagate not found when the property does not exist")
+        void getQuote_whenPropertyNotFound_shouldThrowNotFound() {
+            when(propertyService.getPropertyEntityById(propertyId))
+                    .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found with ID: " + propertyId));
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> pricingService.getQuote(propertyId, LocalDate.now(), LocalDate.now()));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("pricing rule management Tests")
+    class PricingRuleManagementTests {
+
+        @Test
+        @DisplayName("Should add the rule to the property and evict its pricing")
+        void addPricingRule_whenValid_shouldSaveAndEvict() {
+            PricingRule pricingRule = new PricingRule();
+            when(propertyService.getPropertyEntityById(propertyId)).thenReturn(property);
+            when(pricingRuleMapper.pricingRuleRequestDtoToPricingRule(pricingRuleRequestDTO)).thenReturn(pricingRule);
+            when(pricingRuleRepository.save(pricingRule)).thenAnswer(invocation -> {
+                pricingRule.setId(ruleId);
+                return pricingRule;
+            });
+
+            MessageResponseDTO response = pricingService.addPricingRule(propertyId, pricingRuleRequestDTO);
+
+            assertEquals("Pricing rule added successfully with ID: " + ruleId, response.getMessage());
+            assertSame(property, pricingRule.getProperty());
+            assertEquals(0, pricingRule.getPriority());
+            verify(propertyPricingCache).evict(propertyId);
+        }
+
+        @Test
+        @DisplayName("Should reject a percentage rule without a percentage")
+        void addPricingRule_whenPercentageMissing_shouldThrowIllegalArgumentException() {
+            pricingRuleRequestDTO.setPercentage(null);
+
+            assertThrows(IllegalArgumentException.class, () -> pricingService.addPricingRule(propertyId, pricingRuleRequestDTO));
+            verifyNoInteractions(pricingRuleRepository, propertyPricingCache);
+        }
+
+        @Test
+        @DisplayName("Should reject a length of stay rule limited to days of the week")
+        void addPricingRule_whenLengthOfStayHasDaysOfWeek_shouldThrowIllegalArgumentException() {
+            pricingRuleRequestDTO.setRuleType(PricingRuleType.LENGTH_OF_STAY);
+            pricingRuleRequestDTO.setMinDays(7);
+
+            assertThrows(IllegalArgumentException.class, () -> pricingService.addPricingRule(propertyId, pricingRuleRequestDTO));
+        }
+
+        @Test
+        @DisplayName("Should reject a nightly rule whose end date is before its start date")
+        void addPricingRule_whenDatesOutOfOrder_shouldThrowIllegalArgumentException() {
+            pricingRuleRequestDTO.setStartDate(LocalDate.of(2025, 8, 1));
+            pricingRuleRequestDTO.setEndDate(LocalDate.of(2025, 7, 1));
+
+            assertThrows(IllegalArgumentException.class, () -> pricingService.addPricingRule(propertyId, pricingRuleRequestDTO));
+        }
+
+        @Test
+        @DisplayName("Should update the rule of the property and evict its pricing")
+        void updatePricingRule_whenValid_shouldSaveAndEvict() {
+            PricingRule pricingRule = PricingRule.builder().id(ruleId).priority(3).build();
+            when(pricingRuleRepository.findByIdAndPropertyId(ruleId, propertyId)).thenReturn(Optional.of(pricingRule));
+
+            MessageResponseDTO response = pricingService.updatePricingRule(propertyId, ruleId, pricingRuleRequestDTO);
+
+            assertEquals("Pricing rule updated successfully with ID: " + ruleId, response.getMessage());
+            verify(pricingRuleMapper).updatePricingRuleFromDto(pricingRuleRequestDTO, pricingRule);
+            verify(pricingRuleRepository).save(pricingRule);
+            verify(propertyPricingCache).evict(propertyId);
+        }
+
+        @Test
+        @DisplayName("Should throw not found when the rule does not belong to the property")
+        void deletePricingRule_whenRuleNotInProperty_shouldThrowNotFound() {
+            when(pricingRuleRepository.findByIdAndPropertyId(ruleId, propertyId)).thenReturn(Optional.empty());
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> pricingService.deletePricingRule(propertyId, ruleId));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+            verify(pricingRuleRepository, never()).delete(any());
+            verifyNoInteractions(propertyPricingCache);
+        }
+
+        @Test
+        @DisplayName("Should delete the rule of the property and evict its pricing")
+        void deletePricingRule_whenFound_shouldDeleteAndEvict() {
+            PricingRule pricingRule = PricingRule.builder().id(ruleId).build();
+            when(pricingRuleRepository.findByIdAndPropertyId(ruleId, propertyId)).thenReturn(Optional.of(pricingRule));
+
+            MessageResponseDTO response = pricingService.deletePricingRule(propertyId, ruleId);
+
+            assertEquals("Pricing rule deleted successfully with ID: " + ruleId, response.getMessage());
+            verify(pricingRuleRepository).delete(pricingRule);
+            verify(propertyPricingCache).evict(propertyId);
+        }
+    }
+}
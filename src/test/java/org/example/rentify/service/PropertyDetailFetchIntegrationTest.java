@@ -0,0 +1,138 @@
+package org.example.rentify.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.rentify.dto.response.PropertyResponseDTO;
+import org.example.rentify.entity.*;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.enums.BookingStatus;
+import org.example.rentify.entity.enums.PropertyType;
+import org.example.rentify.repository.RoleRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Guards the number of SQL statements needed to build a property detail response.
+ * Runs against the PostgreSQL database configured through the POSTGRES_* environment variables.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "POSTGRES_DB", matches = ".+")
+@DisplayName("PropertyService detail fetch Integration Tests")
+class PropertyDetailFetchIntegrationTest {
+
+    private static final int REVIEW_COUNT = 4;
+    private static final int IMAGE_COUNT = 3;
+    private static final long MAX_STATEMENTS = 3;
+
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long propertyId;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = roleRepository.findRoleByName("USER").orElseThrow();
+        User owner = newUser("fetch_owner", userRole);
+        owner.setAddress(newAddress("Owner Street 1"));
+        entityManager.persist(owner);
+
+        Property property = Property.builder()
+                .owner(owner)
+                .title("Fetch graph property")
+                .propertyType(PropertyType.APARTMENT)
+                .area(55.0)
+                .numberOfRooms(2)
+                .pricePerDay(Money.of(new BigDecimal("120.00")))
+                .address(newAddress("Property Street 1"))
+                .build();
+        entityManager.persist(property);
+
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            entityManager.persist(Image.builder()
+                    .property(property)
+                    .imageUrl("https://example.com/fetch/" + i + ".jpg")
+                    .uploadDate(LocalDateTime.now())
+                    .build());
+        }
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            User guest = newUser("fetch_guest_" + i, userRole);
+            entityManager.persist(guest);
+            Booking booking = Booking.builder()
+                    .property(property)
+                    .user(guest)
+                    .startDate(LocalDate.of(2025, 1, 1).plusWeeks(i))
+                    .endDate(LocalDate.of(2025, 1, 3).plusWeeks(i))
+                    .totalPrice(Money.of(new BigDecimal("240.00")))
+                    .bookingDate(LocalDateTime.now())
+                    .bookingStatus(BookingStatus.COMPLETED)
+                    .build();
+            entityManager.persist(booking);
+            entityManager.persist(Review.builder()
+                    .user(guest)
+                    .property(property)
+                    .booking(booking)
+                    .rating(4)
+                    .reviewDate(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        propertyId = property.getId();
+    }
+
+    @Test
+    @DisplayName("findPropertyById should load the whole detail view in a bounded number of statements")
+    void findPropertyById_shouldUseBoundedNumberOfStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PropertyResponseDTO result = propertyService.findPropertyById(propertyId);
+
+        assertEquals("fetch_owner", result.getOwner().getUsername());
+        assertEquals(1, result.getOwner().getRoles().size());
+        assertEquals("Owner Street 1", result.getOwner().getAddress().getStreetAddress());
+        assertEquals("Property Street 1", result.getAddress().getStreetAddress());
+        assertEquals(IMAGE_COUNT, result.getImages().size());
+        assertEquals(REVIEW_COUNT, result.getReviews().size());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    private User newUser(String username, Role role) {
+        return User.builder()
+                .username(username)
+                .password("secret")
+                .email(username + "@rentify.com")
+                .registrationDate(LocalDate.now())
+                .roles(Set.of(role))
+                .build();
+    }
+
+    private Address newAddress(String streetAddress) {
+        Address address = new Address();
+        address.setStreetAddress(streetAddress);
+        address.setCity("Krakow");
+        address.setPostalCode("30-001");
+        address.setCountry("Poland");
+        address.setStateOrProvince("Malopolska");
+        return address;
+    }
+}
@@ -1,9 +1,15 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.CacheRegistry;
+import org.example.rentify.cache.PropertyDetailCache;
 import org.example.rentify.dto.request.PropertyRequestDTO;
+import org.example.rentify.dto.request.PropertySearchCriteriaDTO;
+import org.example.rentify.dto.response.CursorPageResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.PropertyResponseDTO;
+import org.example.rentify.dto.response.PropertySummaryDTO;
 import org.example.rentify.entity.Address;
+import org.example.rentify.entity.Money;
 import org.example.rentify.entity.Property;
 import org.example.rentify.entity.User;
 import org.example.rentify.entity.enums.PropertyType;
@@ -17,21 +23,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +56,8 @@ class PropertyServiceTest {
     private PropertyMapper propertyMapper;
     @Mock
     private UserRepository userRepository;
+    @Spy
+    private PropertyDetailCache propertyDetailCache = new PropertyDetailCache(new CacheRegistry(), 100, Duration.ofMinutes(5));
 
     @InjectMocks
     private PropertyService propertyService;
@@ -52,6 +66,7 @@ class PropertyServiceTest {
     private Property property;
     private PropertyRequestDTO propertyRequestDTO;
     private PropertyResponseDTO propertyResponseDTO;
+    private PropertySummaryDTO propertySummaryDTO;
     private Pageable pageable;
     private final String testUsername = "testOwner";
     private final Long propertyId = 1L;
@@ -70,7 +85,7 @@ class PropertyServiceTest {
         property.setId(propertyId);
         property.setOwner(user);
         property.setTitle("Test Property");
-        property.setPricePerDay(new BigDecimal("150.00"));
+        property.setPricePerDay(Money.of(new BigDecimal("150.00")));
         property.setAvailability(true);
         property.setCreationDate(LocalDateTime.now());
         property.setPropertyType(PropertyType.APARTMENT);
@@ -89,6 +104,9 @@ class PropertyServiceTest {
         propertyResponseDTO.setPricePerDay(new BigDecimal("150.00"));
         propertyResponseDTO.setAvailability(true);
 
+        propertySummaryDTO = new PropertySummaryDTO(propertyId, "Test Property", PropertyType.APARTMENT,
+                new BigDecimal("150.00"), "Krakow", null, null, LocalDateTime.of(2025, 1, 2, 10, 0));
+
         pageable = PageRequest.of(0, 10);
     }
 
@@ -97,25 +115,25 @@ class PropertyServiceTest {
     class FindAllPropertiesTests {
         @Test
         @DisplayName("Should return page of properties when properties exist")
-        void findAllProperties_whenPropertiesExist_shouldReturnPageOfPropertyResponseDTO() {
-            Page<Property> propertiesPage = new PageImpl<>(List.of(property), pageable, 1);
-            when(propertyRepository.findAll(pageable)).thenReturn(propertiesPage);
-            when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
+        void findAllProperties_whenPropertiesExist_shouldReturnPageOfPropertySummaryDTO() {
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findAllSummaries(pageable)).thenReturn(propertiesPage);
 
-            Page<PropertyResponseDTO> result = propertyService.findAllProperties(pageable);
+            Page<PropertySummaryDTO> result = propertyService.findAllProperties(pageable);
 
             assertNotNull(result);
             assertFalse(result.isEmpty());
             assertEquals(1, result.getTotalElements());
-            assertEquals(propertyResponseDTO, result.getContent().getFirst());
-            verify(propertyRepository).findAll(pageable);
+            assertEquals(propertySummaryDTO, result.getContent().getFirst());
+            verify(propertyRepository).findAllSummaries(pageable);
+            verifyNoInteractions(propertyMapper);
         }
 
         @Test
         @DisplayName("Should throw ResponseStatusException when no properties found")
         void findAllProperties_whenNoPropertiesFound_shouldThrowResponseStatusException() {
-            Page<Property> emptyPage = Page.empty(pageable);
-            when(propertyRepository.findAll(pageable)).thenReturn(emptyPage);
+            Page<PropertySummaryDTO> emptyPage = Page.empty(pageable);
+            when(propertyRepository.findAllSummaries(pageable)).thenReturn(emptyPage);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> propertyService.findAllProperties(pageable));
@@ -131,11 +149,10 @@ class PropertyServiceTest {
         @DisplayName("Should return page of properties for given availability")
         void findAllPropertiesByAvailability_whenPropertiesExist_shouldReturnPage() {
             Boolean availability = true;
-            Page<Property> propertiesPage = new PageImpl<>(List.of(property), pageable, 1);
-            when(propertyRepository.findByAvailability(availability, pageable)).thenReturn(propertiesPage);
-            when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummariesByAvailability(availability, pageable)).thenReturn(propertiesPage);
 
-            Page<PropertyResponseDTO> result = propertyService.findAllPropertiesByAvailability(availability, pageable);
+            Page<PropertySummaryDTO> result = propertyService.findAllPropertiesByAvailability(availability, pageable);
 
             assertNotNull(result);
             assertFalse(result.isEmpty());
@@ -144,8 +161,8 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should throw IllegalArgumentException when availability is null AFTER repo call")
         void findAllPropertiesByAvailability_whenAvailabilityIsNull_shouldThrowIllegalArgumentException() {
-            Page<Property> propertiesPage = new PageImpl<>(List.of(property), pageable, 1);
-            when(propertyRepository.findByAvailability(null, pageable)).thenReturn(propertiesPage);
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummariesByAvailability(null, pageable)).thenReturn(propertiesPage);
 
 
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -157,8 +174,8 @@ class PropertyServiceTest {
         @DisplayName("Should throw ResponseStatusException when no properties found for availability")
         void findAllPropertiesByAvailability_whenNoPropertiesFound_shouldThrowResponseStatusException() {
             Boolean availability = true;
-            Page<Property> emptyPage = Page.empty(pageable);
-            when(propertyRepository.findByAvailability(availability, pageable)).thenReturn(emptyPage);
+            Page<PropertySummaryDTO> emptyPage = Page.empty(pageable);
+            when(propertyRepository.findSummariesByAvailability(availability, pageable)).thenReturn(emptyPage);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> propertyService.findAllPropertiesByAvailability(availability, pageable));
@@ -175,12 +192,11 @@ class PropertyServiceTest {
             String country = "Poland";
             String city = "Krakow";
             Boolean availability = true;
-            Page<Property> propertiesPage = new PageImpl<>(List.of(property), pageable, 1);
-            when(propertyRepository.findAllByAddress_CountryAndAddress_CityAndAvailability(country, city, availability, pageable))
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummariesByAddressCountryAndCityAndAvailability(country, city, availability, pageable))
                     .thenReturn(propertiesPage);
-            when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
 
-            Page<PropertyResponseDTO> result = propertyService.findAllPropertiesByAddressCountryAndCityAndAvailability(country, city, availability, pageable);
+            Page<PropertySummaryDTO> result = propertyService.findAllPropertiesByAddressCountryAndCityAndAvailability(country, city, availability, pageable);
 
             assertNotNull(result);
             assertFalse(result.isEmpty());
@@ -192,8 +208,8 @@ class PropertyServiceTest {
             String country = "Poland";
             String city = "Krakow";
             Boolean availability = true;
-            Page<Property> emptyPage = Page.empty(pageable);
-            when(propertyRepository.findAllByAddress_CountryAndAddress_CityAndAvailability(country, city, availability, pageable))
+            Page<PropertySummaryDTO> emptyPage = Page.empty(pageable);
+            when(propertyRepository.findSummariesByAddressCountryAndCityAndAvailability(country, city, availability, pageable))
                     .thenReturn(emptyPage);
 
             assertThrows(ResponseStatusException.class,
@@ -209,11 +225,10 @@ class PropertyServiceTest {
         void findAllPropertiesByPropertyTypeAndAvailability_whenPropertiesExist_shouldReturnPage() {
             PropertyType type = PropertyType.APARTMENT;
             Boolean availability = true;
-            Page<Property> propertiesPage = new PageImpl<>(List.of(property), pageable, 1);
-            when(propertyRepository.findByPropertyTypeAndAvailability(type, availability, pageable)).thenReturn(propertiesPage);
-            when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummariesByPropertyTypeAndAvailability(type, availability, pageable)).thenReturn(propertiesPage);
 
-            Page<PropertyResponseDTO> result = propertyService.findAllPropertiesByPropertyTypeAndAvailability(type, availability, pageable);
+            Page<PropertySummaryDTO> result = propertyService.findAllPropertiesByPropertyTypeAndAvailability(type, availability, pageable);
             assertNotNull(result);
             assertFalse(result.isEmpty());
         }
@@ -223,8 +238,8 @@ class PropertyServiceTest {
         void findAllPropertiesByPropertyTypeAndAvailability_whenNoPropertiesFound_shouldThrow() {
             PropertyType type = PropertyType.APARTMENT;
             Boolean availability = true;
-            Page<Property> emptyPage = Page.empty(pageable);
-            when(propertyRepository.findByPropertyTypeAndAvailability(type, availability, pageable)).thenReturn(emptyPage);
+            Page<PropertySummaryDTO> emptyPage = Page.empty(pageable);
+            when(propertyRepository.findSummariesByPropertyTypeAndAvailability(type, availability, pageable)).thenReturn(emptyPage);
 
             assertThrows(ResponseStatusException.class,
                     () -> propertyService.findAllPropertiesByPropertyTypeAndAvailability(type, availability, pageable));
@@ -232,6 +247,196 @@ class PropertyServiceTest {
     }
 
 
+    @Nested
+    @DisplayName("searchProperties Tests")
+    class SearchPropertiesTests {
+        @Test
+        @DisplayName("Should return page of properties matching the criteria")
+        @SuppressWarnings("unchecked")
+        void searchProperties_whenPropertiesMatch_shouldReturnPage() {
+            PropertySearchCriteriaDTO criteria = new PropertySearchCriteriaDTO();
+            criteria.setCity("Krakow");
+            criteria.setPropertyType(PropertyType.APARTMENT);
+            criteria.setMinPrice(new BigDecimal("100.00"));
+            criteria.setMaxPrice(new BigDecimal("200.00"));
+            criteria.setAvailableFrom(LocalDate.of(2026, 12, 20));
+            criteria.setAvailableTo(LocalDate.of(2026, 12, 27));
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(propertiesPage);
+
+            Page<PropertySummaryDTO> result = propertyService.searchProperties(criteria, pageable);
+
+            assertEquals(1, result.getTotalElements());
+            assertEquals(propertySummaryDTO, result.getContent().getFirst());
+            verify(propertyRepository).findSummaries(any(Specification.class), eq(pageable));
+            verifyNoInteractions(propertyMapper);
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when no properties match")
+        @SuppressWarnings("unchecked")
+        void searchProperties_whenNoPropertiesMatch_shouldThrowResponseStatusException() {
+            when(propertyRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> propertyService.searchProperties(new PropertySearchCriteriaDTO(), pageable));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when price range is inverted")
+        void searchProperties_whenPriceRangeInverted_shouldThrowIllegalArgumentException() {
+            PropertySearchCriteriaDTO criteria = new PropertySearchCriteriaDTO();
+            criteria.setMinPrice(new BigDecimal("300.00"));
+            criteria.setMaxPrice(new BigDecimal("100.00"));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> propertyService.searchProperties(criteria, pageable));
+            assertEquals("Minimum price cannot be greater than maximum price.", exception.getMessage());
+            verifyNoInteractions(propertyRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when only one end of the date window is given")
+        void searchProperties_whenDateWindowIncomplete_shouldThrowIllegalArgumentException() {
+            PropertySearchCriteriaDTO criteria = new PropertySearchCriteriaDTO();
+            criteria.setAvailableFrom(LocalDate.of(2026, 12, 20));
+
+            assertThrows(IllegalArgumentException.class, () -> propertyService.searchProperties(criteria, pageable));
+            verifyNoInteractions(propertyRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the date window is inverted")
+        void searchProperties_whenDateWindowInverted_shouldThrowIllegalArgumentException() {
+            PropertySearchCriteriaDTO criteria = new PropertySearchCriteriaDTO();
+            criteria.setAvailableFrom(LocalDate.of(2026, 12, 27));
+            criteria.setAvailableTo(LocalDate.of(2026, 12, 20));
+
+            assertThrows(IllegalArgumentException.class, () -> propertyService.searchProperties(criteria, pageable));
+        }
+    }
+
+    @Nested
+    @DisplayName("findFreeProperties Tests")
+    class FindFreePropertiesTests {
+        private final LocalDate startDate = LocalDate.of(2026, 12, 20);
+        private final LocalDate endDate = LocalDate.of(2026, 12, 27);
+
+        @Test
+        @DisplayName("Should return page of properties free in the given dates")
+        @SuppressWarnings("unchecked")
+        void findFreeProperties_whenPropertiesFree_shouldReturnPage() {
+            Page<PropertySummaryDTO> propertiesPage = new PageImpl<>(List.of(propertySummaryDTO), pageable, 1);
+            when(propertyRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(propertiesPage);
+
+            Page<PropertySummaryDTO> result = propertyService.findFreeProperties(startDate, endDate, "Krakow", "Poland",
+                    PropertyType.APARTMENT, pageable);
+
+            assertEquals(1, result.getTotalElements());
+            assertEquals(propertySummaryDTO, result.getContent().getFirst());
+            verify(propertyRepository).findSummaries(any(Specification.class), eq(pageable));
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when no property is free")
+        @SuppressWarnings("unchecked")
+        void findFreeProperties_whenNoPropertyFree_shouldThrowResponseStatusException() {
+            when(propertyRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> propertyService.findFreeProperties(startDate, endDate, null, null, null, pageable));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when a date is missing")
+        void findFreeProperties_whenDateMissing_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> propertyService.findFreeProperties(startDate, null, null, null, null, pageable));
+            verifyNoInteractions(propertyRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the start date is after the end date")
+        void findFreeProperties_whenDatesInverted_shouldThrowIllegalArgumentException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> propertyService.findFreeProperties(endDate, startDate, null, null, null, pageable));
+            assertEquals("Start date cannot be after end date.", exception.getMessage());
+            verifyNoInteractions(propertyRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("findPropertiesAfter Tests")
+    class FindPropertiesAfterTests {
+        @Test
+        @DisplayName("Should return first slice with next cursor when more properties exist")
+        void findPropertiesAfter_whenMorePropertiesExist_shouldReturnSliceWithCursor() {
+            PropertySummaryDTO older = new PropertySummaryDTO(2L, "Older Property", PropertyType.HOUSE,
+                    new BigDecimal("90.00"), "Warsaw", null, null, LocalDateTime.of(2025, 1, 1, 10, 0));
+            when(propertyRepository.findNewestSummaries(Limit.of(2))).thenReturn(List.of(propertySummaryDTO, older));
+
+            CursorPageResponseDTO<PropertySummaryDTO> result = propertyService.findPropertiesAfter(null, 1);
+
+            assertEquals(List.of(propertySummaryDTO), result.getContent());
+            assertTrue(result.isHasNext());
+            assertEquals("2025-01-02T10:00," + propertyId, result.getNextCursor());
+            verifyNoInteractions(propertyMapper);
+        }
+
+        @Test
+        @DisplayName("Should seek after the given cursor and return last slice without cursor")
+        void findPropertiesAfter_whenCursorGiven_shouldSeekAfterCursor() {
+            LocalDateTime creationDate = LocalDateTime.of(2025, 1, 2, 10, 0);
+            when(propertyRepository.findNewestSummariesBefore(creationDate, 5L, Limit.of(11))).thenReturn(List.of(propertySummaryDTO));
+
+            CursorPageResponseDTO<PropertySummaryDTO> result = propertyService.findPropertiesAfter("2025-01-02T10:00,5", 10);
+
+            assertEquals(1, result.getContent().size());
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursor());
+            verify(propertyRepository, never()).findNewestSummaries(any());
+        }
+
+        @Test
+        @DisplayName("Should return empty slice when cursor points past the last property")
+        void findPropertiesAfter_whenCursorPastEnd_shouldReturnEmptySlice() {
+            when(propertyRepository.findNewestSummariesBefore(any(), eq(5L), any())).thenReturn(List.of());
+
+            CursorPageResponseDTO<PropertySummaryDTO> result = propertyService.findPropertiesAfter("2025-01-02T10:00:00,5", 10);
+
+            assertTrue(result.getContent().isEmpty());
+            assertFalse(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when there are no properties")
+        void findPropertiesAfter_whenNoProperties_shouldThrowResponseStatusException() {
+            when(propertyRepository.findNewestSummaries(any())).thenReturn(List.of());
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> propertyService.findPropertiesAfter(null, 10));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+        void findPropertiesAfter_whenCursorMalformed_shouldThrowIllegalArgumentException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> propertyService.findPropertiesAfter("yesterday,abc", 10));
+            assertEquals("Cursor must have the form creationDate,id.", exception.getMessage());
+            verifyNoInteractions(propertyRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when size is not positive")
+        void findPropertiesAfter_whenSizeNotPositive_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> propertyService.findPropertiesAfter(null, 0));
+            verifyNoInteractions(propertyRepository);
+        }
+    }
+
     @Nested
     @DisplayName("createProperty Tests")
     class CreatePropertyTests {
@@ -325,7 +530,7 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should update property successfully")
         void updateProperty_whenValidInput_shouldSucceed() {
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
             doNothing().when(propertyMapper).updatePropertyFromDto(propertyRequestDTO, property);
             when(propertyRepository.save(property)).thenReturn(property);
 
@@ -335,6 +540,8 @@ class PropertyServiceTest {
             assertEquals("Property updated successfully with ID: " + propertyId, response.getMessage());
             verify(propertyMapper).updatePropertyFromDto(propertyRequestDTO, property);
             verify(propertyRepository).save(property);
+            verify(propertyRepository).incrementVersionById(propertyId);
+            verify(propertyDetailCache).evict(propertyId);
         }
 
         @Test
@@ -356,7 +563,7 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when property not found")
         void updateProperty_whenPropertyNotFound_shouldThrowResponseStatusException() {
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.empty());
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.empty());
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> propertyService.updateProperty(propertyId, propertyRequestDTO));
@@ -364,18 +571,100 @@ class PropertyServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getPropertyVersion Tests")
+    class GetPropertyVersionTests {
+        @Test
+        @DisplayName("Should return the version without loading the property")
+        void getPropertyVersion_whenPropertyExists_shouldReturnVersion() {
+            when(propertyRepository.findVersionById(propertyId)).thenReturn(Optional.of(4L));
+
+            assertEquals(4L, propertyService.getPropertyVersion(propertyId));
+            verify(propertyRepository, never()).findDetailedById(any());
+            verifyNoInteractions(propertyMapper);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for non-positive ID")
+        void getPropertyVersion_whenIdIsNotPositive_shouldThrowIllegalArgumentException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> propertyService.getPropertyVersion(0L));
+            assertEquals("Property ID must be a positive number.", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when property not found")
+        void getPropertyVersion_whenPropertyNotFound_shouldThrowResponseStatusException() {
+            when(propertyRepository.findVersionById(propertyId)).thenReturn(Optional.empty());
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> propertyService.getPropertyVersion(propertyId));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("markPropertyModified Tests")
+    class MarkPropertyModifiedTests {
+        @Test
+        @DisplayName("Should increment the property version and evict its cached detail")
+        void markPropertyModified_shouldIncrementVersionAndEvict() {
+            propertyService.markPropertyModified(propertyId);
+
+            verify(propertyRepository).incrementVersionById(propertyId);
+            verify(propertyDetailCache).evict(propertyId);
+        }
+
+        @Test
+        @DisplayName("Should do nothing for null ID")
+        void markPropertyModified_whenIdIsNull_shouldDoNothing() {
+            propertyService.markPropertyModified(null);
+
+            verifyNoInteractions(propertyRepository);
+            verify(propertyDetailCache, never()).evict(any());
+        }
+    }
+
     @Nested
     @DisplayName("findPropertyById (DTO) Tests")
     class FindPropertyByIdDTOTests {
         @Test
         @DisplayName("Should return property DTO when property exists")
         void findPropertyById_whenPropertyExists_shouldReturnDTO() {
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findDetailedById(propertyId)).thenReturn(Optional.of(property));
             when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
 
             PropertyResponseDTO result = propertyService.findPropertyById(propertyId);
             assertNotNull(result);
             assertEquals(propertyResponseDTO, result);
+            verify(propertyRepository, never()).findPropertyById(any());
+        }
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache until the property is updated")
+        void findPropertyById_whenCalledTwice_shouldHitCacheUntilEvicted() {
+            when(propertyRepository.findDetailedById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyMapper.propertyToPropertyResponseDto(property)).thenReturn(propertyResponseDTO);
+
+            propertyService.findPropertyById(propertyId);
+            propertyService.findPropertyById(propertyId);
+            verify(propertyRepository, times(1)).findDetailedById(propertyId);
+
+            propertyService.updatePropertyDescription(propertyId, "Fresh description");
+            propertyService.findPropertyById(propertyId);
+            verify(propertyRepository, times(2)).findDetailedById(propertyId);
+            verify(propertyDetailCache).evict(propertyId);
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when property does not exist")
+        void findPropertyById_whenPropertyNotFound_shouldThrowResponseStatusException() {
+            when(propertyRepository.findDetailedById(propertyId)).thenReturn(Optional.empty());
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> propertyService.findPropertyById(propertyId));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         }
     }
 
@@ -406,21 +695,19 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should return true if user is owner")
         void isOwner_whenUserIsOwner_shouldReturnTrue() {
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
-            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.existsByIdAndOwnerUsername(propertyId, testUsername)).thenReturn(true);
 
             boolean result = propertyService.isOwner(propertyId, testUsername);
             assertTrue(result);
+            verify(propertyRepository, never()).findById(any());
+            verifyNoInteractions(userRepository);
         }
 
         @Test
         @DisplayName("Should return false if user is not owner")
         void isOwner_whenUserIsNotOwner_shouldReturnFalse() {
-            User anotherUser = new User(); anotherUser.setUsername("another");
-            property.setOwner(anotherUser);
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
-            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
-
+            when(propertyRepository.existsByIdAndOwnerUsername(propertyId, testUsername)).thenReturn(false);
+            when(propertyRepository.existsById(propertyId)).thenReturn(true);
 
             boolean result = propertyService.isOwner(propertyId, testUsername);
             assertFalse(result);
@@ -432,21 +719,11 @@ class PropertyServiceTest {
             assertThrows(IllegalArgumentException.class, () -> propertyService.isOwner(propertyId, " "));
         }
 
-        @Test
-        @DisplayName("Should throw ResponseStatusException if user not found")
-        void isOwner_whenUserNotFound_shouldThrowResponseStatusException() {
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.empty());
-            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                    () -> propertyService.isOwner(propertyId, testUsername));
-            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
-            assertEquals("User not found with given username: " + testUsername, ex.getReason());
-        }
-
         @Test
         @DisplayName("Should throw ResponseStatusException if property not found")
         void isOwner_whenPropertyNotFound_shouldThrowResponseStatusException() {
-            when(userRepository.findUserByUsername(testUsername)).thenReturn(Optional.of(user));
-            when(propertyRepository.findById(propertyId)).thenReturn(Optional.empty());
+            when(propertyRepository.existsByIdAndOwnerUsername(propertyId, testUsername)).thenReturn(false);
+            when(propertyRepository.existsById(propertyId)).thenReturn(false);
 
             ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                     () -> propertyService.isOwner(propertyId, testUsername));
@@ -462,13 +739,13 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should update price successfully")
         void updatePropertyPricePerDay_whenValid_shouldSucceed() {
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
             when(propertyRepository.save(property)).thenReturn(property);
 
             MessageResponseDTO response = propertyService.updatePropertyPricePerDay(propertyId, newPrice);
 
             assertEquals("Property price per day updated successfully with ID: " + propertyId, response.getMessage());
-            assertEquals(newPrice, property.getPricePerDay());
+            assertEquals(Money.of(newPrice), property.getPricePerDay());
             verify(propertyRepository).save(property);
         }
     }
@@ -480,7 +757,7 @@ class PropertyServiceTest {
         @DisplayName("Should update availability successfully")
         void updatePropertyAvailability_whenValid_shouldSucceed() {
             Boolean newAvailability = false;
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
             when(propertyRepository.save(property)).thenReturn(property);
 
             MessageResponseDTO response = propertyService.updatePropertyAvailability(propertyId, newAvailability);
@@ -498,7 +775,7 @@ class PropertyServiceTest {
         @Test
         @DisplayName("Should update description successfully")
         void updatePropertyDescription_whenValid_shouldSucceed() {
-            when(propertyRepository.findPropertyById(propertyId)).thenReturn(Optional.of(property));
+            when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(property));
             when(propertyRepository.save(property)).thenReturn(property);
 
             MessageResponseDTO response = propertyService.updatePropertyDescription(propertyId, newDescription);
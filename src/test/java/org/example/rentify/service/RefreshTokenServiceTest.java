@@ -0,0 +1,237 @@
+package org.example.rentify.service;
+
+import org.example.rentify.entity.RefreshToken;
+import org.example.rentify.entity.Role;
+import org.example.rentify.entity.User;
+import org.example.rentify.repository.RefreshTokenRepository;
+import org.example.rentify.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Unit Tests")
+class RefreshTokenServiceTest {
+
+    private static final String RAW_TOKEN = "raw-refresh-token";
+    private static final long EXPIRATION_MS = 60_000;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService refreshTokenService;
+    private User user;
+    private RefreshToken storedToken;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, EXPIRATION_MS);
+
+        Role role = new Role();
+        role.setName("USER");
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testUser");
+        user.setRoles(Set.of(role));
+
+        familyId = UUID.randomUUID();
+        storedToken = RefreshToken.builder()
+                .id(10L)
+                .user(user)
+                .tokenHash(sha256(RAW_TOKEN))
+                .familyId(familyId)
+                .createdAt(LocalDateTime.now().minusMinutes(1))
+                .expiresAt(LocalDateTime.now().plusMinutes(1))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("issue Tests")
+    class IssueTests {
+        @Test
+        @DisplayName("Should store only the hash of a new token in a new family")
+        void issue_shouldStoreHashOfToken() {
+            when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+            String token = refreshTokenService.issue(1L);
+
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            RefreshToken saved = captor.getValue();
+            assertNotEquals(token, saved.getTokenHash());
+            assertEquals(sha256(token), saved.getTokenHash());
+            assertNotNull(saved.getFamilyId());
+            assertSame(user, saved.getUser());
+            assertTrue(saved.getExpiresAt().isAfter(saved.getCreatedAt()));
+            verify(refreshTokenRepository).deleteExpiredByUserId(eq(1L), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should issue a different token every time")
+        void issue_shouldIssueUniqueTokens() {
+            when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+            assertNotEquals(refreshTokenService.issue(1L), refreshTokenService.issue(1L));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the user ID is null")
+        void issue_whenUserIdNull_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> refreshTokenService.issue(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("rotate Tests")
+    class RotateTests {
+        @Test
+        @DisplayName("Should mark the token as used and issue its successor in the same family")
+        void rotate_whenTokenValid_shouldIssueSuccessor() {
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+            when(refreshTokenRepository.markUsed(eq(10L), any(LocalDateTime.class))).thenReturn(1);
+
+            RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(RAW_TOKEN);
+
+            assertNotEquals(RAW_TOKEN, rotated.refreshToken());
+            assertEquals("testUser", rotated.principal().getUsername());
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            assertEquals(familyId, captor.getValue().getFamilyId());
+            assertEquals(sha256(rotated.refreshToken()), captor.getValue().getTokenHash());
+            verify(refreshTokenRepository, never()).revokeFamily(any());
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when a used token is presented again")
+        void rotate_whenTokenAlreadyUsed_shouldRevokeFamily() {
+            storedToken.setUsedAt(LocalDateTime.now().minusSeconds(5));
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+            verify(refreshTokenRepository).revokeFamily(familyId);
+            verify(refreshTokenRepository, never()).markUsed(anyLong(), any());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when a concurrent request used the token first")
+        void rotate_whenTokenUsedConcurrently_shouldRevokeFamily() {
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+            when(refreshTokenRepository.markUsed(eq(10L), any(LocalDateTime.class))).thenReturn(0);
+
+            assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+
+            verify(refreshTokenRepository).revokeFamily(familyId);
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a revoked token")
+        void rotate_whenTokenRevoked_shouldThrowUnauthorized() {
+            storedToken.setRevoked(true);
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+            verify(refreshTokenRepository).revokeFamily(familyId);
+        }
+
+        @Test
+        @DisplayName("Should reject an expired token")
+        void rotate_whenTokenExpired_shouldThrowUnauthorized() {
+            storedToken.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+            when(refreshTokenRepository.markUsed(eq(10L), any(LocalDateTime.class))).thenReturn(1);
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+
+            assertEquals("Refresh token has expired. Please log in again.", ex.getReason());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject the token of a disabled user")
+        void rotate_whenUserDisabled_shouldThrowUnauthorized() {
+            user.setEnabled(false);
+            when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+            when(refreshTokenRepository.markUsed(eq(10L), any(LocalDateTime.class))).thenReturn(1);
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate(RAW_TOKEN));
+
+            assertEquals("User account is not active.", ex.getReason());
+            verify(refreshTokenRepository).revokeFamily(familyId);
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown token")
+        void rotate_whenTokenUnknown_shouldThrowUnauthorized() {
+            when(refreshTokenRepository.findByTokenHash(sha256("unknown"))).thenReturn(Optional.empty());
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> refreshTokenService.rotate("unknown"));
+
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+            assertEquals("Invalid refresh token.", ex.getReason());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the token is blank")
+        void rotate_whenTokenBlank_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate(" "));
+        }
+    }
+
+    @Test
+    @DisplayName("revokeFamily should revoke the family of a known token and ignore unknown ones")
+    void revokeFamily_shouldRevokeFamilyOfKnownToken() {
+        when(refreshTokenRepository.findByTokenHash(sha256(RAW_TOKEN))).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.findByTokenHash(sha256("unknown"))).thenReturn(Optional.empty());
+
+        refreshTokenService.revokeFamily(RAW_TOKEN);
+        refreshTokenService.revokeFamily("unknown");
+
+        verify(refreshTokenRepository, times(1)).revokeFamily(familyId);
+    }
+
+    @Test
+    @DisplayName("revokeAll should revoke all tokens of the user")
+    void revokeAll_shouldRevokeTokensOfUser() {
+        refreshTokenService.revokeAll(1L);
+
+        verify(refreshTokenRepository).revokeAllByUserId(1L);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
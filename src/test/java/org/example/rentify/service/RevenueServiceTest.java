@@ -0,0 +1,217 @@
+package org.example.rentify.service;
+
+import org.example.rentify.dto.response.RevenuePeriodDTO;
+import org.example.rentify.entity.Booking;
+import org.example.rentify.entity.Money;
+import org.example.rentify.entity.Payment;
+import org.example.rentify.entity.Property;
+import org.example.rentify.entity.User;
+import org.example.rentify.entity.enums.PaymentStatus;
+import org.example.rentify.entity.enums.RevenueGranularity;
+import org.example.rentify.repository.PropertyRepository;
+import org.example.rentify.repository.RevenueDailyRepository;
+import org.example.rentify.repository.RevenueDailyRepository.RevenuePeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevenueService Unit Tests")
+class RevenueServiceTest {
+
+    @Mock
+    private RevenueDailyRepository revenueDailyRepository;
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @InjectMocks
+    private RevenueService revenueService;
+
+    private Payment payment;
+
+    private final Long propertyId = 5L;
+    private final LocalDate from = LocalDate.of(2025, 6, 1);
+    private final LocalDate to = LocalDate.of(2025, 6, 30);
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User();
+        owner.setId(7L);
+
+        Property property = new Property();
+        property.setId(propertyId);
+        property.setOwner(owner);
+
+        Booking booking = new Booking();
+        booking.setId(1L);
+        booking.setProperty(property);
+
+        payment = new Payment();
+        payment.setId(1L);
+        payment.setBooking(booking);
+        payment.setAmount(Money.of(new BigDecimal("200.00")));
+        payment.setPaymentDate(LocalDateTime.of(2025, 6, 14, 23, 59));
+        payment.setPaymentStatus(PaymentStatus.COMPLETED);
+    }
+
+    @Nested
+    @DisplayName("Rollup maintenance Tests")
+    class RollupTests {
+        @Test
+        @DisplayName("record should add the payment to the row of its property, owner, day and status")
+        void record_shouldAddPaymentToDay() {
+            revenueService.record(payment);
+
+            verify(revenueDailyRepository).addToDay(propertyId, 7L, LocalDate.of(2025, 6, 14), "COMPLETED", 1, new BigDecimal("200.00"));
+        }
+
+        @Test
+        @DisplayName("reverse should subtract the payment from the row of its property, owner, day and status")
+        void reverse_shouldSubtractPaymentFromDay() {
+            revenueService.reverse(payment);
+
+            verify(revenueDailyRepository).addToDay(propertyId, 7L, LocalDate.of(2025, 6, 14), "COMPLETED", -1, new BigDecimal("-200.00"));
+        }
+
+        @Test
+        @DisplayName("reverse should ignore a missing payment")
+        void reverse_whenPaymentNull_shouldDoNothing() {
+            revenueService.reverse(null);
+
+            verifyNoInteractions(revenueDailyRepository);
+        }
+
+        @Test
+        @DisplayName("reversePaymentsOfUser should subtract all payments of the user")
+        void reversePaymentsOfUser_shouldSubtractPaymentsOfUser() {
+            revenueService.reversePaymentsOfUser(3L);
+
+            verify(revenueDailyRepository).subtractPaymentsOfUser(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPropertySeries Tests")
+    class GetPropertySeriesTests {
+        @Test
+        @DisplayName("Should return the periods of the property for the date_trunc unit of the granularity")
+        void getPropertySeries_shouldReturnPeriods() {
+            when(revenueDailyRepository.findSeriesByPropertyId(propertyId, "week", "COMPLETED", from, to))
+                    .thenReturn(List.of(period(LocalDate.of(2025, 6, 9), 2, "350.00")));
+
+            List<RevenuePeriodDTO> result = revenueService.getPropertySeries(propertyId, RevenueGranularity.WEEK, PaymentStatus.COMPLETED, from, to);
+
+            assertEquals(List.of(new RevenuePeriodDTO(LocalDate.of(2025, 6, 9), 2L, new BigDecimal("350.00"))), result);
+            verify(propertyRepository, never()).existsById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return an empty series for an existing property without payments")
+        void getPropertySeries_whenNoPayments_shouldReturnEmptyList() {
+            when(revenueDailyRepository.findSeriesByPropertyId(propertyId, "day", null, from, to)).thenReturn(List.of());
+            when(propertyRepository.existsById(propertyId)).thenReturn(true);
+
+            assertTrue(revenueService.getPropertySeries(propertyId, RevenueGranularity.DAY, null, from, to).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when the property is not found")
+        void getPropertySeries_whenPropertyNotFound_shouldThrowNotFound() {
+            when(revenueDailyRepository.findSeriesByPropertyId(propertyId, "month", null, from, to)).thenReturn(List.of());
+            when(propertyRepository.existsById(propertyId)).thenReturn(false);
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> revenueService.getPropertySeries(propertyId, RevenueGranularity.MONTH, null, from, to));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException for a null property ID")
+        void getPropertySeries_whenPropertyIdNull_shouldThrowBadRequest() {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> revenueService.getPropertySeries(null, RevenueGranularity.DAY, null, from, to));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            verifyNoInteractions(revenueDailyRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getOwnerSeries Tests")
+    class GetOwnerSeriesTests {
+        @Test
+        @DisplayName("Should return the periods of all properties of the owner")
+        void getOwnerSeries_shouldReturnPeriods() {
+            when(revenueDailyRepository.findSeriesByOwnerUsername("owner", "month", null, from, to))
+                    .thenReturn(List.of(period(LocalDate.of(2025, 6, 1), 4, "900.00")));
+
+            List<RevenuePeriodDTO> result = revenueService.getOwnerSeries("owner", RevenueGranularity.MONTH, null, from, to);
+
+            assertEquals(1, result.size());
+            assertEquals(4L, result.getFirst().getPaymentCount());
+            assertEquals(new BigDecimal("900.00"), result.getFirst().getTotalAmount());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when the start date is after the end date")
+        void getOwnerSeries_whenRangeReversed_shouldThrowBadRequest() {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> revenueService.getOwnerSeries("owner", RevenueGranularity.DAY, null, to, from));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            assertEquals("Start date must not be after end date", exception.getReason());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when the range is too long")
+        void getOwnerSeries_whenRangeTooLong_shouldThrowBadRequest() {
+            LocalDate end = from.plusDays(RevenueService.MAX_SERIES_DAYS);
+
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> revenueService.getOwnerSeries("owner", RevenueGranularity.MONTH, null, from, end));
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            verify(revenueDailyRepository, never()).findSeriesByOwnerUsername(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when a date is missing")
+        void getOwnerSeries_whenDateMissing_shouldThrowBadRequest() {
+            assertThrows(ResponseStatusException.class,
+                    () -> revenueService.getOwnerSeries("owner", RevenueGranularity.DAY, null, null, to));
+        }
+    }
+
+    private static RevenuePeriod period(LocalDate start, long count, String total) {
+        return new RevenuePeriod() {
+            @Override
+            public LocalDate getPeriodStart() {
+                return start;
+            }
+
+            @Override
+            public long getPaymentCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+}
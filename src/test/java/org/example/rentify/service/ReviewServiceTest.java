@@ -1,5 +1,6 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.PropertyDetailCache;
 import org.example.rentify.dto.request.ReviewRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.ReviewResponseDTO;
@@ -47,6 +48,8 @@ class ReviewServiceTest {
     private UserRepository userRepository;
     @Mock
     private PropertyRepository propertyRepository;
+    @Mock
+    private PropertyDetailCache propertyDetailCache;
 
     @InjectMocks
     private ReviewService reviewService;
@@ -302,6 +305,8 @@ class ReviewServiceTest {
             assertEquals(booking, review.getBooking());
             assertEquals(user, review.getUser());
             assertEquals(property, review.getProperty());
+            verify(propertyRepository).incrementVersionById(property.getId());
+            verify(propertyDetailCache).evict(property.getId());
         }
 
         @Test
@@ -590,23 +595,23 @@ class ReviewServiceTest {
         @Test
         @DisplayName("Should return true when user is owner")
         void isReviewOwner_whenUserIsOwner_shouldReturnTrue() {
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+            when(reviewRepository.existsByIdAndUserUsername(reviewId, username)).thenReturn(true);
 
             boolean result = reviewService.isReviewOwner(reviewId, username);
 
             assertTrue(result);
-            verify(reviewRepository).findById(reviewId);
+            verify(reviewRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("Should return false when user is not owner")
         void isReviewOwner_whenUserIsNotOwner_shouldReturnFalse() {
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+            when(reviewRepository.existsByIdAndUserUsername(reviewId, "anotherUser")).thenReturn(false);
+            when(reviewRepository.existsById(reviewId)).thenReturn(true);
 
             boolean result = reviewService.isReviewOwner(reviewId, "anotherUser");
 
             assertFalse(result);
-            verify(reviewRepository).findById(reviewId);
         }
 
         @Test
@@ -628,7 +633,8 @@ class ReviewServiceTest {
         @Test
         @DisplayName("Should throw ResponseStatusException when review not found")
         void isReviewOwner_whenReviewNotFound_shouldThrowResponseStatusException() {
-            when(reviewRepository.findById(reviewId)).thenReturn(Optional.empty());
+            when(reviewRepository.existsByIdAndUserUsername(reviewId, username)).thenReturn(false);
+            when(reviewRepository.existsById(reviewId)).thenReturn(false);
 
             ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                     () -> reviewService.isReviewOwner(reviewId, username));
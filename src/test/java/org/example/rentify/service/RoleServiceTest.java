@@ -1,5 +1,8 @@
 package org.example.rentify.service;
 
+import org.example.rentify.cache.PropertyDetailCache;
+import org.example.rentify.cache.TokenVersionCache;
+import org.example.rentify.cache.UserPrincipalCache;
 import org.example.rentify.dto.request.RoleRequestDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.RoleResponseDTO;
@@ -8,6 +11,7 @@ import org.example.rentify.entity.Role;
 import org.example.rentify.entity.User;
 import org.example.rentify.mapper.RoleMapper;
 import org.example.rentify.mapper.UserMapper;
+import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.RoleRepository;
 import org.example.rentify.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +49,14 @@ class RoleServiceTest {
     private UserMapper userMapper;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PropertyRepository propertyRepository;
+    @Mock
+    private PropertyDetailCache propertyDetailCache;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
 
     @InjectMocks
     private RoleService roleService;
@@ -378,6 +390,11 @@ class RoleServiceTest {
             assertNotNull(response);
             assertEquals("Role deleted successfully: CUSTOM_ROLE", response.getMessage());
             verify(roleRepository).findRoleByName("CUSTOM_ROLE");
+            verify(propertyRepository).incrementVersionsByOwnerRoleId(role.getId());
+            verify(propertyDetailCache).evictAll();
+            verify(userRepository).incrementTokenVersionsByRoleId(role.getId());
+            verify(tokenVersionCache).evictAll();
+            verify(userPrincipalCache).evictAll();
             verify(roleRepository).delete(role);
         }
 
@@ -457,6 +474,11 @@ class RoleServiceTest {
             assertEquals("UPDATED_NAME", existingRole.getName());
             assertEquals("New Description For Update", existingRole.getDescription());
             verify(roleRepository).save(existingRole);
+            verify(propertyRepository).incrementVersionsByOwnerRoleId(roleIdToUpdate);
+            verify(propertyDetailCache).evictAll();
+            verify(userRepository).incrementTokenVersionsByRoleId(roleIdToUpdate);
+            verify(tokenVersionCache).evictAll();
+            verify(userPrincipalCache).evictAll();
         }
 
         @Test
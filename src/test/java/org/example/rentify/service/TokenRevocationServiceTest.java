@@ -0,0 +1,83 @@
+package org.example.rentify.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.rentify.cache.RevokedTokenIndex;
+import org.example.rentify.entity.RevokedToken;
+import org.example.rentify.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Unit Tests")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private RevokedTokenIndex revokedTokenIndex;
+
+    private TokenRevocationService tokenRevocationService;
+    private UUID jti;
+    private Date expiration;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, revokedTokenIndex);
+        jti = UUID.randomUUID();
+        expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+    }
+
+    @Test
+    @DisplayName("Should store the token until it expires and add it to the index")
+    void revoke_shouldStoreTokenAndAddToIndex() {
+        when(revokedTokenRepository.existsById(jti)).thenReturn(false);
+
+        tokenRevocationService.revoke(claims(jti.toString(), expiration));
+
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(captor.capture());
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        assertEquals(jti, captor.getValue().getJti());
+        assertEquals(expiresAt, captor.getValue().getExpiresAt());
+        assertNotNull(captor.getValue().getRevokedAt());
+        verify(revokedTokenIndex).add(jti, expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should not store a token that has already been revoked")
+    void revoke_whenAlreadyRevoked_shouldNotStoreAgain() {
+        when(revokedTokenRepository.existsById(jti)).thenReturn(true);
+
+        tokenRevocationService.revoke(claims(jti.toString(), expiration));
+
+        verify(revokedTokenRepository, never()).save(any());
+        verify(revokedTokenIndex).add(eq(jti), any());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException if the token has no ID")
+    void revoke_whenTokenHasNoId_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tokenRevocationService.revoke(claims(null, expiration)));
+        assertThrows(IllegalArgumentException.class, () -> tokenRevocationService.revoke(null));
+        verifyNoInteractions(revokedTokenRepository, revokedTokenIndex);
+    }
+
+    private static Claims claims(String jti, Date expiration) {
+        return Jwts.claims().setId(jti).setExpiration(expiration);
+    }
+}
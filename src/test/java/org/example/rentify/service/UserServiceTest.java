@@ -1,16 +1,28 @@
 package org.example.rentify.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import org.example.rentify.cache.PropertyDetailCache;
+import org.example.rentify.cache.TokenVersionCache;
+import org.example.rentify.cache.UserPrincipalCache;
 import org.example.rentify.dto.registration.UserRegistrationDTO;
 import org.example.rentify.dto.request.LoginRequestDTO;
+import org.example.rentify.dto.request.RefreshTokenRequestDTO;
 import org.example.rentify.dto.request.UserRequestDTO;
 import org.example.rentify.dto.response.JwtResponseDTO;
 import org.example.rentify.dto.response.MessageResponseDTO;
 import org.example.rentify.dto.response.UserResponseDTO;
 import org.example.rentify.entity.Role;
 import org.example.rentify.entity.User;
+import org.example.rentify.exception.ServiceOverloadedException;
 import org.example.rentify.mapper.UserMapper;
+import org.example.rentify.repository.PropertyRepository;
 import org.example.rentify.repository.RoleRepository;
 import org.example.rentify.repository.UserRepository;
+import org.example.rentify.security.PasswordHashingExecutor;
+import org.example.rentify.security.UserPrincipal;
 import org.example.rentify.security.jwt.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,16 +30,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -36,11 +51,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,6 +80,22 @@ class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private PropertyRepository propertyRepository;
+    @Mock
+    private PropertyDetailCache propertyDetailCache;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private RevenueService revenueService;
 
     @InjectMocks
     private UserService userService;
@@ -323,6 +356,10 @@ class UserServiceTest {
             assertEquals("User updated successfully: " + user.getUsername(), response.getMessage());
             verify(userMapper).updateUserFromDto(userRequestDTO, user);
             verify(userRepository).save(user);
+            verify(propertyRepository).incrementVersionsByOwnerId(userId);
+            verify(propertyDetailCache).evictAll();
+            verify(tokenVersionCache).evict(testUsername);
+            verify(userPrincipalCache).evict(testUsername);
         }
 
         @Test
@@ -393,7 +430,12 @@ class UserServiceTest {
 
             MessageResponseDTO response = userService.deleteUser(1L);
             assertEquals("User deleted successfully with id: 1", response.getMessage());
-            verify(userRepository).deleteById(1L);
+            InOrder inOrder = inOrder(revenueService, userRepository);
+            inOrder.verify(revenueService).reversePaymentsOfUser(1L);
+            inOrder.verify(userRepository).deleteById(1L);
+            verify(propertyDetailCache).evictAll();
+            verify(tokenVersionCache).evictAll();
+            verify(userPrincipalCache).evictAll();
         }
 
         @Test
@@ -434,23 +476,85 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("isSelf Tests")
+    class IsSelfTests {
+        @Test
+        @DisplayName("Should compare the ID of a UserPrincipal without a query")
+        void isSelf_whenPrincipalIsUserPrincipal_shouldNotQuery() {
+            UserPrincipal principal = UserPrincipal.from(user);
+
+            assertTrue(userService.isSelf(1L, principal));
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should check other principals by username")
+        void isSelf_whenPrincipalIsNotUserPrincipal_shouldCheckUsername() {
+            UserDetails principal = org.springframework.security.core.userdetails.User
+                    .withUsername(user.getUsername()).password("").authorities("ROLE_USER").build();
+            when(userRepository.existsByIdAndUsername(1L, user.getUsername())).thenReturn(true);
+
+            assertTrue(userService.isSelf(1L, principal));
+        }
+
+        @Test
+        @DisplayName("Should return false for another existing user")
+        void isSelf_whenOtherUser_shouldReturnFalse() {
+            when(userRepository.existsById(2L)).thenReturn(true);
+
+            assertFalse(userService.isSelf(2L, UserPrincipal.from(user)));
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException when user not found")
+        void isSelf_whenUserNotFound_shouldThrowResponseStatusException() {
+            when(userRepository.existsById(99L)).thenReturn(false);
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> userService.isSelf(99L, UserPrincipal.from(user)));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("isSelfByEmail should check the email and username in one query")
+        void isSelfByEmail_whenEmailMatches_shouldReturnTrue() {
+            when(userRepository.existsByEmailAndUsername(user.getEmail(), user.getUsername())).thenReturn(true);
+
+            assertTrue(userService.isSelfByEmail(user.getEmail(), UserPrincipal.from(user)));
+            verify(userRepository, never()).findUserByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("isSelfByEmail should throw ResponseStatusException when user not found")
+        void isSelfByEmail_whenUserNotFound_shouldThrowResponseStatusException() {
+            when(userRepository.existsByEmailAndUsername("none@example.com", user.getUsername())).thenReturn(false);
+            when(userRepository.existsByEmail("none@example.com")).thenReturn(false);
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> userService.isSelfByEmail("none@example.com", UserPrincipal.from(user)));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        }
+    }
+
 
     @Nested
     @DisplayName("authenticateUser Tests")
     class AuthenticateUserTests {
         @Test
-        @DisplayName("Should authenticate user and return JWT when credentials are valid (principal is User)")
-        void authenticateUser_whenValidCredentialsAndPrincipalIsUser_shouldReturnJwt() {
+        @DisplayName("Should authenticate user and return JWT when credentials are valid (principal is UserPrincipal)")
+        void authenticateUser_whenValidCredentialsAndPrincipalIsUserPrincipal_shouldReturnJwt() {
+            runPasswordChecksInline();
             Authentication authentication = mock(Authentication.class);
             when(authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequestDTO.getUsername(), loginRequestDTO.getPassword())))
                     .thenReturn(authentication);
-            when(authentication.getPrincipal()).thenReturn(user);
+            when(authentication.getPrincipal()).thenReturn(UserPrincipal.from(user));
             when(jwtUtil.generateToken(authentication)).thenReturn("mocked.jwt.token");
+            when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
             List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
             when(authentication.getAuthorities()).thenAnswer(invocation -> authorities);
 
-
             ResponseEntity<?> responseEntity = userService.authenticateUser(loginRequestDTO);
 
             assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -461,11 +565,13 @@ class UserServiceTest {
             assertEquals(user.getUsername(), jwtResponse.getUsername());
             assertEquals(user.getEmail(), jwtResponse.getEmail());
             assertTrue(jwtResponse.getRoles().contains("ROLE_USER"));
+            assertEquals("refresh-token", jwtResponse.getRefreshToken());
         }
 
         @Test
         @DisplayName("Should authenticate user and return JWT when credentials are valid (principal is UserDetails)")
         void authenticateUser_whenValidCredentialsAndPrincipalIsUserDetails_shouldReturnJwt() {
+            runPasswordChecksInline();
             Authentication authentication = mock(Authentication.class);
             UserDetails springUserDetails = mock(UserDetails.class);
 
@@ -490,6 +596,7 @@ class UserServiceTest {
         @Test
         @DisplayName("Should return Unauthorized when credentials are bad")
         void authenticateUser_whenBadCredentials_shouldReturnUnauthorized() {
+            runPasswordChecksInline();
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenThrow(new BadCredentialsException("Bad credentials"));
 
@@ -500,6 +607,177 @@ class UserServiceTest {
             assertNotNull(messageResponse);
             assertEquals("Error: Invalid username or password!", messageResponse.getMessage());
         }
+
+        @Test
+        @DisplayName("Should return Unauthorized when the account is disabled")
+        void authenticateUser_whenAccountDisabled_shouldReturnUnauthorized() {
+            runPasswordChecksInline();
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenThrow(new DisabledException("User is disabled"));
+
+            ResponseEntity<?> responseEntity = userService.authenticateUser(loginRequestDTO);
+
+            assertEquals(HttpStatus.UNAUTHORIZED, responseEntity.getStatusCode());
+            assertEquals("Error: User account is not active!", ((MessageResponseDTO) responseEntity.getBody()).getMessage());
+            verifyNoInteractions(jwtUtil, refreshTokenService);
+        }
+
+        @Test
+        @DisplayName("Should reject the login with 503 when the password hashing executor is overloaded")
+        void authenticateUser_whenExecutorOverloaded_shouldThrowServiceOverloaded() {
+            when(passwordHashingExecutor.run(any()))
+                    .thenThrow(new ServiceOverloadedException("Too many login attempts", Duration.ofSeconds(2)));
+
+            ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                    () -> userService.authenticateUser(loginRequestDTO));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+            assertEquals("2", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            verifyNoInteractions(authenticationManager);
+        }
+
+        private void runPasswordChecksInline() {
+            when(passwordHashingExecutor.run(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshAccessToken Tests")
+    class RefreshAccessTokenTests {
+        @Test
+        @DisplayName("Should return a new access token and the rotated refresh token")
+        void refreshAccessToken_whenRefreshTokenValid_shouldReturnNewTokens() {
+            UserPrincipal principal = UserPrincipal.from(user);
+            when(refreshTokenService.rotate("old-refresh-token"))
+                    .thenReturn(new RefreshTokenService.RotatedRefreshToken("new-refresh-token", principal));
+            when(jwtUtil.generateToken(any(Authentication.class))).thenReturn("new.jwt.token");
+
+            JwtResponseDTO jwtResponse = userService.refreshAccessToken(new RefreshTokenRequestDTO("old-refresh-token"));
+
+            assertEquals("new.jwt.token", jwtResponse.getToken());
+            assertEquals("new-refresh-token", jwtResponse.getRefreshToken());
+            assertEquals(1L, jwtResponse.getId());
+            assertEquals(testUsername, jwtResponse.getUsername());
+            assertEquals(List.of("ROLE_USER"), jwtResponse.getRoles());
+            verify(jwtUtil).generateToken(argThat(authentication -> authentication.getPrincipal() == principal));
+            verifyNoInteractions(authenticationManager, passwordHashingExecutor);
+        }
+
+        @Test
+        @DisplayName("Should propagate the rejection of a reused refresh token")
+        void refreshAccessToken_whenRefreshTokenReused_shouldThrowUnauthorized() {
+            when(refreshTokenService.rotate("used-refresh-token"))
+                    .thenThrow(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token has already been used. Please log in again."));
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> userService.refreshAccessToken(new RefreshTokenRequestDTO("used-refresh-token")));
+
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+            verifyNoInteractions(jwtUtil);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the request is null")
+        void refreshAccessToken_whenRequestNull_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.refreshAccessToken(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("logout Tests")
+    class LogoutTests {
+        @Test
+        @DisplayName("Should revoke the access token and the family of the refresh token")
+        void logout_whenTokensValid_shouldRevokeBoth() {
+            Claims claims = Jwts.claims().setId("0b9e3c5e-4a4f-4d7a-9a51-1f0d7c2e8b11");
+            when(jwtUtil.getClaimsFromJwtToken("access.jwt.token")).thenReturn(claims);
+
+            MessageResponseDTO response = userService.logout("Bearer access.jwt.token", new RefreshTokenRequestDTO("refresh-token"));
+
+            assertEquals("Logged out successfully.", response.getMessage());
+            verify(tokenRevocationService).revoke(claims);
+            verify(refreshTokenService).revokeFamily("refresh-token");
+        }
+
+        @Test
+        @DisplayName("Should still revoke the refresh token when the access token has expired")
+        void logout_whenAccessTokenExpired_shouldRevokeRefreshToken() {
+            when(jwtUtil.getClaimsFromJwtToken("expired.jwt.token"))
+                    .thenThrow(new ExpiredJwtException(null, Jwts.claims(), "expired"));
+
+            userService.logout("Bearer expired.jwt.token", new RefreshTokenRequestDTO("refresh-token"));
+
+            verifyNoInteractions(tokenRevocationService);
+            verify(refreshTokenService).revokeFamily("refresh-token");
+        }
+
+        @Test
+        @DisplayName("Should throw Unauthorized when the access token is invalid")
+        void logout_whenAccessTokenInvalid_shouldThrowUnauthorized() {
+            when(jwtUtil.getClaimsFromJwtToken("forged.jwt.token")).thenThrow(new MalformedJwtException("malformed"));
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                    () -> userService.logout("Bearer forged.jwt.token", new RefreshTokenRequestDTO("refresh-token")));
+
+            assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+            verifyNoInteractions(tokenRevocationService, refreshTokenService);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if no Bearer token is given")
+        void logout_whenHeaderMissing_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.logout(null, null));
+            assertThrows(IllegalArgumentException.class, () -> userService.logout("Basic dXNlcjpwYXNz", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("setUserEnabled Tests")
+    class SetUserEnabledTests {
+        @Test
+        @DisplayName("Should disable the user, increment the token version and revoke the refresh tokens")
+        void setUserEnabled_whenDisabling_shouldRevokeTokens() {
+            when(userRepository.findUserById(1L)).thenReturn(Optional.of(user));
+
+            MessageResponseDTO response = userService.setUserEnabled(1L, false);
+
+            assertEquals("User disabled successfully: " + testUsername, response.getMessage());
+            assertFalse(user.isEnabled());
+            assertEquals(1L, user.getTokenVersion());
+            verify(userRepository).save(user);
+            verify(refreshTokenService).revokeAll(1L);
+            verify(tokenVersionCache).evict(testUsername);
+            verify(userPrincipalCache).evict(testUsername);
+        }
+
+        @Test
+        @DisplayName("Should enable the user without touching the tokens")
+        void setUserEnabled_whenEnabling_shouldKeepTokenVersion() {
+            user.setEnabled(false);
+            when(userRepository.findUserById(1L)).thenReturn(Optional.of(user));
+
+            MessageResponseDTO response = userService.setUserEnabled(1L, true);
+
+            assertEquals("User enabled successfully: " + testUsername, response.getMessage());
+            assertTrue(user.isEnabled());
+            assertEquals(0L, user.getTokenVersion());
+            verifyNoInteractions(refreshTokenService);
+        }
+
+        @Test
+        @DisplayName("Should throw ResponseStatusException if the user is not found")
+        void setUserEnabled_whenUserNotFound_shouldThrowNotFound() {
+            when(userRepository.findUserById(99L)).thenReturn(Optional.empty());
+
+            ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> userService.setUserEnabled(99L, false));
+            assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the ID is not positive")
+        void setUserEnabled_whenIdInvalid_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.setUserEnabled(0L, false));
+        }
     }
 
     @Nested
@@ -520,7 +798,11 @@ class UserServiceTest {
             MessageResponseDTO response = userService.changePassword(testUsername, newPassword, oldPassword);
             assertEquals("Password changed successfully for user: " + testUsername, response.getMessage());
             assertEquals(encodedNewPassword, user.getPassword());
+            assertEquals(1L, user.getTokenVersion());
             verify(userRepository).save(user);
+            verify(tokenVersionCache).evict(testUsername);
+            verify(userPrincipalCache).evict(testUsername);
+            verify(refreshTokenService).revokeAll(1L);
         }
 
         @Test